@@ -0,0 +1,71 @@
+package org.viators.personalfinanceapp.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.viators.personalfinanceapp.basket.Basket;
+import org.viators.personalfinanceapp.basketitem.BasketItem;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.user.User;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adding an item that is already in a basket, which scans the basket's entries for it. The item
+ * is a separate instance with the same uuid, as it is when it comes from another session.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BasketBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int basketSize;
+
+    private Basket basket;
+    private Item firstItem;
+    private Item lastItem;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkFixtures.user("owner");
+        basket = new Basket();
+        basket.setName("Benchmark basket");
+        basket.setUser(owner);
+
+        for (int i = 0; i < basketSize; i++) {
+            BasketItem basketItem = new BasketItem();
+            basketItem.setBasket(basket);
+            basketItem.setItem(BenchmarkFixtures.item(i, owner));
+            basketItem.setQuantity(BigDecimal.ONE);
+            basket.getBasketItems().add(basketItem);
+        }
+
+        firstItem = BenchmarkFixtures.item(0, owner);
+        lastItem = BenchmarkFixtures.item(basketSize - 1, owner);
+    }
+
+    @Benchmark
+    public Basket addItemFoundFirst() {
+        basket.addItem(firstItem);
+        return basket;
+    }
+
+    @Benchmark
+    public Basket addItemFoundLast() {
+        basket.addItem(lastItem);
+        return basket;
+    }
+}
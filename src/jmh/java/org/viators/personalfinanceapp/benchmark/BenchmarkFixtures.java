@@ -0,0 +1,216 @@
+package org.viators.personalfinanceapp.benchmark;
+
+import org.springframework.data.domain.Limit;
+import org.viators.personalfinanceapp.basket.Basket;
+import org.viators.personalfinanceapp.category.Category;
+import org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse;
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
+import org.viators.personalfinanceapp.common.enums.ReportTypeEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.enums.StoreTypeEnum;
+import org.viators.personalfinanceapp.inflationreport.InflationReport;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemDetailsHeader;
+import org.viators.personalfinanceapp.item.ItemDetailsRepository;
+import org.viators.personalfinanceapp.item.ItemObservationRow;
+import org.viators.personalfinanceapp.item.ItemVersionStamp;
+import org.viators.personalfinanceapp.item.PriceStatisticsRow;
+import org.viators.personalfinanceapp.pricealert.PriceAlert;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
+import org.viators.personalfinanceapp.pricecomparison.dto.response.PriceComparisonSummaryResponse;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingList;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.userpreferences.UserPreferences;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Detached entity graphs and projection rows for the benchmarks. Every value is derived from its index, so each run
+ * maps exactly the same data.
+ */
+final class BenchmarkFixtures {
+
+    static final String ACTIVE = StatusEnum.ACTIVE.getCode();
+    static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(String uuid) {
+        return User.builder()
+                .uuid(uuid)
+                .username("user-" + uuid)
+                .email(uuid + "@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .status(ACTIVE)
+                .build();
+    }
+
+    static Store store(int index) {
+        Store store = new Store();
+        store.setUuid("store-" + index);
+        store.setName("Store " + index);
+        store.setStoreType(StoreTypeEnum.values()[index % StoreTypeEnum.values().length]);
+        store.setStatus(ACTIVE);
+        return store;
+    }
+
+    static Item item(int index, User owner) {
+        return Item.builder()
+                .uuid("item-" + index)
+                .name("Item " + index)
+                .description("Description of item " + index)
+                .itemUnit(ItemUnitEnum.values()[index % ItemUnitEnum.values().length])
+                .brand("Brand " + index % 10)
+                .user(owner)
+                .currentPrice(price(index))
+                .currentPriceCurrency(CurrencyEnum.EUR)
+                .currentPriceDate(BASE_DATE.plusDays(index))
+                .status(ACTIVE)
+                .build();
+    }
+
+    /**
+     * Item details rows as {@link ItemDetailsRepository} projects them, {@code size} per section, so the
+     * reader maps them without a database.
+     */
+    static ItemDetailsRepository itemDetailsRows(int size) {
+        ItemDetailsHeader header = new ItemDetailsHeader(1L, "item-0", "Item 0", "Description of item 0",
+                ItemUnitEnum.values()[0], "Brand 0", false, ACTIVE, BASE_DATE.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                BASE_DATE.atStartOfDay(ZoneOffset.UTC).toInstant(), price(0), CurrencyEnum.EUR, BASE_DATE,
+                "owner", "user-owner", "John", "Doe", "owner@example.com", ACTIVE);
+
+        List<CategorySummaryResponse> categories = new ArrayList<>();
+        List<ItemObservationRow> observations = new ArrayList<>();
+        List<PriceAlertSummaryResponse> alerts = new ArrayList<>();
+        List<PriceComparisonSummaryResponse> comparisons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Store store = store(i % 10);
+            categories.add(new CategorySummaryResponse("Category " + i, "Description of category " + i));
+            observations.add(new ItemObservationRow(price(i), CurrencyEnum.EUR, BASE_DATE.plusDays(i), "Athens",
+                    ACTIVE, store.getUuid(), store.getName(), store.getStoreType()));
+            alerts.add(new PriceAlertSummaryResponse("alert-" + i,
+                    AlertTypeEnum.values()[i % AlertTypeEnum.values().length], price(i), null, null, "Item 0"));
+            comparisons.add(new PriceComparisonSummaryResponse(BASE_DATE.plusDays(i), "Item 0", store.getName(),
+                    CurrencyEnum.EUR, price(i), price(i + 7), price(i + 3), price(7)));
+        }
+        List<PriceStatisticsRow> statistics = List.of(new PriceStatisticsRow(CurrencyEnum.EUR, (long) size,
+                price(0), price(size), price(size).multiply(BigDecimal.valueOf(size)), BASE_DATE,
+                BASE_DATE.plusDays(size)));
+
+        return new ItemDetailsRepository() {
+            @Override
+            public Optional<ItemDetailsHeader> findHeader(String itemUuid, String status) {
+                return Optional.of(header);
+            }
+
+            @Override
+            public Optional<ItemVersionStamp> findVersionStamp(String itemUuid, String status) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<CategorySummaryResponse> findCategories(Long itemId) {
+                return categories;
+            }
+
+            @Override
+            public List<ItemObservationRow> findLatestObservations(Long itemId, Limit limit) {
+                return observations.subList(0, Math.min(limit.max(), observations.size()));
+            }
+
+            @Override
+            public List<PriceStatisticsRow> findPriceStatistics(Long itemId, RollupBucketEnum bucketType) {
+                return statistics;
+            }
+
+            @Override
+            public List<PriceAlertSummaryResponse> findPriceAlerts(Long itemId, String status) {
+                return alerts;
+            }
+
+            @Override
+            public List<PriceComparisonSummaryResponse> findPriceComparisons(Long itemId, String status) {
+                return comparisons;
+            }
+        };
+    }
+
+    /**
+     * A user with {@code size} entries in every collection user details show.
+     */
+    static User userWithCollections(int size) {
+        User user = user("owner");
+
+        Set<Store> preferredStores = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            preferredStores.add(store(i));
+        }
+        user.setUserPreferences(UserPreferences.builder()
+                .currency(CurrencyEnum.EUR)
+                .location("Athens")
+                .notificationEnabled(true)
+                .emailAlerts(false)
+                .preferredStores(preferredStores)
+                .user(user)
+                .build());
+
+        for (int i = 0; i < size; i++) {
+            Item item = item(i, user);
+            user.getItems().add(item);
+            user.getCategories().add(category(i, user));
+
+            PriceAlert alert = new PriceAlert();
+            alert.setUuid("alert-" + i);
+            alert.setAlertType(AlertTypeEnum.values()[i % AlertTypeEnum.values().length]);
+            alert.setThresholdPrice(price(i));
+            alert.setItem(item);
+            user.getPriceAlerts().add(alert);
+
+            ShoppingList shoppingList = new ShoppingList();
+            shoppingList.setUuid("list-" + i);
+            shoppingList.setName("List " + i);
+            shoppingList.setIsFavorite(i % 2 == 0);
+            user.getShoppingLists().add(shoppingList);
+
+            InflationReport report = new InflationReport();
+            report.setReportType(ReportTypeEnum.values()[i % ReportTypeEnum.values().length]);
+            report.setCurrency(CurrencyEnum.EUR);
+            report.setStartDate(BASE_DATE.plusMonths(i));
+            report.setEndDate(BASE_DATE.plusMonths(i + 1).minusDays(1));
+            report.setInflationRate(price(i));
+            user.getInflationReports().add(report);
+
+            Basket basket = new Basket();
+            basket.setName("Basket " + i);
+            user.getBaskets().add(basket);
+        }
+        return user;
+    }
+
+    static Category category(int index, User owner) {
+        return Category.builder()
+                .uuid("category-" + index)
+                .name("Category " + index)
+                .description("Description of category " + index)
+                .user(owner)
+                .status(ACTIVE)
+                .build();
+    }
+
+    static BigDecimal price(int index) {
+        return BigDecimal.valueOf(100 + index % 900, 2);
+    }
+}
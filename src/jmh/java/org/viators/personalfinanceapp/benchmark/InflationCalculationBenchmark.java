@@ -0,0 +1,56 @@
+package org.viators.personalfinanceapp.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.inflationcalc.dto.response.InflationCalculationResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The arithmetic behind item inflation calculation, once the start and end prices are known.
+ * Prices cycle through a fixed, seeded set so each invocation divides different values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InflationCalculationBenchmark {
+
+    private static final int PRICE_PAIRS = 1024;
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+
+    private final BigDecimal[] startPrices = new BigDecimal[PRICE_PAIRS];
+    private final BigDecimal[] endPrices = new BigDecimal[PRICE_PAIRS];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < PRICE_PAIRS; i++) {
+            startPrices[i] = BigDecimal.valueOf(50 + random.nextInt(50_000), 2);
+            endPrices[i] = BigDecimal.valueOf(50 + random.nextInt(50_000), 2);
+        }
+    }
+
+    @Benchmark
+    public InflationCalculationResponse between() {
+        int index = cursor++ & (PRICE_PAIRS - 1);
+        return InflationCalculationResponse.between(startPrices[index], endPrices[index], START_DATE, END_DATE,
+                CurrencyEnum.EUR);
+    }
+}
@@ -0,0 +1,66 @@
+package org.viators.personalfinanceapp.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.viators.personalfinanceapp.item.ItemDetailsReader;
+import org.viators.personalfinanceapp.item.dto.response.ItemDetailsResponse;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.user.dto.response.UserDetailsResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the details responses by the size of their collections: item details from the reader's
+ * projection rows, user details from a loaded entity graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int collectionSize;
+
+    private ItemDetailsReader itemDetailsReader;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        // Owner checks are not what is measured here
+        OwnershipAuthorizationService allowAll = new OwnershipAuthorizationService() {
+            @Override
+            public void verifyOwnership(String loggedInUserUuid, String ownerUuid) {
+            }
+
+            @Override
+            public void verifyOwnership(String loggedInUserUuid, User owner) {
+            }
+        };
+        itemDetailsReader = new ItemDetailsReader(BenchmarkFixtures.itemDetailsRows(collectionSize), allowAll,
+                collectionSize);
+        user = BenchmarkFixtures.userWithCollections(collectionSize);
+    }
+
+    @Benchmark
+    public ItemDetailsResponse itemDetailsRead() {
+        return itemDetailsReader.read("item-0", "owner");
+    }
+
+    @Benchmark
+    public UserDetailsResponse userDetailsFrom() {
+        return UserDetailsResponse.from(user);
+    }
+}
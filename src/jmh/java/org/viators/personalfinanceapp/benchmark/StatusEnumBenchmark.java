@@ -0,0 +1,36 @@
+package org.viators.personalfinanceapp.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status code lookup, run for every observation mapped to a response. Alternates between the
+ * codes so the switch cannot be folded to a single branch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class StatusEnumBenchmark {
+
+    // Fresh instances, as codes read from result sets are not interned
+    private final String[] codes = {new String("1"), new String("0")};
+    private int cursor;
+
+    @Benchmark
+    public StatusEnum getStatusFromCode() {
+        return StatusEnum.getStatusFromCode(codes[cursor++ & 1]);
+    }
+}
@@ -0,0 +1,49 @@
+package org.viators.personalfinanceapp.basket;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.viators.personalfinanceapp.basket.dto.response.BasketPriceIndexResponse;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.config.openapi.OwnerProtectedReadResponses;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/baskets")
+@RequiredArgsConstructor
+@Tag(name = "Baskets", description = "Fixed shopping baskets and their personal price index")
+public class BasketController {
+
+    private final BasketService basketService;
+
+    @GetMapping("/{uuid}/price-index")
+    @Operation(
+            summary = "Get a basket's price index",
+            description = "Returns the monthly cost of the basket quantities and its index relative to the first month (100). "
+                    + "Items without observations in a month keep their last known price.")
+    @ApiResponse(responseCode = "200", description = "Price index computed successfully",
+            content = @Content(schema = @Schema(implementation = BasketPriceIndexResponse.class)))
+    @OwnerProtectedReadResponses
+    public ResponseEntity<BasketPriceIndexResponse> getPriceIndex(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @Parameter(description = "Basket UUID")
+            @PathVariable("uuid") String basketUuid,
+            @RequestParam CurrencyEnum currency,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+
+        return ResponseEntity.ok(basketService.getPriceIndex(loggedInUserUuid, basketUuid, currency, from, to));
+    }
+}
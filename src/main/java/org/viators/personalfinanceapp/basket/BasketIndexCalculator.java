@@ -0,0 +1,175 @@
+package org.viators.personalfinanceapp.basket;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.viators.personalfinanceapp.basket.dto.response.BasketPriceIndexPointResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Laspeyres price index of a basket: the cost of the fixed basket quantities at every period's prices,
+ * relative to its cost in the first period.
+ *
+ * <p>Prices are only compared within one store: an item's price in a period is the average of its prices
+ * at every store it was observed at, so buying it at a cheaper store one month and a pricier one the next
+ * does not move the index. A store without observations in a period keeps its last known price for the
+ * item, including one from before the range. A store first observed later in the range is priced at that
+ * first price up to then, and so is an item, so the basket and its stores stay the same in every period.
+ * The cost is adjusted store price by store price as prices change, which keeps a long series of a large
+ * basket linear in the number of observed prices.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BasketIndexCalculator {
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final int RATE_DIVISION_SCALE = 10;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    /**
+     * @param firstMonth    first day of the base month
+     * @param lastMonth     first day of the last month of the series
+     * @param carriedPrices latest period price of every item and store before {@code firstMonth}
+     * @param periodPrices  period prices of items per store from {@code firstMonth} to {@code lastMonth}
+     */
+    public static BasketIndexSeries calculate(LocalDate firstMonth, LocalDate lastMonth,
+                                              Collection<BasketWeight> weights,
+                                              Collection<ItemPeriodPrice> carriedPrices,
+                                              Collection<ItemPeriodPrice> periodPrices) {
+        int months = (int) ChronoUnit.MONTHS.between(firstMonth, lastMonth) + 1;
+
+        Map<Long, Integer> positions = new HashMap<>();
+        BigDecimal[] quantities = new BigDecimal[weights.size()];
+        for (BasketWeight weight : weights) {
+            quantities[positions.size()] = weight.quantity();
+            positions.put(weight.itemId(), positions.size());
+        }
+
+        List<List<ItemPeriodPrice>> pricesByMonth = new ArrayList<>(months);
+        for (int month = 0; month < months; month++) {
+            pricesByMonth.add(new ArrayList<>());
+        }
+        for (ItemPeriodPrice price : periodPrices) {
+            int month = (int) ChronoUnit.MONTHS.between(firstMonth, price.periodStart());
+            if (month >= 0 && month < months && positions.containsKey(price.itemId())) {
+                pricesByMonth.get(month).add(price);
+            }
+        }
+
+        StorePrices[] current = new StorePrices[quantities.length];
+        for (int position = 0; position < current.length; position++) {
+            current[position] = new StorePrices();
+        }
+        for (ItemPeriodPrice carried : carriedPrices) {
+            Integer position = positions.get(carried.itemId());
+            if (position != null) {
+                current[position].put(carried);
+            }
+        }
+        for (ItemPeriodPrice price : pricesByMonth.getFirst()) {
+            current[positions.get(price.itemId())].put(price);
+        }
+        // Items and stores not priced yet take their first later price as the base price
+        for (int month = 1; month < months; month++) {
+            for (ItemPeriodPrice price : pricesByMonth.get(month)) {
+                current[positions.get(price.itemId())].putIfAbsent(price);
+            }
+        }
+
+        int pricedItems = 0;
+        BigDecimal cost = BigDecimal.ZERO;
+        BigDecimal[] itemPrices = new BigDecimal[quantities.length];
+        for (int position = 0; position < current.length; position++) {
+            if (!current[position].isEmpty()) {
+                pricedItems++;
+                itemPrices[position] = current[position].average();
+                cost = cost.add(quantities[position].multiply(itemPrices[position]));
+            }
+        }
+        int excludedItems = quantities.length - pricedItems;
+        if (pricedItems == 0) {
+            return new BasketIndexSeries(List.of(), 0, excludedItems);
+        }
+
+        BigDecimal baseCost = cost;
+        List<BasketPriceIndexPointResponse> points = new ArrayList<>(months);
+        points.add(point(firstMonth, cost, baseCost, observedItems(pricesByMonth.getFirst())));
+        for (int month = 1; month < months; month++) {
+            for (ItemPeriodPrice price : pricesByMonth.get(month)) {
+                int position = positions.get(price.itemId());
+                current[position].put(price);
+                BigDecimal newPrice = current[position].average();
+                cost = cost.add(quantities[position].multiply(newPrice.subtract(itemPrices[position])));
+                itemPrices[position] = newPrice;
+            }
+            points.add(point(firstMonth.plusMonths(month), cost, baseCost, observedItems(pricesByMonth.get(month))));
+        }
+
+        return new BasketIndexSeries(points, pricedItems, excludedItems);
+    }
+
+    private static int observedItems(List<ItemPeriodPrice> prices) {
+        Set<Long> itemIds = new HashSet<>();
+        for (ItemPeriodPrice price : prices) {
+            itemIds.add(price.itemId());
+        }
+        return itemIds.size();
+    }
+
+    private static BasketPriceIndexPointResponse point(LocalDate periodStart, BigDecimal cost, BigDecimal baseCost,
+                                                       int observedItems) {
+        BigDecimal index = baseCost.signum() == 0
+                ? null
+                : cost.divide(baseCost, RATE_DIVISION_SCALE, RoundingMode.HALF_EVEN)
+                .multiply(HUNDRED)
+                .setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN);
+        return new BasketPriceIndexPointResponse(periodStart, cost.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN),
+                index, observedItems);
+    }
+
+    /**
+     * Latest price of one item at each of its stores, with their running sum.
+     */
+    private static final class StorePrices {
+        private final Map<Long, BigDecimal> prices = new HashMap<>();
+        private BigDecimal sum = BigDecimal.ZERO;
+
+        private void put(ItemPeriodPrice price) {
+            BigDecimal newPrice = price.averagePrice();
+            BigDecimal previous = prices.put(price.storeId(), newPrice);
+            sum = sum.add(previous == null ? newPrice : newPrice.subtract(previous));
+        }
+
+        private void putIfAbsent(ItemPeriodPrice price) {
+            if (!prices.containsKey(price.storeId())) {
+                put(price);
+            }
+        }
+
+        private boolean isEmpty() {
+            return prices.isEmpty();
+        }
+
+        private BigDecimal average() {
+            return prices.size() == 1
+                    ? sum
+                    : sum.divide(BigDecimal.valueOf(prices.size()), RATE_DIVISION_SCALE, RoundingMode.HALF_EVEN);
+        }
+    }
+
+    public record BasketIndexSeries(
+            List<BasketPriceIndexPointResponse> points,
+            int pricedItems,
+            int excludedItems
+    ) {
+    }
+}
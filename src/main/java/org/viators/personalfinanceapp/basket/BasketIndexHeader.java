@@ -0,0 +1,12 @@
+package org.viators.personalfinanceapp.basket;
+
+/**
+ * The basket fields the price index needs, read without loading its items.
+ */
+public record BasketIndexHeader(
+        Long basketId,
+        String basketUuid,
+        String name,
+        String ownerUuid
+) {
+}
@@ -0,0 +1,78 @@
+package org.viators.personalfinanceapp.basket;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Projection queries behind the basket price index, reading monthly rollups instead of raw observations.
+ */
+public interface BasketIndexRepository extends Repository<Basket, Long> {
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.basket.BasketIndexHeader(b.id, b.uuid, b.name, u.uuid)
+            FROM Basket b
+            JOIN b.user u
+            WHERE b.uuid = :basketUuid
+            """)
+    Optional<BasketIndexHeader> findHeader(@Param("basketUuid") String basketUuid);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.basket.BasketWeight(i.id, bi.quantity)
+            FROM BasketItem bi
+            JOIN bi.item i
+            WHERE bi.basket.id = :basketId
+            AND bi.status = :status
+            AND i.status = :status
+            """)
+    List<BasketWeight> findWeights(@Param("basketId") Long basketId, @Param("status") String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.basket.ItemPeriodPrice(
+                r.item.id, r.store.id, r.bucketStart, r.priceSum, r.observationCount
+            )
+            FROM PriceRollup r
+            WHERE r.item.id IN :itemIds
+            AND r.currency = :currency
+            AND r.bucketType = :bucketType
+            AND r.bucketStart BETWEEN :from AND :to
+            """)
+    List<ItemPeriodPrice> findPeriodPrices(@Param("itemIds") Collection<Long> itemIds,
+                                           @Param("currency") CurrencyEnum currency,
+                                           @Param("bucketType") RollupBucketEnum bucketType,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    /**
+     * The last period with observations before {@code before}, per item and store, to carry into the first period.
+     */
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.basket.ItemPeriodPrice(
+                r.item.id, r.store.id, r.bucketStart, r.priceSum, r.observationCount
+            )
+            FROM PriceRollup r
+            WHERE r.item.id IN :itemIds
+            AND r.currency = :currency
+            AND r.bucketType = :bucketType
+            AND r.bucketStart = (
+                SELECT MAX(previous.bucketStart)
+                FROM PriceRollup previous
+                WHERE previous.item.id = r.item.id
+                AND previous.store.id = r.store.id
+                AND previous.currency = :currency
+                AND previous.bucketType = :bucketType
+                AND previous.bucketStart < :before
+            )
+            """)
+    List<ItemPeriodPrice> findCarriedPrices(@Param("itemIds") Collection<Long> itemIds,
+                                            @Param("currency") CurrencyEnum currency,
+                                            @Param("bucketType") RollupBucketEnum bucketType,
+                                            @Param("before") LocalDate before);
+}
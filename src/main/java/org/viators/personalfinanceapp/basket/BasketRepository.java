@@ -1,9 +1,11 @@
 package org.viators.personalfinanceapp.basket;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.basket.dto.response.BasketSummaryResponse;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,4 +23,15 @@ public interface BasketRepository extends JpaRepository<Basket, Long> {
             where b.id = :basketId
             """)
     Optional<Basket> findBasketWithItems(@Param("basketId") Long basketId);
-}
\ No newline at end of file
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.basket.dto.response.BasketSummaryResponse(
+                b.name, b.description, SIZE(b.basketItems)
+            )
+            FROM Basket b
+            WHERE b.user.uuid = :userUuid
+            ORDER BY b.createdAt DESC, b.id DESC
+            """)
+    List<BasketSummaryResponse> findSummariesByUserUuid(@Param("userUuid") String userUuid,
+                                                        Limit limit);
+}
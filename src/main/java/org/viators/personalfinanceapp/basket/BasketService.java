@@ -0,0 +1,77 @@
+package org.viators.personalfinanceapp.basket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.basket.BasketIndexCalculator.BasketIndexSeries;
+import org.viators.personalfinanceapp.basket.dto.response.BasketPriceIndexResponse;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.exceptions.BusinessValidationException;
+import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class BasketService {
+
+    private final BasketIndexRepository basketIndexRepository;
+    private final OwnershipAuthorizationService ownershipAuthorizationService;
+    private final int maxMonths;
+
+    public BasketService(BasketIndexRepository basketIndexRepository,
+                         OwnershipAuthorizationService ownershipAuthorizationService,
+                         @Value("${basket-index.max-months:240}") int maxMonths) {
+        this.basketIndexRepository = basketIndexRepository;
+        this.ownershipAuthorizationService = ownershipAuthorizationService;
+        this.maxMonths = maxMonths;
+    }
+
+    /**
+     * Monthly Laspeyres index of the basket from the month of {@code from} to the month of {@code to},
+     * with the first month as base. Runs four queries over the monthly rollups, whatever the length of
+     * the range or the size of the basket.
+     */
+    public BasketPriceIndexResponse getPriceIndex(String loggedInUserUuid, String basketUuid, CurrencyEnum currency,
+                                                  LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessValidationException("Invalid date range provided");
+        }
+        LocalDate firstMonth = RollupBucketEnum.MONTHLY.bucketStart(from);
+        LocalDate lastMonth = RollupBucketEnum.MONTHLY.bucketStart(to);
+        if (ChronoUnit.MONTHS.between(firstMonth, lastMonth) >= maxMonths) {
+            throw new BusinessValidationException("Date range cannot span more than " + maxMonths + " months");
+        }
+
+        BasketIndexHeader header = basketIndexRepository.findHeader(basketUuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Basket does not exist"));
+        ownershipAuthorizationService.verifyOwnership(loggedInUserUuid, header.ownerUuid());
+
+        List<BasketWeight> weights = basketIndexRepository.findWeights(header.basketId(), StatusEnum.ACTIVE.getCode());
+        BasketIndexSeries series = weights.isEmpty()
+                ? new BasketIndexSeries(List.of(), 0, 0)
+                : calculate(weights, currency, firstMonth, lastMonth);
+
+        log.debug("Computed price index of basket {} over {} months, {} items priced",
+                basketUuid, series.points().size(), series.pricedItems());
+        return new BasketPriceIndexResponse(header.basketUuid(), header.name(), currency, firstMonth,
+                series.pricedItems(), series.excludedItems(), series.points());
+    }
+
+    private BasketIndexSeries calculate(List<BasketWeight> weights, CurrencyEnum currency,
+                                        LocalDate firstMonth, LocalDate lastMonth) {
+        List<Long> itemIds = weights.stream().map(BasketWeight::itemId).toList();
+        List<ItemPeriodPrice> carriedPrices = basketIndexRepository.findCarriedPrices(
+                itemIds, currency, RollupBucketEnum.MONTHLY, firstMonth);
+        List<ItemPeriodPrice> periodPrices = basketIndexRepository.findPeriodPrices(
+                itemIds, currency, RollupBucketEnum.MONTHLY, firstMonth, lastMonth);
+        return BasketIndexCalculator.calculate(firstMonth, lastMonth, weights, carriedPrices, periodPrices);
+    }
+}
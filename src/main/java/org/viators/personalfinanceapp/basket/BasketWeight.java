@@ -0,0 +1,12 @@
+package org.viators.personalfinanceapp.basket;
+
+import java.math.BigDecimal;
+
+/**
+ * Quantity of one item in a basket, its weight in the price index.
+ */
+public record BasketWeight(
+        Long itemId,
+        BigDecimal quantity
+) {
+}
@@ -0,0 +1,22 @@
+package org.viators.personalfinanceapp.basket;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Observations of one item at one store in one month, taken from the monthly rollup.
+ */
+public record ItemPeriodPrice(
+        Long itemId,
+        Long storeId,
+        LocalDate periodStart,
+        BigDecimal priceSum,
+        Long observationCount
+) {
+    private static final int PRICE_SCALE = 4;
+
+    public BigDecimal averagePrice() {
+        return priceSum.divide(BigDecimal.valueOf(observationCount), PRICE_SCALE, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,17 @@
+package org.viators.personalfinanceapp.basket.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * @param basketCost    cost of the basket quantities at the period's prices
+ * @param index         basket cost relative to the first period, which is 100
+ * @param observedItems items priced from observations of this period; the others are carried forward
+ */
+public record BasketPriceIndexPointResponse(
+        LocalDate periodStart,
+        BigDecimal basketCost,
+        BigDecimal index,
+        Integer observedItems
+) {
+}
@@ -0,0 +1,21 @@
+package org.viators.personalfinanceapp.basket.dto.response;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * @param pricedItems   basket items with at least one price up to the end of the range
+ * @param excludedItems basket items never observed in the currency, left out of every period
+ */
+public record BasketPriceIndexResponse(
+        String basketUuid,
+        String basketName,
+        CurrencyEnum currency,
+        LocalDate basePeriod,
+        Integer pricedItems,
+        Integer excludedItems,
+        List<BasketPriceIndexPointResponse> points
+) {
+}
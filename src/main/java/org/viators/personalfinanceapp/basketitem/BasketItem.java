@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
 import org.viators.personalfinanceapp.basket.Basket;
 import org.viators.personalfinanceapp.common.BaseEntity;
 import org.viators.personalfinanceapp.item.Item;
@@ -23,6 +24,7 @@ import java.math.BigDecimal;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Filter(name = BaseEntity.ACTIVE_ONLY_FILTER)
 public class BasketItem extends BaseEntity {
 
     @ManyToOne
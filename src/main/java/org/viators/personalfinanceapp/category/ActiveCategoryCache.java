@@ -0,0 +1,49 @@
+package org.viators.personalfinanceapp.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.viators.personalfinanceapp.common.cache.LookupCaches;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Ids of active categories by uuid.
+ *
+ * <p>Entries are dropped once a {@link CategoryChangedEvent} commits; the TTL bounds how long an entry
+ * loaded concurrently with an archive can survive it. Unknown and inactive categories are not cached.</p>
+ */
+@Component
+public class ActiveCategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<String, Long> categoryIds;
+
+    public ActiveCategoryCache(CategoryRepository categoryRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${lookup-cache.categories.max-size:10000}") long maxSize,
+                               @Value("${lookup-cache.categories.ttl:30m}") Duration ttl) {
+        this.categoryRepository = categoryRepository;
+        this.categoryIds = LookupCaches.build("categories", maxSize, ttl, meterRegistry);
+    }
+
+    public Optional<Long> findActiveCategoryId(String categoryUuid) {
+        Long categoryId = categoryIds.getIfPresent(categoryUuid);
+        if (categoryId != null) {
+            return Optional.of(categoryId);
+        }
+
+        Optional<Long> loaded = categoryRepository.findIdByUuidAndStatus(categoryUuid, StatusEnum.ACTIVE.getCode());
+        loaded.ifPresent(id -> categoryIds.put(categoryUuid, id));
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        categoryIds.invalidate(event.categoryUuid());
+    }
+}
@@ -3,6 +3,9 @@ package org.viators.personalfinanceapp.category;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalIdCache;
 import org.viators.personalfinanceapp.common.BaseEntity;
 import org.viators.personalfinanceapp.inflationreport.InflationReport;
 import org.viators.personalfinanceapp.item.Item;
@@ -13,6 +16,9 @@ import java.util.List;
 
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
+@NaturalIdCache(region = "categories-natural-id")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,7 +33,7 @@ public class Category extends BaseEntity {
     @Column(name = "description")
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
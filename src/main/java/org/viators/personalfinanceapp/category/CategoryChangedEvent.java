@@ -0,0 +1,7 @@
+package org.viators.personalfinanceapp.category;
+
+/**
+ * Published when a category is updated or archived, so cached lookups of it are dropped.
+ */
+public record CategoryChangedEvent(Long categoryId, String categoryUuid) {
+}
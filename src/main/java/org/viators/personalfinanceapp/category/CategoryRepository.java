@@ -1,12 +1,15 @@
 package org.viators.personalfinanceapp.category;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +19,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Optional<Category> findByUuidAndStatus(String uuid, String status);
 
+    @Query("select c.id from Category c where c.uuid = :uuid and c.status = :status")
+    Optional<Long> findIdByUuidAndStatus(@Param("uuid") String uuid, @Param("status") String status);
+
     Optional<Category> findByUuidAndUser_Uuid(String categoryUuid, String userUuid);
 
     Optional<Category> findByUuidAndUser_UuidAndStatus(String uuid, String userUuid, String status);
@@ -44,4 +50,16 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findCategoryWithRelationships(@Param("userUuid") String userUuid,
                                                      @Param("categoryUuid") String categoryUuid);
 
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse(
+                c.name, c.description
+            )
+            FROM Category c
+            WHERE c.user.uuid = :userUuid
+            AND c.status = :status
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<CategorySummaryResponse> findSummariesByUserUuid(@Param("userUuid") String userUuid,
+                                                          @Param("status") String status,
+                                                          Limit limit);
 }
@@ -2,6 +2,7 @@ package org.viators.personalfinanceapp.category;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,13 +27,18 @@ import org.viators.personalfinanceapp.user.UserService;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ActiveCategoryCache activeCategoryCache;
     private final UserService userService;
     private final ItemService itemService;
+    private final ApplicationEventPublisher eventPublisher;
 
-
+    /**
+     * Returns a reference to the active category, resolved through {@link ActiveCategoryCache}.
+     */
     public Category getActiveCategory(String categoryUuid) {
-        return categoryRepository.findByUuidAndStatus(categoryUuid, StatusEnum.ACTIVE.getCode())
+        Long categoryId = activeCategoryCache.findActiveCategoryId(categoryUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "uuid", categoryUuid));
+        return categoryRepository.getReferenceById(categoryId);
     }
 
     public CategoryDetailsResponse getCategoryWithDetails(String userUuid, String categoryUuid) {
@@ -81,6 +87,7 @@ public class CategoryService {
         }
 
         request.updateFields(categoryToUpdate);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryToUpdate.getId(), categoryUuid));
         return CategorySummaryResponse.from(categoryToUpdate);
     }
 
@@ -90,6 +97,7 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("No category exist with this uuid"));
 
         categoryToArchive.setStatus(StatusEnum.INACTIVE.getCode());
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryToArchive.getId(), uuid));
     }
 
     @Transactional
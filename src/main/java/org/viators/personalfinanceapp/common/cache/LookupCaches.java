@@ -0,0 +1,29 @@
+package org.viators.personalfinanceapp.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * Builds the bounded caches behind entity lookups, all configured and monitored the same way.
+ *
+ * <p>Hits, misses, evictions and size are published per cache as {@code cache.gets},
+ * {@code cache.evictions} and {@code cache.size}, tagged with {@code cache=<name>}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LookupCaches {
+
+    public static <K, V> Cache<K, V> build(String name, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
@@ -0,0 +1,34 @@
+package org.viators.personalfinanceapp.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.viators.personalfinanceapp.category.Category;
+import org.viators.personalfinanceapp.category.CategoryChangedEvent;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.store.StoreChangedEvent;
+
+/**
+ * Drops second-level cache entries of stores and categories once a change to them commits.
+ *
+ * <p>Read-write regions already follow updates made through the session. Status flips decide whether a
+ * row is visible at all, so they are not left to that: the entry is removed and the next read comes from
+ * the database.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        entityManagerFactory.getCache().evict(Store.class, event.storeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        entityManagerFactory.getCache().evict(Category.class, event.categoryId());
+    }
+}
@@ -0,0 +1,34 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum FileFormatEnum {
+    CSV("Comma separated values with a header row", ".csv", "text/csv"),
+    NDJSON("One JSON object per line", ".ndjson", "application/x-ndjson");
+
+    private final String description;
+    private final String fileExtension;
+    private final String mediaType;
+
+    public static Optional<FileFormatEnum> fromFileName(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        if (lowerCaseName.endsWith(".jsonl")) {
+            return Optional.of(NDJSON);
+        }
+
+        return Arrays.stream(values())
+                .filter(format -> lowerCaseName.endsWith(format.getFileExtension()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,15 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImportJobStatusEnum {
+    QUEUED("Waiting for a free import slot"),
+    RUNNING("Rows are being imported"),
+    COMPLETED("Whole file was processed, see the error report for rejected rows"),
+    FAILED("Processing stopped early, see the error report");
+
+    private final String description;
+}
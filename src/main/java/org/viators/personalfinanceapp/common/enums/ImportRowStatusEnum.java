@@ -0,0 +1,13 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImportRowStatusEnum {
+    CREATED("Row was stored"),
+    FAILED("Row was rejected, see the error message");
+
+    private final String description;
+}
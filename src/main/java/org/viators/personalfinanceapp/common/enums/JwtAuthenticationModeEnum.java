@@ -0,0 +1,13 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JwtAuthenticationModeEnum {
+    CLAIMS("Principal is built from the verified token claims, no database access"),
+    DATABASE("Principal is loaded from the database on principal cache misses");
+
+    private final String description;
+}
@@ -0,0 +1,13 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum NotificationChannelEnum {
+    IN_APP("Shown inside the application, gated by the notifications preference"),
+    EMAIL("Sent by email, additionally gated by the email alerts preference");
+
+    private final String description;
+}
@@ -0,0 +1,12 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum NotificationEventTypeEnum {
+    PRICE_ALERT_TRIGGERED("A price alert crossed its threshold");
+
+    private final String description;
+}
@@ -0,0 +1,15 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatusEnum {
+    PENDING("Waiting for delivery, possibly after a failed attempt"),
+    SENT("Delivered to every enabled sink"),
+    SKIPPED("Not delivered because the user disabled notifications"),
+    FAILED("Gave up after the maximum number of attempts");
+
+    private final String description;
+}
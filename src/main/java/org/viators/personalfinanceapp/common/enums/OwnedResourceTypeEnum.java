@@ -0,0 +1,14 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OwnedResourceTypeEnum {
+    ITEM("Item"),
+    STORE("Store"),
+    SHOPPING_LIST("ShoppingList");
+
+    private final String resourceName;
+}
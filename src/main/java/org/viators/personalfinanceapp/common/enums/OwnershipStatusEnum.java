@@ -0,0 +1,14 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OwnershipStatusEnum {
+    OWNED("Resource belongs to the user, or is global and global resources were accepted"),
+    FOREIGN("Resource belongs to another user, or is global and global resources were not accepted"),
+    MISSING("No active resource with this uuid exists");
+
+    private final String description;
+}
@@ -2,10 +2,36 @@ package org.viators.personalfinanceapp.common.enums;
 
 import lombok.Getter;
 
+import java.time.LocalDate;
+
 @Getter
 public enum ReportTypeEnum {
     MONTHLY,
     QUARTERLY,
     YEARLY,
-    CUSTOM
+    CUSTOM;
+
+    /**
+     * Returns the first day of the calendar period that contains the given date.
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case MONTHLY -> date.withDayOfMonth(1);
+            case QUARTERLY -> date.withDayOfMonth(1).withMonth((date.getMonthValue() - 1) / 3 * 3 + 1);
+            case YEARLY -> date.withDayOfYear(1);
+            case CUSTOM -> throw new IllegalStateException("Custom reports have no calendar period");
+        };
+    }
+
+    /**
+     * Returns the last day of the calendar period starting on the given date.
+     */
+    public LocalDate periodEnd(LocalDate periodStart) {
+        return switch (this) {
+            case MONTHLY -> periodStart.plusMonths(1).minusDays(1);
+            case QUARTERLY -> periodStart.plusMonths(3).minusDays(1);
+            case YEARLY -> periodStart.plusYears(1).minusDays(1);
+            case CUSTOM -> throw new IllegalStateException("Custom reports have no calendar period");
+        };
+    }
 }
@@ -0,0 +1,40 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+@Getter
+@RequiredArgsConstructor
+public enum RollupBucketEnum {
+    DAILY("Day"),
+    WEEKLY("ISO week, starting on Monday"),
+    MONTHLY("Calendar month");
+
+    private final String description;
+
+    /**
+     * Returns the first day of the bucket that contains the given date.
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Picks the coarsest bucket that still gives a readable series for the range.
+     */
+    public static RollupBucketEnum forRange(LocalDate from, LocalDate to) {
+        long days = to.toEpochDay() - from.toEpochDay();
+        if (days > 730) {
+            return MONTHLY;
+        }
+        return days > 90 ? WEEKLY : DAILY;
+    }
+}
@@ -0,0 +1,16 @@
+package org.viators.personalfinanceapp.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum UserEventTypeEnum {
+    PRICE_RECORDED("price-recorded", "A new price observation became the current price of an item"),
+    ALERT_TRIGGERED("alert-triggered", "A price alert crossed its threshold"),
+    SHOPPING_LIST_TOTAL_CHANGED("shopping-list-total-changed", "The total amount of a shopping list changed"),
+    RESYNC("resync", "Events were dropped because the client fell behind, state should be reloaded");
+
+    private final String eventName;
+    private final String description;
+}
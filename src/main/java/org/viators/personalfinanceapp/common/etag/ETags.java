@@ -0,0 +1,63 @@
+package org.viators.personalfinanceapp.common.etag;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Strong entity tags built from version stamps, and the conditional GET around them.
+ *
+ * <p>A tag is the MD5 of the stamp's parts, so it changes as soon as any version, count or id in the
+ * stamp does. Stamps are read with version-only queries; the response body is only built when the
+ * client's {@code If-None-Match} no longer matches.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ETags {
+
+    // Responses are per user and have to be revalidated before every reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final String SEPARATOR = "|";
+
+    public static String of(Object... parts) {
+        String stamp = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return "\"" + DigestUtils.md5DigestAsHex(stamp.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Tag of a page: its position, the total and the id and version of every row on it, so rows
+     * moving in or out of the page change it as well as rows being updated.
+     */
+    public static String ofPage(Page<EntityVersion> page) {
+        return of(page.getNumber(), page.getSize(), page.getSort(), page.getTotalElements(), page.getContent());
+    }
+
+    /**
+     * 304 when the request's {@code If-None-Match} matches the tag, otherwise 200 with the body,
+     * which is only built in that case.
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest webRequest, String eTag, Supplier<T> body) {
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(body.get());
+    }
+}
@@ -0,0 +1,10 @@
+package org.viators.personalfinanceapp.common.etag;
+
+/**
+ * Id and version of one row of a page, all a page's entity tag is built from.
+ */
+public record EntityVersion(
+        Long id,
+        Long version
+) {
+}
@@ -0,0 +1,14 @@
+package org.viators.personalfinanceapp.common.etag;
+
+/**
+ * Version of an aggregate root together with the count, the highest id and the summed versions of
+ * its children: an added child raises the highest id, a removed one lowers the count and an updated
+ * one raises the sum, so any change shows up in the stamp.
+ */
+public record VersionStamp(
+        Long version,
+        Long childCount,
+        Long lastChildId,
+        Long childVersions
+) {
+}
@@ -0,0 +1,72 @@
+package org.viators.personalfinanceapp.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a request is handled.
+ *
+ * <p>Registered as Hibernate's statement inspector, which Hibernate instantiates itself, so the
+ * count lives in a static scope opened and closed by {@link SqlStatementMetricsFilter}. The scope
+ * belongs to the request thread only; work a request fans out to other threads is counted when it
+ * is handed over through {@link #propagate(Callable)}, and background jobs started by a request are
+ * not counted for it.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    public static void open() {
+        CURRENT.set(new AtomicInteger());
+    }
+
+    public static int count() {
+        AtomicInteger counter = CURRENT.get();
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * @return the statements counted since {@link #open()}
+     */
+    public static int close() {
+        int statements = count();
+        CURRENT.remove();
+        return statements;
+    }
+
+    /**
+     * Binds the caller's scope, if any, to the task while it runs, so its statements are counted for
+     * the caller's request on whatever thread executes it.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        AtomicInteger counter = CURRENT.get();
+        if (counter == null) {
+            return task;
+        }
+
+        return () -> {
+            AtomicInteger previous = CURRENT.get();
+            CURRENT.set(counter);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger counter = CURRENT.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,83 @@
+package org.viators.personalfinanceapp.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the SQL statements of every request as {@code app.request.sql.statements}, tagged with
+ * the method and the matched URI pattern, so N+1 regressions show up per endpoint.
+ *
+ * <p>With {@code request-metrics.statement-count-header} on, the count so far is also sent as the
+ * {@value #HEADER} response header, written just before the response is committed. Statements
+ * issued while the body is streamed are only part of the metric.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeader;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry,
+                                     @Value("${request-metrics.statement-count-header:false}") boolean exposeHeader) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.open();
+        try {
+            filterChain.doFilter(request, exposeHeader ? new StatementCountHeaderWriter(response) : response);
+        } finally {
+            // Responses without a body are committed after the chain returns
+            if (exposeHeader && !response.isCommitted()) {
+                response.setHeader(HEADER, String.valueOf(SqlStatementCounter.count()));
+            }
+            record(request, SqlStatementCounter.close());
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder("app.request.sql.statements")
+                .description("SQL statements prepared per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? UNKNOWN_URI : pattern.toString())
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    private static class StatementCountHeaderWriter extends OnCommittedResponseWrapper {
+
+        StatementCountHeaderWriter(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(HEADER, String.valueOf(SqlStatementCounter.count()));
+        }
+    }
+}
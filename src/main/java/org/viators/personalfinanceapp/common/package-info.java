@@ -0,0 +1,11 @@
+/**
+ * Building blocks shared by every feature slice.
+ *
+ * <p>Declares the {@value org.viators.personalfinanceapp.common.BaseEntity#ACTIVE_ONLY_FILTER} filter, enabled
+ * in every session. Entities that opt in with {@code @Filter} only return active rows from queries; loads by
+ * id or natural id still see inactive ones. {@code '1'} is {@code StatusEnum.ACTIVE}.</p>
+ */
+@FilterDef(name = BaseEntity.ACTIVE_ONLY_FILTER, defaultCondition = "status = '1'", autoEnabled = true)
+package org.viators.personalfinanceapp.common;
+
+import org.hibernate.annotations.FilterDef;
@@ -0,0 +1,16 @@
+package org.viators.personalfinanceapp.common.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One slice of a cursor-paginated listing. No total count is computed.")
+public record CursorSliceResponse<T>(
+        List<T> content,
+        @Schema(description = "Number of elements in this slice", example = "12")
+        int size,
+        boolean hasNext,
+        @Schema(description = "Opaque token for the next slice, null on the last one", nullable = true)
+        String nextCursor
+) {
+}
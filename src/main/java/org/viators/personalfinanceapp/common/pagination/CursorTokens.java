@@ -0,0 +1,99 @@
+package org.viators.personalfinanceapp.common.pagination;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.viators.personalfinanceapp.exceptions.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encodes keyset scroll positions as opaque URL-safe tokens and back.
+ *
+ * <p>A token carries the sort key values of the last row a client has seen, e.g.
+ * {@code (createdAt, id)}. Only the value types used as keyset columns are supported.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorTokens {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String VERSION = "v1";
+    private static final char FIELD_SEPARATOR = ';';
+    private static final char VALUE_SEPARATOR = '=';
+
+    /**
+     * Position to scroll from: the start when no token is given, otherwise right after the encoded row.
+     */
+    public static KeysetScrollPosition decode(String token) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] fields = decoded.split(String.valueOf(FIELD_SEPARATOR));
+            if (!VERSION.equals(fields[0])) {
+                throw new IllegalArgumentException("Unknown cursor version");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 1; i < fields.length; i++) {
+                String[] parts = fields[i].split(String.valueOf(VALUE_SEPARATOR), 3);
+                keys.put(parts[0], parseValue(parts[1], parts[2]));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException e) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+    }
+
+    public static String encode(KeysetScrollPosition position) {
+        StringBuilder builder = new StringBuilder(VERSION);
+        position.getKeys().forEach((name, value) -> builder
+                .append(FIELD_SEPARATOR).append(name)
+                .append(VALUE_SEPARATOR).append(typeOf(value))
+                .append(VALUE_SEPARATOR).append(value));
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int clampSize(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+
+    public static <T, R> CursorSliceResponse<R> toResponse(Window<T> window, Function<T, R> mapper) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+
+        return new CursorSliceResponse<>(window.map(mapper).getContent(), window.size(), window.hasNext(), nextCursor);
+    }
+
+    private static String typeOf(Object value) {
+        return switch (value) {
+            case Instant ignored -> "I";
+            case LocalDate ignored -> "D";
+            case Long ignored -> "L";
+            default -> throw new IllegalArgumentException("Unsupported keyset type " + value.getClass());
+        };
+    }
+
+    private static Object parseValue(String type, String value) {
+        return switch (type) {
+            case "I" -> Instant.parse(value);
+            case "D" -> LocalDate.parse(value);
+            case "L" -> Long.valueOf(value);
+            default -> throw new IllegalArgumentException("Unknown keyset type " + type);
+        };
+    }
+}
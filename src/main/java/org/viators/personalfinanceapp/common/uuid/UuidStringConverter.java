@@ -0,0 +1,34 @@
+package org.viators.personalfinanceapp.common.uuid;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * Keeps {@code uuid} attributes as canonical strings in Java and in the API while storing them as
+ * 16-byte values: native {@code uuid} on PostgreSQL, {@code binary(16)} on MySQL.
+ *
+ * <p>Query parameters are converted as well, so repository lookups keep taking strings. A string that is not a
+ * UUID binds as {@code null} and matches no row, the same outcome as an unknown id.</p>
+ */
+@Converter
+public class UuidStringConverter implements AttributeConverter<String, UUID> {
+
+    @Override
+    public UUID convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(attribute);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(UUID dbData) {
+        return dbData == null ? null : dbData.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package org.viators.personalfinanceapp.common.validators;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+import org.viators.personalfinanceapp.pricealert.dto.request.CreatePriceAlertRequest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE) // Which value is required depends on the alert type
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidAlertThreshold.CreatePriceAlertValidator.class)
+public @interface ValidAlertThreshold {
+    String message() default "Alert threshold does not match the alert type";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+
+    class CreatePriceAlertValidator implements ConstraintValidator<ValidAlertThreshold, CreatePriceAlertRequest> {
+        @Override
+        public boolean isValid(CreatePriceAlertRequest req, ConstraintValidatorContext ctx) {
+            if (req == null || req.alertType() == null) {
+                return true;
+            }
+
+            boolean percentageAlert = req.alertType() == AlertTypeEnum.PERCENTAGE_CHANGE;
+            String field = percentageAlert ? "percentageChange" : "thresholdPrice";
+            boolean valid = percentageAlert ? req.percentageChange() != null : req.thresholdPrice() != null;
+
+            if (!valid) {
+                ctx.disableDefaultConstraintViolation();
+                ctx.buildConstraintViolationWithTemplate("Required for alert type " + req.alertType())
+                        .addPropertyNode(field)
+                        .addConstraintViolation();
+            }
+            return valid;
+        }
+    }
+}
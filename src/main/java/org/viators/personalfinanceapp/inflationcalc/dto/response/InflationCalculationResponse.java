@@ -3,6 +3,7 @@ package org.viators.personalfinanceapp.inflationcalc.dto.response;
 import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
 public record InflationCalculationResponse(
@@ -16,6 +17,29 @@ public record InflationCalculationResponse(
         String insufficientDataMessage
 ) {
 
+    /**
+     * Inflation between two prices: the rate in percent and the absolute change.
+     */
+    public static InflationCalculationResponse between(BigDecimal startPrice, BigDecimal endPrice,
+                                                       LocalDate startDate, LocalDate endDate, CurrencyEnum currency) {
+        BigDecimal absolutePriceChange = endPrice.subtract(startPrice);
+        BigDecimal inflationRate = absolutePriceChange
+                .divide(startPrice, 10, RoundingMode.HALF_EVEN)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_EVEN);
+
+        return new InflationCalculationResponse(
+                startPrice,
+                endPrice,
+                startDate,
+                endDate,
+                inflationRate,
+                absolutePriceChange,
+                currency,
+                null
+        );
+    }
+
     public static InflationCalculationResponse insufficientData() {
         return new InflationCalculationResponse(
                 null, null, null, null, null, null, null,
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.viators.personalfinanceapp.category.Category;
 import org.viators.personalfinanceapp.common.BaseEntity;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.user.User;
 import org.viators.personalfinanceapp.common.enums.ReportTypeEnum;
 
@@ -14,7 +15,13 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "inflation_reports")
+@Table(
+        name = "inflation_reports",
+        indexes = @Index(
+                name = "idx_inflation_report_user_period",
+                columnList = "user_id, report_type, start_date"
+        )
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,6 +38,10 @@ public class InflationReport extends BaseEntity {
     @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency")
+    private CurrencyEnum currency;
+
     @Column(name = "inflation_rate")
     private BigDecimal inflationRate;
 
@@ -43,11 +54,38 @@ public class InflationReport extends BaseEntity {
     @Column(name = "item_count")
     private Integer itemCount;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
+
+    // Helper methods
+    public boolean hasSameResult(InflationReportResult result) {
+        return sameAmount(inflationRate, result.inflationRate())
+                && sameAmount(averagePrice, result.averagePrice())
+                && sameAmount(priceChangeAmount, result.priceChangeAmount())
+                && result.itemCount().equals(itemCount)
+                && result.endDate().equals(endDate);
+    }
+
+    public void apply(InflationReportResult result) {
+        this.reportType = result.reportType();
+        this.startDate = result.startDate();
+        this.endDate = result.endDate();
+        this.currency = result.currency();
+        this.inflationRate = result.inflationRate();
+        this.averagePrice = result.averagePrice();
+        this.priceChangeAmount = result.priceChangeAmount();
+        this.itemCount = result.itemCount();
+    }
+
+    private static boolean sameAmount(BigDecimal current, BigDecimal candidate) {
+        if (current == null || candidate == null) {
+            return current == candidate;
+        }
+        return current.compareTo(candidate) == 0;
+    }
 }
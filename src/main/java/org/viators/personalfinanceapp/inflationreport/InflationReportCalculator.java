@@ -0,0 +1,181 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ReportTypeEnum;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The report math, free of persistence so it can be tested and run for any set of periods.
+ *
+ * <p>Prices are only compared within one store: every store of an item contributes its first and last
+ * price of the period, so an item observed at a cheap store early and at a pricier one later does not
+ * look like inflation. The item's start and end price are the averages over its stores. A report over a
+ * set of items sums those up like a basket holding one unit of each item, so the inflation rate is
+ * {@code (sum of end - sum of start) / sum of start}, with the same rounding as the single item
+ * calculation.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InflationReportCalculator {
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final int RATE_DIVISION_SCALE = 10;
+
+    private static final Comparator<InflationReportSource> EARLIEST_FIRST = Comparator
+            .comparing(InflationReportSource::firstObservationDate)
+            .thenComparing(InflationReportSource::rollupId);
+
+    private static final Comparator<InflationReportSource> LATEST_LAST = Comparator
+            .comparing(InflationReportSource::lastObservationDate)
+            .thenComparing(InflationReportSource::rollupId);
+
+    private static final Comparator<ReportKey> REPORT_ORDER = Comparator
+            .comparing(ReportKey::categoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ReportKey::currency);
+
+    /**
+     * @param sources           monthly rollups of the user that fall into the period
+     * @param categoryIdsByItem active categories of every item; items without an entry only count
+     *                          towards the report over all items
+     * @return one result over all items plus one per category, for every currency with observations
+     */
+    public static List<InflationReportResult> calculate(ReportTypeEnum reportType, LocalDate periodStart,
+                                                        Collection<InflationReportSource> sources,
+                                                        Map<Long, Set<Long>> categoryIdsByItem) {
+        LocalDate periodEnd = reportType.periodEnd(periodStart);
+
+        Map<SeriesKey, StorePeriod> series = new LinkedHashMap<>();
+        for (InflationReportSource source : sources) {
+            if (source.bucketStart().isBefore(periodStart) || source.bucketStart().isAfter(periodEnd)) {
+                continue;
+            }
+            series.computeIfAbsent(new SeriesKey(source.itemId(), source.storeId(), source.currency()),
+                    key -> new StorePeriod()).include(source);
+        }
+
+        Map<ItemKey, ItemPeriod> items = new LinkedHashMap<>();
+        for (Map.Entry<SeriesKey, StorePeriod> entry : series.entrySet()) {
+            items.computeIfAbsent(new ItemKey(entry.getKey().itemId(), entry.getKey().currency()),
+                    key -> new ItemPeriod()).include(entry.getValue());
+        }
+
+        Map<ReportKey, Totals> reports = new HashMap<>();
+        for (Map.Entry<ItemKey, ItemPeriod> entry : items.entrySet()) {
+            CurrencyEnum currency = entry.getKey().currency();
+            ItemPeriod item = entry.getValue();
+            reports.computeIfAbsent(new ReportKey(null, currency), key -> new Totals()).include(item);
+            for (Long categoryId : categoryIdsByItem.getOrDefault(entry.getKey().itemId(), Set.of())) {
+                reports.computeIfAbsent(new ReportKey(categoryId, currency), key -> new Totals()).include(item);
+            }
+        }
+
+        List<InflationReportResult> results = new ArrayList<>(reports.size());
+        reports.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(REPORT_ORDER))
+                .forEach(entry -> results.add(entry.getValue()
+                        .toResult(reportType, periodStart, periodEnd, entry.getKey())));
+        return results;
+    }
+
+    private record SeriesKey(Long itemId, Long storeId, CurrencyEnum currency) {
+    }
+
+    private record ItemKey(Long itemId, CurrencyEnum currency) {
+    }
+
+    private record ReportKey(Long categoryId, CurrencyEnum currency) {
+    }
+
+    private static final class StorePeriod {
+        private InflationReportSource first;
+        private InflationReportSource last;
+        private long observationCount;
+        private BigDecimal priceSum = BigDecimal.ZERO;
+
+        private void include(InflationReportSource source) {
+            if (first == null || EARLIEST_FIRST.compare(source, first) < 0) {
+                first = source;
+            }
+            if (last == null || LATEST_LAST.compare(source, last) > 0) {
+                last = source;
+            }
+            observationCount += source.observationCount();
+            priceSum = priceSum.add(source.priceSum());
+        }
+    }
+
+    private static final class ItemPeriod {
+        private BigDecimal firstSum = BigDecimal.ZERO;
+        private BigDecimal lastSum = BigDecimal.ZERO;
+        private int storeCount;
+        private long observationCount;
+        private BigDecimal priceSum = BigDecimal.ZERO;
+
+        private void include(StorePeriod store) {
+            firstSum = firstSum.add(store.first.firstPrice());
+            lastSum = lastSum.add(store.last.lastPrice());
+            storeCount++;
+            observationCount += store.observationCount;
+            priceSum = priceSum.add(store.priceSum);
+        }
+
+        private BigDecimal startPrice() {
+            return averageOverStores(firstSum);
+        }
+
+        private BigDecimal endPrice() {
+            return averageOverStores(lastSum);
+        }
+
+        private BigDecimal averageOverStores(BigDecimal sum) {
+            return storeCount == 1
+                    ? sum
+                    : sum.divide(BigDecimal.valueOf(storeCount), RATE_DIVISION_SCALE, RoundingMode.HALF_EVEN);
+        }
+    }
+
+    private static final class Totals {
+        private BigDecimal startSum = BigDecimal.ZERO;
+        private BigDecimal endSum = BigDecimal.ZERO;
+        private BigDecimal priceSum = BigDecimal.ZERO;
+        private long observationCount;
+        private int itemCount;
+
+        private void include(ItemPeriod item) {
+            startSum = startSum.add(item.startPrice());
+            endSum = endSum.add(item.endPrice());
+            priceSum = priceSum.add(item.priceSum);
+            observationCount += item.observationCount;
+            itemCount++;
+        }
+
+        private InflationReportResult toResult(ReportTypeEnum reportType, LocalDate periodStart,
+                                               LocalDate periodEnd, ReportKey key) {
+            BigDecimal change = endSum.subtract(startSum);
+            BigDecimal changeAmount = change.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN);
+            BigDecimal inflationRate = startSum.signum() == 0
+                    ? null
+                    : change
+                    .divide(startSum, RATE_DIVISION_SCALE, RoundingMode.HALF_EVEN)
+                    .multiply(BigDecimal.valueOf(100))
+                    .setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN);
+            BigDecimal averagePrice = priceSum.divide(BigDecimal.valueOf(observationCount), AMOUNT_SCALE,
+                    RoundingMode.HALF_UP);
+
+            return new InflationReportResult(reportType, periodStart, periodEnd, key.categoryId(), key.currency(),
+                    inflationRate, averagePrice, changeAmount, itemCount);
+        }
+    }
+}
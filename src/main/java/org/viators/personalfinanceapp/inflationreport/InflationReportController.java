@@ -0,0 +1,31 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/inflation-reports")
+@RequiredArgsConstructor
+public class InflationReportController {
+
+    private final InflationReportGenerator inflationReportGenerator;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/regenerate")
+    @Operation(
+            summary = "Regenerate inflation reports",
+            description = "Regenerates the monthly, quarterly and yearly inflation reports of every user from all price rollups. Runs in the background."
+    )
+    @ApiResponse(responseCode = "202", description = "Regeneration started")
+    @ApiResponse(responseCode = "409", description = "A report run is already in progress")
+    public ResponseEntity<Void> regenerate() {
+        inflationReportGenerator.startFullRegeneration();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,160 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.exceptions.InvalidStateException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the monthly, quarterly and yearly inflation reports up to date.
+ *
+ * <p>Every run only looks at the months whose rollups changed since the previous run, so a user without
+ * new observations costs nothing. Touched users are regenerated in parallel, each in its own transaction.
+ * The watermark lives in {@link InflationReportWatermark}; runs overlap it a little so observations committed
+ * while a run was reading are picked up by the next one. A run keeps the watermark row locked until it is
+ * done, and an instance that finds it locked skips its run, so only one run at a time across instances.</p>
+ */
+@Component
+@Slf4j
+public class InflationReportGenerator {
+
+    private final InflationReportRepository inflationReportRepository;
+    private final InflationReportWatermarkRepository inflationReportWatermarkRepository;
+    private final InflationReportService inflationReportService;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final Duration overlap;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public InflationReportGenerator(InflationReportRepository inflationReportRepository,
+                                    InflationReportWatermarkRepository inflationReportWatermarkRepository,
+                                    InflationReportService inflationReportService,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${inflation-report.parallelism:4}") int parallelism,
+                                    @Value("${inflation-report.overlap:5m}") Duration overlap) {
+        this.inflationReportRepository = inflationReportRepository;
+        this.inflationReportWatermarkRepository = inflationReportWatermarkRepository;
+        this.inflationReportService = inflationReportService;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = parallelism;
+        this.overlap = overlap;
+    }
+
+    @Scheduled(cron = "${inflation-report.cron:0 5 * * * *}")
+    public void generateTouchedPeriods() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Skipping scheduled inflation report run, another run is in progress");
+            return;
+        }
+
+        try {
+            run(false);
+        } catch (RuntimeException e) {
+            log.error("Inflation report run failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Regenerates the reports of every period with observations, in the background.
+     */
+    public void startFullRegeneration() {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidStateException("Inflation report generation is already running");
+        }
+
+        Thread.ofVirtual().name("inflation-report-regeneration").start(() -> {
+            try {
+                run(true);
+            } catch (RuntimeException e) {
+                log.error("Inflation report regeneration failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void run(boolean full) {
+        // This transaction only holds the lock, every user is regenerated in a transaction of its own
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<InflationReportWatermark> watermark = inflationReportWatermarkRepository
+                    .tryLock(InflationReportWatermark.ID);
+            if (watermark.isEmpty()) {
+                log.info("Skipping inflation report run, another instance is generating reports");
+                return;
+            }
+
+            try {
+                generate(watermark.get(), full);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                status.setRollbackOnly();
+                log.warn("Inflation report run was interrupted");
+            }
+        });
+    }
+
+    private void generate(InflationReportWatermark watermark, boolean full) throws InterruptedException {
+        long started = System.currentTimeMillis();
+        Instant runStarted = Instant.now();
+        Instant since = full ? Instant.EPOCH : watermark.getWatermark().minus(overlap);
+
+        Map<Long, List<LocalDate>> touchedMonthsByUser = inflationReportRepository
+                .findTouchedMonths(RollupBucketEnum.MONTHLY, since)
+                .stream()
+                .collect(Collectors.groupingBy(TouchedMonth::userId,
+                        Collectors.mapping(TouchedMonth::monthStart, Collectors.toList())));
+
+        AtomicLong written = new AtomicLong();
+        AtomicLong failedUsers = new AtomicLong();
+        Semaphore inFlight = new Semaphore(parallelism);
+
+        try (ExecutorService workers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("inflation-report-worker-", 0).factory())) {
+            for (Map.Entry<Long, List<LocalDate>> entry : touchedMonthsByUser.entrySet()) {
+                inFlight.acquire();
+                workers.submit(() -> {
+                    try {
+                        Integer count = transactionTemplate.execute(status ->
+                                inflationReportService.regenerate(entry.getKey(), entry.getValue()));
+                        written.addAndGet(count != null ? count : 0);
+                    } catch (RuntimeException e) {
+                        failedUsers.incrementAndGet();
+                        log.error("Inflation report generation failed for user {}", entry.getKey(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        // Failed users are retried on the next run, since the watermark stays where it was
+        if (failedUsers.get() == 0) {
+            watermark.setWatermark(runStarted);
+        }
+
+        log.info("Inflation report run finished: {} users, {} reports written, {} failed users in {} ms",
+                touchedMonthsByUser.size(), written.get(), failedUsers.get(), System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,76 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.inflationreport.dto.response.InflationReportSummaryResponse;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface InflationReportRepository extends JpaRepository<InflationReport, Long> {
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.inflationreport.dto.response.InflationReportSummaryResponse(
+                r.reportType, c.name, r.currency, r.startDate, r.endDate, r.inflationRate
+            )
+            FROM InflationReport r
+            LEFT JOIN r.category c
+            WHERE r.user.uuid = :userUuid
+            AND r.status = :status
+            ORDER BY r.endDate DESC, r.id DESC
+            """)
+    List<InflationReportSummaryResponse> findSummariesByUserUuid(@Param("userUuid") String userUuid,
+                                                                 @Param("status") String status,
+                                                                 Limit limit);
+
+    List<InflationReport> findAllByUser_IdAndStatusAndStartDateBetween(Long userId, String status,
+                                                                      LocalDate from, LocalDate to);
+
+    /**
+     * Months of every user whose rollups changed after the given instant, i.e. received new observations.
+     */
+    @Query("""
+            SELECT DISTINCT new org.viators.personalfinanceapp.inflationreport.TouchedMonth(i.user.id, r.bucketStart)
+            FROM PriceRollup r
+            JOIN r.item i
+            WHERE r.bucketType = :bucketType
+            AND r.updatedAt > :since
+            """)
+    List<TouchedMonth> findTouchedMonths(@Param("bucketType") RollupBucketEnum bucketType,
+                                         @Param("since") Instant since);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.inflationreport.InflationReportSource(
+                r.id, i.id, r.store.id, r.currency, r.bucketStart, r.firstObservationDate, r.firstPrice,
+                r.lastObservationDate, r.lastPrice, r.observationCount, r.priceSum
+            )
+            FROM PriceRollup r
+            JOIN r.item i
+            WHERE i.user.id = :userId
+            AND i.status = :status
+            AND r.bucketType = :bucketType
+            AND r.bucketStart BETWEEN :from AND :to
+            """)
+    List<InflationReportSource> findSources(@Param("userId") Long userId,
+                                            @Param("status") String status,
+                                            @Param("bucketType") RollupBucketEnum bucketType,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.inflationreport.ItemCategoryLink(i.id, c.id)
+            FROM Category c
+            JOIN c.items i
+            WHERE c.user.id = :userId
+            AND c.status = :status
+            AND i.status = :status
+            """)
+    List<ItemCategoryLink> findItemCategoryLinks(@Param("userId") Long userId,
+                                                 @Param("status") String status);
+}
@@ -0,0 +1,25 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ReportTypeEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Figures of one report, before they are written to an {@link InflationReport}.
+ *
+ * @param categoryId null for the report over all items of the user
+ */
+public record InflationReportResult(
+        ReportTypeEnum reportType,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long categoryId,
+        CurrencyEnum currency,
+        BigDecimal inflationRate,
+        BigDecimal averagePrice,
+        BigDecimal priceChangeAmount,
+        Integer itemCount
+) {
+}
@@ -0,0 +1,133 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.category.CategoryRepository;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ReportTypeEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.user.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class InflationReportService {
+
+    /**
+     * Report types generated from the calendar; custom reports are never touched here.
+     */
+    static final List<ReportTypeEnum> GENERATED_TYPES = List.of(
+            ReportTypeEnum.MONTHLY, ReportTypeEnum.QUARTERLY, ReportTypeEnum.YEARLY);
+
+    private final InflationReportRepository inflationReportRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * Regenerates the monthly, quarterly and yearly reports of one user for the periods containing the
+     * given months, over all items and per category. Reads the user's monthly rollups and category links
+     * with two queries, whatever the number of periods. Reports whose figures did not change are left
+     * untouched, reports left without any observation are deactivated.
+     *
+     * @param touchedMonths first days of the months that received new observations
+     * @return the number of reports written
+     */
+    @Transactional
+    public int regenerate(Long userId, Collection<LocalDate> touchedMonths) {
+        if (touchedMonths.isEmpty()) {
+            return 0;
+        }
+
+        Set<ReportPeriod> periods = new HashSet<>();
+        for (LocalDate month : touchedMonths) {
+            for (ReportTypeEnum reportType : GENERATED_TYPES) {
+                periods.add(new ReportPeriod(reportType, reportType.periodStart(month)));
+            }
+        }
+
+        // Yearly periods cover all others, so their bounds are the bounds of everything read
+        TreeSet<LocalDate> years = periods.stream()
+                .filter(period -> period.reportType() == ReportTypeEnum.YEARLY)
+                .map(ReportPeriod::startDate)
+                .collect(Collectors.toCollection(TreeSet::new));
+        LocalDate from = years.first();
+        LocalDate to = ReportTypeEnum.YEARLY.periodEnd(years.last());
+
+        List<InflationReportSource> sources = inflationReportRepository.findSources(
+                userId, StatusEnum.ACTIVE.getCode(), RollupBucketEnum.MONTHLY, from, to);
+        Map<Long, Set<Long>> categoryIdsByItem = inflationReportRepository
+                .findItemCategoryLinks(userId, StatusEnum.ACTIVE.getCode())
+                .stream()
+                .collect(Collectors.groupingBy(ItemCategoryLink::itemId,
+                        Collectors.mapping(ItemCategoryLink::categoryId, Collectors.toSet())));
+        Map<ReportKey, InflationReport> currentReports = inflationReportRepository
+                .findAllByUser_IdAndStatusAndStartDateBetween(userId, StatusEnum.ACTIVE.getCode(), from, to)
+                .stream()
+                .filter(report -> periods.contains(new ReportPeriod(report.getReportType(), report.getStartDate())))
+                .collect(Collectors.toMap(ReportKey::of, Function.identity(), (first, duplicate) -> first));
+
+        List<InflationReport> newReports = new ArrayList<>();
+        int written = 0;
+        for (ReportPeriod period : periods.stream().sorted(Comparator.comparing(ReportPeriod::startDate)).toList()) {
+            for (InflationReportResult result : InflationReportCalculator.calculate(
+                    period.reportType(), period.startDate(), sources, categoryIdsByItem)) {
+                InflationReport current = currentReports.remove(ReportKey.of(result));
+                if (current != null && current.hasSameResult(result)) {
+                    continue;
+                }
+
+                written++;
+                if (current != null) {
+                    current.apply(result);
+                    continue;
+                }
+
+                InflationReport report = new InflationReport();
+                report.setUser(userRepository.getReferenceById(userId));
+                if (result.categoryId() != null) {
+                    report.setCategory(categoryRepository.getReferenceById(result.categoryId()));
+                }
+                report.apply(result);
+                newReports.add(report);
+            }
+        }
+
+        // Periods, categories or currencies without observations anymore
+        currentReports.values().forEach(report -> report.setStatus(StatusEnum.INACTIVE.getCode()));
+
+        inflationReportRepository.saveAll(newReports);
+        log.debug("Regenerated {} report periods of user {}, {} reports written", periods.size(), userId, written);
+        return written + currentReports.size();
+    }
+
+    private record ReportPeriod(ReportTypeEnum reportType, LocalDate startDate) {
+    }
+
+    private record ReportKey(ReportTypeEnum reportType, LocalDate startDate, Long categoryId, CurrencyEnum currency) {
+
+        static ReportKey of(InflationReport report) {
+            Long categoryId = report.getCategory() != null ? report.getCategory().getId() : null;
+            return new ReportKey(report.getReportType(), report.getStartDate(), categoryId, report.getCurrency());
+        }
+
+        static ReportKey of(InflationReportResult result) {
+            return new ReportKey(result.reportType(), result.startDate(), result.categoryId(), result.currency());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One monthly price rollup of an item at one store, the input of the report aggregation.
+ */
+public record InflationReportSource(
+        Long rollupId,
+        Long itemId,
+        Long storeId,
+        CurrencyEnum currency,
+        LocalDate bucketStart,
+        LocalDate firstObservationDate,
+        BigDecimal firstPrice,
+        LocalDate lastObservationDate,
+        BigDecimal lastPrice,
+        Long observationCount,
+        BigDecimal priceSum
+) {
+}
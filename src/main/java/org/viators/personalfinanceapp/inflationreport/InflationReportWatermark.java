@@ -0,0 +1,31 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * How far {@link InflationReportGenerator} got, shared by all instances. The table holds a single row,
+ * created by the migration, which a run keeps locked while it generates.
+ */
+@Entity
+@Table(name = "inflation_report_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+public class InflationReportWatermark {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "watermark", nullable = false)
+    private Instant watermark;
+}
@@ -0,0 +1,25 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface InflationReportWatermarkRepository extends JpaRepository<InflationReportWatermark, Long> {
+
+    /**
+     * Locks the watermark for the current transaction, or returns empty while another instance holds it
+     * (lock timeout -2 is Hibernate's {@code SKIP LOCKED}).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT w FROM InflationReportWatermark w WHERE w.id = :id")
+    Optional<InflationReportWatermark> tryLock(@Param("id") Long id);
+}
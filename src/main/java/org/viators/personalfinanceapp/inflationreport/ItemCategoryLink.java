@@ -0,0 +1,10 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+/**
+ * Membership of an item in a category, as plain ids.
+ */
+public record ItemCategoryLink(
+        Long itemId,
+        Long categoryId
+) {
+}
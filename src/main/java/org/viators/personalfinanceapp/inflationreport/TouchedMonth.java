@@ -0,0 +1,12 @@
+package org.viators.personalfinanceapp.inflationreport;
+
+import java.time.LocalDate;
+
+/**
+ * A month of one user that received new observations since the last report run.
+ */
+public record TouchedMonth(
+        Long userId,
+        LocalDate monthStart
+) {
+}
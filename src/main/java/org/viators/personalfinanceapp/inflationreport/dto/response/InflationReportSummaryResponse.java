@@ -1,5 +1,6 @@
 package org.viators.personalfinanceapp.inflationreport.dto.response;
 
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.inflationreport.InflationReport;
 import org.viators.personalfinanceapp.common.enums.ReportTypeEnum;
 
@@ -10,6 +11,7 @@ import java.util.List;
 public record InflationReportSummaryResponse(
         ReportTypeEnum reportType,
         String categoryName,
+        CurrencyEnum currency,
         LocalDate startDate,
         LocalDate endDate,
         BigDecimal inflationRate
@@ -17,7 +19,8 @@ public record InflationReportSummaryResponse(
     public static InflationReportSummaryResponse from(InflationReport inflationReport) {
         return new InflationReportSummaryResponse(
                 inflationReport.getReportType(),
-                inflationReport.getCategory().getName(),
+                inflationReport.getCategory() != null ? inflationReport.getCategory().getName() : null,
+                inflationReport.getCurrency(),
                 inflationReport.getStartDate(),
                 inflationReport.getEndDate(),
                 inflationReport.getInflationRate()
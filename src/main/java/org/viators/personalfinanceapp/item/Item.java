@@ -6,6 +6,7 @@ import lombok.experimental.SuperBuilder;
 import org.viators.personalfinanceapp.basketitem.BasketItem;
 import org.viators.personalfinanceapp.category.Category;
 import org.viators.personalfinanceapp.common.BaseEntity;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
 import org.viators.personalfinanceapp.pricealert.PriceAlert;
 import org.viators.personalfinanceapp.pricecomparison.PriceComparison;
@@ -13,6 +14,8 @@ import org.viators.personalfinanceapp.priceobservation.PriceObservation;
 import org.viators.personalfinanceapp.shoppinglistitem.ShoppingListItem;
 import org.viators.personalfinanceapp.user.User;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,7 +42,8 @@ public class Item extends BaseEntity {
     @Column(name = "brand")
     private String brand;
 
-    @ManyToOne
+    // Lazy so loading an item, or checking who owns it, does not read the user row as well
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -47,6 +51,17 @@ public class Item extends BaseEntity {
     @Builder.Default
     private Boolean isFavorite = false;
 
+    // Current price projection, maintained by addPriceObservation() so reads never scan price_observations
+    @Column(name = "current_price")
+    private BigDecimal currentPrice;
+
+    @Column(name = "current_price_currency")
+    @Enumerated(EnumType.STRING)
+    private CurrencyEnum currentPriceCurrency;
+
+    @Column(name = "current_price_date")
+    private LocalDate currentPriceDate;
+
     @ManyToMany(mappedBy = "items")
     @Builder.Default
     private List<Category> categories = new ArrayList<>();
@@ -73,11 +88,42 @@ public class Item extends BaseEntity {
     private List<BasketItem> basketItems = new ArrayList<>();
 
     // Helper methods
-    public void addPriceObservation(PriceObservation priceObservation) {
-        if (priceObservation != null) {
-            this.priceObservations.add(priceObservation);
-            priceObservation.setItem(this);
+
+    /**
+     * @return true if the observation became the current price
+     */
+    public boolean addPriceObservation(PriceObservation priceObservation) {
+        if (priceObservation == null) {
+            return false;
         }
+
+        this.priceObservations.add(priceObservation);
+        priceObservation.setItem(this);
+        return refreshCurrentPrice(priceObservation);
+    }
+
+    /**
+     * Moves the current price projection forward when the observation is at least as recent
+     * as the one currently projected. Back-dated observations are kept as history only.
+     *
+     * @return true if the observation became the current price
+     */
+    public boolean refreshCurrentPrice(PriceObservation priceObservation) {
+        LocalDate observationDate = priceObservation.getObservationDate();
+        if (supersedesCurrentPrice(observationDate)) {
+            this.currentPrice = priceObservation.getPrice();
+            this.currentPriceCurrency = priceObservation.getCurrency();
+            this.currentPriceDate = observationDate;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if an observation of this date would become the current price
+     */
+    public boolean supersedesCurrentPrice(LocalDate observationDate) {
+        return currentPriceDate == null || observationDate == null || !observationDate.isBefore(currentPriceDate);
     }
 
     @Override
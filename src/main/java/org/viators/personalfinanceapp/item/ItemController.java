@@ -16,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.viators.personalfinanceapp.config.openapi.OwnerProtectedReadResponses;
 import org.viators.personalfinanceapp.config.openapi.OwnerProtectedWriteResponses;
 import org.viators.personalfinanceapp.config.openapi.ValidatedCreateResponses;
@@ -24,12 +25,18 @@ import org.viators.personalfinanceapp.item.dto.request.CreateItemRequest;
 import org.viators.personalfinanceapp.item.dto.request.ItemSearchFilterRequest;
 import org.viators.personalfinanceapp.item.dto.request.UpdateItemPriceRequest;
 import org.viators.personalfinanceapp.item.dto.request.UpdateItemRequest;
+import org.viators.personalfinanceapp.item.dto.response.ItemCurrentPriceResponse;
 import org.viators.personalfinanceapp.item.dto.response.ItemDetailsResponse;
 import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
 import org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationSummaryResponse;
 import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.common.etag.ETags;
+import org.viators.personalfinanceapp.common.pagination.CursorSliceResponse;
+import org.viators.personalfinanceapp.pricerollup.dto.response.PriceRollupResponse;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/items")
@@ -43,12 +50,31 @@ public class ItemController {
     @Operation(
             summary = "List user's items",
             description = "Returns a paginated list of the authenticated user's active items, "
-                    + "sorted by creation date (newest first) by default.")
+                    + "sorted by creation date (newest first) by default. Send the returned ETag back in "
+                    + "If-None-Match to get a 304 while the page is unchanged.")
     @ApiResponse(responseCode = "200", description = "Items retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag", content = @Content)
     public ResponseEntity<Page<ItemSummaryResponse>> getItems(@AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
-                                                              @PageableDefault(size = 12, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+                                                              @PageableDefault(size = 12, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                                              WebRequest webRequest) {
 
-        Page<ItemSummaryResponse> response = itemService.getItems(loggedInUserUuid, pageable);
+        String eTag = itemService.getItemsETag(loggedInUserUuid, pageable);
+        return ETags.conditional(webRequest, eTag, () -> itemService.getItems(loggedInUserUuid, pageable));
+    }
+
+    @GetMapping(params = "pagination=cursor")
+    @Operation(
+            summary = "List user's items with cursor pagination",
+            description = "Opt-in keyset pagination, newest first. Pass the returned nextCursor to get the next slice. "
+                    + "No total count is computed, so deep slices stay as fast as the first one.")
+    @ApiResponse(responseCode = "200", description = "Items retrieved successfully")
+    public ResponseEntity<CursorSliceResponse<ItemSummaryResponse>> getItemsSlice(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @Parameter(description = "Token from the previous slice, omit for the first one")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
+
+        CursorSliceResponse<ItemSummaryResponse> response = itemService.getItemsSlice(loggedInUserUuid, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -69,16 +95,34 @@ public class ItemController {
     @GetMapping("/{uuid}")
     @Operation(
             summary = "Get item with details",
-            description = "Retrieves full details for a single item including categories, "
-                    + "price observations, alerts, and comparisons.")
+            description = "Retrieves full details for a single item including categories, the latest "
+                    + "price observations with statistics over the whole history, alerts, and comparisons. "
+                    + "Send the returned ETag back in If-None-Match to get a 304 while the item is unchanged.")
     @ApiResponse(responseCode = "200", description = "Item found",
             content = @Content(schema = @Schema(implementation = ItemDetailsResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Item unchanged since the given ETag", content = @Content)
     @OwnerProtectedReadResponses
     public ResponseEntity<ItemDetailsResponse> getItemWithDetails(@AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
                                                                   @Parameter(description = "Item UUID", example = "c5d3e2f1-4a6b-7c8d-9e0f-1a2b3c4d5e6f")
-                                                                  @PathVariable String uuid) {
+                                                                  @PathVariable String uuid,
+                                                                  WebRequest webRequest) {
+
+        String eTag = itemService.getItemETag(uuid, loggedInUserUuid);
+        return ETags.conditional(webRequest, eTag, () -> itemService.getItem(uuid, loggedInUserUuid));
+    }
+
+    @GetMapping("/{uuid}/current-price")
+    @Operation(
+            summary = "Get an item's current price",
+            description = "Returns the most recent observed price of an item without reading its price history.")
+    @ApiResponse(responseCode = "200", description = "Current price retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ItemCurrentPriceResponse.class)))
+    @OwnerProtectedReadResponses
+    public ResponseEntity<ItemCurrentPriceResponse> getCurrentPrice(@AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+                                                                    @Parameter(description = "Item UUID", example = "c5d3e2f1-4a6b-7c8d-9e0f-1a2b3c4d5e6f")
+                                                                    @PathVariable("uuid") String itemUuid) {
 
-        return ResponseEntity.ok(itemService.getItem(uuid, loggedInUserUuid));
+        return ResponseEntity.ok(itemService.getCurrentPrice(loggedInUserUuid, itemUuid));
     }
 
     @PostMapping
@@ -160,6 +204,49 @@ public class ItemController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/{uuid}/get-price-observations", params = "pagination=cursor")
+    @Operation(
+            summary = "Retrieve price observations of an item with cursor pagination",
+            description = "Opt-in keyset pagination on observation date, newest first. No total count is computed."
+    )
+    @ApiResponse(responseCode = "200", description = "Item's price observations successfully retrieved")
+    public ResponseEntity<CursorSliceResponse<PriceObservationSummaryResponse>> getPriceObservationsSlice(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @Parameter(description = "Item UUID")
+            @PathVariable("uuid") String itemUuid,
+            @RequestParam(required = false) LocalDate dateFrom,
+            @RequestParam(required = false) LocalDate dateTo,
+            @Parameter(description = "Token from the previous slice, omit for the first one")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
+
+        CursorSliceResponse<PriceObservationSummaryResponse> response = itemService.getPriceObservationsSlice(
+                loggedInUserUuid, itemUuid, dateFrom, dateTo, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{uuid}/price-history")
+    @Operation(
+            summary = "Retrieve aggregated price history for an item",
+            description = "Returns min, max, first, last and average price per store and time bucket. " +
+                    "When no bucket is given it is picked from the width of the range."
+    )
+    @ApiResponse(responseCode = "200", description = "Price history successfully retrieved")
+    @OwnerProtectedReadResponses
+    public ResponseEntity<List<PriceRollupResponse>> getPriceHistory(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @Parameter(description = "Item UUID")
+            @PathVariable("uuid") String itemUuid,
+            @RequestParam CurrencyEnum currency,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @Parameter(description = "DAILY, WEEKLY or MONTHLY")
+            @RequestParam(required = false) RollupBucketEnum bucket) {
+
+        List<PriceRollupResponse> response = itemService.getPriceHistory(loggedInUserUuid, itemUuid, currency, from, to, bucket);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{uuid}/calculate-inflation")
     public ResponseEntity<InflationCalculationResponse> calculateItemInflationForDateRange(
             @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
@@ -0,0 +1,34 @@
+package org.viators.personalfinanceapp.item;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * The scalar columns of an {@link Item} and its owner that item details show, read in one row.
+ */
+public record ItemDetailsHeader(
+        Long id,
+        String uuid,
+        String name,
+        String description,
+        ItemUnitEnum itemUnit,
+        String brand,
+        Boolean isFavorite,
+        String status,
+        Instant createdAt,
+        Instant updatedAt,
+        BigDecimal currentPrice,
+        CurrencyEnum currentPriceCurrency,
+        LocalDate currentPriceDate,
+        String ownerUuid,
+        String ownerUsername,
+        String ownerFirstName,
+        String ownerLastName,
+        String ownerEmail,
+        String ownerStatus
+) {
+}
@@ -0,0 +1,110 @@
+package org.viators.personalfinanceapp.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.etag.ETags;
+import org.viators.personalfinanceapp.common.metrics.SqlStatementCounter;
+import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+import org.viators.personalfinanceapp.item.dto.response.ItemDetailsResponse;
+import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
+import org.viators.personalfinanceapp.item.dto.response.PriceStatisticsResponse;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
+import org.viators.personalfinanceapp.pricecomparison.dto.response.PriceComparisonSummaryResponse;
+import org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationSummaryResponse;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+import org.viators.personalfinanceapp.store.dto.response.StoreSummaryResponse;
+import org.viators.personalfinanceapp.user.dto.response.UserSummaryResponse;
+
+import java.util.List;
+
+/**
+ * Read model behind item details: six projection queries whatever the size of the item's history,
+ * and no entity is loaded, so nothing can be lazily fetched afterwards. The statements a read actually
+ * issued, as counted by {@link SqlStatementCounter} for the current request, are returned as its
+ * {@code queryCount}.
+ *
+ * <p>Price observations are limited to the latest {@code latest-observations}; statistics over the
+ * whole history come from the monthly price rollups instead of the raw rows.</p>
+ */
+@Component
+@Transactional(readOnly = true)
+public class ItemDetailsReader {
+
+    private final ItemDetailsRepository itemDetailsRepository;
+    private final OwnershipAuthorizationService ownershipAuthorizationService;
+    private final Limit latestObservations;
+
+    public ItemDetailsReader(ItemDetailsRepository itemDetailsRepository,
+                             OwnershipAuthorizationService ownershipAuthorizationService,
+                             @Value("${item-details.latest-observations:20}") int latestObservations) {
+        this.itemDetailsRepository = itemDetailsRepository;
+        this.ownershipAuthorizationService = ownershipAuthorizationService;
+        this.latestObservations = Limit.of(latestObservations);
+    }
+
+    /**
+     * Entity tag of the details {@link #read} would return, from a single version-only query.
+     */
+    public String eTag(String itemUuid, String loggedInUserUuid) {
+        ItemVersionStamp stamp = itemDetailsRepository.findVersionStamp(itemUuid, StatusEnum.ACTIVE.getCode())
+                .orElseThrow(() -> new ResourceNotFoundException("Item does not exist"));
+
+        ownershipAuthorizationService.verifyOwnership(loggedInUserUuid, stamp.ownerUuid());
+        return ETags.of(stamp, latestObservations.max());
+    }
+
+    public ItemDetailsResponse read(String itemUuid, String loggedInUserUuid) {
+        int statementsBefore = SqlStatementCounter.count();
+        String active = StatusEnum.ACTIVE.getCode();
+
+        ItemDetailsHeader header = itemDetailsRepository.findHeader(itemUuid, active)
+                .orElseThrow(() -> new ResourceNotFoundException("Item does not exist"));
+
+        ownershipAuthorizationService.verifyOwnership(loggedInUserUuid, header.ownerUuid());
+
+        List<CategorySummaryResponse> categories = itemDetailsRepository.findCategories(header.id());
+        List<ItemObservationRow> observations = itemDetailsRepository.findLatestObservations(header.id(), latestObservations);
+        List<PriceStatisticsRow> statistics = itemDetailsRepository.findPriceStatistics(header.id(), RollupBucketEnum.MONTHLY);
+        List<PriceAlertSummaryResponse> priceAlerts = itemDetailsRepository.findPriceAlerts(header.id(), active);
+        List<PriceComparisonSummaryResponse> priceComparisons = itemDetailsRepository.findPriceComparisons(header.id(), active);
+
+        // Every observation belongs to this item, so they all share one summary of it
+        ItemSummaryResponse itemSummary = new ItemSummaryResponse(header.name(), header.description(),
+                header.currentPrice(), header.currentPriceCurrency(), header.currentPriceDate());
+
+        return new ItemDetailsResponse(
+                header.uuid(),
+                header.name(),
+                header.description(),
+                header.itemUnit(),
+                header.brand(),
+                header.isFavorite(),
+                header.status(),
+                header.createdAt(),
+                header.updatedAt(),
+                new UserSummaryResponse(header.ownerUuid(), header.ownerUsername(),
+                        header.ownerFirstName().concat(" ").concat(header.ownerLastName()),
+                        header.ownerEmail(), header.ownerStatus()),
+                categories,
+                observations.stream()
+                        .map(row -> new PriceObservationSummaryResponse(
+                                row.price(),
+                                row.currency(),
+                                row.observationDate(),
+                                row.location(),
+                                StatusEnum.getStatusFromCode(row.status()),
+                                new StoreSummaryResponse(row.storeUuid(), row.storeName(), row.storeType()),
+                                itemSummary))
+                        .toList(),
+                PriceStatisticsResponse.listOfSummaries(statistics),
+                priceAlerts,
+                priceComparisons,
+                SqlStatementCounter.count() - statementsBefore
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package org.viators.personalfinanceapp.item;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
+import org.viators.personalfinanceapp.pricecomparison.dto.response.PriceComparisonSummaryResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Projection queries behind item details, one per section, none of them loading an entity.
+ */
+public interface ItemDetailsRepository extends Repository<Item, Long> {
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.item.ItemDetailsHeader(
+                i.id, i.uuid, i.name, i.description, i.itemUnit, i.brand, i.isFavorite, i.status,
+                i.createdAt, i.updatedAt, i.currentPrice, i.currentPriceCurrency, i.currentPriceDate,
+                u.uuid, u.username, u.firstName, u.lastName, u.email, u.status
+            )
+            FROM Item i
+            JOIN i.user u
+            WHERE i.uuid = :itemUuid
+            AND i.status = :status
+            """)
+    Optional<ItemDetailsHeader> findHeader(@Param("itemUuid") String itemUuid, @Param("status") String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.item.ItemVersionStamp(
+                u.uuid, i.version, u.version,
+                (SELECT COUNT(po) FROM PriceObservation po WHERE po.item.id = i.id),
+                (SELECT COALESCE(MAX(po.id), 0L) FROM PriceObservation po WHERE po.item.id = i.id),
+                (SELECT COALESCE(SUM(po.version + s.version), 0L) FROM PriceObservation po JOIN po.store s
+                    WHERE po.item.id = i.id),
+                (SELECT COUNT(a) FROM PriceAlert a WHERE a.item.id = i.id),
+                (SELECT COALESCE(MAX(a.id), 0L) FROM PriceAlert a WHERE a.item.id = i.id),
+                (SELECT COALESCE(SUM(a.version), 0L) FROM PriceAlert a WHERE a.item.id = i.id),
+                (SELECT COUNT(pc) FROM PriceComparison pc WHERE pc.item.id = i.id),
+                (SELECT COALESCE(MAX(pc.id), 0L) FROM PriceComparison pc WHERE pc.item.id = i.id),
+                (SELECT COALESCE(SUM(pc.version + bs.version), 0L) FROM PriceComparison pc JOIN pc.bestStore bs
+                    WHERE pc.item.id = i.id),
+                (SELECT COUNT(c) FROM Category c JOIN c.items ci WHERE ci.id = i.id),
+                (SELECT COALESCE(SUM(c.version), 0L) FROM Category c JOIN c.items ci WHERE ci.id = i.id)
+            )
+            FROM Item i
+            JOIN i.user u
+            WHERE i.uuid = :itemUuid
+            AND i.status = :status
+            """)
+    Optional<ItemVersionStamp> findVersionStamp(@Param("itemUuid") String itemUuid, @Param("status") String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse(
+                c.name, c.description
+            )
+            FROM Category c
+            JOIN c.items i
+            WHERE i.id = :itemId
+            ORDER BY c.name
+            """)
+    List<CategorySummaryResponse> findCategories(@Param("itemId") Long itemId);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.item.ItemObservationRow(
+                po.price, po.currency, po.observationDate, po.location, po.status, s.uuid, s.name, s.storeType
+            )
+            FROM PriceObservationHistory po
+            JOIN po.store s
+            WHERE po.item.id = :itemId
+            ORDER BY po.observationDate DESC, po.id DESC
+            """)
+    List<ItemObservationRow> findLatestObservations(@Param("itemId") Long itemId, Limit limit);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.item.PriceStatisticsRow(
+                r.currency, SUM(r.observationCount), MIN(r.minPrice), MAX(r.maxPrice), SUM(r.priceSum),
+                MIN(r.firstObservationDate), MAX(r.lastObservationDate)
+            )
+            FROM PriceRollup r
+            WHERE r.item.id = :itemId
+            AND r.bucketType = :bucketType
+            GROUP BY r.currency
+            ORDER BY r.currency
+            """)
+    List<PriceStatisticsRow> findPriceStatistics(@Param("itemId") Long itemId,
+                                                 @Param("bucketType") RollupBucketEnum bucketType);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse(
+                a.uuid, a.alertType, a.thresholdPrice, a.percentageChange, a.lastTriggeredAt, a.item.name
+            )
+            FROM PriceAlert a
+            WHERE a.item.id = :itemId
+            AND a.status = :status
+            ORDER BY a.createdAt DESC
+            """)
+    List<PriceAlertSummaryResponse> findPriceAlerts(@Param("itemId") Long itemId, @Param("status") String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.pricecomparison.dto.response.PriceComparisonSummaryResponse(
+                pc.comparisonDate, pc.item.name, s.name, pc.currency, pc.lowestPrice, pc.highestPrice,
+                pc.averagePrice, pc.priceSpread
+            )
+            FROM PriceComparison pc
+            JOIN pc.bestStore s
+            WHERE pc.item.id = :itemId
+            AND pc.status = :status
+            ORDER BY pc.currency
+            """)
+    List<PriceComparisonSummaryResponse> findPriceComparisons(@Param("itemId") Long itemId,
+                                                              @Param("status") String status);
+}
@@ -0,0 +1,22 @@
+package org.viators.personalfinanceapp.item;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.StoreTypeEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One price observation of an item joined with its store, flat because JPQL cannot construct nested DTOs.
+ */
+public record ItemObservationRow(
+        BigDecimal price,
+        CurrencyEnum currency,
+        LocalDate observationDate,
+        String location,
+        String status,
+        String storeUuid,
+        String storeName,
+        StoreTypeEnum storeType
+) {
+}
@@ -1,12 +1,20 @@
 package org.viators.personalfinanceapp.item;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.viators.personalfinanceapp.category.Category;
+import org.viators.personalfinanceapp.common.etag.EntityVersion;
+import org.viators.personalfinanceapp.item.dto.response.ItemCurrentPriceResponse;
+import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,10 +26,44 @@ public interface ItemRepository extends JpaRepository<Item, Long>, JpaSpecificat
 
     Page<Item> findAllByUser_UuidAndStatus(String userUuid, String status, Pageable pageable);
 
+    // Same rows and order as findAllByUser_UuidAndStatus, only their ids and versions
+    Page<EntityVersion> findVersionsByUser_UuidAndStatus(String userUuid, String status, Pageable pageable);
+
+    List<Item> findAllByNameInAndUser_UuidAndStatusOrderByIdAsc(Collection<String> names, String userUuid, String status);
+
     boolean existsByUuidAndStatus(String uuid, String status);
 
     boolean existsByNameAndUser_IdAndStatusAndCategoriesContaining(String name, Long userId,
                                                                       String status, Category category);
 
     boolean existsByNameAndUser_IdAndStatusAndCategoriesIsEmpty(String name, Long userId, String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.item.dto.response.ItemCurrentPriceResponse(
+                i.uuid, i.currentPrice, i.currentPriceCurrency, i.currentPriceDate
+            )
+            FROM Item i
+            WHERE i.uuid = :itemUuid
+            AND i.user.uuid = :userUuid
+            AND i.status = :status
+            """)
+    Optional<ItemCurrentPriceResponse> findCurrentPrice(@Param("itemUuid") String itemUuid,
+                                                        @Param("userUuid") String userUuid,
+                                                        @Param("status") String status);
+
+    @Query("select i.id from Item i where i.id > :afterId order by i.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse(
+                i.name, i.description, i.currentPrice, i.currentPriceCurrency, i.currentPriceDate
+            )
+            FROM Item i
+            WHERE i.user.uuid = :userUuid
+            AND i.status = :status
+            ORDER BY i.createdAt DESC, i.id DESC
+            """)
+    List<ItemSummaryResponse> findSummariesByUserUuid(@Param("userUuid") String userUuid,
+                                                      @Param("status") String status,
+                                                      Limit limit);
 }
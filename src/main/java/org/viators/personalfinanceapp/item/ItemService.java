@@ -1,17 +1,25 @@
 package org.viators.personalfinanceapp.item;
 
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.viators.personalfinanceapp.category.Category;
 import org.viators.personalfinanceapp.category.CategoryService;
 import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
 import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+import org.viators.personalfinanceapp.common.etag.ETags;
+import org.viators.personalfinanceapp.common.pagination.CursorSliceResponse;
+import org.viators.personalfinanceapp.common.pagination.CursorTokens;
 import org.viators.personalfinanceapp.exceptions.BusinessValidationException;
 import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
 import org.viators.personalfinanceapp.inflationcalc.dto.response.InflationCalculationResponse;
@@ -19,22 +27,35 @@ import org.viators.personalfinanceapp.item.dto.request.CreateItemRequest;
 import org.viators.personalfinanceapp.item.dto.request.ItemSearchFilterRequest;
 import org.viators.personalfinanceapp.item.dto.request.UpdateItemPriceRequest;
 import org.viators.personalfinanceapp.item.dto.request.UpdateItemRequest;
+import org.viators.personalfinanceapp.item.dto.response.ItemCurrentPriceResponse;
 import org.viators.personalfinanceapp.item.dto.response.ItemDetailsResponse;
 import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
+import org.viators.personalfinanceapp.pricealert.PriceAlertEvaluator;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonRefresher;
 import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationHistory;
 import org.viators.personalfinanceapp.priceobservation.PriceObservationService;
 import org.viators.personalfinanceapp.priceobservation.PriceObservationSpecs;
 import org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationSummaryResponse;
+import org.viators.personalfinanceapp.pricerollup.PriceRangeBounds;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupService;
+import org.viators.personalfinanceapp.pricerollup.dto.response.PriceRollupResponse;
 import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListTotalRefresher;
 import org.viators.personalfinanceapp.store.Store;
 import org.viators.personalfinanceapp.store.StoreService;
 import org.viators.personalfinanceapp.user.User;
 import org.viators.personalfinanceapp.user.UserService;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
+import org.viators.personalfinanceapp.userevent.dto.response.PriceRecordedEvent;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -42,14 +63,22 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ItemService {
 
+    private static final Sort NEWEST_FIRST_KEYSET = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final ItemRepository itemRepository;
+    private final ItemDetailsReader itemDetailsReader;
 
     // Other Service dependencies
     private final UserService userService;
     private final CategoryService categoryService;
     private final StoreService storeService;
     private final PriceObservationService priceObservationService;
+    private final PriceRollupService priceRollupService;
+    private final PriceAlertEvaluator priceAlertEvaluator;
+    private final PriceComparisonRefresher priceComparisonRefresher;
+    private final ShoppingListTotalRefresher shoppingListTotalRefresher;
     private final OwnershipAuthorizationService ownershipAuthorizationService;
+    private final UserEventPublisher userEventPublisher;
 
 
     public Item getActiveItem(String itemUuid) {
@@ -58,11 +87,16 @@ public class ItemService {
     }
 
     public ItemDetailsResponse getItem(String uuid, String loggedInUserUuid) {
-        Item item = itemRepository.findByUuidAndStatus(uuid, StatusEnum.ACTIVE.getCode())
-                .orElseThrow(() -> new ResourceNotFoundException("Item does not exist"));
+        return itemDetailsReader.read(uuid, loggedInUserUuid);
+    }
 
-        ownershipAuthorizationService.verifyOwnership(loggedInUserUuid, item.getUser().getUuid());
-        return ItemDetailsResponse.from(item);
+    public String getItemETag(String uuid, String loggedInUserUuid) {
+        return itemDetailsReader.eTag(uuid, loggedInUserUuid);
+    }
+
+    public String getItemsETag(String loggedInUserUuid, Pageable pageable) {
+        return ETags.ofPage(itemRepository.findVersionsByUser_UuidAndStatus(loggedInUserUuid,
+                StatusEnum.ACTIVE.getCode(), pageable));
     }
 
     public Page<ItemSummaryResponse> getItems(String loggedInUserUuid, Pageable pageable) {
@@ -72,7 +106,24 @@ public class ItemService {
                 .map(ItemSummaryResponse::from);
     }
 
+    /**
+     * Cursor-paginated variant of {@link #getItems}: seeks on (createdAt, id) and runs no count query.
+     */
+    public CursorSliceResponse<ItemSummaryResponse> getItemsSlice(String loggedInUserUuid, String cursor, int size) {
+        Specification<Item> spec = Specification.where(ItemSpecs.belongsToUser(loggedInUserUuid))
+                .and(ItemSpecs.isActive());
+
+        Window<Item> window = itemRepository.findBy(spec, query -> query
+                .sortBy(NEWEST_FIRST_KEYSET)
+                .limit(CursorTokens.clampSize(size))
+                .scroll(CursorTokens.decode(cursor)));
+
+        return CursorTokens.toResponse(window, ItemSummaryResponse::from);
+    }
+
     @Transactional
+    @Timed("app.service")
+    @Counted("app.items.created")
     public ItemSummaryResponse create(String loggedInUserUuid, CreateItemRequest request) {
         User user = userService.findActiveUser(loggedInUserUuid);
 
@@ -87,6 +138,10 @@ public class ItemService {
         item.addPriceObservation(priceObservation);
 
         item = itemRepository.save(item);
+        priceRollupService.recordObservation(priceObservation);
+        priceComparisonRefresher.recomputeAfterCommit(List.of(item.getId()));
+        userEventPublisher.publishAfterCommit(loggedInUserUuid, UserEventTypeEnum.PRICE_RECORDED,
+                () -> PriceRecordedEvent.from(priceObservation));
         return ItemSummaryResponse.from(item);
     }
 
@@ -97,9 +152,7 @@ public class ItemService {
         Item item = itemRepository.findByUuidAndStatus(request.itemUuid(), StatusEnum.ACTIVE.getCode())
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
 
-        if (item.getUser() != user) {
-            throw new AccessDeniedException("User can update items that belong to him/her only");
-        }
+        ownershipAuthorizationService.verifyOwnership(loggedInUserUuid, item.getUser());
 
         if (request.categoryUuid() != null) {
             Category category = categoryService.getActiveCategory(request.categoryUuid());
@@ -122,6 +175,8 @@ public class ItemService {
     }
 
     @Transactional
+    @Timed("app.service")
+    @Counted("app.prices.recorded")
     public ItemSummaryResponse updatePrice(String loggedInUserUuid, String itemUuid, UpdateItemPriceRequest request) {
         User user = userService.findActiveUser(loggedInUserUuid);
 
@@ -132,31 +187,54 @@ public class ItemService {
                 request.createPriceObservationRequest().storeUuid(),
                 loggedInUserUuid);
 
-        ownershipAuthorizationService.verifyOwnership(loggedInUserUuid, item.getUser().getUuid());
+        ownershipAuthorizationService.verifyOwnership(loggedInUserUuid, item.getUser());
 
-        PriceObservation lastPriceObservation = priceObservationService.getItemLatestPriceObservation(itemUuid);
-        lastPriceObservation.setStatus(StatusEnum.INACTIVE.getCode());
+        BigDecimal previousPrice = item.getCurrentPrice();
+        CurrencyEnum previousCurrency = item.getCurrentPriceCurrency();
 
         PriceObservation newPriceObservation = request.createPriceObservationRequest().toEntity();
         newPriceObservation.setStore(store);
-        item.addPriceObservation(newPriceObservation);
+
+        // Runs before the new row is added, so the flush ahead of the bulk update cannot include it
+        if (item.supersedesCurrentPrice(newPriceObservation.getObservationDate())) {
+            priceObservationService.deactivateActivePriceObservations(item.getId(),
+                    newPriceObservation.getObservationDate());
+        } else {
+            // Back-dated, kept as history only; the current observation stays active
+            newPriceObservation.setStatus(StatusEnum.INACTIVE.getCode());
+        }
+        boolean becameCurrentPrice = item.addPriceObservation(newPriceObservation);
+        priceRollupService.recordObservation(newPriceObservation);
+        priceComparisonRefresher.recomputeAfterCommit(List.of(item.getId()));
+
+        if (becameCurrentPrice) {
+            priceAlertEvaluator.evaluate(item.getId(), previousPrice, previousCurrency, newPriceObservation);
+            shoppingListTotalRefresher.refreshForItems(List.of(item.getId()));
+            userEventPublisher.publishAfterCommit(loggedInUserUuid, UserEventTypeEnum.PRICE_RECORDED,
+                    () -> PriceRecordedEvent.from(newPriceObservation));
+        }
 
         return ItemSummaryResponse.from(item);
     }
 
+    public ItemCurrentPriceResponse getCurrentPrice(String loggedInUserUuid, String itemUuid) {
+        return itemRepository.findCurrentPrice(itemUuid, loggedInUserUuid, StatusEnum.ACTIVE.getCode())
+                .orElseThrow(() -> new ResourceNotFoundException("Item", itemUuid));
+    }
+
     @Transactional
     public void deactivateItem(String userUuid, String itemUuid) {
         Item item = itemRepository.findByUuidAndStatus(itemUuid, StatusEnum.ACTIVE.getCode())
                 .orElseThrow(() -> new ResourceNotFoundException("Item", itemUuid));
 
-        ownershipAuthorizationService.verifyOwnership(userUuid, item.getUser().getUuid());
+        ownershipAuthorizationService.verifyOwnership(userUuid, item.getUser());
         item.setStatus(StatusEnum.INACTIVE.getCode());
     }
 
     public Page<PriceObservationSummaryResponse> getPriceObservationsWithDateRange(String itemUuid, LocalDate dateFrom,
                                                                          LocalDate dateTo, Pageable pageable) {
 
-        Specification<PriceObservation> spec = Specification.where(PriceObservationSpecs.hasItemUuid(itemUuid));
+        Specification<PriceObservationHistory> spec = Specification.where(PriceObservationSpecs.hasItemUuid(itemUuid));
 
         if (dateFrom != null) {
             spec = spec.and(PriceObservationSpecs.dateFrom(dateFrom));
@@ -170,6 +248,34 @@ public class ItemService {
                 .map(PriceObservationSummaryResponse::from);
     }
 
+    /**
+     * Cursor-paginated variant of {@link #getPriceObservationsWithDateRange}: seeks on
+     * (observationDate, id), newest first, and runs no count query.
+     */
+    public CursorSliceResponse<PriceObservationSummaryResponse> getPriceObservationsSlice(String loggedInUserUuid,
+                                                                                          String itemUuid,
+                                                                                          LocalDate dateFrom,
+                                                                                          LocalDate dateTo,
+                                                                                          String cursor,
+                                                                                          int size) {
+
+        Specification<PriceObservationHistory> spec = Specification
+                .<PriceObservationHistory>where(PriceObservationSpecs.hasItemUuid(itemUuid))
+                .and(PriceObservationSpecs.belongsToUser(loggedInUserUuid));
+
+        if (dateFrom != null) {
+            spec = spec.and(PriceObservationSpecs.dateFrom(dateFrom));
+        }
+
+        if (dateTo != null) {
+            spec = spec.and(PriceObservationSpecs.dateTo(dateTo));
+        }
+
+        return CursorTokens.toResponse(priceObservationService.scrollPriceObservations(spec, cursor, size),
+                PriceObservationSummaryResponse::from);
+    }
+
+    @Timed("app.service")
     public InflationCalculationResponse calculateInflation(String userUuid, String itemUuid, CurrencyEnum currency,
                                                            LocalDate startDate, LocalDate endDate) {
 
@@ -180,33 +286,22 @@ public class ItemService {
         Item item = itemRepository.findByUuidAndUser_Uuid(itemUuid, userUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Item", "uuid", itemUuid));
 
-        List<PriceObservation> priceObservationsForDateRange = priceObservationService.getAllPricesForItemBasedOnCurrencyAndDateRange(
-                item.getUuid(), currency, startDate, endDate);
+        PriceRangeBounds bounds = priceRollupService.findPriceRangeBounds(item.getUuid(), currency, startDate, endDate)
+                .orElse(null);
 
-        if (priceObservationsForDateRange.size() < 2) {
+        if (bounds == null) {
             return InflationCalculationResponse.insufficientData();
         }
 
-        BigDecimal startPrice = priceObservationsForDateRange.getFirst().getPrice();
-        BigDecimal endPrice = priceObservationsForDateRange.getLast().getPrice();
-        BigDecimal absolutePriceChange = endPrice.subtract(startPrice);
-        BigDecimal inflationRate = endPrice.subtract(startPrice)
-                .divide(startPrice, 10, RoundingMode.HALF_EVEN)
-                .multiply(BigDecimal.valueOf(100))
-                .setScale(2, RoundingMode.HALF_EVEN);
+        return InflationCalculationResponse.between(bounds.startPrice(), bounds.endPrice(), startDate, endDate, currency);
+    }
 
-        return new InflationCalculationResponse(
-                startPrice,
-                endPrice,
-                startDate,
-                endDate,
-                inflationRate,
-                absolutePriceChange,
-                currency,
-                null
-        );
+    public List<PriceRollupResponse> getPriceHistory(String userUuid, String itemUuid, CurrencyEnum currency,
+                                                     LocalDate from, LocalDate to, RollupBucketEnum bucketType) {
+        return priceRollupService.getPriceHistory(userUuid, itemUuid, currency, from, to, bucketType);
     }
 
+    @Timed("app.service")
     public Page<ItemSummaryResponse> searchItems(String userUuid, ItemSearchFilterRequest request, Pageable pageable) {
         Specification<Item> spec = Specification.where(ItemSpecs.belongsToUser(userUuid));
 
@@ -242,6 +337,29 @@ public class ItemService {
         return itemRepository.findAll(spec, pageable).map(ItemSummaryResponse::from);
     }
 
+    /**
+     * Resolves the user's active items by name. Items sharing a name across categories resolve
+     * to the oldest one.
+     */
+    public Map<String, Item> getActiveItemsByName(String userUuid, Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        return itemRepository.findAllByNameInAndUser_UuidAndStatusOrderByIdAsc(names, userUuid, StatusEnum.ACTIVE.getCode())
+                .stream()
+                .collect(Collectors.toMap(Item::getName, Function.identity(), (first, second) -> first));
+    }
+
+    /**
+     * Stores items that are introduced by an import and therefore carry no price of their own yet.
+     */
+    @Transactional
+    public List<Item> createItemsWithoutPrice(User user, List<Item> items) {
+        items.forEach(item -> item.setUser(user));
+        return itemRepository.saveAll(items);
+    }
+
     public Item getItemByUuidAndUser(String itemUuid, String userUuid) {
         return itemRepository.findByUuidAndUser_Uuid(itemUuid, userUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found for this user"));
@@ -0,0 +1,25 @@
+package org.viators.personalfinanceapp.item;
+
+/**
+ * Everything item details are built from, reduced to versions, counts and highest ids.
+ *
+ * <p>Price statistics are derived from the observations, so they are covered by the observation
+ * columns. Observation versions include the version of their store, whose name they show.</p>
+ */
+public record ItemVersionStamp(
+        String ownerUuid,
+        Long itemVersion,
+        Long ownerVersion,
+        Long observationCount,
+        Long lastObservationId,
+        Long observationVersions,
+        Long alertCount,
+        Long lastAlertId,
+        Long alertVersions,
+        Long comparisonCount,
+        Long lastComparisonId,
+        Long comparisonVersions,
+        Long categoryCount,
+        Long categoryVersions
+) {
+}
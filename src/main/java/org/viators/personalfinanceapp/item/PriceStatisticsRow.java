@@ -0,0 +1,20 @@
+package org.viators.personalfinanceapp.item;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Monthly price rollups of an item summed up per currency.
+ */
+public record PriceStatisticsRow(
+        CurrencyEnum currency,
+        Long observationCount,
+        BigDecimal lowestPrice,
+        BigDecimal highestPrice,
+        BigDecimal priceSum,
+        LocalDate firstObservationDate,
+        LocalDate lastObservationDate
+) {
+}
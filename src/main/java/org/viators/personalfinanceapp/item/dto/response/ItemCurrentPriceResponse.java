@@ -0,0 +1,23 @@
+package org.viators.personalfinanceapp.item.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Schema(description = "Current price of an item, read from the item's price projection")
+public record ItemCurrentPriceResponse(
+        @Schema(description = "Item UUID", example = "c5d3e2f1-4a6b-7c8d-9e0f-1a2b3c4d5e6f")
+        String itemUuid,
+
+        @Schema(description = "Most recent observed price", example = "2.49")
+        BigDecimal price,
+
+        @Schema(description = "Currency of the price", example = "EUR")
+        CurrencyEnum currency,
+
+        @Schema(description = "When the price was observed")
+        LocalDate observationDate
+) {
+}
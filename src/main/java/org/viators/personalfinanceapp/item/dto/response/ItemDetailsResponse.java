@@ -6,7 +6,6 @@ import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryR
 import org.viators.personalfinanceapp.pricecomparison.dto.response.PriceComparisonSummaryResponse;
 import org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationSummaryResponse;
 import org.viators.personalfinanceapp.user.dto.response.UserSummaryResponse;
-import org.viators.personalfinanceapp.item.Item;
 import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
 
 import java.time.Instant;
@@ -47,31 +46,19 @@ public record ItemDetailsResponse(
         @Schema(description = "Categories this item belongs to")
         List<CategorySummaryResponse> categories,
 
-        @Schema(description = "All recorded price observations")
+        @Schema(description = "Latest price observations, newest first; the full history is paged under /price-observations")
         List<PriceObservationSummaryResponse> priceObservations,
 
+        @Schema(description = "Statistics over the whole price history, one entry per currency", nullable = true)
+        List<PriceStatisticsResponse> priceStatistics,
+
         @Schema(description = "Active price alerts for this item")
         List<PriceAlertSummaryResponse> priceAlerts,
 
-        @Schema(description = "Price comparisons across stores")
-        List<PriceComparisonSummaryResponse> priceComparisons
+        @Schema(description = "Current price comparison across stores, one per currency")
+        List<PriceComparisonSummaryResponse> priceComparisons,
+
+        @Schema(description = "SQL statements executed to build this response, as counted by Hibernate", example = "6")
+        int queryCount
 ) {
-    public static ItemDetailsResponse from(Item item) {
-        return new ItemDetailsResponse(
-                item.getUuid(),
-                item.getName(),
-                item.getDescription(),
-                item.getItemUnit(),
-                item.getBrand(),
-                item.getIsFavorite(),
-                item.getStatus(),
-                item.getCreatedAt(),
-                item.getUpdatedAt(),
-                UserSummaryResponse.from(item.getUser()),
-                CategorySummaryResponse.listOfSummaries(item.getCategories()),
-                PriceObservationSummaryResponse.listOfSummaries(item.getPriceObservations()),
-                PriceAlertSummaryResponse.listOfSummaries(item.getPriceAlerts()),
-                PriceComparisonSummaryResponse.listOfSummaries(item.getPriceComparisons())
-        );
-    }
 }
@@ -1,8 +1,11 @@
 package org.viators.personalfinanceapp.item.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.item.Item;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Schema(description = "Summary view of an item with its price history")
@@ -11,8 +14,16 @@ public record ItemSummaryResponse(
         String name,
 
         @Schema(description = "Item description", example = "Fresh organic whole milk, 1L carton")
-        String description
+        String description,
 
+        @Schema(description = "Most recent observed price", example = "2.49", nullable = true)
+        BigDecimal currentPrice,
+
+        @Schema(description = "Currency of the current price", example = "EUR", nullable = true)
+        CurrencyEnum currentPriceCurrency,
+
+        @Schema(description = "When the current price was observed", nullable = true)
+        LocalDate currentPriceDate
 ){
     public static ItemSummaryResponse from(Item item) {
         if (item == null) {
@@ -20,7 +31,10 @@ public record ItemSummaryResponse(
         }
         return new ItemSummaryResponse(
                 item.getName(),
-                item.getDescription()
+                item.getDescription(),
+                item.getCurrentPrice(),
+                item.getCurrentPriceCurrency(),
+                item.getCurrentPriceDate()
         );
     }
 
@@ -0,0 +1,52 @@
+package org.viators.personalfinanceapp.item.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.item.PriceStatisticsRow;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Statistics over an item's whole price history in one currency")
+public record PriceStatisticsResponse(
+        @Schema(description = "Currency of the statistics", example = "EUR")
+        CurrencyEnum currency,
+
+        @Schema(description = "Number of recorded observations", example = "42")
+        Long observationCount,
+
+        @Schema(description = "Lowest observed price", example = "1.89")
+        BigDecimal lowestPrice,
+
+        @Schema(description = "Highest observed price", example = "2.79")
+        BigDecimal highestPrice,
+
+        @Schema(description = "Average of all observed prices", example = "2.31")
+        BigDecimal averagePrice,
+
+        @Schema(description = "Date of the oldest observation")
+        LocalDate firstObservationDate,
+
+        @Schema(description = "Date of the newest observation")
+        LocalDate lastObservationDate
+) {
+    public static PriceStatisticsResponse from(PriceStatisticsRow row) {
+        return new PriceStatisticsResponse(
+                row.currency(),
+                row.observationCount(),
+                row.lowestPrice(),
+                row.highestPrice(),
+                row.priceSum().divide(BigDecimal.valueOf(row.observationCount()), 2, RoundingMode.HALF_UP),
+                row.firstObservationDate(),
+                row.lastObservationDate()
+        );
+    }
+
+    public static List<PriceStatisticsResponse> listOfSummaries(List<PriceStatisticsRow> rows) {
+        return rows.stream()
+                .map(PriceStatisticsResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package org.viators.personalfinanceapp.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.viators.personalfinanceapp.common.enums.NotificationChannelEnum;
+
+/**
+ * Writes notifications to the application log. Stands in for real delivery locally and in tests.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.log-sink.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class LogNotificationSink implements NotificationSink {
+
+    @Override
+    public NotificationChannelEnum channel() {
+        return NotificationChannelEnum.IN_APP;
+    }
+
+    @Override
+    public void deliver(NotificationMessage message) {
+        log.info("Notification {} ({}) for user {}, attempt {}: {}", message.notificationUuid(),
+                message.eventType(), message.userUuid(), message.attempt(), message.payload());
+    }
+}
@@ -0,0 +1,268 @@
+package org.viators.personalfinanceapp.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.common.enums.OutboxStatusEnum;
+import org.viators.personalfinanceapp.userpreferences.UserNotificationSettings;
+import org.viators.personalfinanceapp.userpreferences.UserPreferencesService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox on a virtual thread, in batches.
+ *
+ * <p>A batch is claimed in one short transaction, which pushes its rows' next attempt out by
+ * {@code claim-timeout} so no other dispatcher picks them up. The sinks are then called outside any
+ * transaction, and their outcomes recorded in a second one, so a slow sink holds neither row locks nor
+ * a connection.</p>
+ *
+ * <p>Polls every {@code poll-interval} and is also woken up right after a transaction queues
+ * notifications. A failed delivery is retried with exponential backoff until {@code max-attempts},
+ * after which the notification is marked {@code FAILED} and left for inspection.</p>
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher implements SmartLifecycle {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserPreferencesService userPreferencesService;
+    private final List<NotificationSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                  UserPreferencesService userPreferencesService,
+                                  List<NotificationSink> sinks,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${notification.dispatcher.enabled:true}") boolean enabled,
+                                  @Value("${notification.dispatcher.batch-size:100}") int batchSize,
+                                  @Value("${notification.dispatcher.poll-interval:5s}") Duration pollInterval,
+                                  @Value("${notification.dispatcher.max-attempts:8}") int maxAttempts,
+                                  @Value("${notification.dispatcher.initial-backoff:10s}") Duration initialBackoff,
+                                  @Value("${notification.dispatcher.max-backoff:1h}") Duration maxBackoff,
+                                  @Value("${notification.dispatcher.claim-timeout:5m}") Duration claimTimeout) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.userPreferencesService = userPreferencesService;
+        this.sinks = List.copyOf(sinks);
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Notification dispatcher is disabled");
+            return;
+        }
+        if (sinks.isEmpty()) {
+            log.warn("No notification sinks configured, queued notifications will be skipped");
+        }
+
+        running = true;
+        worker = Thread.ofVirtual().name("notification-dispatcher").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp();
+        if (worker != null) {
+            try {
+                worker.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Makes the dispatcher poll now instead of at the end of its current wait.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Claims and dispatches one batch of due notifications.
+     *
+     * @return the number of notifications handled; a full batch means more may be waiting
+     */
+    public int dispatchBatch() {
+        Batch batch = transactionTemplate.execute(status -> claim(LocalDateTime.now()));
+        if (batch == null) {
+            return 0;
+        }
+        if (batch.deliveries().isEmpty()) {
+            return batch.claimed();
+        }
+
+        // Delivered outside any transaction, so a slow sink holds neither row locks nor a connection
+        List<Outcome> outcomes = batch.deliveries().stream()
+                .map(this::deliver)
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> record(outcomes));
+        return batch.claimed();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                while (running && dispatchBatch() == batchSize) {
+                    log.debug("Full notification batch dispatched, polling again");
+                }
+            } catch (RuntimeException e) {
+                log.error("Notification dispatch failed, retrying after the poll interval", e);
+            }
+
+            try {
+                wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Takes the due notifications out of the queue for {@code claim-timeout} and counts the attempt.
+     * Should the dispatcher die before recording the outcome, they become due again after that.
+     */
+    private Batch claim(LocalDateTime now) {
+        List<NotificationOutbox> due = notificationOutboxRepository
+                .findDueForDispatch(OutboxStatusEnum.PENDING, now, Limit.of(batchSize));
+        if (due.isEmpty()) {
+            return new Batch(0, List.of());
+        }
+
+        Set<String> userUuids = due.stream()
+                .map(NotificationOutbox::getUserUuid)
+                .collect(Collectors.toSet());
+        Map<String, UserNotificationSettings> settings = userPreferencesService.getNotificationSettings(userUuids);
+
+        List<Delivery> deliveries = new ArrayList<>(due.size());
+        for (NotificationOutbox notification : due) {
+            List<NotificationSink> targets = targets(settings.get(notification.getUserUuid()));
+            if (targets.isEmpty()) {
+                notification.setDeliveryStatus(OutboxStatusEnum.SKIPPED);
+                continue;
+            }
+
+            NotificationMessage message = NotificationMessage.from(notification);
+            notification.setAttempts(message.attempt());
+            notification.setNextAttemptAt(now.plus(claimTimeout));
+            deliveries.add(new Delivery(notification.getId(), message, targets));
+        }
+        return new Batch(due.size(), deliveries);
+    }
+
+    private List<NotificationSink> targets(UserNotificationSettings settings) {
+        return settings == null ? List.of() : sinks.stream()
+                .filter(sink -> settings.allows(sink.channel()))
+                .toList();
+    }
+
+    private Outcome deliver(Delivery delivery) {
+        try {
+            for (NotificationSink sink : delivery.targets()) {
+                sink.deliver(delivery.message());
+            }
+            return new Outcome(delivery, null);
+        } catch (RuntimeException e) {
+            String error = String.valueOf(e);
+            return new Outcome(delivery,
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+    }
+
+    private void record(List<Outcome> outcomes) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, NotificationOutbox> notifications = notificationOutboxRepository
+                .findAllById(outcomes.stream().map(outcome -> outcome.delivery().notificationId()).toList())
+                .stream()
+                .collect(Collectors.toMap(NotificationOutbox::getId, Function.identity()));
+
+        for (Outcome outcome : outcomes) {
+            NotificationOutbox notification = notifications.get(outcome.delivery().notificationId());
+            int attempt = outcome.delivery().message().attempt();
+            // A claim that timed out may have been taken over by another dispatcher, whose outcome wins
+            if (notification == null || notification.getDeliveryStatus() != OutboxStatusEnum.PENDING
+                    || notification.getAttempts() != attempt) {
+                log.debug("Notification {} was claimed again, dropping the outcome of attempt {}",
+                        outcome.delivery().message().notificationUuid(), attempt);
+                continue;
+            }
+
+            if (outcome.error() == null) {
+                notification.setDeliveryStatus(OutboxStatusEnum.SENT);
+                notification.setDeliveredAt(now);
+                notification.setLastError(null);
+            } else if (attempt >= maxAttempts) {
+                notification.setLastError(outcome.error());
+                notification.setDeliveryStatus(OutboxStatusEnum.FAILED);
+                log.warn("Giving up on notification {} after {} attempts: {}", notification.getUuid(), attempt,
+                        outcome.error());
+            } else {
+                notification.setLastError(outcome.error());
+                notification.setNextAttemptAt(now.plus(backoff(attempt)));
+                log.debug("Notification {} failed on attempt {}, retrying at {}", notification.getUuid(), attempt,
+                        notification.getNextAttemptAt());
+            }
+        }
+    }
+
+    /**
+     * {@code initial-backoff} doubled for every further attempt, capped at {@code max-backoff}.
+     */
+    private Duration backoff(int attempt) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private record Batch(int claimed, List<Delivery> deliveries) {
+    }
+
+    private record Delivery(Long notificationId, NotificationMessage message, List<NotificationSink> targets) {
+    }
+
+    private record Outcome(Delivery delivery, String error) {
+    }
+}
@@ -0,0 +1,26 @@
+package org.viators.personalfinanceapp.notification;
+
+import org.viators.personalfinanceapp.common.enums.NotificationEventTypeEnum;
+
+/**
+ * What a {@link NotificationSink} receives. {@code notificationUuid} stays the same across retries,
+ * so sinks can use it to drop duplicates.
+ */
+public record NotificationMessage(
+        String notificationUuid,
+        NotificationEventTypeEnum eventType,
+        String userUuid,
+        String payload,
+        int attempt
+) {
+
+    public static NotificationMessage from(NotificationOutbox notification) {
+        return new NotificationMessage(
+                notification.getUuid(),
+                notification.getEventType(),
+                notification.getUserUuid(),
+                notification.getPayload(),
+                notification.getAttempts() + 1
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package org.viators.personalfinanceapp.notification;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.viators.personalfinanceapp.common.BaseEntity;
+import org.viators.personalfinanceapp.common.enums.NotificationEventTypeEnum;
+import org.viators.personalfinanceapp.common.enums.OutboxStatusEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification waiting to be delivered, written in the same transaction as the change that caused it.
+ *
+ * <p>Either the change and its notification both commit or neither does. Delivery happens later,
+ * at least once, through {@link NotificationDispatcher}.</p>
+ */
+@Entity
+@Table(
+        name = "notification_outbox",
+        indexes = @Index(
+                name = "idx_notification_outbox_due",
+                columnList = "delivery_status, next_attempt_at"
+        )
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private NotificationEventTypeEnum eventType;
+
+    @Column(name = "user_uuid", nullable = false, updatable = false)
+    private String userUuid;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", nullable = false, length = 10)
+    private OutboxStatusEnum deliveryStatus;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    public static NotificationOutbox pending(NotificationEventTypeEnum eventType, String userUuid, String payload) {
+        NotificationOutbox notification = new NotificationOutbox();
+        notification.setEventType(eventType);
+        notification.setUserUuid(userUuid);
+        notification.setPayload(payload);
+        notification.setDeliveryStatus(OutboxStatusEnum.PENDING);
+        notification.setAttempts(0);
+        notification.setNextAttemptAt(LocalDateTime.now());
+        return notification;
+    }
+}
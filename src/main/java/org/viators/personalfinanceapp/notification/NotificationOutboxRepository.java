@@ -0,0 +1,37 @@
+package org.viators.personalfinanceapp.notification;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.common.enums.OutboxStatusEnum;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Claims the next due notifications for the current transaction.
+     *
+     * <p>Rows locked by another dispatcher are skipped rather than waited on (lock timeout -2 is
+     * Hibernate's {@code SKIP LOCKED}), so several instances can drain the outbox side by side.</p>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT n FROM NotificationOutbox n
+            WHERE n.deliveryStatus = :deliveryStatus
+            AND n.nextAttemptAt <= :now
+            ORDER BY n.id
+            """)
+    List<NotificationOutbox> findDueForDispatch(@Param("deliveryStatus") OutboxStatusEnum deliveryStatus,
+                                                @Param("now") LocalDateTime now,
+                                                Limit limit);
+}
@@ -0,0 +1,70 @@
+package org.viators.personalfinanceapp.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.viators.personalfinanceapp.common.enums.NotificationEventTypeEnum;
+import org.viators.personalfinanceapp.pricealert.PriceAlertIndexEntry;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Queues one notification per fired alert. Must join the transaction that stored the observation,
+     * so a rolled back price never notifies anyone.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAlertsTriggered(Collection<PriceAlertIndexEntry> firedAlerts, PriceObservation priceObservation) {
+        if (firedAlerts.isEmpty()) {
+            return;
+        }
+
+        String storeName = priceObservation.getStore() != null ? priceObservation.getStore().getName() : null;
+        List<NotificationOutbox> notifications = new ArrayList<>(firedAlerts.size());
+        for (PriceAlertIndexEntry alert : firedAlerts) {
+            PriceAlertNotificationPayload payload = new PriceAlertNotificationPayload(
+                    alert.alertUuid(),
+                    alert.alertType(),
+                    alert.thresholdPrice(),
+                    alert.percentageChange(),
+                    priceObservation.getItem().getUuid(),
+                    priceObservation.getItem().getName(),
+                    storeName,
+                    priceObservation.getUuid(),
+                    priceObservation.getPrice(),
+                    priceObservation.getCurrency(),
+                    priceObservation.getObservationDate()
+            );
+            notifications.add(NotificationOutbox.pending(NotificationEventTypeEnum.PRICE_ALERT_TRIGGERED,
+                    alert.userUuid(), jsonMapper.writeValueAsString(payload)));
+        }
+
+        notificationOutboxRepository.saveAll(notifications);
+        log.debug("Queued {} alert notifications for observation {}", notifications.size(), priceObservation.getUuid());
+
+        // Deliver right after commit instead of waiting for the next poll
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationDispatcher.wakeUp();
+            }
+        });
+    }
+}
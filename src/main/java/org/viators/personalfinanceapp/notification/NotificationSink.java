@@ -0,0 +1,17 @@
+package org.viators.personalfinanceapp.notification;
+
+import org.viators.personalfinanceapp.common.enums.NotificationChannelEnum;
+
+/**
+ * Delivers notifications over one channel. Every sink bean in the context receives every notification
+ * the user's preferences allow for its channel.
+ *
+ * <p>Delivery is at least once: throwing makes the dispatcher retry the notification later, on every
+ * sink again, so implementations should be idempotent on {@link NotificationMessage#notificationUuid()}.</p>
+ */
+public interface NotificationSink {
+
+    NotificationChannelEnum channel();
+
+    void deliver(NotificationMessage message);
+}
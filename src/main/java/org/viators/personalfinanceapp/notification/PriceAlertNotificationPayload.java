@@ -0,0 +1,27 @@
+package org.viators.personalfinanceapp.notification;
+
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Payload of a {@code PRICE_ALERT_TRIGGERED} notification, stored as JSON in the outbox.
+ *
+ * <p>Carries everything a sink needs, so delivery never has to read the alert or the item again.</p>
+ */
+public record PriceAlertNotificationPayload(
+        String alertUuid,
+        AlertTypeEnum alertType,
+        BigDecimal thresholdPrice,
+        BigDecimal percentageChange,
+        String itemUuid,
+        String itemName,
+        String storeName,
+        String observationUuid,
+        BigDecimal price,
+        CurrencyEnum currency,
+        LocalDate observationDate
+) {
+}
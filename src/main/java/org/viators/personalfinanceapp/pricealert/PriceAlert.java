@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
 import org.viators.personalfinanceapp.common.BaseEntity;
 import org.viators.personalfinanceapp.item.Item;
 import org.viators.personalfinanceapp.user.User;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Filter(name = BaseEntity.ACTIVE_ONLY_FILTER)
 public class PriceAlert extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -34,6 +36,10 @@ public class PriceAlert extends BaseEntity {
     @Column(name = "last_triggered_at")
     private LocalDateTime lastTriggeredAt;
 
+    // Observation that fired the alert last, so re-evaluating the same observation never fires twice
+    @Column(name = "last_triggered_observation_uuid")
+    private String lastTriggeredObservationUuid;
+
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
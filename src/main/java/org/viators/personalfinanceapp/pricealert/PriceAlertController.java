@@ -0,0 +1,62 @@
+package org.viators.personalfinanceapp.pricealert;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.viators.personalfinanceapp.config.openapi.OwnerProtectedWriteResponses;
+import org.viators.personalfinanceapp.config.openapi.ValidatedCreateResponses;
+import org.viators.personalfinanceapp.pricealert.dto.request.CreatePriceAlertRequest;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/price-alerts")
+@RequiredArgsConstructor
+@Tag(name = "Price Alerts", description = "Alerts that fire when an item's price moves")
+public class PriceAlertController {
+
+    private final PriceAlertService priceAlertService;
+
+    @GetMapping
+    @Operation(summary = "List user's active price alerts")
+    @ApiResponse(responseCode = "200", description = "Alerts retrieved successfully")
+    public ResponseEntity<List<PriceAlertSummaryResponse>> getAlerts(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid) {
+
+        return ResponseEntity.ok(priceAlertService.getAlerts(loggedInUserUuid));
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Create a price alert",
+            description = "Threshold alerts fire when a new current price crosses the threshold, "
+                    + "percentage alerts when consecutive prices differ by at least the given percentage.")
+    @ApiResponse(responseCode = "201", description = "Alert created")
+    @ValidatedCreateResponses
+    public ResponseEntity<PriceAlertSummaryResponse> create(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @Valid @RequestBody CreatePriceAlertRequest request) {
+
+        PriceAlertSummaryResponse response = priceAlertService.create(loggedInUserUuid, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{uuid}")
+    @Operation(summary = "Deactivate a price alert")
+    @ApiResponse(responseCode = "204", description = "Alert deactivated")
+    @OwnerProtectedWriteResponses
+    public ResponseEntity<Void> deactivate(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @PathVariable String uuid) {
+
+        priceAlertService.deactivate(loggedInUserUuid, uuid);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,91 @@
+package org.viators.personalfinanceapp.pricealert;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+import org.viators.personalfinanceapp.notification.NotificationOutboxService;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
+import org.viators.personalfinanceapp.userevent.dto.response.AlertTriggeredEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates price alerts when an observation becomes the current price of its item.
+ *
+ * <p>The common case, no alert crossed, costs one hash lookup and a few skip-list seeks and never
+ * touches the database. Alerts that did cross are fired with a conditional update, so evaluating
+ * the same observation again fires nothing. Each fired alert queues a notification in the same
+ * transaction.</p>
+ */
+@Service
+@Slf4j
+public class PriceAlertEvaluator {
+
+    private final PriceAlertIndex priceAlertIndex;
+    private final PriceAlertRepository priceAlertRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final UserEventPublisher userEventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PriceAlertEvaluator(PriceAlertIndex priceAlertIndex, PriceAlertRepository priceAlertRepository,
+                               NotificationOutboxService notificationOutboxService,
+                               UserEventPublisher userEventPublisher) {
+        this.priceAlertIndex = priceAlertIndex;
+        this.priceAlertRepository = priceAlertRepository;
+        this.notificationOutboxService = notificationOutboxService;
+        this.userEventPublisher = userEventPublisher;
+    }
+
+    /**
+     * @param previousPrice    current price of the item before this observation, null if it had none
+     * @param previousCurrency currency of {@code previousPrice}; alert thresholds carry no currency, so a price
+     *                         in another currency is not compared against them and fires nothing
+     * @return the alerts fired by this call
+     */
+    @Transactional
+    public List<PriceAlertIndexEntry> evaluate(Long itemId, BigDecimal previousPrice, CurrencyEnum previousCurrency,
+                                               PriceObservation priceObservation) {
+
+        if (previousPrice != null && priceObservation.getCurrency() != previousCurrency) {
+            log.debug("Skipped alerts of item {}: its price switched from {} to {}", itemId, previousCurrency,
+                    priceObservation.getCurrency());
+            return List.of();
+        }
+
+        List<PriceAlertIndexEntry> candidates = priceAlertIndex.findTriggered(itemId, previousPrice, priceObservation.getPrice());
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // Observations added through the item cascade only get their uuid on flush
+        if (priceObservation.getUuid() == null) {
+            entityManager.flush();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PriceAlertIndexEntry> fired = new ArrayList<>(candidates.size());
+        for (PriceAlertIndexEntry candidate : candidates) {
+            if (priceAlertRepository.markTriggered(candidate.alertId(), priceObservation.getUuid(), now) == 1) {
+                fired.add(candidate);
+            }
+        }
+
+        notificationOutboxService.enqueueAlertsTriggered(fired, priceObservation);
+        fired.forEach(alert -> userEventPublisher.publishAfterCommit(alert.userUuid(),
+                UserEventTypeEnum.ALERT_TRIGGERED, () -> AlertTriggeredEvent.from(alert, priceObservation)));
+
+        log.debug("Price {} for item {} fired {} of {} candidate alerts", priceObservation.getPrice(), itemId,
+                fired.size(), candidates.size());
+        return fired;
+    }
+}
@@ -0,0 +1,169 @@
+package org.viators.personalfinanceapp.pricealert;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory index of active price alerts, per item and sorted by threshold, so the alerts crossed by
+ * a price move are found with a couple of range seeks instead of a database query.
+ *
+ * <p>Firing rules, for a move from the previous current price {@code p0} to the new price {@code p1}:</p>
+ * <ul>
+ *     <li>PRICE_DECREASE fires when the price falls below the threshold: {@code p1 < t <= p0}</li>
+ *     <li>PRICE_INCREASE fires when the price rises above the threshold: {@code p0 <= t < p1}</li>
+ *     <li>REACHES_TARGET fires when the price reaches the threshold from either side</li>
+ *     <li>PERCENTAGE_CHANGE fires when {@code |p1 - p0| / p0} is at least the configured percentage</li>
+ * </ul>
+ * <p>Without a previous price, threshold alerts whose condition already holds fire and percentage alerts do not.</p>
+ *
+ * <p>Built from the database before the application starts serving requests.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceAlertIndex implements SmartInitializingSingleton {
+
+    private final PriceAlertRepository priceAlertRepository;
+
+    private final Map<Long, ItemAlerts> alertsByItem = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        List<PriceAlertIndexEntry> entries = priceAlertRepository.findAllIndexEntries(StatusEnum.ACTIVE.getCode());
+        alertsByItem.clear();
+        entries.forEach(this::add);
+        log.info("Price alert index built with {} alerts for {} items", entries.size(), alertsByItem.size());
+    }
+
+    public void add(PriceAlertIndexEntry entry) {
+        alertsByItem.computeIfAbsent(entry.itemId(), itemId -> new ItemAlerts()).add(entry);
+    }
+
+    public void remove(PriceAlertIndexEntry entry) {
+        alertsByItem.computeIfPresent(entry.itemId(), (itemId, alerts) -> {
+            alerts.remove(entry);
+            return alerts.isEmpty() ? null : alerts;
+        });
+    }
+
+    public List<PriceAlertIndexEntry> findTriggered(Long itemId, BigDecimal previousPrice, BigDecimal newPrice) {
+        ItemAlerts alerts = alertsByItem.get(itemId);
+        if (alerts == null) {
+            return List.of();
+        }
+        return alerts.findTriggered(previousPrice, newPrice);
+    }
+
+    public int size() {
+        return alertsByItem.values().stream()
+                .mapToInt(ItemAlerts::size)
+                .sum();
+    }
+
+    private static final class ItemAlerts {
+
+        private final NavigableMap<BigDecimal, List<PriceAlertIndexEntry>> decreases = new ConcurrentSkipListMap<>();
+        private final NavigableMap<BigDecimal, List<PriceAlertIndexEntry>> increases = new ConcurrentSkipListMap<>();
+        private final NavigableMap<BigDecimal, List<PriceAlertIndexEntry>> targets = new ConcurrentSkipListMap<>();
+        private final NavigableMap<BigDecimal, List<PriceAlertIndexEntry>> percentages = new ConcurrentSkipListMap<>();
+
+        void add(PriceAlertIndexEntry entry) {
+            BigDecimal key = keyOf(entry);
+            if (key != null) {
+                mapOf(entry).computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(entry);
+            }
+        }
+
+        void remove(PriceAlertIndexEntry entry) {
+            BigDecimal key = keyOf(entry);
+            if (key != null) {
+                mapOf(entry).computeIfPresent(key, (k, entries) -> {
+                    entries.removeIf(existing -> existing.alertId().equals(entry.alertId()));
+                    return entries.isEmpty() ? null : entries;
+                });
+            }
+        }
+
+        boolean isEmpty() {
+            return decreases.isEmpty() && increases.isEmpty() && targets.isEmpty() && percentages.isEmpty();
+        }
+
+        int size() {
+            return count(decreases) + count(increases) + count(targets) + count(percentages);
+        }
+
+        List<PriceAlertIndexEntry> findTriggered(BigDecimal previousPrice, BigDecimal newPrice) {
+            List<PriceAlertIndexEntry> triggered = new ArrayList<>();
+
+            if (previousPrice == null) {
+                collect(decreases.tailMap(newPrice, false), triggered);
+                collect(increases.headMap(newPrice, false), triggered);
+                collect(targets.subMap(newPrice, true, newPrice, true), triggered);
+                return triggered;
+            }
+
+            int direction = newPrice.compareTo(previousPrice);
+            if (direction < 0) {
+                collect(decreases.subMap(newPrice, false, previousPrice, true), triggered);
+                collect(targets.subMap(newPrice, true, previousPrice, false), triggered);
+            } else if (direction > 0) {
+                collect(increases.subMap(previousPrice, true, newPrice, false), triggered);
+                collect(targets.subMap(previousPrice, false, newPrice, true), triggered);
+            }
+
+            if (direction != 0 && previousPrice.signum() > 0) {
+                BigDecimal changePercentage = newPrice.subtract(previousPrice).abs()
+                        .multiply(BigDecimal.valueOf(100))
+                        .divide(previousPrice, 4, RoundingMode.HALF_EVEN);
+                collect(percentages.headMap(changePercentage, true), triggered);
+            }
+
+            return triggered;
+        }
+
+        private NavigableMap<BigDecimal, List<PriceAlertIndexEntry>> mapOf(PriceAlertIndexEntry entry) {
+            return switch (entry.alertType()) {
+                case PRICE_DECREASE -> decreases;
+                case PRICE_INCREASE -> increases;
+                case REACHES_TARGET -> targets;
+                case PERCENTAGE_CHANGE -> percentages;
+            };
+        }
+
+        private static BigDecimal keyOf(PriceAlertIndexEntry entry) {
+            return switch (entry.alertType()) {
+                case PERCENTAGE_CHANGE -> entry.percentageChange();
+                default -> entry.thresholdPrice();
+            };
+        }
+
+        private static void collect(Map<BigDecimal, List<PriceAlertIndexEntry>> range,
+                                    List<PriceAlertIndexEntry> triggered) {
+            range.values().forEach(triggered::addAll);
+        }
+
+        private static int count(Map<BigDecimal, List<PriceAlertIndexEntry>> map) {
+            return map.values().stream()
+                    .mapToInt(Collection::size)
+                    .sum();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.viators.personalfinanceapp.pricealert;
+
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+
+import java.math.BigDecimal;
+
+/**
+ * The immutable part of an active {@link PriceAlert} that evaluation needs, kept in {@link PriceAlertIndex}.
+ */
+public record PriceAlertIndexEntry(
+        Long alertId,
+        String alertUuid,
+        Long itemId,
+        String userUuid,
+        AlertTypeEnum alertType,
+        BigDecimal thresholdPrice,
+        BigDecimal percentageChange
+) {
+
+    public static PriceAlertIndexEntry from(PriceAlert priceAlert) {
+        return new PriceAlertIndexEntry(
+                priceAlert.getId(),
+                priceAlert.getUuid(),
+                priceAlert.getItem().getId(),
+                priceAlert.getUser().getUuid(),
+                priceAlert.getAlertType(),
+                priceAlert.getThresholdPrice(),
+                priceAlert.getPercentageChange()
+        );
+    }
+}
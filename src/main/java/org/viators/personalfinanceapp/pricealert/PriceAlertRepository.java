@@ -1,9 +1,59 @@
 package org.viators.personalfinanceapp.pricealert;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Service;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
 
-@Service
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
 public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long> {
 
+    Optional<PriceAlert> findByUuidAndUser_Uuid(String uuid, String userUuid);
+
+    List<PriceAlert> findAllByUser_UuidOrderByCreatedAtDesc(String userUuid);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.pricealert.PriceAlertIndexEntry(
+                a.id, a.uuid, a.item.id, a.user.uuid, a.alertType, a.thresholdPrice, a.percentageChange
+            )
+            FROM PriceAlert a
+            WHERE a.status = :status
+            AND a.item.status = :status
+            """)
+    List<PriceAlertIndexEntry> findAllIndexEntries(@Param("status") String status);
+
+    /**
+     * Fires the alert unless this observation already fired it.
+     *
+     * @return 1 if the alert fired now, 0 if it had already fired for this observation
+     */
+    @Modifying
+    @Query("""
+            update PriceAlert a
+            set a.lastTriggeredAt = :now, a.lastTriggeredObservationUuid = :observationUuid
+            where a.id = :alertId
+            and (a.lastTriggeredObservationUuid is null or a.lastTriggeredObservationUuid <> :observationUuid)
+            """)
+    int markTriggered(@Param("alertId") Long alertId,
+                      @Param("observationUuid") String observationUuid,
+                      @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse(
+                a.uuid, a.alertType, a.thresholdPrice, a.percentageChange, a.lastTriggeredAt, i.name
+            )
+            FROM PriceAlert a
+            JOIN a.item i
+            WHERE a.user.uuid = :userUuid
+            ORDER BY a.createdAt DESC, a.id DESC
+            """)
+    List<PriceAlertSummaryResponse> findSummariesByUserUuid(@Param("userUuid") String userUuid,
+                                                            Limit limit);
 }
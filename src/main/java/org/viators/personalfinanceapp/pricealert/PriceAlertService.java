@@ -3,12 +3,77 @@ package org.viators.personalfinanceapp.pricealert;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.exceptions.InvalidStateException;
+import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemService;
+import org.viators.personalfinanceapp.pricealert.dto.request.CreatePriceAlertRequest;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.user.UserService;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class PriceAlertService {
 
     private final PriceAlertRepository priceAlertRepository;
+    private final PriceAlertIndex priceAlertIndex;
+
+    // Other Service dependencies
+    private final UserService userService;
+    private final ItemService itemService;
+
+    public List<PriceAlertSummaryResponse> getAlerts(String loggedInUserUuid) {
+        return PriceAlertSummaryResponse.listOfSummaries(priceAlertRepository
+                .findAllByUser_UuidOrderByCreatedAtDesc(loggedInUserUuid));
+    }
+
+    @Transactional
+    public PriceAlertSummaryResponse create(String loggedInUserUuid, CreatePriceAlertRequest request) {
+        User user = userService.findActiveUser(loggedInUserUuid);
+        Item item = itemService.getItemByUuidAndUser(request.itemUuid(), loggedInUserUuid);
+
+        if (!StatusEnum.ACTIVE.getCode().equals(item.getStatus())) {
+            throw new InvalidStateException("Item", "inactive", "create an alert for");
+        }
+
+        PriceAlert priceAlert = request.toEntity();
+        priceAlert.setUser(user);
+        priceAlert.setItem(item);
+        priceAlert = priceAlertRepository.save(priceAlert);
+
+        PriceAlertIndexEntry entry = PriceAlertIndexEntry.from(priceAlert);
+        afterCommit(() -> priceAlertIndex.add(entry));
+
+        return PriceAlertSummaryResponse.from(priceAlert);
+    }
+
+    @Transactional
+    public void deactivate(String loggedInUserUuid, String alertUuid) {
+        PriceAlert priceAlert = priceAlertRepository.findByUuidAndUser_Uuid(alertUuid, loggedInUserUuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Price alert", alertUuid));
+
+        priceAlert.setStatus(StatusEnum.INACTIVE.getCode());
+
+        PriceAlertIndexEntry entry = PriceAlertIndexEntry.from(priceAlert);
+        afterCommit(() -> priceAlertIndex.remove(entry));
+    }
 
+    // The index must never see alerts of a transaction that rolls back
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
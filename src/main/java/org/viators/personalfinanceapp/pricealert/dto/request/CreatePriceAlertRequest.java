@@ -0,0 +1,47 @@
+package org.viators.personalfinanceapp.pricealert.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+import org.viators.personalfinanceapp.common.validators.ValidAlertThreshold;
+import org.viators.personalfinanceapp.pricealert.PriceAlert;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@ValidAlertThreshold
+@Schema(description = "Payload for creating a price alert on one of the user's items")
+public record CreatePriceAlertRequest(
+        @NotBlank(message = "Item is required")
+        @Schema(description = "UUID of the watched item", example = "b7e2c1d4-2f3a-4b5c-8d9e-0f1a2b3c4d5e")
+        String itemUuid,
+
+        @NotNull(message = "Alert type is required")
+        @Schema(description = "When the alert fires", example = "PRICE_DECREASE")
+        AlertTypeEnum alertType,
+
+        @Positive(message = "Threshold price must be positive")
+        @Digits(integer = 10, fraction = 2, message = "Threshold price must have at most 2 decimal places")
+        @Schema(description = "Price to watch, required for every type except PERCENTAGE_CHANGE",
+                example = "1.99", nullable = true)
+        BigDecimal thresholdPrice,
+
+        @Positive(message = "Percentage change must be positive")
+        @Digits(integer = 3, fraction = 2, message = "Percentage change must have at most 2 decimal places")
+        @Schema(description = "Minimum change between consecutive prices, in percent, for PERCENTAGE_CHANGE",
+                example = "10", nullable = true)
+        BigDecimal percentageChange
+) {
+
+    public PriceAlert toEntity() {
+        PriceAlert priceAlert = new PriceAlert();
+        Optional.ofNullable(alertType).ifPresent(priceAlert::setAlertType);
+        Optional.ofNullable(thresholdPrice).ifPresent(priceAlert::setThresholdPrice);
+        Optional.ofNullable(percentageChange).ifPresent(priceAlert::setPercentageChange);
+
+        return priceAlert;
+    }
+}
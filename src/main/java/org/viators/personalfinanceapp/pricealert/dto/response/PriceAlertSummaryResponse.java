@@ -3,17 +3,24 @@ package org.viators.personalfinanceapp.pricealert.dto.response;
 import org.viators.personalfinanceapp.pricealert.PriceAlert;
 import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 public record PriceAlertSummaryResponse(
+        String uuid,
         AlertTypeEnum alertType,
+        BigDecimal thresholdPrice,
+        BigDecimal percentageChange,
         LocalDateTime lastTriggeredAt,
         String itemName
 ) {
     public static PriceAlertSummaryResponse from(PriceAlert priceAlert) {
         return new PriceAlertSummaryResponse(
+                priceAlert.getUuid(),
                 priceAlert.getAlertType(),
+                priceAlert.getThresholdPrice(),
+                priceAlert.getPercentageChange(),
                 priceAlert.getLastTriggeredAt(),
                 priceAlert.getItem().getName()
         );
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.viators.personalfinanceapp.common.BaseEntity;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.item.Item;
 import org.viators.personalfinanceapp.store.Store;
 import org.viators.personalfinanceapp.user.User;
@@ -13,8 +14,19 @@ import org.viators.personalfinanceapp.user.User;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * Cross-store price statistics of one item in one currency, computed from the latest observation
+ * of every store. {@code comparisonDate} is the day the statistics last changed; only the newest
+ * comparison per item and currency is active, older ones are kept as history.
+ */
 @Entity
-@Table(name = "price_comparisons")
+@Table(
+        name = "price_comparisons",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_price_comparison_item_currency_date",
+                columnNames = {"item_id", "currency", "comparison_date"}
+        )
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,6 +36,10 @@ public class PriceComparison extends BaseEntity {
     @Column(name = "comparison_date", nullable = false)
     private LocalDate comparisonDate;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", nullable = false)
+    private CurrencyEnum currency;
+
     @Column(name = "lowest_price")
     private BigDecimal lowestPrice;
 
@@ -36,15 +52,30 @@ public class PriceComparison extends BaseEntity {
     @Column(name = "price_spread")
     private BigDecimal priceSpread;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id", nullable = false)
     private Item item;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "best_store_id", nullable = false)
     private Store bestStore;
+
+    public boolean hasSameResult(PriceComparisonResult result) {
+        return lowestPrice.compareTo(result.lowestPrice()) == 0
+                && highestPrice.compareTo(result.highestPrice()) == 0
+                && averagePrice.compareTo(result.averagePrice()) == 0
+                && bestStore.getId().equals(result.bestStoreId());
+    }
+
+    public void apply(PriceComparisonResult result, Store bestStore) {
+        this.lowestPrice = result.lowestPrice();
+        this.highestPrice = result.highestPrice();
+        this.averagePrice = result.averagePrice();
+        this.priceSpread = result.priceSpread();
+        this.bestStore = bestStore;
+    }
 }
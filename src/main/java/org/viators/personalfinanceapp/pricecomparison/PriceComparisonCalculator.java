@@ -0,0 +1,69 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The comparison math, free of persistence so the incremental and the batch path share it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PriceComparisonCalculator {
+
+    private static final int AVERAGE_SCALE = 2;
+
+    /**
+     * Newer observations first; for the same date the later recorded one wins.
+     */
+    private static final Comparator<StoreLatestPrice> MOST_RECENT_FIRST = Comparator
+            .comparing(StoreLatestPrice::observationDate)
+            .thenComparing(StoreLatestPrice::observationId)
+            .reversed();
+
+    /**
+     * The cheapest store wins; on a tie the one observed most recently, then the lower store id.
+     */
+    private static final Comparator<StoreLatestPrice> BEST_STORE_FIRST = Comparator
+            .comparing(StoreLatestPrice::price)
+            .thenComparing(MOST_RECENT_FIRST)
+            .thenComparing(StoreLatestPrice::storeId);
+
+    /**
+     * @param latestPrices latest prices of one item in one currency; several rows for the same store
+     *                     (observations on the same day) are reduced to the most recent one
+     */
+    public static PriceComparisonResult compare(Collection<StoreLatestPrice> latestPrices) {
+        if (latestPrices.isEmpty()) {
+            throw new IllegalArgumentException("Cannot compare prices without any observation");
+        }
+
+        Map<Long, StoreLatestPrice> perStore = new HashMap<>();
+        for (StoreLatestPrice latestPrice : latestPrices) {
+            perStore.merge(latestPrice.storeId(), latestPrice,
+                    (current, candidate) -> MOST_RECENT_FIRST.compare(current, candidate) <= 0 ? current : candidate);
+        }
+
+        BigDecimal lowest = null;
+        BigDecimal highest = null;
+        BigDecimal sum = BigDecimal.ZERO;
+        StoreLatestPrice best = null;
+        for (StoreLatestPrice storePrice : perStore.values()) {
+            BigDecimal price = storePrice.price();
+            lowest = lowest == null ? price : lowest.min(price);
+            highest = highest == null ? price : highest.max(price);
+            sum = sum.add(price);
+            if (best == null || BEST_STORE_FIRST.compare(storePrice, best) < 0) {
+                best = storePrice;
+            }
+        }
+
+        BigDecimal average = sum.divide(BigDecimal.valueOf(perStore.size()), AVERAGE_SCALE, RoundingMode.HALF_UP);
+        return new PriceComparisonResult(lowest, highest, average, highest.subtract(lowest), best.storeId(), perStore.size());
+    }
+}
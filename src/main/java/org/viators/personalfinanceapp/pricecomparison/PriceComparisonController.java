@@ -0,0 +1,31 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/price-comparisons")
+@RequiredArgsConstructor
+public class PriceComparisonController {
+
+    private final PriceComparisonRecomputeJob priceComparisonRecomputeJob;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/recompute")
+    @Operation(
+            summary = "Recompute price comparisons",
+            description = "Recomputes the cross-store price comparison of every item in parallel. Runs in the background."
+    )
+    @ApiResponse(responseCode = "202", description = "Recompute started")
+    @ApiResponse(responseCode = "409", description = "A recompute is already running")
+    public ResponseEntity<Void> recompute() {
+        priceComparisonRecomputeJob.start();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,106 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.exceptions.InvalidStateException;
+import org.viators.personalfinanceapp.item.ItemRepository;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recomputes the price comparisons of every item, for instance after introducing them on existing data.
+ *
+ * <p>Item ids are walked in pages; every page is recomputed in its own transaction on a pool sized to
+ * the available cores, with at most two pages per worker in flight. Only one run at a time.</p>
+ */
+@Component
+@Slf4j
+public class PriceComparisonRecomputeJob {
+
+    private final ItemRepository itemRepository;
+    private final PriceComparisonService priceComparisonService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int parallelism;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PriceComparisonRecomputeJob(ItemRepository itemRepository,
+                                       PriceComparisonService priceComparisonService,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${price-comparison.recompute.batch-size:200}") int batchSize,
+                                       @Value("${price-comparison.recompute.parallelism:0}") int parallelism) {
+        this.itemRepository = itemRepository;
+        this.priceComparisonService = priceComparisonService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidStateException("Price comparison recompute is already running");
+        }
+
+        Thread.ofVirtual().name("price-comparison-recompute").start(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.error("Price comparison recompute failed", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Price comparison recompute was interrupted");
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void run() throws InterruptedException {
+        long started = System.currentTimeMillis();
+        AtomicLong items = new AtomicLong();
+        AtomicLong written = new AtomicLong();
+        AtomicLong failedPages = new AtomicLong();
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("price-comparison-worker-", 0).factory())) {
+
+            long lastItemId = 0L;
+            List<Long> itemIds = itemRepository.findIdsAfter(lastItemId, Limit.of(batchSize));
+            while (!itemIds.isEmpty()) {
+                List<Long> page = itemIds;
+                inFlight.acquire();
+                workers.submit(() -> {
+                    try {
+                        Integer count = transactionTemplate.execute(status -> priceComparisonService.recomputeItems(page));
+                        written.addAndGet(count != null ? count : 0);
+                        items.addAndGet(page.size());
+                    } catch (RuntimeException e) {
+                        failedPages.incrementAndGet();
+                        log.error("Price comparison recompute failed for items {} to {}", page.getFirst(), page.getLast(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                lastItemId = itemIds.getLast();
+                itemIds = itemRepository.findIdsAfter(lastItemId, Limit.of(batchSize));
+            }
+        }
+
+        log.info("Price comparison recompute finished: {} items, {} comparisons written, {} failed pages in {} ms",
+                items.get(), written.get(), failedPages.get(), System.currentTimeMillis() - started);
+    }
+}
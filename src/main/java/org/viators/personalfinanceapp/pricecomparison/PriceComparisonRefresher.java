@@ -0,0 +1,82 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Entry point for price writes that need the comparisons of their items recomputed.
+ *
+ * <p>Comparisons are derived data, so they are recomputed once the price write has committed, in a
+ * transaction of their own. Two writers recomputing the same item can still collide on the comparison
+ * of the day; the loser simply retries and then finds the winner's row. A comparison that cannot be
+ * written is logged and left for the next write or {@link PriceComparisonRecomputeJob}, it never rolls
+ * back the price.</p>
+ */
+@Component
+@Slf4j
+public class PriceComparisonRefresher {
+
+    private final PriceComparisonService priceComparisonService;
+    private final TransactionTemplate newTransaction;
+    private final int maxAttempts;
+
+    public PriceComparisonRefresher(PriceComparisonService priceComparisonService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${price-comparison.refresh.max-attempts:3}") int maxAttempts) {
+        this.priceComparisonService = priceComparisonService;
+        // Runs from afterCommit, where the finished transaction is still bound to the thread
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void recomputeAfterCommit(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+
+        // Copied, callers may reuse their collection before the commit
+        List<Long> ids = List.copyOf(itemIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recompute(ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recompute(ids);
+            }
+        });
+    }
+
+    void recompute(List<Long> itemIds) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                newTransaction.executeWithoutResult(status -> priceComparisonService.recomputeItems(itemIds));
+                return;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt == maxAttempts) {
+                    log.warn("Price comparisons of items {} could not be written after {} attempts", itemIds,
+                            maxAttempts, e);
+                } else {
+                    log.debug("Price comparisons of items {} collided with a concurrent write, retrying", itemIds);
+                }
+            } catch (RuntimeException e) {
+                log.error("Price comparisons of items {} could not be recomputed", itemIds, e);
+                return;
+            }
+        }
+    }
+}
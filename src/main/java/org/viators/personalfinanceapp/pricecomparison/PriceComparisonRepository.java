@@ -0,0 +1,86 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PriceComparisonRepository extends JpaRepository<PriceComparison, Long> {
+
+    /**
+     * The active comparisons of the items plus every comparison dated {@code comparisonDate}, whatever its
+     * status, since the unique key allows only one per item, currency and day.
+     */
+    @Query("""
+            select c from PriceComparison c
+            where c.item.id in :itemIds
+            and (c.status = :activeStatus or c.comparisonDate = :comparisonDate)
+            """)
+    List<PriceComparison> findActiveOrDatedComparisons(@Param("itemIds") Collection<Long> itemIds,
+                                                       @Param("activeStatus") String activeStatus,
+                                                       @Param("comparisonDate") LocalDate comparisonDate);
+
+    /**
+     * Latest observation per item, store and currency, up to {@code asOf}. Observations sharing the
+     * latest date are all returned and reduced by the caller. Live observations are read first; the archive
+     * is only consulted for stores and currencies that have no live observation left, since the latest price
+     * at such a store can be older than the archive age. Price writes therefore never scan the archive of
+     * stores they already have live prices of.
+     */
+    default List<StoreLatestPrice> findLatestPricesPerStore(Collection<Long> itemIds, LocalDate asOf) {
+        List<StoreLatestPrice> latestPrices = new ArrayList<>(findLatestLivePricesPerStore(itemIds, asOf));
+        latestPrices.addAll(findLatestArchivedPricesPerStore(itemIds, asOf));
+        return latestPrices;
+    }
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.pricecomparison.StoreLatestPrice(
+                po.item.id, po.item.user.id, po.store.id, po.currency, po.price, po.observationDate, po.id
+            )
+            FROM PriceObservation po
+            WHERE po.item.id IN :itemIds
+            AND po.observationDate = (
+                SELECT max(latest.observationDate)
+                FROM PriceObservation latest
+                WHERE latest.item = po.item
+                AND latest.store = po.store
+                AND latest.currency = po.currency
+                AND latest.observationDate <= :asOf
+            )
+            """)
+    List<StoreLatestPrice> findLatestLivePricesPerStore(@Param("itemIds") Collection<Long> itemIds,
+                                                        @Param("asOf") LocalDate asOf);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.pricecomparison.StoreLatestPrice(
+                a.itemId, i.user.id, a.storeId, a.currency, a.price, a.observationDate, a.id
+            )
+            FROM ArchivedPriceObservation a
+            JOIN Item i ON i.id = a.itemId
+            WHERE a.itemId IN :itemIds
+            AND a.observationDate = (
+                SELECT max(latest.observationDate)
+                FROM ArchivedPriceObservation latest
+                WHERE latest.itemId = a.itemId
+                AND latest.storeId = a.storeId
+                AND latest.currency = a.currency
+                AND latest.observationDate <= :asOf
+            )
+            AND NOT EXISTS (
+                SELECT 1
+                FROM PriceObservation live
+                WHERE live.item.id = a.itemId
+                AND live.store.id = a.storeId
+                AND live.currency = a.currency
+                AND live.observationDate <= :asOf
+            )
+            """)
+    List<StoreLatestPrice> findLatestArchivedPricesPerStore(@Param("itemIds") Collection<Long> itemIds,
+                                                            @Param("asOf") LocalDate asOf);
+}
@@ -0,0 +1,13 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import java.math.BigDecimal;
+
+public record PriceComparisonResult(
+        BigDecimal lowestPrice,
+        BigDecimal highestPrice,
+        BigDecimal averagePrice,
+        BigDecimal priceSpread,
+        Long bestStoreId,
+        int storeCount
+) {
+}
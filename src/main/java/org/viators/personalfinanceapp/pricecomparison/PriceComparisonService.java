@@ -0,0 +1,118 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.store.StoreRepository;
+import org.viators.personalfinanceapp.user.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PriceComparisonService {
+
+    private final PriceComparisonRepository priceComparisonRepository;
+    private final ItemRepository itemRepository;
+    private final StoreRepository storeRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Recomputes the comparisons of the given items from the latest observation of every store,
+     * with two queries regardless of the number of items. Comparisons whose result did not change
+     * are left untouched; a changed one is written to the comparison of today, which is reused even
+     * if it was deactivated earlier, and the previous active one is superseded.
+     * Price writes go through {@link PriceComparisonRefresher}, which calls this after they commit.
+     *
+     * @return the number of comparisons written
+     */
+    @Transactional
+    public int recomputeItems(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDate today = LocalDate.now();
+        String activeStatus = StatusEnum.ACTIVE.getCode();
+        Map<ComparisonKey, List<StoreLatestPrice>> latestPrices = priceComparisonRepository
+                .findLatestPricesPerStore(itemIds, today)
+                .stream()
+                .collect(Collectors.groupingBy(latest -> new ComparisonKey(latest.itemId(), latest.currency())));
+
+        List<PriceComparison> comparisons = priceComparisonRepository.findActiveOrDatedComparisons(itemIds,
+                activeStatus, today);
+        Map<ComparisonKey, PriceComparison> activeComparisons = comparisons.stream()
+                .filter(comparison -> activeStatus.equals(comparison.getStatus()))
+                .collect(Collectors.toMap(ComparisonKey::of, Function.identity(), PriceComparisonService::newer));
+        Map<ComparisonKey, PriceComparison> todaysComparisons = comparisons.stream()
+                .filter(comparison -> comparison.getComparisonDate().equals(today))
+                .collect(Collectors.toMap(ComparisonKey::of, Function.identity(), (first, second) -> first));
+
+        // Only the newest active comparison per item and currency stays active, should older data hold more
+        int written = 0;
+        for (PriceComparison comparison : comparisons) {
+            if (activeStatus.equals(comparison.getStatus())
+                    && activeComparisons.get(ComparisonKey.of(comparison)) != comparison) {
+                comparison.setStatus(StatusEnum.INACTIVE.getCode());
+                written++;
+            }
+        }
+
+        List<PriceComparison> newComparisons = new ArrayList<>();
+        for (Map.Entry<ComparisonKey, List<StoreLatestPrice>> entry : latestPrices.entrySet()) {
+            ComparisonKey key = entry.getKey();
+            PriceComparisonResult result = PriceComparisonCalculator.compare(entry.getValue());
+            PriceComparison current = activeComparisons.remove(key);
+
+            if (current != null && current.hasSameResult(result)) {
+                continue;
+            }
+
+            written++;
+            PriceComparison comparison = todaysComparisons.get(key);
+            if (current != null && current != comparison) {
+                current.setStatus(StatusEnum.INACTIVE.getCode());
+            }
+            if (comparison == null) {
+                comparison = new PriceComparison();
+                comparison.setComparisonDate(today);
+                comparison.setCurrency(key.currency());
+                comparison.setItem(itemRepository.getReferenceById(key.itemId()));
+                comparison.setUser(userRepository.getReferenceById(entry.getValue().getFirst().userId()));
+                newComparisons.add(comparison);
+            }
+            comparison.setStatus(activeStatus);
+            comparison.apply(result, storeRepository.getReferenceById(result.bestStoreId()));
+        }
+
+        // Currencies the item has no observations in anymore
+        activeComparisons.values().forEach(comparison -> comparison.setStatus(StatusEnum.INACTIVE.getCode()));
+
+        priceComparisonRepository.saveAll(newComparisons);
+        log.debug("Recomputed price comparisons of {} items, {} written", itemIds.size(), written);
+        return written + activeComparisons.size();
+    }
+
+    private static PriceComparison newer(PriceComparison first, PriceComparison second) {
+        return second.getComparisonDate().isAfter(first.getComparisonDate()) ? second : first;
+    }
+
+    private record ComparisonKey(Long itemId, CurrencyEnum currency) {
+
+        static ComparisonKey of(PriceComparison comparison) {
+            return new ComparisonKey(comparison.getItem().getId(), comparison.getCurrency());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.viators.personalfinanceapp.pricecomparison;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The most recent observation of an item at one store in one currency, read without building the entity.
+ */
+public record StoreLatestPrice(
+        Long itemId,
+        Long userId,
+        Long storeId,
+        CurrencyEnum currency,
+        BigDecimal price,
+        LocalDate observationDate,
+        Long observationId
+) {
+}
@@ -1,20 +1,32 @@
 package org.viators.personalfinanceapp.pricecomparison.dto.response;
 
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.pricecomparison.PriceComparison;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 public record PriceComparisonSummaryResponse(
         LocalDate comparisonDate,
         String itemName,
-        String bestStoreName
+        String bestStoreName,
+        CurrencyEnum currency,
+        BigDecimal lowestPrice,
+        BigDecimal highestPrice,
+        BigDecimal averagePrice,
+        BigDecimal priceSpread
 ) {
     public static PriceComparisonSummaryResponse from(PriceComparison entity) {
         return new PriceComparisonSummaryResponse(
                 entity.getComparisonDate(),
                 entity.getItem().getName(),
-                entity.getBestStore().getName()
+                entity.getBestStore().getName(),
+                entity.getCurrency(),
+                entity.getLowestPrice(),
+                entity.getHighestPrice(),
+                entity.getAveragePrice(),
+                entity.getPriceSpread()
         );
     }
 
@@ -23,4 +35,4 @@ public record PriceComparisonSummaryResponse(
                 .map(PriceComparisonSummaryResponse::from)
                 .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package org.viators.personalfinanceapp.priceimport;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.priceimport.dto.response.PriceImportJobResponse;
+
+@RestController
+@RequestMapping("/api/v1/price-imports")
+@RequiredArgsConstructor
+@Tag(name = "Price Imports", description = "Importing historical prices from files")
+public class PriceImportController {
+
+    private final PriceImportService priceImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Import historical prices from a file",
+            description = "Accepts CSV (header: item,store,price,currency,observationDate,location[,notes,itemUnit]) " +
+                    "or NDJSON with the same keys. Stores and items are matched by name; missing items are created " +
+                    "when an item unit is given. Processing continues in the background."
+    )
+    @ApiResponse(responseCode = "202", description = "Import accepted, poll the job for progress")
+    @ApiResponse(responseCode = "400", description = "File is empty or its format is unknown")
+    public ResponseEntity<PriceImportJobResponse> startImport(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "CSV or NDJSON, derived from the file extension when omitted")
+            @RequestParam(required = false) FileFormatEnum format) {
+
+        PriceImportJobResponse response = priceImportService.startImport(loggedInUserUuid, file, format);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get progress and error report of an import")
+    @ApiResponse(responseCode = "200", description = "Job found")
+    @ApiResponse(responseCode = "404", description = "Job does not exist, belongs to another user or has expired")
+    public ResponseEntity<PriceImportJobResponse> getJob(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @PathVariable String jobId) {
+
+        return ResponseEntity.ok(priceImportService.getJob(loggedInUserUuid, jobId));
+    }
+}
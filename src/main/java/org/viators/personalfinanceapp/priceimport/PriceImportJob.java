@@ -0,0 +1,83 @@
+package org.viators.personalfinanceapp.priceimport;
+
+import lombok.Getter;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.common.enums.ImportJobStatusEnum;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import. Counters are unbounded, while the error report keeps only the first
+ * {@code maxErrors} entries so memory stays flat for files with millions of bad rows.
+ */
+@Getter
+public class PriceImportJob {
+
+    private final String jobId;
+    private final String userUuid;
+    private final String fileName;
+    private final FileFormatEnum format;
+    private final int maxErrors;
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsFailed = new AtomicLong();
+    private final List<ImportError> errors = new ArrayList<>();
+
+    private volatile ImportJobStatusEnum status = ImportJobStatusEnum.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public PriceImportJob(String jobId, String userUuid, String fileName, FileFormatEnum format, int maxErrors) {
+        this.jobId = jobId;
+        this.userUuid = userUuid;
+        this.fileName = fileName;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    public record ImportError(long lineNumber, String message) {
+    }
+
+    void markRunning() {
+        this.startedAt = Instant.now();
+        this.status = ImportJobStatusEnum.RUNNING;
+    }
+
+    void markFinished(ImportJobStatusEnum finalStatus) {
+        // Status first, pollers treat a finish time as final
+        this.status = finalStatus;
+        this.finishedAt = Instant.now();
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void rowsImported(long count) {
+        rowsImported.addAndGet(count);
+    }
+
+    void rowFailed(long lineNumber, String message) {
+        rowsFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportError(lineNumber, message));
+            }
+        }
+    }
+
+    public List<ImportError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+}
@@ -0,0 +1,43 @@
+package org.viators.personalfinanceapp.priceimport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps import jobs in memory so clients can poll them. Finished jobs are forgotten after the
+ * configured retention; a restart forgets all of them.
+ */
+@Component
+public class PriceImportJobRegistry {
+
+    private final Map<String, PriceImportJob> jobs = new ConcurrentHashMap<>();
+    private final Duration retention;
+
+    public PriceImportJobRegistry(@Value("${price-import.retention:24h}") Duration retention) {
+        this.retention = retention;
+    }
+
+    public void register(PriceImportJob job) {
+        evictExpired();
+        jobs.put(job.getJobId(), job);
+    }
+
+    public PriceImportJob getJobOfUser(String jobId, String userUuid) {
+        PriceImportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserUuid().equals(userUuid)) {
+            throw new ResourceNotFoundException("Import job", "id", jobId);
+        }
+        return job;
+    }
+
+    private void evictExpired() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
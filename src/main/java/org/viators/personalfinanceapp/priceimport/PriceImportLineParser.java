@@ -0,0 +1,156 @@
+package org.viators.personalfinanceapp.priceimport;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns single lines of an import file into {@link PriceImportRow}s. Stateful for CSV, where the
+ * first line is the header; quoted CSV fields must not span lines.
+ */
+class PriceImportLineParser {
+
+    static final List<String> REQUIRED_COLUMNS = List.of("item", "store", "price", "currency", "observationdate", "location");
+
+    private final FileFormatEnum format;
+    private final JsonMapper jsonMapper;
+    private Map<String, Integer> columns;
+
+    PriceImportLineParser(FileFormatEnum format, JsonMapper jsonMapper) {
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * @return true if the line is a CSV header that was consumed rather than a data row
+     */
+    boolean acceptHeader(String line) {
+        if (format != FileFormatEnum.CSV || columns != null) {
+            return false;
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = splitCsvLine(line);
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !header.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+
+        this.columns = header;
+        return true;
+    }
+
+    /**
+     * @throws IllegalArgumentException with a user facing message when the line cannot be read
+     */
+    PriceImportRow parse(String line) {
+        return format == FileFormatEnum.CSV ? parseCsv(line) : parseJson(line);
+    }
+
+    private PriceImportRow parseJson(String line) {
+        try {
+            return jsonMapper.readValue(line, PriceImportRow.class);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private PriceImportRow parseCsv(String line) {
+        List<String> values = splitCsvLine(line);
+
+        try {
+            String price = value(values, "price");
+            String currency = value(values, "currency");
+            String observationDate = value(values, "observationdate");
+            String itemUnit = value(values, "itemunit");
+
+            return new PriceImportRow(
+                    value(values, "item"),
+                    value(values, "store"),
+                    price == null ? null : new BigDecimal(price),
+                    enumValue(CurrencyEnum.class, currency, "Currency"),
+                    observationDate == null ? null : LocalDate.parse(observationDate),
+                    value(values, "location"),
+                    value(values, "notes"),
+                    enumValue(ItemUnitEnum.class, itemUnit, "Item unit")
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Price is not a number");
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Observation date must be formatted as yyyy-MM-dd");
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value, String label) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(label + " '" + value + "' is not supported");
+        }
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+
+        values.add(current.toString());
+        return values;
+    }
+}
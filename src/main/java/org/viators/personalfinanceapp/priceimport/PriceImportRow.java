@@ -0,0 +1,28 @@
+package org.viators.personalfinanceapp.priceimport;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
+import org.viators.personalfinanceapp.priceobservation.dto.request.CreatePriceObservationRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One parsed line of an import file. Items and stores are referenced by name; {@code itemUnit}
+ * is only needed when the item does not exist yet and has to be created.
+ */
+public record PriceImportRow(
+        String item,
+        String store,
+        BigDecimal price,
+        CurrencyEnum currency,
+        LocalDate observationDate,
+        String location,
+        String notes,
+        ItemUnitEnum itemUnit
+) {
+
+    public CreatePriceObservationRequest toCreatePriceObservationRequest(String storeUuid) {
+        return new CreatePriceObservationRequest(price, currency, observationDate, location, notes, storeUuid);
+    }
+}
@@ -0,0 +1,311 @@
+package org.viators.personalfinanceapp.priceimport;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.common.enums.ImportJobStatusEnum;
+import org.viators.personalfinanceapp.common.enums.ImportRowStatusEnum;
+import org.viators.personalfinanceapp.exceptions.BusinessValidationException;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemService;
+import org.viators.personalfinanceapp.item.dto.request.CreateItemRequest;
+import org.viators.personalfinanceapp.priceimport.dto.response.PriceImportJobResponse;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationService;
+import org.viators.personalfinanceapp.priceobservation.dto.request.BulkPriceObservationEntry;
+import org.viators.personalfinanceapp.priceobservation.dto.request.CreatePriceObservationRequest;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationResponse;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationRowResult;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.store.StoreService;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.user.UserService;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Imports historical prices from CSV or NDJSON files.
+ *
+ * <p>The upload is spooled to a temporary file and the request returns immediately with a job id.
+ * A virtual thread then reads the file line by line and commits every {@code chunk-size} rows in
+ * their own transaction through the bulk ingestion path, so neither the file nor the persistence
+ * context grows with the number of rows.</p>
+ */
+@Service
+@Slf4j
+public class PriceImportService {
+
+    private final PriceImportJobRegistry jobRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final int chunkSize;
+    private final int maxErrorsReported;
+    private final Semaphore importSlots;
+
+    // Other Service dependencies
+    private final UserService userService;
+    private final ItemService itemService;
+    private final StoreService storeService;
+    private final PriceObservationService priceObservationService;
+
+    public PriceImportService(PriceImportJobRegistry jobRegistry,
+                              TransactionTemplate transactionTemplate,
+                              Validator validator,
+                              JsonMapper jsonMapper,
+                              UserService userService,
+                              ItemService itemService,
+                              StoreService storeService,
+                              PriceObservationService priceObservationService,
+                              @Value("${price-import.chunk-size:500}") int chunkSize,
+                              @Value("${price-import.max-errors-reported:1000}") int maxErrorsReported,
+                              @Value("${price-import.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        this.jobRegistry = jobRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.userService = userService;
+        this.itemService = itemService;
+        this.storeService = storeService;
+        this.priceObservationService = priceObservationService;
+        this.chunkSize = chunkSize;
+        this.maxErrorsReported = maxErrorsReported;
+        this.importSlots = new Semaphore(maxConcurrentJobs, true);
+    }
+
+    public PriceImportJobResponse startImport(String loggedInUserUuid, MultipartFile file, FileFormatEnum format) {
+        if (file.isEmpty()) {
+            throw new BusinessValidationException("Import file is empty");
+        }
+
+        FileFormatEnum resolvedFormat = format != null
+                ? format
+                : FileFormatEnum.fromFileName(file.getOriginalFilename())
+                .orElseThrow(() -> new BusinessValidationException("Import format could not be derived from the file name, pass it explicitly"));
+
+        // The multipart temp file is removed when the request ends, so keep our own copy on disk
+        Path spooledFile;
+        try {
+            spooledFile = Files.createTempFile("price-import-", resolvedFormat.getFileExtension());
+            file.transferTo(spooledFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file", e);
+        }
+
+        PriceImportJob job = new PriceImportJob(UUID.randomUUID().toString(), loggedInUserUuid,
+                file.getOriginalFilename(), resolvedFormat, maxErrorsReported);
+        jobRegistry.register(job);
+
+        Thread.ofVirtual().name("price-import-" + job.getJobId()).start(() -> run(job, spooledFile));
+        return PriceImportJobResponse.from(job);
+    }
+
+    public PriceImportJobResponse getJob(String loggedInUserUuid, String jobId) {
+        return PriceImportJobResponse.from(jobRegistry.getJobOfUser(jobId, loggedInUserUuid));
+    }
+
+    private void run(PriceImportJob job, Path file) {
+        try {
+            importSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.markFinished(ImportJobStatusEnum.FAILED);
+            deleteQuietly(file);
+            return;
+        }
+
+        job.markRunning();
+        try {
+            readFile(job, file);
+            job.markFinished(ImportJobStatusEnum.COMPLETED);
+        } catch (RuntimeException | IOException e) {
+            log.error("Price import {} stopped after {} rows", job.getJobId(), job.getRowsRead().get(), e);
+            job.rowFailed(0, "Import stopped: " + e.getMessage());
+            job.markFinished(ImportJobStatusEnum.FAILED);
+        } finally {
+            importSlots.release();
+            deleteQuietly(file);
+        }
+
+        log.info("Price import {} finished with status {}: {} read, {} imported, {} failed", job.getJobId(),
+                job.getStatus(), job.getRowsRead().get(), job.getRowsImported().get(), job.getRowsFailed().get());
+    }
+
+    private void readFile(PriceImportJob job, Path file) throws IOException {
+        PriceImportLineParser parser = new PriceImportLineParser(job.getFormat(), jsonMapper);
+        List<NumberedRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                // A bad header makes every following row unreadable, so let it stop the job
+                if (parser.acceptHeader(line)) {
+                    continue;
+                }
+
+                job.rowRead();
+                try {
+                    chunk.add(new NumberedRow(lineNumber, parser.parse(line)));
+                } catch (IllegalArgumentException e) {
+                    job.rowFailed(lineNumber, e.getMessage());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(job, chunk);
+        }
+    }
+
+    private void importChunk(PriceImportJob job, List<NumberedRow> chunk) {
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> importChunkInTransaction(job.getUserUuid(), chunk));
+        } catch (RuntimeException e) {
+            // The whole chunk was rolled back, including items it created
+            log.warn("Price import {} chunk ending at line {} failed", job.getJobId(), chunk.getLast().lineNumber(), e);
+            chunk.forEach(row -> job.rowFailed(row.lineNumber(), "Chunk could not be stored: " + e.getMessage()));
+            return;
+        }
+
+        // Only counted once the chunk is committed, so a failed commit never reports rows as imported
+        job.rowsImported(result.imported());
+        result.failures().forEach(failure -> job.rowFailed(failure.lineNumber(), failure.message()));
+    }
+
+    private ChunkResult importChunkInTransaction(String userUuid, List<NumberedRow> chunk) {
+
+        Set<String> itemNames = new HashSet<>();
+        Set<String> storeNames = new HashSet<>();
+        for (NumberedRow row : chunk) {
+            if (row.row().item() != null) itemNames.add(row.row().item());
+            if (row.row().store() != null) storeNames.add(row.row().store());
+        }
+
+        Map<String, Store> stores = storeService.getActiveStoresByNameThatAreGlobalOrBelongToUser(storeNames, userUuid);
+        Map<String, Item> items = new HashMap<>(itemService.getActiveItemsByName(userUuid, itemNames));
+
+        List<NumberedRow> accepted = new ArrayList<>();
+        List<CreatePriceObservationRequest> requests = new ArrayList<>();
+        List<Item> newItems = new ArrayList<>();
+        List<PriceImportJob.ImportError> failures = new ArrayList<>();
+
+        for (NumberedRow numberedRow : chunk) {
+            PriceImportRow row = numberedRow.row();
+            Store store = row.store() == null ? null : stores.get(row.store());
+            if (store == null) {
+                failures.add(new PriceImportJob.ImportError(numberedRow.lineNumber(),
+                        "Store '" + row.store() + "' was not found for this user"));
+                continue;
+            }
+
+            CreatePriceObservationRequest request = row.toCreatePriceObservationRequest(store.getUuid());
+            Set<ConstraintViolation<CreatePriceObservationRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                failures.add(new PriceImportJob.ImportError(numberedRow.lineNumber(), describe(violations)));
+                continue;
+            }
+
+            if (!items.containsKey(row.item())) {
+                String itemError = validateNewItem(row);
+                if (itemError != null) {
+                    failures.add(new PriceImportJob.ImportError(numberedRow.lineNumber(), itemError));
+                    continue;
+                }
+
+                Item item = new Item();
+                item.setName(row.item());
+                item.setItemUnit(row.itemUnit());
+                items.put(row.item(), item);
+                newItems.add(item);
+            }
+
+            accepted.add(numberedRow);
+            requests.add(request);
+        }
+
+        if (accepted.isEmpty()) {
+            return new ChunkResult(0, failures);
+        }
+
+        if (!newItems.isEmpty()) {
+            User user = userService.findActiveUser(userUuid);
+            itemService.createItemsWithoutPrice(user, newItems);
+        }
+
+        List<BulkPriceObservationEntry> entries = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            entries.add(new BulkPriceObservationEntry(items.get(accepted.get(i).row().item()).getUuid(), requests.get(i)));
+        }
+
+        BulkPriceObservationResponse response = priceObservationService.bulkCreate(userUuid, entries);
+        for (BulkPriceObservationRowResult result : response.results()) {
+            if (result.status() == ImportRowStatusEnum.FAILED) {
+                failures.add(new PriceImportJob.ImportError(accepted.get(result.index()).lineNumber(), result.error()));
+            }
+        }
+        return new ChunkResult(response.created(), failures);
+    }
+
+    // Checked against CreateItemRequest itself, for the fields an import can carry
+    private String validateNewItem(PriceImportRow row) {
+        Set<ConstraintViolation<CreateItemRequest>> violations = new HashSet<>();
+        violations.addAll(validator.validateValue(CreateItemRequest.class, "name", row.item()));
+        violations.addAll(validator.validateValue(CreateItemRequest.class, "itemUnit", row.itemUnit()));
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return "Item '" + row.item() + "' does not exist and cannot be created: " + describe(violations);
+    }
+
+    private static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private record NumberedRow(long lineNumber, PriceImportRow row) {
+    }
+
+    private record ChunkResult(long imported, List<PriceImportJob.ImportError> failures) {
+    }
+}
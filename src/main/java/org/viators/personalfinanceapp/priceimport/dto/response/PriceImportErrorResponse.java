@@ -0,0 +1,16 @@
+package org.viators.personalfinanceapp.priceimport.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.priceimport.PriceImportJob;
+
+@Schema(description = "A rejected row of an import file")
+public record PriceImportErrorResponse(
+        @Schema(description = "1-based line in the file, 0 for errors not tied to a line", example = "42")
+        long lineNumber,
+        String message
+) {
+
+    public static PriceImportErrorResponse from(PriceImportJob.ImportError error) {
+        return new PriceImportErrorResponse(error.lineNumber(), error.message());
+    }
+}
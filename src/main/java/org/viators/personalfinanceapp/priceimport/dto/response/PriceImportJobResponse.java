@@ -0,0 +1,45 @@
+package org.viators.personalfinanceapp.priceimport.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.common.enums.ImportJobStatusEnum;
+import org.viators.personalfinanceapp.priceimport.PriceImportJob;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "Progress and error report of a price import")
+public record PriceImportJobResponse(
+        @Schema(description = "Id to poll the job with", example = "0b5b3c1e-6f0e-4a55-9d0a-3d3f4b6c7a81")
+        String jobId,
+        String fileName,
+        FileFormatEnum format,
+        ImportJobStatusEnum status,
+        long rowsRead,
+        long rowsImported,
+        long rowsFailed,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        @Schema(description = "First rejected rows; the list is capped while rowsFailed keeps counting")
+        List<PriceImportErrorResponse> errors
+) {
+
+    public static PriceImportJobResponse from(PriceImportJob job) {
+        return new PriceImportJobResponse(
+                job.getJobId(),
+                job.getFileName(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getRowsRead().get(),
+                job.getRowsImported().get(),
+                job.getRowsFailed().get(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getErrors().stream()
+                        .map(PriceImportErrorResponse::from)
+                        .toList()
+        );
+    }
+}
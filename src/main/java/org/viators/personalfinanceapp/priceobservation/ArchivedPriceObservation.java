@@ -0,0 +1,85 @@
+package org.viators.personalfinanceapp.priceobservation;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.uuid.UuidStringConverter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A superseded {@link PriceObservation}, moved out of the hot table by {@link PriceObservationArchiver}.
+ *
+ * <p>Rows keep the id, uuid and audit columns they had, so history reads through
+ * {@link PriceObservationHistory} cannot tell them apart from live ones. They are only ever written by the
+ * archiver's insert-select, hence immutable and without a sequence.</p>
+ */
+@Entity
+@Immutable
+@Table(
+        name = "price_observations_archive",
+        indexes = {
+                @Index(name = "idx_price_observation_archive_item_currency_date",
+                        columnList = "item_id, currency, observation_date"),
+                @Index(name = "idx_price_observation_archive_store", columnList = "store_id")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class ArchivedPriceObservation {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "uuid", unique = true, nullable = false)
+    private String uuid;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "created_by", nullable = false)
+    private String createdBy;
+
+    @Column(name = "updated_by")
+    private String updatedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "status", nullable = false, length = 1)
+    private String status;
+
+    @Column(name = "price", nullable = false)
+    private BigDecimal price;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", nullable = false)
+    private CurrencyEnum currency;
+
+    @Column(name = "observation_date", nullable = false)
+    private LocalDate observationDate;
+
+    @Column(name = "location", nullable = false)
+    private String location;
+
+    @Column(name = "notes", length = 400)
+    private String notes;
+
+    // Plain ids, the archive is mostly read through PriceObservationHistory, which maps the associations
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
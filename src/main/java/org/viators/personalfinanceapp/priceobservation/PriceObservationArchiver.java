@@ -0,0 +1,94 @@
+package org.viators.personalfinanceapp.priceobservation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves superseded observations out of {@code price_observations} into {@code price_observations_archive}.
+ *
+ * <p>Every price change leaves the previous observation inactive, so the hot table would otherwise grow with
+ * the whole history. Observations inactive for longer than the minimum age are copied and deleted in batches,
+ * one transaction per batch, so a failed run leaves every row in exactly one of the two tables. History reads
+ * go through {@link PriceObservationHistory} and still see them. Only one run at a time.</p>
+ */
+@Component
+@Slf4j
+public class PriceObservationArchiver {
+
+    private final PriceObservationRepository priceObservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PriceObservationArchiver(PriceObservationRepository priceObservationRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${price-observation-archive.min-age:90d}") Duration minAge,
+                                    @Value("${price-observation-archive.batch-size:1000}") int batchSize) {
+        this.priceObservationRepository = priceObservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${price-observation-archive.cron:0 30 3 * * *}")
+    public void archiveScheduled() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Skipping scheduled price observation archiving, another run is in progress");
+            return;
+        }
+
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            log.error("Price observation archiving failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Archives every observation that was inactive for longer than the minimum age when the run started.
+     *
+     * @return the number of observations moved
+     */
+    public long archive() {
+        long started = System.currentTimeMillis();
+        Instant runStarted = Instant.now();
+        Instant cutoff = runStarted.minus(minAge);
+        long archived = 0;
+        int moved;
+
+        do {
+            Integer batch = transactionTemplate.execute(status -> archiveBatch(cutoff, runStarted));
+            moved = batch != null ? batch : 0;
+            archived += moved;
+        } while (moved == batchSize);
+
+        log.info("Price observation archiving finished: {} observations older than {} archived in {} ms",
+                archived, cutoff, System.currentTimeMillis() - started);
+        return archived;
+    }
+
+    private int archiveBatch(Instant cutoff, Instant archivedAt) {
+        List<Long> ids = priceObservationRepository.findArchivableIds(StatusEnum.INACTIVE.getCode(), cutoff,
+                Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        priceObservationRepository.copyToArchive(ids, archivedAt);
+        priceObservationRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,67 @@
+package org.viators.personalfinanceapp.priceobservation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.priceobservation.dto.request.BulkCreatePriceObservationRequest;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationResponse;
+
+@RestController
+@RequestMapping("/api/v1/price-observations")
+@RequiredArgsConstructor
+@Tag(name = "Price Observations", description = "Recording and reading observed prices")
+public class PriceObservationController {
+
+    private final PriceObservationService priceObservationService;
+
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Record many price observations at once",
+            description = "Stores up to 5000 observations across the user's items in one call. " +
+                    "Rows that fail validation or reference unknown items or stores are reported and skipped."
+    )
+    @ApiResponse(responseCode = "200", description = "Request processed, see per-row results")
+    @ApiResponse(responseCode = "400", description = "Request is empty or too large")
+    public ResponseEntity<BulkPriceObservationResponse> bulkCreate(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @Valid @RequestBody BulkCreatePriceObservationRequest request) {
+
+        BulkPriceObservationResponse response = priceObservationService.bulkCreate(loggedInUserUuid, request.observations());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export the whole price history",
+            description = "Streams every price observation of the user's items, oldest first, as CSV or NDJSON. " +
+                    "The response is written while the database is scrolled, so it starts immediately."
+    )
+    @ApiResponse(responseCode = "200", description = "Export is being streamed")
+    public ResponseEntity<StreamingResponseBody> exportPriceHistory(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid,
+            @Parameter(description = "CSV or NDJSON")
+            @RequestParam(defaultValue = "CSV") FileFormatEnum format) {
+
+        StreamingResponseBody body = outputStream ->
+                priceObservationService.exportPriceHistory(loggedInUserUuid, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("price-history" + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
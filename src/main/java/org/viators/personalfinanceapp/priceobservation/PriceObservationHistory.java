@@ -0,0 +1,72 @@
+package org.viators.personalfinanceapp.priceobservation;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.uuid.UuidStringConverter;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.store.Store;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only view over every observation ever recorded: the live ones in {@code price_observations} and the
+ * superseded ones the archiver moved to {@code price_observations_archive}.
+ *
+ * <p>History reads go through this entity so archiving never shortens a price history. Both tables carry
+ * the same indexes, and the item, date and currency predicates are pushed into each side of the union.
+ * Writes always go to {@link PriceObservation}.</p>
+ */
+@Entity
+@Immutable
+@Subselect("""
+        select id, uuid, status, price, currency, observation_date, location, notes, item_id, store_id
+        from price_observations
+        union all
+        select id, uuid, status, price, currency, observation_date, location, notes, item_id, store_id
+        from price_observations_archive
+        """)
+@Synchronize({"price_observations", "price_observations_archive"})
+@Getter
+@NoArgsConstructor
+public class PriceObservationHistory {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "uuid")
+    private String uuid;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "price")
+    private BigDecimal price;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency")
+    private CurrencyEnum currency;
+
+    @Column(name = "observation_date")
+    private LocalDate observationDate;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "notes")
+    private String notes;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id")
+    private Item item;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id")
+    private Store store;
+}
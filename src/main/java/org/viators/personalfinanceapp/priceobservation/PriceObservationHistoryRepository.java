@@ -0,0 +1,63 @@
+package org.viators.personalfinanceapp.priceobservation;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationExportRow;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * History reads over live and archived observations alike, see {@link PriceObservationHistory}.
+ */
+public interface PriceObservationHistoryRepository extends Repository<PriceObservationHistory, Long>,
+        JpaSpecificationExecutor<PriceObservationHistory> {
+
+    @Override
+    @EntityGraph(attributePaths = {"item", "store"})
+    Page<PriceObservationHistory> findAll(Specification<PriceObservationHistory> spec, Pageable pageable);
+
+    @Query("""
+            select po from PriceObservationHistory po
+            where po.item.uuid = :itemUuid
+            and po.currency = :currency
+            and po.observationDate between :startDate and :endDate
+            order by po.observationDate asc
+            """)
+    List<PriceObservationHistory> getAllPricesForItemBasedOnCurrencyAndDateRange(@Param("itemUuid") String itemUuid,
+                                                                                 @Param("currency") CurrencyEnum currency,
+                                                                                 @Param("startDate") LocalDate startDate,
+                                                                                 @Param("endDate") LocalDate endDate);
+
+    /**
+     * Forward-only scroll over every observation of the user's items. Must be consumed inside a
+     * transaction and closed; rows are fetched from the driver in batches of the fetch size.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationExportRow(
+                i.uuid, i.name, s.uuid, s.name, po.price, po.currency, po.observationDate, po.location, po.notes, po.status
+            )
+            FROM PriceObservationHistory po
+            JOIN po.item i
+            JOIN po.store s
+            WHERE i.user.uuid = :userUuid
+            ORDER BY po.observationDate ASC, po.id ASC
+            """)
+    Stream<PriceObservationExportRow> streamAllForUser(@Param("userUuid") String userUuid);
+}
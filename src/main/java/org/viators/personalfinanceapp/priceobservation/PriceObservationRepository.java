@@ -1,19 +1,21 @@
 package org.viators.personalfinanceapp.priceobservation;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface PriceObservationRepository extends JpaRepository<PriceObservation, Long>,
@@ -23,23 +25,66 @@ public interface PriceObservationRepository extends JpaRepository<PriceObservati
     @EntityGraph(attributePaths = {"item", "store"})
     Page<PriceObservation> findAll(Specification<PriceObservation> spec, Pageable pageable);
 
+    /**
+     * Marks the still-active observations of the item dated on or before {@code observationDate} as inactive
+     * in a single statement, so a newer current price is never superseded. Works on the item id (FK index)
+     * and tolerates legacy data with more than one active row. Bumps the version and sets the auditor
+     * itself, as bulk updates bypass both.
+     */
+    @Modifying(flushAutomatically = true)
     @Query("""
-            select po from PriceObservation po
-            where po.item.uuid = :uuid
-            and po.status = :status
+            update PriceObservation po
+            set po.status = :inactiveStatus, po.updatedAt = :now, po.updatedBy = :updatedBy,
+                po.version = po.version + 1
+            where po.item.id = :itemId
+            and po.status = :activeStatus
+            and po.observationDate <= :observationDate
             """)
-    Optional<PriceObservation> findLastActivePriceObservation(@Param("uuid") String uuid,
-                                                              @Param("status") String status);
+    int deactivateActivePriceObservations(@Param("itemId") Long itemId,
+                                          @Param("observationDate") LocalDate observationDate,
+                                          @Param("activeStatus") String activeStatus,
+                                          @Param("inactiveStatus") String inactiveStatus,
+                                          @Param("updatedBy") String updatedBy,
+                                          @Param("now") Instant now);
 
+    /**
+     * Set-based variant of {@link #deactivateActivePriceObservations}, bounded by each item's current price
+     * date. The items' new current prices must be set before the call; the automatic flush writes them first.
+     */
+    @Modifying(flushAutomatically = true)
     @Query("""
-            select po from PriceObservation po
-            where po.item.uuid = :itemUuid
-            and po.currency = :currency
-            and po.observationDate between :startDate and :endDate
-            order by po.observationDate asc
+            update PriceObservation po
+            set po.status = :inactiveStatus, po.updatedAt = :now, po.updatedBy = :updatedBy,
+                po.version = po.version + 1
+            where po.item.id in :itemIds
+            and po.status = :activeStatus
+            and po.observationDate <= (select i.currentPriceDate from Item i where i.id = po.item.id)
             """)
-    List<PriceObservation> getAllPricesForItemBasedOnCurrencyAndDateRange(@Param("itemUuid") String itemUuid,
-                                                                          @Param("currency") CurrencyEnum currency,
-                                                                          @Param("startDate")LocalDate startDate,
-                                                                          @Param("endDate") LocalDate endDate);
+    int deactivateActivePriceObservationsForItems(@Param("itemIds") Collection<Long> itemIds,
+                                                  @Param("activeStatus") String activeStatus,
+                                                  @Param("inactiveStatus") String inactiveStatus,
+                                                  @Param("updatedBy") String updatedBy,
+                                                  @Param("now") Instant now);
+
+    /**
+     * Ids of observations that stopped being the current price before {@code cutoff}, oldest ids first.
+     */
+    @Query("""
+            select po.id from PriceObservation po
+            where po.status = :status
+            and po.updatedAt < :cutoff
+            order by po.id
+            """)
+    List<Long> findArchivableIds(@Param("status") String status, @Param("cutoff") Instant cutoff, Limit limit);
+
+    @Modifying
+    @Query("""
+            insert into ArchivedPriceObservation (id, uuid, version, createdBy, updatedBy, createdAt, updatedAt, status,
+                price, currency, observationDate, location, notes, itemId, storeId, archivedAt)
+            select po.id, po.uuid, po.version, po.createdBy, po.updatedBy, po.createdAt, po.updatedAt, po.status,
+                po.price, po.currency, po.observationDate, po.location, po.notes, po.item.id, po.store.id, :archivedAt
+            from PriceObservation po
+            where po.id in :ids
+            """)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
 }
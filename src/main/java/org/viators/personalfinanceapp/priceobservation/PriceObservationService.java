@@ -1,40 +1,288 @@
 package org.viators.personalfinanceapp.priceobservation;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.common.enums.OwnedResourceTypeEnum;
 import org.viators.personalfinanceapp.common.enums.StatusEnum;
-import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+import org.viators.personalfinanceapp.common.pagination.CursorTokens;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.pricealert.PriceAlertEvaluator;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonRefresher;
+import org.viators.personalfinanceapp.priceobservation.dto.request.BulkPriceObservationEntry;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationResponse;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationRowResult;
+import org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationExportRow;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupService;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+import org.viators.personalfinanceapp.security.OwnershipResult;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListTotalRefresher;
+import org.viators.personalfinanceapp.store.StoreService;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
+import org.viators.personalfinanceapp.userevent.dto.response.PriceRecordedEvent;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PriceObservationService {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    private static final Sort NEWEST_FIRST_KEYSET = Sort.by(Sort.Direction.DESC, "observationDate", "id");
+    // Auditing listeners do not run for bulk updates, so the auditor is resolved like they would
+    private static final String SYSTEM_AUDITOR = "system";
+
     private final PriceObservationRepository priceObservationRepository;
+    // Live and archived observations, for every read of the price history
+    private final PriceObservationHistoryRepository priceObservationHistoryRepository;
+    // ItemService depends on this service, so items are resolved through the repository
+    private final ItemRepository itemRepository;
+
+    // Other Service dependencies
+    private final StoreService storeService;
+    private final PriceRollupService priceRollupService;
+    private final PriceComparisonRefresher priceComparisonRefresher;
+    private final PriceAlertEvaluator priceAlertEvaluator;
+    private final ShoppingListTotalRefresher shoppingListTotalRefresher;
+    private final OwnershipAuthorizationService ownershipAuthorizationService;
+    private final UserEventPublisher userEventPublisher;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final AuditorAware<String> auditorAware;
+
+    /**
+     * Deactivates the item's active observations dated on or before {@code observationDate}, the date of
+     * the observation about to become its current price.
+     */
+    public int deactivateActivePriceObservations(Long itemId, LocalDate observationDate) {
+        return priceObservationRepository.deactivateActivePriceObservations(itemId, observationDate,
+                StatusEnum.ACTIVE.getCode(), StatusEnum.INACTIVE.getCode(), currentAuditor(), Instant.now());
+    }
+
+    public Page<PriceObservationHistory> getPriceObservationsBasedOnDateRange(Specification<PriceObservationHistory> specs,
+                                                                              Pageable pageable) {
+        return priceObservationHistoryRepository.findAll(specs, pageable);
+    }
+
+    /**
+     * Keyset scroll over observations, newest first. Item and store are fetched with the rows,
+     * as in the paged variant.
+     */
+    public Window<PriceObservationHistory> scrollPriceObservations(Specification<PriceObservationHistory> specs,
+                                                                   String cursor, int size) {
+        return priceObservationHistoryRepository.findBy(specs, query -> query
+                .project("item", "store")
+                .sortBy(NEWEST_FIRST_KEYSET)
+                .limit(CursorTokens.clampSize(size))
+                .scroll(CursorTokens.decode(cursor)));
+    }
+
+    public List<PriceObservationHistory> getAllPricesForItemBasedOnCurrencyAndDateRange(String itemUuid,
+                                                                                        CurrencyEnum currency,
+                                                                                        LocalDate startDate,
+                                                                                        LocalDate endDate) {
+
+        return priceObservationHistoryRepository.getAllPricesForItemBasedOnCurrencyAndDateRange(itemUuid, currency, startDate, endDate);
+    }
+
+    /**
+     * Records many observations across many items of the user in one transaction.
+     *
+     * <p>Ownership of items and stores is checked with one id-only query each, rows are inserted in JDBC
+     * batches and rollups are updated set-based. Invalid rows, unknown or foreign items and unknown or
+     * foreign stores are reported per row and skipped; the remaining rows are stored. Per item, only the most recent observation
+     * of the request can become the current price, mirroring the single update-price flow.</p>
+     */
+    @Transactional
+    public BulkPriceObservationResponse bulkCreate(String loggedInUserUuid, List<BulkPriceObservationEntry> entries) {
+        BulkPriceObservationRowResult[] results = new BulkPriceObservationRowResult[entries.size()];
+        List<Integer> validRows = new ArrayList<>();
+
+        for (int i = 0; i < entries.size(); i++) {
+            BulkPriceObservationEntry entry = entries.get(i);
+            if (entry == null) {
+                results[i] = BulkPriceObservationRowResult.failed(i, null, "Row is empty");
+                continue;
+            }
+
+            Set<ConstraintViolation<BulkPriceObservationEntry>> violations = validator.validate(entry);
+            if (violations.isEmpty()) {
+                validRows.add(i);
+            } else {
+                results[i] = BulkPriceObservationRowResult.failed(i, entry.itemUuid(), describe(violations));
+            }
+        }
+
+        Set<String> itemUuids = new HashSet<>();
+        Set<String> storeUuids = new HashSet<>();
+        for (int i : validRows) {
+            itemUuids.add(entries.get(i).itemUuid());
+            storeUuids.add(entries.get(i).priceObservation().storeUuid());
+        }
+
+        // Ownership is settled from ids alone; only owned items are loaded, stores are attached as references
+        Map<String, OwnershipResult> itemOwnership = ownershipAuthorizationService.verifyOwnership(
+                loggedInUserUuid, OwnedResourceTypeEnum.ITEM, itemUuids, false);
+        Map<String, OwnershipResult> storeOwnership = ownershipAuthorizationService.verifyOwnership(
+                loggedInUserUuid, OwnedResourceTypeEnum.STORE, storeUuids, true);
+        Map<Long, Item> items = itemRepository.findAllById(itemOwnership.values().stream()
+                        .filter(OwnershipResult::isOwned)
+                        .map(OwnershipResult::id)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        Map<Integer, PriceObservation> rowsToInsert = new LinkedHashMap<>();
+        Map<Long, PriceObservation> latestPerItem = new LinkedHashMap<>();
 
-    public PriceObservation getItemLatestPriceObservation(String itemUuid) {
-        return priceObservationRepository.findLastActivePriceObservation(itemUuid, StatusEnum.ACTIVE.getCode())
-                .orElseThrow(() -> new ResourceNotFoundException("No active price found for this item"));
+        for (int i : validRows) {
+            BulkPriceObservationEntry entry = entries.get(i);
+            OwnershipResult itemResult = itemOwnership.get(entry.itemUuid());
+            OwnershipResult storeResult = storeOwnership.get(entry.priceObservation().storeUuid());
+
+            String ownershipError = describe("Item", itemResult);
+            if (ownershipError == null) {
+                ownershipError = describe("Store", storeResult);
+            }
+            if (ownershipError != null) {
+                results[i] = BulkPriceObservationRowResult.failed(i, entry.itemUuid(), ownershipError);
+                continue;
+            }
+
+            PriceObservation priceObservation = entry.priceObservation().toEntity();
+            priceObservation.setItem(items.get(itemResult.id()));
+            priceObservation.setStore(storeService.getStoreReference(storeResult.id()));
+            priceObservation.setStatus(StatusEnum.INACTIVE.getCode());
+            rowsToInsert.put(i, priceObservation);
+
+            // Later rows win ties, like consecutive update-price calls would
+            latestPerItem.merge(itemResult.id(), priceObservation, (current, candidate) ->
+                    candidate.getObservationDate().isBefore(current.getObservationDate()) ? current : candidate);
+        }
+
+        List<Long> promotedItemIds = new ArrayList<>();
+        List<CurrentPriceChange> currentPriceChanges = new ArrayList<>();
+        latestPerItem.forEach((itemId, latest) -> {
+            Item item = latest.getItem();
+            BigDecimal previousPrice = item.getCurrentPrice();
+            CurrencyEnum previousCurrency = item.getCurrentPriceCurrency();
+
+            if (item.refreshCurrentPrice(latest)) {
+                latest.setStatus(StatusEnum.ACTIVE.getCode());
+                promotedItemIds.add(itemId);
+                currentPriceChanges.add(new CurrentPriceChange(latest, previousPrice, previousCurrency));
+            }
+        });
+
+        if (!promotedItemIds.isEmpty()) {
+            priceObservationRepository.deactivateActivePriceObservationsForItems(promotedItemIds,
+                    StatusEnum.ACTIVE.getCode(), StatusEnum.INACTIVE.getCode(), currentAuditor(), Instant.now());
+        }
+
+        priceObservationRepository.saveAll(rowsToInsert.values());
+        priceRollupService.recordObservations(rowsToInsert.values());
+        priceComparisonRefresher.recomputeAfterCommit(latestPerItem.keySet());
+        currentPriceChanges.forEach(change -> priceAlertEvaluator.evaluate(change.priceObservation().getItem().getId(),
+                change.previousPrice(), change.previousCurrency(), change.priceObservation()));
+        shoppingListTotalRefresher.refreshForItems(promotedItemIds);
+        // One event per item whose current price moved, not per row, so large imports do not flood the streams
+        currentPriceChanges.forEach(change -> userEventPublisher.publishAfterCommit(loggedInUserUuid,
+                UserEventTypeEnum.PRICE_RECORDED, () -> PriceRecordedEvent.from(change.priceObservation())));
+
+        rowsToInsert.forEach((i, priceObservation) -> results[i] = BulkPriceObservationRowResult.created(
+                i, priceObservation.getItem().getUuid(), priceObservation.getUuid()));
+
+        log.debug("Bulk price observations: {} received, {} stored", entries.size(), rowsToInsert.size());
+        return BulkPriceObservationResponse.from(Arrays.asList(results));
     }
 
-    public Page<PriceObservation> getPriceObservationsBasedOnDateRange(Specification<PriceObservation> specs, Pageable pageable) {
-        return priceObservationRepository.findAll(specs, pageable);
+    /**
+     * Writes the user's whole price history to {@code outputStream} while scrolling the database
+     * cursor, so memory use is independent of the history size. Intended to be called from a
+     * {@code StreamingResponseBody}; the transaction keeps the cursor open for the duration.
+     */
+    @Transactional(readOnly = true)
+    public void exportPriceHistory(String loggedInUserUuid, FileFormatEnum format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        long rows = 0;
+
+        if (format == FileFormatEnum.CSV) {
+            writer.write(PriceObservationExportRow.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<PriceObservationExportRow> stream = priceObservationHistoryRepository.streamAllForUser(loggedInUserUuid)) {
+            Iterator<PriceObservationExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                PriceObservationExportRow row = iterator.next();
+                writer.write(format == FileFormatEnum.CSV ? row.toCsvLine() : jsonMapper.writeValueAsString(row));
+                writer.write('\n');
+
+                // Push data to the client regularly instead of only when the buffer fills up
+                if (++rows % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.debug("Exported {} price observations of user {}", rows, loggedInUserUuid);
     }
 
-    public List<PriceObservation> getAllPricesForItemBasedOnCurrencyAndDateRange(String itemUuid,
-                                                                                 CurrencyEnum currency,
-                                                                                 LocalDate startDate,
-                                                                                 LocalDate endDate) {
+    private record CurrentPriceChange(PriceObservation priceObservation, BigDecimal previousPrice,
+                                      CurrencyEnum previousCurrency) {
+    }
+
+    private String currentAuditor() {
+        return auditorAware.getCurrentAuditor().orElse(SYSTEM_AUDITOR);
+    }
 
-        return priceObservationRepository.getAllPricesForItemBasedOnCurrencyAndDateRange(itemUuid, currency, startDate, endDate);
+    private static String describe(String resourceName, OwnershipResult result) {
+        return switch (result.status()) {
+            case OWNED -> null;
+            case FOREIGN -> resourceName + " belongs to another user";
+            case MISSING -> resourceName + " was not found";
+        };
     }
 
+    private static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
 }
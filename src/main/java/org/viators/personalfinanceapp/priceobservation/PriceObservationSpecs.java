@@ -10,64 +10,73 @@ import org.viators.personalfinanceapp.store.Store;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * Specifications over the attributes {@link PriceObservation} and {@link PriceObservationHistory} share,
+ * typed by the entity the query runs on.
+ */
 public class PriceObservationSpecs {
 
     private PriceObservationSpecs() {}
 
-    public static Specification<PriceObservation> hasItemUuid(String itemUuid) {
+    public static <T> Specification<T> hasItemUuid(String itemUuid) {
         return ((root, query, cd) ->
                 cd.equal(root.get("item").get("uuid"), itemUuid));
     }
 
-    public static Specification<PriceObservation> dateFrom(LocalDate dateFrom) {
+    public static <T> Specification<T> belongsToUser(String userUuid) {
+        return (root, query, cb) ->
+                cb.equal(root.get("item").get("user").get("uuid"), userUuid);
+    }
+
+    public static <T> Specification<T> dateFrom(LocalDate dateFrom) {
         return (root, query, cb) ->
                 cb.greaterThanOrEqualTo(root.get("observationDate"), dateFrom);
     }
 
-    public static Specification<PriceObservation> dateTo(LocalDate dateTo) {
+    public static <T> Specification<T> dateTo(LocalDate dateTo) {
         return ((root, query, cb) ->
                 cb.lessThanOrEqualTo(root.get("observationDate"), dateTo));
     }
 
-    public static Specification<PriceObservation> hasStoreUuid(String storeUuid) {
+    public static <T> Specification<T> hasStoreUuid(String storeUuid) {
         return (root, query, cb) ->
                 cb.equal(root.get("store").get("uuid"), storeUuid);
     }
 
-    public static Specification<PriceObservation> hasStoreType(StoreTypeEnum storeType) {
+    public static <T> Specification<T> hasStoreType(StoreTypeEnum storeType) {
         return (root, query, cb) ->
                 cb.equal(root.get("store").get("storeType"), storeType);
     }
 
-    public static Specification<PriceObservation> hasStoreName(String storeName) {
+    public static <T> Specification<T> hasStoreName(String storeName) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get("store").get("name"), storeName);
     }
 
-    public static Specification<PriceObservation> hasStoreNameExplicit(String storeName) {
+    public static <T> Specification<T> hasStoreNameExplicit(String storeName) {
         return (root, query, criteriaBuilder) -> {
             // Will return PriceObservations even if store is null
-            Join<PriceObservation, Store> storeJoin = root.join("store", JoinType.LEFT);
+            Join<T, Store> storeJoin = root.join("store", JoinType.LEFT);
             return criteriaBuilder.equal(storeJoin.get("name"), storeName);
         };
     }
 
-    public static Specification<PriceObservation> inCity(String city) {
+    public static <T> Specification<T> inCity(String city) {
         return (root, query, cb) ->
                 cb.equal(root.get("store").get("city"), city);
     }
 
-    public static Specification<PriceObservation> hasCurrency(CurrencyEnum currency) {
+    public static <T> Specification<T> hasCurrency(CurrencyEnum currency) {
         return (root, query, cb) ->
                 cb.equal(root.get("currency"), currency);
     }
 
-    public static Specification<PriceObservation> hasMinPrice(BigDecimal minPrice) {
+    public static <T> Specification<T> hasMinPrice(BigDecimal minPrice) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.greaterThanOrEqualTo(root.get("price"), minPrice);
     }
 
-    public static Specification<PriceObservation> priceBetween(BigDecimal startsPrice, BigDecimal endPrice) {
+    public static <T> Specification<T> priceBetween(BigDecimal startsPrice, BigDecimal endPrice) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.between(root.get("price"), startsPrice, endPrice);
     }
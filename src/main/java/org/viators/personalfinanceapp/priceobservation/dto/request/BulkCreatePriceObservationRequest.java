@@ -0,0 +1,19 @@
+package org.viators.personalfinanceapp.priceobservation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Entries are deliberately not cascaded with {@code @Valid}: each one is validated on its own
+ * so that a bad row is reported instead of rejecting the whole request.
+ */
+@Schema(description = "Many price observations, possibly across many items, recorded in one call")
+public record BulkCreatePriceObservationRequest(
+        @NotEmpty(message = "At least one observation is required")
+        @Size(max = 5000, message = "At most 5000 observations can be sent at once")
+        List<BulkPriceObservationEntry> observations
+) {
+}
@@ -0,0 +1,19 @@
+package org.viators.personalfinanceapp.priceobservation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "One price observation of a bulk request, targeting an item of the logged in user")
+public record BulkPriceObservationEntry(
+        @NotBlank(message = "Item is required")
+        @Schema(description = "UUID of the item the price belongs to",
+                example = "b7e2c1d4-2f3a-4b5c-8d9e-0f1a2b3c4d5e")
+        String itemUuid,
+
+        @NotNull(message = "Price observation is required")
+        @Valid
+        CreatePriceObservationRequest priceObservation
+) {
+}
@@ -0,0 +1,23 @@
+package org.viators.personalfinanceapp.priceobservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.common.enums.ImportRowStatusEnum;
+
+import java.util.List;
+
+@Schema(description = "Summary and per-row outcome of a bulk price observation request")
+public record BulkPriceObservationResponse(
+        int received,
+        int created,
+        int failed,
+        List<BulkPriceObservationRowResult> results
+) {
+
+    public static BulkPriceObservationResponse from(List<BulkPriceObservationRowResult> results) {
+        int created = (int) results.stream()
+                .filter(result -> result.status() == ImportRowStatusEnum.CREATED)
+                .count();
+
+        return new BulkPriceObservationResponse(results.size(), created, results.size() - created, results);
+    }
+}
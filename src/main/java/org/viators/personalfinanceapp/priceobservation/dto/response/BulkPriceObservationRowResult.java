@@ -0,0 +1,25 @@
+package org.viators.personalfinanceapp.priceobservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.common.enums.ImportRowStatusEnum;
+
+@Schema(description = "Outcome of one row of a bulk request")
+public record BulkPriceObservationRowResult(
+        @Schema(description = "Zero-based position of the row in the request", example = "0")
+        int index,
+        ImportRowStatusEnum status,
+        String itemUuid,
+        @Schema(description = "UUID of the stored observation, when created", nullable = true)
+        String priceObservationUuid,
+        @Schema(description = "Why the row was rejected, when failed", nullable = true)
+        String error
+) {
+
+    public static BulkPriceObservationRowResult created(int index, String itemUuid, String priceObservationUuid) {
+        return new BulkPriceObservationRowResult(index, ImportRowStatusEnum.CREATED, itemUuid, priceObservationUuid, null);
+    }
+
+    public static BulkPriceObservationRowResult failed(int index, String itemUuid, String error) {
+        return new BulkPriceObservationRowResult(index, ImportRowStatusEnum.FAILED, itemUuid, null, error);
+    }
+}
@@ -0,0 +1,51 @@
+package org.viators.personalfinanceapp.priceobservation.dto.response;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only view of a price observation used by the history export. Built by a JPQL
+ * constructor expression, so rows never become managed entities.
+ */
+public record PriceObservationExportRow(
+        String itemUuid,
+        String itemName,
+        String storeUuid,
+        String storeName,
+        BigDecimal price,
+        CurrencyEnum currency,
+        LocalDate observationDate,
+        String location,
+        String notes,
+        String status
+) {
+
+    public static final String CSV_HEADER =
+            "itemUuid,item,storeUuid,store,price,currency,observationDate,location,notes,status";
+
+    public String toCsvLine() {
+        return String.join(",",
+                csv(itemUuid),
+                csv(itemName),
+                csv(storeUuid),
+                csv(storeName),
+                price.toPlainString(),
+                currency.name(),
+                observationDate.toString(),
+                csv(location),
+                csv(notes),
+                status);
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -3,6 +3,7 @@ package org.viators.personalfinanceapp.priceobservation.dto.response;
 import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
 import org.viators.personalfinanceapp.store.dto.response.StoreSummaryResponse;
 import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationHistory;
 import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.common.enums.StatusEnum;
 
@@ -31,6 +32,18 @@ public record PriceObservationSummaryResponse(
         );
     }
 
+    public static PriceObservationSummaryResponse from(PriceObservationHistory priceObservation) {
+        return new PriceObservationSummaryResponse(
+                priceObservation.getPrice(),
+                priceObservation.getCurrency(),
+                priceObservation.getObservationDate(),
+                priceObservation.getLocation(),
+                StatusEnum.getStatusFromCode(priceObservation.getStatus()),
+                StoreSummaryResponse.from(priceObservation.getStore()),
+                ItemSummaryResponse.from(priceObservation.getItem())
+        );
+    }
+
     public static List<PriceObservationSummaryResponse> listOfSummaries(List<PriceObservation> priceObservations) {
         return priceObservations.stream()
                 .map(PriceObservationSummaryResponse::from)
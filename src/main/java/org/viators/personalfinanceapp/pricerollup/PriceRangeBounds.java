@@ -0,0 +1,12 @@
+package org.viators.personalfinanceapp.pricerollup;
+
+import java.math.BigDecimal;
+
+/**
+ * Earliest and latest observed price of an item inside a date range.
+ */
+public record PriceRangeBounds(
+        BigDecimal startPrice,
+        BigDecimal endPrice
+) {
+}
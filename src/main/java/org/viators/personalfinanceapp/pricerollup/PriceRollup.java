@@ -0,0 +1,120 @@
+package org.viators.personalfinanceapp.pricerollup;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.viators.personalfinanceapp.common.BaseEntity;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.store.Store;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated price statistics of one item, at one store, in one currency, for one time bucket.
+ *
+ * <p>Rows are maintained incrementally on every new {@code PriceObservation}, so history and
+ * inflation queries over wide ranges read a handful of buckets instead of every raw observation.</p>
+ */
+@Entity
+@Table(
+        name = "price_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_price_rollup_bucket",
+                columnNames = {"item_id", "store_id", "currency", "bucket_type", "bucket_start"}
+        ),
+        indexes = {
+                @Index(name = "idx_price_rollup_item_range", columnList = "item_id, currency, bucket_type, bucket_start"),
+                @Index(name = "idx_price_rollup_updated", columnList = "bucket_type, updated_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRollup extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket_type", nullable = false, length = 10)
+    private RollupBucketEnum bucketType;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", nullable = false)
+    private CurrencyEnum currency;
+
+    @Column(name = "min_price", nullable = false)
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price", nullable = false)
+    private BigDecimal maxPrice;
+
+    @Column(name = "first_price", nullable = false)
+    private BigDecimal firstPrice;
+
+    @Column(name = "first_observation_date", nullable = false)
+    private LocalDate firstObservationDate;
+
+    @Column(name = "last_price", nullable = false)
+    private BigDecimal lastPrice;
+
+    @Column(name = "last_observation_date", nullable = false)
+    private LocalDate lastObservationDate;
+
+    @Column(name = "observation_count", nullable = false)
+    private Long observationCount;
+
+    @Column(name = "price_sum", nullable = false)
+    private BigDecimal priceSum;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false, updatable = false)
+    private Item item;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false, updatable = false)
+    private Store store;
+
+    public static PriceRollup open(Item item, Store store, CurrencyEnum currency, RollupBucketEnum bucketType,
+                                   BigDecimal price, LocalDate observationDate) {
+        PriceRollup rollup = new PriceRollup();
+        rollup.setItem(item);
+        rollup.setStore(store);
+        rollup.setCurrency(currency);
+        rollup.setBucketType(bucketType);
+        rollup.setBucketStart(bucketType.bucketStart(observationDate));
+        rollup.setMinPrice(price);
+        rollup.setMaxPrice(price);
+        rollup.setFirstPrice(price);
+        rollup.setFirstObservationDate(observationDate);
+        rollup.setLastPrice(price);
+        rollup.setLastObservationDate(observationDate);
+        rollup.setObservationCount(1L);
+        rollup.setPriceSum(price);
+        return rollup;
+    }
+
+    // Helper methods
+    public void include(BigDecimal price, LocalDate observationDate) {
+        this.minPrice = minPrice.min(price);
+        this.maxPrice = maxPrice.max(price);
+        this.observationCount = observationCount + 1;
+        this.priceSum = priceSum.add(price);
+
+        if (observationDate.isBefore(firstObservationDate)) {
+            this.firstPrice = price;
+            this.firstObservationDate = observationDate;
+        }
+        // Same-day observations arrive in recording order, so the newest one becomes the last price
+        if (!observationDate.isBefore(lastObservationDate)) {
+            this.lastPrice = price;
+            this.lastObservationDate = observationDate;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.viators.personalfinanceapp.pricerollup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.viators.personalfinanceapp.exceptions.InvalidStateException;
+import org.viators.personalfinanceapp.item.ItemRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rebuilds price rollups from raw observations, one item per transaction, walking items by id.
+ *
+ * <p>Needed once after introducing rollups on a database that already holds observations,
+ * and as a repair tool afterwards. Runs on a virtual thread; only one run at a time.</p>
+ */
+@Component
+@Slf4j
+public class PriceRollupBackfillJob {
+
+    private final ItemRepository itemRepository;
+    private final PriceRollupService priceRollupService;
+    private final int batchSize;
+    private final boolean runOnStartup;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PriceRollupBackfillJob(ItemRepository itemRepository,
+                                  PriceRollupService priceRollupService,
+                                  @Value("${price-rollup.backfill.batch-size:500}") int batchSize,
+                                  @Value("${price-rollup.backfill.on-startup:false}") boolean runOnStartup) {
+        this.itemRepository = itemRepository;
+        this.priceRollupService = priceRollupService;
+        this.batchSize = batchSize;
+        this.runOnStartup = runOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (runOnStartup) {
+            start();
+        }
+    }
+
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidStateException("Price rollup backfill is already running");
+        }
+
+        Thread.ofVirtual().name("price-rollup-backfill").start(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.error("Price rollup backfill failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void run() {
+        long started = System.currentTimeMillis();
+        long lastItemId = 0L;
+        long items = 0;
+        long rollups = 0;
+
+        List<Long> itemIds = itemRepository.findIdsAfter(lastItemId, Limit.of(batchSize));
+        while (!itemIds.isEmpty()) {
+            for (Long itemId : itemIds) {
+                rollups += priceRollupService.rebuildItem(itemId);
+            }
+
+            items += itemIds.size();
+            lastItemId = itemIds.getLast();
+            log.debug("Price rollup backfill progressed to item id {} ({} items)", lastItemId, items);
+            itemIds = itemRepository.findIdsAfter(lastItemId, Limit.of(batchSize));
+        }
+
+        log.info("Price rollup backfill finished: {} items, {} rollups in {} ms",
+                items, rollups, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,31 @@
+package org.viators.personalfinanceapp.pricerollup;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/price-rollups")
+@RequiredArgsConstructor
+public class PriceRollupController {
+
+    private final PriceRollupBackfillJob priceRollupBackfillJob;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/backfill")
+    @Operation(
+            summary = "Rebuild price rollups",
+            description = "Recomputes daily, weekly and monthly price rollups of every item from raw observations. Runs in the background."
+    )
+    @ApiResponse(responseCode = "202", description = "Backfill started")
+    @ApiResponse(responseCode = "409", description = "A backfill is already running")
+    public ResponseEntity<Void> backfill() {
+        priceRollupBackfillJob.start();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,147 @@
+package org.viators.personalfinanceapp.pricerollup;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.uuid.TimeOrderedUuids;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.store.Store;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PriceRollupRepository extends JpaRepository<PriceRollup, Long> {
+
+    /**
+     * Inserts the bucket, or merges it into the stored one when a row with the same key exists, in one
+     * statement. Concurrent writers of the same bucket therefore never collide on {@code uk_price_rollup_bucket}.
+     * The first and last price are assigned before their dates, since MySQL applies the assignments in order.
+     * Bypasses the persistence context, so pending inserts of the item must be flushed first.
+     */
+    @Modifying
+    @Query("""
+            insert into PriceRollup (uuid, version, createdBy, updatedBy, createdAt, updatedAt, status, item, store,
+                currency, bucketType, bucketStart, minPrice, maxPrice, firstPrice, firstObservationDate, lastPrice,
+                lastObservationDate, observationCount, priceSum)
+            values (:uuid, 0, :auditor, :auditor, :now, :now, :status, :item, :store,
+                :currency, :bucketType, :bucketStart, :minPrice, :maxPrice, :firstPrice, :firstObservationDate,
+                :lastPrice, :lastObservationDate, :observationCount, :priceSum)
+            on conflict (item, store, currency, bucketType, bucketStart) do update set
+                minPrice = least(minPrice, excluded.minPrice),
+                maxPrice = greatest(maxPrice, excluded.maxPrice),
+                firstPrice = case when excluded.firstObservationDate < firstObservationDate
+                    then excluded.firstPrice else firstPrice end,
+                firstObservationDate = least(firstObservationDate, excluded.firstObservationDate),
+                lastPrice = case when excluded.lastObservationDate >= lastObservationDate
+                    then excluded.lastPrice else lastPrice end,
+                lastObservationDate = greatest(lastObservationDate, excluded.lastObservationDate),
+                observationCount = observationCount + excluded.observationCount,
+                priceSum = priceSum + excluded.priceSum,
+                version = version + 1,
+                updatedBy = excluded.updatedBy,
+                updatedAt = excluded.updatedAt
+            """)
+    int upsertBucket(@Param("uuid") String uuid,
+                     @Param("auditor") String auditor,
+                     @Param("now") Instant now,
+                     @Param("status") String status,
+                     @Param("item") Item item,
+                     @Param("store") Store store,
+                     @Param("currency") CurrencyEnum currency,
+                     @Param("bucketType") RollupBucketEnum bucketType,
+                     @Param("bucketStart") LocalDate bucketStart,
+                     @Param("minPrice") BigDecimal minPrice,
+                     @Param("maxPrice") BigDecimal maxPrice,
+                     @Param("firstPrice") BigDecimal firstPrice,
+                     @Param("firstObservationDate") LocalDate firstObservationDate,
+                     @Param("lastPrice") BigDecimal lastPrice,
+                     @Param("lastObservationDate") LocalDate lastObservationDate,
+                     @Param("observationCount") Long observationCount,
+                     @Param("priceSum") BigDecimal priceSum);
+
+    default int upsertBucket(PriceRollup bucket, String auditor, Instant now) {
+        return upsertBucket(TimeOrderedUuids.nextString(), auditor, now, StatusEnum.ACTIVE.getCode(),
+                bucket.getItem(), bucket.getStore(), bucket.getCurrency(), bucket.getBucketType(),
+                bucket.getBucketStart(), bucket.getMinPrice(), bucket.getMaxPrice(), bucket.getFirstPrice(),
+                bucket.getFirstObservationDate(), bucket.getLastPrice(), bucket.getLastObservationDate(),
+                bucket.getObservationCount(), bucket.getPriceSum());
+    }
+
+    /**
+     * Buckets of the item inside the range, earliest first. With {@code Limit.of(1)} this is the
+     * indexed lookup of the first observed price in the range, whatever its width.
+     */
+    @Query("""
+            select r from PriceRollup r
+            where r.item.uuid = :itemUuid
+            and r.currency = :currency
+            and r.bucketType = :bucketType
+            and r.bucketStart between :from and :to
+            order by r.bucketStart asc, r.firstObservationDate asc, r.id asc
+            """)
+    List<PriceRollup> findEarliestBuckets(@Param("itemUuid") String itemUuid,
+                                          @Param("currency") CurrencyEnum currency,
+                                          @Param("bucketType") RollupBucketEnum bucketType,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          Limit limit);
+
+    @Query("""
+            select r from PriceRollup r
+            where r.item.uuid = :itemUuid
+            and r.currency = :currency
+            and r.bucketType = :bucketType
+            and r.bucketStart between :from and :to
+            order by r.bucketStart desc, r.lastObservationDate desc, r.id desc
+            """)
+    List<PriceRollup> findLatestBuckets(@Param("itemUuid") String itemUuid,
+                                        @Param("currency") CurrencyEnum currency,
+                                        @Param("bucketType") RollupBucketEnum bucketType,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to,
+                                        Limit limit);
+
+    @Query("""
+            select r from PriceRollup r
+            join fetch r.store
+            where r.item.uuid = :itemUuid
+            and r.item.user.uuid = :userUuid
+            and r.currency = :currency
+            and r.bucketType = :bucketType
+            and r.bucketStart between :from and :to
+            order by r.bucketStart asc, r.store.name asc
+            """)
+    List<PriceRollup> findHistory(@Param("itemUuid") String itemUuid,
+                                  @Param("userUuid") String userUuid,
+                                  @Param("currency") CurrencyEnum currency,
+                                  @Param("bucketType") RollupBucketEnum bucketType,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    /**
+     * Raw observations of one item in the order the incremental path would have seen them,
+     * used to rebuild its rollups. Archived observations are included.
+     */
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.pricerollup.PriceRollupSource(
+                po.store.id, po.currency, po.observationDate, po.price
+            )
+            FROM PriceObservationHistory po
+            WHERE po.item.id = :itemId
+            ORDER BY po.observationDate ASC, po.id ASC
+            """)
+    List<PriceRollupSource> findSourcesByItemId(@Param("itemId") Long itemId);
+
+    @Modifying
+    @Query("delete from PriceRollup r where r.item.id = :itemId")
+    int deleteAllByItemId(@Param("itemId") Long itemId);
+}
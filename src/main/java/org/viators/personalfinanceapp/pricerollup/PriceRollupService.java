@@ -0,0 +1,171 @@
+package org.viators.personalfinanceapp.pricerollup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.exceptions.BusinessValidationException;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.pricerollup.dto.response.PriceRollupResponse;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.store.StoreRepository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PriceRollupService {
+
+    // Auditing listeners do not run for the upsert, so the auditor is resolved like they would
+    private static final String SYSTEM_AUDITOR = "system";
+
+    private final PriceRollupRepository priceRollupRepository;
+    private final ItemRepository itemRepository;
+    private final StoreRepository storeRepository;
+    private final AuditorAware<String> auditorAware;
+
+    /**
+     * Folds a new observation into its daily, weekly and monthly buckets.
+     * Must run in the transaction that records the observation.
+     */
+    @Transactional
+    public void recordObservation(PriceObservation priceObservation) {
+        recordObservations(List.of(priceObservation));
+    }
+
+    /**
+     * Folds new observations into their buckets. Observations sharing a bucket are merged in memory
+     * first, then every touched bucket is written with one upsert, in key order so concurrent writers
+     * lock shared buckets in the same order. Must run in the transaction that records the observations.
+     */
+    @Transactional
+    public void recordObservations(Collection<PriceObservation> priceObservations) {
+        if (priceObservations.isEmpty()) {
+            return;
+        }
+
+        Map<BucketKey, PriceRollup> buckets = new TreeMap<>(BucketKey.ORDER);
+        for (PriceObservation priceObservation : priceObservations) {
+            for (RollupBucketEnum bucketType : RollupBucketEnum.values()) {
+                BucketKey key = new BucketKey(
+                        priceObservation.getItem().getId(),
+                        priceObservation.getStore().getId(),
+                        priceObservation.getCurrency(),
+                        bucketType,
+                        bucketType.bucketStart(priceObservation.getObservationDate()));
+
+                PriceRollup bucket = buckets.get(key);
+                if (bucket == null) {
+                    buckets.put(key, PriceRollup.open(priceObservation.getItem(), priceObservation.getStore(),
+                            priceObservation.getCurrency(), bucketType, priceObservation.getPrice(),
+                            priceObservation.getObservationDate()));
+                } else {
+                    bucket.include(priceObservation.getPrice(), priceObservation.getObservationDate());
+                }
+            }
+        }
+
+        // The upserts reference the items and observations of this transaction, which may not be flushed yet
+        priceRollupRepository.flush();
+
+        String auditor = auditorAware.getCurrentAuditor().orElse(SYSTEM_AUDITOR);
+        Instant now = Instant.now();
+        buckets.values().forEach(bucket -> priceRollupRepository.upsertBucket(bucket, auditor, now));
+    }
+
+    /**
+     * Drops and recomputes every rollup of the item from its raw observations.
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuildItem(Long itemId) {
+        priceRollupRepository.deleteAllByItemId(itemId);
+
+        Item item = itemRepository.getReferenceById(itemId);
+        Map<BucketKey, PriceRollup> rollups = new LinkedHashMap<>();
+
+        for (PriceRollupSource source : priceRollupRepository.findSourcesByItemId(itemId)) {
+            for (RollupBucketEnum bucketType : RollupBucketEnum.values()) {
+                BucketKey key = new BucketKey(itemId, source.storeId(), source.currency(), bucketType,
+                        bucketType.bucketStart(source.observationDate()));
+
+                PriceRollup rollup = rollups.get(key);
+                if (rollup == null) {
+                    rollups.put(key, PriceRollup.open(item, storeRepository.getReferenceById(source.storeId()),
+                            source.currency(), bucketType, source.price(), source.observationDate()));
+                } else {
+                    rollup.include(source.price(), source.observationDate());
+                }
+            }
+        }
+
+        priceRollupRepository.saveAll(rollups.values());
+        return rollups.size();
+    }
+
+    /**
+     * Start and end price of the item in the range, read from two indexed daily-bucket lookups
+     * instead of every observation in between.
+     *
+     * @return empty when the range holds fewer than two observations
+     */
+    public Optional<PriceRangeBounds> findPriceRangeBounds(String itemUuid, CurrencyEnum currency,
+                                                           LocalDate from, LocalDate to) {
+        List<PriceRollup> earliest = priceRollupRepository.findEarliestBuckets(
+                itemUuid, currency, RollupBucketEnum.DAILY, from, to, Limit.of(1));
+        List<PriceRollup> latest = priceRollupRepository.findLatestBuckets(
+                itemUuid, currency, RollupBucketEnum.DAILY, from, to, Limit.of(1));
+
+        if (earliest.isEmpty() || latest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        PriceRollup first = earliest.getFirst();
+        PriceRollup last = latest.getFirst();
+
+        if (first.getId().equals(last.getId()) && first.getObservationCount() < 2) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new PriceRangeBounds(first.getFirstPrice(), last.getLastPrice()));
+    }
+
+    public List<PriceRollupResponse> getPriceHistory(String userUuid, String itemUuid, CurrencyEnum currency,
+                                                     LocalDate from, LocalDate to, RollupBucketEnum bucketType) {
+        if (from.isAfter(to)) {
+            throw new BusinessValidationException("Invalid date range provided");
+        }
+
+        RollupBucketEnum resolvedBucketType = bucketType != null ? bucketType : RollupBucketEnum.forRange(from, to);
+
+        // Align the lower bound so the bucket containing 'from' is included
+        return PriceRollupResponse.listOfSummaries(priceRollupRepository.findHistory(
+                itemUuid, userUuid, currency, resolvedBucketType, resolvedBucketType.bucketStart(from), to));
+    }
+
+    private record BucketKey(Long itemId, Long storeId, CurrencyEnum currency, RollupBucketEnum bucketType,
+                             LocalDate bucketStart) {
+
+        static final Comparator<BucketKey> ORDER = Comparator.comparing(BucketKey::itemId)
+                .thenComparing(BucketKey::storeId)
+                .thenComparing(BucketKey::currency)
+                .thenComparing(BucketKey::bucketType)
+                .thenComparing(BucketKey::bucketStart);
+    }
+}
@@ -0,0 +1,17 @@
+package org.viators.personalfinanceapp.pricerollup;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The few columns of a {@code PriceObservation} that a rollup needs, read without building the entity.
+ */
+public record PriceRollupSource(
+        Long storeId,
+        CurrencyEnum currency,
+        LocalDate observationDate,
+        BigDecimal price
+) {
+}
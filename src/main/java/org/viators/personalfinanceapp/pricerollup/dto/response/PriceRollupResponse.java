@@ -0,0 +1,52 @@
+package org.viators.personalfinanceapp.pricerollup.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.pricerollup.PriceRollup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Aggregated prices of an item at one store for one time bucket")
+public record PriceRollupResponse(
+        RollupBucketEnum bucketType,
+        @Schema(description = "First day of the bucket", example = "2025-01-01")
+        LocalDate bucketStart,
+        String storeUuid,
+        String storeName,
+        CurrencyEnum currency,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        @Schema(description = "Price of the earliest observation in the bucket")
+        BigDecimal firstPrice,
+        @Schema(description = "Price of the latest observation in the bucket")
+        BigDecimal lastPrice,
+        Long observationCount,
+        BigDecimal averagePrice
+) {
+
+    public static PriceRollupResponse from(PriceRollup rollup) {
+        return new PriceRollupResponse(
+                rollup.getBucketType(),
+                rollup.getBucketStart(),
+                rollup.getStore().getUuid(),
+                rollup.getStore().getName(),
+                rollup.getCurrency(),
+                rollup.getMinPrice(),
+                rollup.getMaxPrice(),
+                rollup.getFirstPrice(),
+                rollup.getLastPrice(),
+                rollup.getObservationCount(),
+                rollup.getPriceSum().divide(BigDecimal.valueOf(rollup.getObservationCount()), 2, RoundingMode.HALF_EVEN)
+        );
+    }
+
+    public static List<PriceRollupResponse> listOfSummaries(List<PriceRollup> rollups) {
+        return rollups.stream()
+                .map(PriceRollupResponse::from)
+                .toList();
+    }
+}
@@ -1,20 +1,38 @@
 package org.viators.personalfinanceapp.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.viators.personalfinanceapp.common.enums.JwtAuthenticationModeEnum;
 
 import java.io.IOException;
+import java.util.Optional;
 
+/**
+ * Authenticates requests carrying a {@code Bearer} token.
+ *
+ * <p>The token is parsed and verified exactly once per request. The principal is then
+ * taken from {@link JwtPrincipalCache}; on a miss it is resolved according to
+ * {@code jwt.authentication-mode}:</p>
+ * <ul>
+ *   <li>{@code CLAIMS} — built from the {@code userUuid}/{@code username}/{@code role} claims</li>
+ *   <li>{@code DATABASE} — loaded through {@link UserDetailsServiceImpl}</li>
+ * </ul>
+ *
+ * <p>Each token check is timed as {@code app.jwt.authentication}, tagged with its outcome.</p>
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -22,6 +40,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtUtil jwtUtil;
+    private final JwtPrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.authentication-mode:DATABASE}")
+    private JwtAuthenticationModeEnum authenticationMode;
 
     @Override
     protected void doFilterInternal(
@@ -38,31 +61,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Extract token (remove "Bearer " prefix)
         final String jwt = authHeader.substring(7);
 
+        // Only the authentication itself is timed, not the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = authenticate(request, jwt);
+        sample.stop(meterRegistry.timer("app.jwt.authentication", "outcome", outcome));
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * @return the outcome tag of the authentication timer
+     */
+    private String authenticate(HttpServletRequest request, String jwt) {
         try {
-            final String email = jwtUtil.extractEmail(jwt);
+            Optional<Claims> verifiedClaims = jwtUtil.parseVerifiedClaims(jwt);
 
-            // If email exists and not already authenticated
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (verifiedClaims.isEmpty()) {
+                return "invalid";
+            }
+            // Already authenticated further up the chain
+            if (SecurityContextHolder.getContext().getAuthentication() != null) {
+                return "skipped";
+            }
 
-                if (jwtUtil.isTokenValid(jwt) && !jwtUtil.isTokenExpired(jwt)) {
-                    // Create authentication token
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
+            UserDetailsImpl userDetails = resolvePrincipal(verifiedClaims.get());
 
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            // Create authentication token
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
 
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
-            }
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            return "authenticated";
         } catch (Exception e) {
             log.warn("Could not set user authentication: {}", e.getMessage());
+            return "error";
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private UserDetailsImpl resolvePrincipal(Claims claims) {
+        boolean fromDatabase = authenticationMode == JwtAuthenticationModeEnum.DATABASE;
+
+        // Tokens issued before the jti claim was introduced cannot be cached
+        if (claims.getId() == null) {
+            return loadPrincipal(claims, fromDatabase);
+        }
+
+        return principalCache.getOrLoad(claims.getId(), claims.getExpiration().toInstant(), fromDatabase,
+                () -> loadPrincipal(claims, fromDatabase));
+    }
+
+    private UserDetailsImpl loadPrincipal(Claims claims, boolean fromDatabase) {
+        return fromDatabase
+                ? (UserDetailsImpl) userDetailsService.loadUserByUsername(claims.getSubject())
+                : UserDetailsImpl.fromClaims(claims);
     }
 }
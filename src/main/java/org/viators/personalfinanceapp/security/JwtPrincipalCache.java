@@ -0,0 +1,134 @@
+package org.viators.personalfinanceapp.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.viators.personalfinanceapp.user.UserChangedEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of authenticated principals keyed by JWT id ({@code jti}).
+ *
+ * <p>A token is immutable for its whole lifetime, so once it has been verified and
+ * its principal resolved, subsequent requests with the same token can reuse that
+ * principal. Entries never outlive the token itself nor the configured TTL, which
+ * bounds how long a deactivated user can keep using an already issued token. Entries
+ * of a user are dropped once an update or deactivation of that user commits, so a new
+ * role or status applies to the next request.</p>
+ *
+ * <p>Hit, miss and database-load counts are published to Micrometer as
+ * {@code jwt.principal.cache.hits}, {@code jwt.principal.cache.misses} and
+ * {@code jwt.principal.db.loads}.</p>
+ */
+@Component
+@Slf4j
+public class JwtPrincipalCache {
+
+    private final Map<String, CachedPrincipal> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong databaseLoads = new AtomicLong();
+
+    private final Duration ttl;
+    private final int maxSize;
+
+    public JwtPrincipalCache(@Value("${jwt.principal-cache.ttl:60s}") Duration ttl,
+                             @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                             MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+
+        FunctionCounter.builder("jwt.principal.cache.hits", hits, AtomicLong::get)
+                .description("Authenticated requests served from the principal cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.principal.cache.misses", misses, AtomicLong::get)
+                .description("Authenticated requests that had to resolve the principal")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.principal.db.loads", databaseLoads, AtomicLong::get)
+                .description("Principal resolutions that hit the users table")
+                .register(meterRegistry);
+        Gauge.builder("jwt.principal.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached principal for the token id, resolving and caching it on a miss.
+     *
+     * @param tokenId       the {@code jti} claim of an already verified token
+     * @param tokenExpiry   the {@code exp} claim; the entry is never kept past it
+     * @param fromDatabase  whether {@code loader} reads the database (counted separately)
+     * @param loader        resolves the principal on a miss
+     */
+    public UserDetailsImpl getOrLoad(String tokenId, Instant tokenExpiry, boolean fromDatabase,
+                                     Supplier<UserDetailsImpl> loader) {
+        Instant now = Instant.now();
+        CachedPrincipal cached = entries.get(tokenId);
+
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            hits.incrementAndGet();
+            return cached.principal();
+        }
+
+        misses.incrementAndGet();
+        if (fromDatabase) {
+            databaseLoads.incrementAndGet();
+        }
+
+        UserDetailsImpl principal = loader.get();
+
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+        }
+        if (entries.size() < maxSize) {
+            Instant ttlExpiry = now.plus(ttl);
+            entries.put(tokenId, new CachedPrincipal(principal,
+                    tokenExpiry.isBefore(ttlExpiry) ? tokenExpiry : ttlExpiry));
+        }
+
+        return principal;
+    }
+
+    public void evictUser(String userUuid) {
+        entries.values().removeIf(entry -> entry.principal().getUsername().equals(userUuid));
+    }
+
+    /**
+     * Runs once the change is committed; evicting earlier would let a request in between cache the old row again.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evictUser(event.userUuid());
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getDatabaseLoadCount() {
+        return databaseLoads.get();
+    }
+
+    private void evictExpired(Instant now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        log.debug("Principal cache evicted {} expired entries", before - entries.size());
+    }
+
+    private record CachedPrincipal(UserDetailsImpl principal, Instant expiresAt) {
+    }
+}
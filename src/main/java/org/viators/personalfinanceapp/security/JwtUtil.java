@@ -2,8 +2,10 @@ package org.viators.personalfinanceapp.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +17,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -27,9 +31,25 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    /**
+     * The HMAC key and the parser are immutable and thread-safe, so they are built once
+     * instead of on every sign/parse call.
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     /**
      * .claims(claims) → Adds your custom data
      * .subject(user.getEmail()) → The "subject" is the primary identifier (email here)
+     * .id(...) → Unique token id (jti), used as the key of the principal cache
      * .issuedAt(new Date()) → Timestamp when token was created
      * .expiration(...) → When the token expires
      * .signWith(getSignedKey()) → Signs the token so it can't be tampered with
@@ -45,6 +65,7 @@ public class JwtUtil {
         return Jwts.builder()
                 .claims(claims)
                 .subject(user.getEmail())
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSignedKey())
@@ -52,62 +73,40 @@ public class JwtUtil {
     }
 
     /**
-     * Extracts email (subject) from token.
+     * Verifies the token exactly once (signature and expiration) and returns its claims.
+     *
+     * @return the claims, or empty if the token is malformed, tampered with or expired
      */
-    public String extractEmail(String token) {
-        return extractAllClaims(token).getSubject();
-    }
-
-    public String extractUserUuid(String token) {
-        return extractAllClaims(token).get("userUuid", String.class);
-    }
-
-    /**
-     * Validates token (not expired, valid signature).
-     */
-    public boolean isTokenValid(String token) {
+    public Optional<Claims> parseVerifiedClaims(String token) {
         try {
-            extractAllClaims(token);
-            return true;
+            return Optional.of(extractAllClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
-    /**
-     * Checks if token is expired.
-     */
-    public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = extractAllClaims(token).getExpiration();
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
+    public String extractUserUuid(String token) {
+        return extractAllClaims(token).get("userUuid", String.class);
     }
 
     /**
-        - Creates a JWT parser
-        - Tells it to verify using your secret key
-        - Builds the parser
+        - Uses the cached JWT parser (verifies with your secret key)
         - Parses the token (this validates signature AND checks expiration)
         - Gets the payload (all the claims)
     */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignedKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
     /**
-        - Converts your string secret into a proper cryptographic key
+        - Converts your string secret into a proper cryptographic key (built once in init())
         - Uses UTF-8 encoding to ensure consistency
         - HMAC-SHA is the signing algorithm
      */
     private SecretKey getSignedKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 }
@@ -0,0 +1,13 @@
+package org.viators.personalfinanceapp.security;
+
+/**
+ * Id and owner id of a resource, all that is needed to check who owns it.
+ *
+ * @param ownerId null for a global store
+ */
+public record OwnedResource(
+        Long id,
+        String uuid,
+        Long ownerId
+) {
+}
@@ -1,5 +1,11 @@
 package org.viators.personalfinanceapp.security;
 
+import org.viators.personalfinanceapp.common.enums.OwnedResourceTypeEnum;
+import org.viators.personalfinanceapp.user.User;
+
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Encapsulates resource ownership authorization logic.
  *
@@ -18,4 +24,26 @@ public interface OwnershipAuthorizationService {
      * @throws org.viators.personalfinanceapp.exceptions.AccessDeniedException if the UUIDs do not match
      */
     void verifyOwnership(String loggedInUserUuid, String ownerUuid);
+
+    /**
+     * Verifies that the logged-in user is the owner of an already loaded resource. Compares ids only,
+     * so a lazy owner stays an uninitialized proxy.
+     *
+     * @param owner the resource's owner, null for a global resource
+     * @throws org.viators.personalfinanceapp.exceptions.AccessDeniedException if the owner is someone else or nobody
+     */
+    void verifyOwnership(String loggedInUserUuid, User owner);
+
+    /**
+     * Checks a batch of active resources of one type in one query that reads ids and owner ids only.
+     * Nothing is thrown for single resources, every uuid gets its own result so bulk callers can
+     * reject just the affected rows.
+     *
+     * @param acceptGlobal whether global resources ({@code user_id IS NULL}, only stores have them)
+     *                     count as owned
+     * @return one result per distinct uuid, in request order
+     * @throws org.viators.personalfinanceapp.exceptions.AccessDeniedException if the logged-in user is not active
+     */
+    Map<String, OwnershipResult> verifyOwnership(String loggedInUserUuid, OwnedResourceTypeEnum type,
+                                                 Collection<String> uuids, boolean acceptGlobal);
 }
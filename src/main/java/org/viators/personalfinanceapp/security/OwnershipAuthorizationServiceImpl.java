@@ -1,15 +1,74 @@
 package org.viators.personalfinanceapp.security;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.common.enums.OwnedResourceTypeEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
 import org.viators.personalfinanceapp.exceptions.AccessDeniedException;
+import org.viators.personalfinanceapp.user.ActiveUserCache;
+import org.viators.personalfinanceapp.user.User;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class OwnershipAuthorizationServiceImpl implements OwnershipAuthorizationService {
 
+    private final OwnershipRepository ownershipRepository;
+    private final ActiveUserCache activeUserCache;
+
     @Override
     public void verifyOwnership(String loggedInUserUuid, String ownerUuid) {
         if (loggedInUserUuid != null && !loggedInUserUuid.equals(ownerUuid)) {
             throw new AccessDeniedException("Resource does not belong to logged in user");
         }
     }
+
+    @Override
+    public void verifyOwnership(String loggedInUserUuid, User owner) {
+        if (loggedInUserUuid == null) {
+            return;
+        }
+        if (owner == null || !owner.getId().equals(loggedInUserId(loggedInUserUuid))) {
+            throw new AccessDeniedException("Resource does not belong to logged in user");
+        }
+    }
+
+    @Override
+    public Map<String, OwnershipResult> verifyOwnership(String loggedInUserUuid, OwnedResourceTypeEnum type,
+                                                        Collection<String> uuids, boolean acceptGlobal) {
+        if (uuids.isEmpty()) {
+            return Map.of();
+        }
+
+        Long loggedInUserId = loggedInUserId(loggedInUserUuid);
+        Set<String> requested = new LinkedHashSet<>(uuids);
+        String status = StatusEnum.ACTIVE.getCode();
+        List<OwnedResource> resources = switch (type) {
+            case ITEM -> ownershipRepository.findItemOwners(requested, status);
+            case STORE -> ownershipRepository.findStoreOwners(requested, status);
+            case SHOPPING_LIST -> ownershipRepository.findShoppingListOwners(requested, status);
+        };
+
+        Map<String, OwnershipResult> results = new LinkedHashMap<>();
+        requested.forEach(uuid -> results.put(uuid, OwnershipResult.MISSING));
+        for (OwnedResource resource : resources) {
+            boolean owned = resource.ownerId() == null ? acceptGlobal : resource.ownerId().equals(loggedInUserId);
+            results.put(resource.uuid(), owned ? OwnershipResult.owned(resource.id()) : OwnershipResult.FOREIGN);
+        }
+        return results;
+    }
+
+    // Inactive users own nothing they could act on
+    private Long loggedInUserId(String loggedInUserUuid) {
+        return activeUserCache.findActiveUserId(loggedInUserUuid)
+                .orElseThrow(() -> new AccessDeniedException("Resource does not belong to logged in user"));
+    }
 }
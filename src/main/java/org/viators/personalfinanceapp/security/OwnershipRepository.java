@@ -0,0 +1,41 @@
+package org.viators.personalfinanceapp.security;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.viators.personalfinanceapp.user.User;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Owner lookups behind {@link OwnershipAuthorizationService}. Each reads the owner's id from the foreign key
+ * through the uuid index, so neither the resource nor its owner is loaded.
+ */
+public interface OwnershipRepository extends Repository<User, Long> {
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.security.OwnedResource(i.id, i.uuid, i.user.id)
+            FROM Item i
+            WHERE i.uuid IN :uuids
+            AND i.status = :status
+            """)
+    List<OwnedResource> findItemOwners(@Param("uuids") Collection<String> uuids, @Param("status") String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.security.OwnedResource(s.id, s.uuid, s.user.id)
+            FROM Store s
+            WHERE s.uuid IN :uuids
+            AND s.status = :status
+            """)
+    List<OwnedResource> findStoreOwners(@Param("uuids") Collection<String> uuids, @Param("status") String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.security.OwnedResource(sl.id, sl.uuid, sl.user.id)
+            FROM ShoppingList sl
+            WHERE sl.uuid IN :uuids
+            AND sl.status = :status
+            """)
+    List<OwnedResource> findShoppingListOwners(@Param("uuids") Collection<String> uuids,
+                                               @Param("status") String status);
+}
@@ -0,0 +1,25 @@
+package org.viators.personalfinanceapp.security;
+
+import org.viators.personalfinanceapp.common.enums.OwnershipStatusEnum;
+
+/**
+ * Outcome of a batch ownership check for one uuid.
+ *
+ * @param id the resource id, only set when the resource is {@link OwnershipStatusEnum#OWNED owned}
+ */
+public record OwnershipResult(
+        Long id,
+        OwnershipStatusEnum status
+) {
+
+    static final OwnershipResult FOREIGN = new OwnershipResult(null, OwnershipStatusEnum.FOREIGN);
+    static final OwnershipResult MISSING = new OwnershipResult(null, OwnershipStatusEnum.MISSING);
+
+    static OwnershipResult owned(Long id) {
+        return new OwnershipResult(id, OwnershipStatusEnum.OWNED);
+    }
+
+    public boolean isOwned() {
+        return status == OwnershipStatusEnum.OWNED;
+    }
+}
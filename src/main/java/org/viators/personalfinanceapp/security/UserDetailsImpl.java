@@ -1,5 +1,6 @@
 package org.viators.personalfinanceapp.security;
 
+import io.jsonwebtoken.Claims;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -7,6 +8,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.viators.personalfinanceapp.user.User;
 import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.enums.UserRolesEnum;
 
 import java.util.Collection;
 import java.util.List;
@@ -16,6 +18,25 @@ import java.util.List;
  */
 public record UserDetailsImpl(User currentUser) implements UserDetails {
 
+    /**
+     * Builds a principal straight from verified token claims, without touching the database.
+     *
+     * <p>The resulting {@link User} is a detached snapshot holding only the identity
+     * carried by the token (uuid, username, email, role). It must never be merged or
+     * used to navigate relationships.</p>
+     */
+    public static UserDetailsImpl fromClaims(Claims claims) {
+        User user = User.builder()
+                .uuid(claims.get("userUuid", String.class))
+                .username(claims.get("username", String.class))
+                .email(claims.getSubject())
+                .userRole(UserRolesEnum.valueOf(claims.get("role", String.class)))
+                .status(StatusEnum.ACTIVE.getCode())
+                .build();
+
+        return new UserDetailsImpl(user);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + currentUser.getUserRole()));
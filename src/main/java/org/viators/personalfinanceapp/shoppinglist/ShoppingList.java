@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
 import org.viators.personalfinanceapp.common.BaseEntity;
 import org.viators.personalfinanceapp.exceptions.DuplicateResourceException;
 import org.viators.personalfinanceapp.shoppinglistitem.ShoppingListItem;
@@ -20,6 +21,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Filter(name = BaseEntity.ACTIVE_ONLY_FILTER)
 public class ShoppingList extends BaseEntity {
 
     @Column(name = "name", nullable = false)
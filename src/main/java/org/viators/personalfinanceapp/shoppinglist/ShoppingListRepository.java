@@ -1,5 +1,6 @@
 package org.viators.personalfinanceapp.shoppinglist;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,15 +9,16 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.viators.personalfinanceapp.shoppinglist.dto.response.ShoppingListSummaryResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ShoppingListRepository extends JpaRepository<ShoppingList, Long> {
 
-    Optional<ShoppingList> findByUuidAndStatus(String uuid, String status);
+    Optional<ShoppingList> findByUuid(String uuid);
 
-    Page<ShoppingList> findAllByUser_UuidAndStatus(String userUuid, String status, Pageable pageable);
+    Page<ShoppingList> findAllByUser_Uuid(String userUuid, Pageable pageable);
 
     @Query(value = """
             select sl from ShoppingList sl
@@ -30,10 +32,37 @@ public interface ShoppingListRepository extends JpaRepository<ShoppingList, Long
                 sl.uuid, sl.name, sl.description, sl.isFavorite, SIZE(sl.shoppingListItems)
             )
             FROM ShoppingList sl
-            WHERE sl.user.uuid = :userUuid AND sl.status = :status
+            WHERE sl.user.uuid = :userUuid
+            ORDER BY sl.createdAt DESC, sl.id DESC
             """)
-    List<ShoppingListSummaryResponse> findAllSummariesByUserUuidAndStatus(
+    List<ShoppingListSummaryResponse> findAllSummariesByUserUuid(
             @Param("userUuid") String userUuid,
-            @Param("status") String status);
+            Limit limit);
+
+    // Bought items keep their purchased price, so only lists with unbought items of these are affected
+    @Query("""
+            SELECT DISTINCT sl
+            FROM ShoppingList sl
+            JOIN FETCH sl.user
+            JOIN sl.shoppingListItems sli
+            WHERE sli.item.id IN :itemIds
+            AND sli.status = :status
+            AND sli.purchasedPrice IS NULL
+            """)
+    List<ShoppingList> findAllPricingItemsAtCurrentPrice(@Param("itemIds") Collection<Long> itemIds,
+                                                         @Param("status") String status);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.shoppinglist.ShoppingListTotal(
+                sli.shoppingList.id, SUM(sli.quantity * COALESCE(sli.purchasedPrice, i.currentPrice))
+            )
+            FROM ShoppingListItem sli
+            JOIN sli.item i
+            WHERE sli.shoppingList.id IN :shoppingListIds
+            AND sli.status = :status
+            GROUP BY sli.shoppingList.id
+            """)
+    List<ShoppingListTotal> sumTotals(@Param("shoppingListIds") Collection<Long> shoppingListIds,
+                                      @Param("status") String status);
 
 }
@@ -1,5 +1,6 @@
 package org.viators.personalfinanceapp.shoppinglist;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,6 +22,7 @@ import org.viators.personalfinanceapp.user.UserService;
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("app.service")
 public class ShoppingListService {
 
     private final ShoppingListRepository shoppingListRepository;
@@ -28,10 +30,11 @@ public class ShoppingListService {
     // Other Service dependencies
     private final UserService userService;
     private final ShoppingListItemService shoppingListItemService;
+    private final ShoppingListTotalRefresher shoppingListTotalRefresher;
 
 
     public ShoppingList getActiveShoppingList(String shoppingListUuid) {
-        return shoppingListRepository.findByUuidAndStatus(shoppingListUuid, StatusEnum.ACTIVE.getCode())
+        return shoppingListRepository.findByUuid(shoppingListUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("ShoppingList", "uuid", shoppingListUuid));
     }
 
@@ -46,7 +49,7 @@ public class ShoppingListService {
 
     @Transactional
     public ShoppingListSummaryResponse update(String uuid, UpdateShoppingListRequest request) {
-        ShoppingList shoppingList = shoppingListRepository.findByUuidAndStatus(uuid, StatusEnum.ACTIVE.getCode())
+        ShoppingList shoppingList = shoppingListRepository.findByUuid(uuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found or is inactive"));
 
         request.update(shoppingList);
@@ -55,29 +58,31 @@ public class ShoppingListService {
 
     @Transactional
     public ShoppingListSummaryResponse addShoppingListItemToList(String shoppingListUuid, String shoppingListItemUuid) {
-        ShoppingList shoppingList = shoppingListRepository.findByUuidAndStatus(shoppingListUuid, StatusEnum.ACTIVE.getCode())
+        ShoppingList shoppingList = shoppingListRepository.findByUuid(shoppingListUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
 
         ShoppingListItem shoppingListItem = shoppingListItemService.getActiveShoppingListItem(shoppingListItemUuid);
 
         shoppingList.addShoppingListItem(shoppingListItem);
+        shoppingListTotalRefresher.refresh(shoppingList);
         return ShoppingListSummaryResponse.from(shoppingList);
     }
 
     @Transactional
     public void removeShoppingListItemFromList(String shoppingListUuid, String shoppingListItemUuid) {
-        ShoppingList shoppingList = shoppingListRepository.findByUuidAndStatus(shoppingListUuid, StatusEnum.ACTIVE.getCode())
+        ShoppingList shoppingList = shoppingListRepository.findByUuid(shoppingListUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("ShoppingList", "uuid", shoppingListUuid));
 
         ShoppingListItem shoppingListItem = shoppingListItemService.getActiveShoppingListItem(shoppingListItemUuid);
 
         shoppingListItemService.checkSLIExistInShoppingList(shoppingListUuid, shoppingListItem.getId());
         shoppingList.removeShoppingListItem(shoppingListItem);
+        shoppingListTotalRefresher.refresh(shoppingList);
     }
 
     @Transactional
     public void deactivateShoppingList(String uuid) {
-        ShoppingList shoppingList = shoppingListRepository.findByUuidAndStatus(uuid, StatusEnum.ACTIVE.getCode())
+        ShoppingList shoppingList = shoppingListRepository.findByUuid(uuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found or is already deactivated"));
 
         shoppingList.setStatus(StatusEnum.INACTIVE.getCode());
@@ -86,14 +91,14 @@ public class ShoppingListService {
     }
 
     public ShoppingListDetailsResponse getShoppingList(String userUuid, String shopListUuid) {
-        ShoppingList result = shoppingListRepository.findByUuidAndStatus(shopListUuid, StatusEnum.ACTIVE.getCode())
+        ShoppingList result = shoppingListRepository.findByUuid(shopListUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("No such shopping list exist in system"));
 
         return ShoppingListDetailsResponse.from(result, userUuid);
     }
 
     public Page<ShoppingListSummaryResponse> getAllActiveShoppingListsForUser(String userUuid, Pageable pageable) {
-        Page<ShoppingList> results = shoppingListRepository.findAllByUser_UuidAndStatus(userUuid, StatusEnum.ACTIVE.getCode(), pageable);
+        Page<ShoppingList> results = shoppingListRepository.findAllByUser_Uuid(userUuid, pageable);
         return results.map(ShoppingListSummaryResponse::from);
     }
 
@@ -0,0 +1,14 @@
+package org.viators.personalfinanceapp.shoppinglist;
+
+import java.math.BigDecimal;
+
+/**
+ * Total of a shopping list as summed by the database.
+ *
+ * @param totalAmount null when none of the list's items has a price
+ */
+public record ShoppingListTotal(
+        Long shoppingListId,
+        BigDecimal totalAmount
+) {
+}
@@ -0,0 +1,71 @@
+package org.viators.personalfinanceapp.shoppinglist;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
+import org.viators.personalfinanceapp.userevent.dto.response.ShoppingListTotalChangedEvent;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code totalAmount} of shopping lists in step with their items: quantity times the purchased price
+ * for bought items, times the item's current price otherwise. Items without any price count as zero.
+ *
+ * <p>Totals are summed by one query for all lists at hand, so list items are never loaded. Runs in the
+ * caller's transaction; owners of lists whose total changed are told through their event streams.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ShoppingListTotalRefresher {
+
+    private final ShoppingListRepository shoppingListRepository;
+    private final UserEventPublisher userEventPublisher;
+
+    /**
+     * After items were added to or removed from the list.
+     */
+    public void refresh(ShoppingList shoppingList) {
+        refresh(List.of(shoppingList));
+    }
+
+    /**
+     * After the current price of the items moved: every active list pricing one of them at its current price.
+     */
+    public void refreshForItems(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+
+        refresh(shoppingListRepository.findAllPricingItemsAtCurrentPrice(itemIds, StatusEnum.ACTIVE.getCode()));
+    }
+
+    private void refresh(Collection<ShoppingList> shoppingLists) {
+        if (shoppingLists.isEmpty()) {
+            return;
+        }
+
+        // Pending item and price changes are flushed before the query sums them
+        Map<Long, BigDecimal> totals = shoppingListRepository.sumTotals(
+                        shoppingLists.stream().map(ShoppingList::getId).toList(), StatusEnum.ACTIVE.getCode())
+                .stream()
+                .filter(total -> total.totalAmount() != null)
+                .collect(Collectors.toMap(ShoppingListTotal::shoppingListId, ShoppingListTotal::totalAmount));
+
+        for (ShoppingList shoppingList : shoppingLists) {
+            BigDecimal newTotal = totals.getOrDefault(shoppingList.getId(), BigDecimal.ZERO);
+            if (shoppingList.getTotalAmount() != null && shoppingList.getTotalAmount().compareTo(newTotal) == 0) {
+                continue;
+            }
+
+            shoppingList.setTotalAmount(newTotal);
+            userEventPublisher.publishAfterCommit(shoppingList.getUser().getUuid(),
+                    UserEventTypeEnum.SHOPPING_LIST_TOTAL_CHANGED, () -> ShoppingListTotalChangedEvent.from(shoppingList));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
 import org.viators.personalfinanceapp.common.BaseEntity;
 import org.viators.personalfinanceapp.item.Item;
 import org.viators.personalfinanceapp.store.Store;
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Filter(name = BaseEntity.ACTIVE_ONLY_FILTER)
 public class ShoppingListItem extends BaseEntity {
 
     @Column(name = "quantity", nullable = false)
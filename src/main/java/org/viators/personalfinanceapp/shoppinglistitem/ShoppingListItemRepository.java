@@ -12,7 +12,7 @@ import java.util.Optional;
 @Repository
 public interface ShoppingListItemRepository extends JpaRepository<ShoppingListItem, Long> {
 
-    Optional<ShoppingListItem> findByUuidAndStatus(String uuid, String status);
+    Optional<ShoppingListItem> findByUuid(String uuid);
 
     @Query("""
             SELECT new org.viators.personalfinanceapp.shoppinglistitem.dto.response.ShoppingListItemSummaryResponse(
@@ -31,11 +31,10 @@ public interface ShoppingListItemRepository extends JpaRepository<ShoppingListIt
             FROM ShoppingListItem sli
             JOIN sli.item
             JOIN sli.store
-            WHERE sli.uuid = :uuid AND sli.status = :status
+            WHERE sli.uuid = :uuid
             """)
     Optional<ShoppingListItemSummaryResponse> findShoppingListItemWithRelations(
-            @Param("uuid") String uuid,
-            @Param("status") String status);
+            @Param("uuid") String uuid);
 
     @Query("""
         select sli.id from ShoppingListItem sli
@@ -4,12 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.viators.personalfinanceapp.common.enums.StatusEnum;
 import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
 import org.viators.personalfinanceapp.item.Item;
 import org.viators.personalfinanceapp.item.ItemService;
 import org.viators.personalfinanceapp.shoppinglist.ShoppingList;
 import org.viators.personalfinanceapp.shoppinglist.ShoppingListService;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListTotalRefresher;
 import org.viators.personalfinanceapp.shoppinglistitem.dto.request.CreateShoppingListItemRequest;
 import org.viators.personalfinanceapp.shoppinglistitem.dto.response.ShoppingListItemSummaryResponse;
 import org.viators.personalfinanceapp.store.Store;
@@ -28,6 +28,7 @@ public class ShoppingListItemService {
     // Other Service Dependencies
     private final UserService userService;
     private final ShoppingListService shoppingListService;
+    private final ShoppingListTotalRefresher shoppingListTotalRefresher;
     private final ItemService itemService;
     private final StoreService storeService;
 
@@ -37,16 +38,18 @@ public class ShoppingListItemService {
         User user = userService.findActiveUser(userUuid);
         ShoppingList shoppingList = shoppingListService.getActiveShoppingList(shoppingListUuid);
         Item item = itemService.getActiveItem(request.itemUuid());
-        Store store = storeService.getActiveStoreThatIsGlobalOrBelongsToUser(request.storeUuid(), user.getUuid());
+        Store store = storeService.getActiveStoreThatIsGlobalOrBelongsToUser(request.storeUuid(), userUuid);
 
         ShoppingListItem shoppingListItem = request.toEntity(shoppingList, item, store);
         shoppingListItem = shoppingListItemRepository.save(shoppingListItem);
+        shoppingList.addShoppingListItem(shoppingListItem);
+        shoppingListTotalRefresher.refresh(shoppingList);
 
         return ShoppingListItemSummaryResponse.from(shoppingListItem);
     }
 
     public ShoppingListItem getActiveShoppingListItem(String shoppingListItemUuid) {
-        return shoppingListItemRepository.findByUuidAndStatus(shoppingListItemUuid, StatusEnum.ACTIVE.getCode())
+        return shoppingListItemRepository.findByUuid(shoppingListItemUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list item", "uuid", shoppingListItemUuid));
     }
 
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.viators.personalfinanceapp.common.BaseEntity;
 import org.viators.personalfinanceapp.user.User;
 import org.viators.personalfinanceapp.common.enums.StoreTypeEnum;
@@ -16,6 +18,8 @@ import org.viators.personalfinanceapp.common.enums.StoreTypeEnum;
                 name = "idx_store_name", columnList = "store_name"
         )
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "stores")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,7 +48,8 @@ public class Store extends BaseEntity {
     @Column(name = "website")
     private String website;
 
-    @ManyToOne
+    // Lazy so a store read from the second-level cache does not load its owner as well
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", updatable = false)
     private User user;
 
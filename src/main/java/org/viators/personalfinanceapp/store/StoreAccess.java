@@ -0,0 +1,15 @@
+package org.viators.personalfinanceapp.store;
+
+/**
+ * Id and owner of an active store, all that is needed to check access to it.
+ *
+ * @param ownerUuid null for a global store
+ */
+public record StoreAccess(
+        Long storeId,
+        String ownerUuid
+) {
+    public boolean isAccessibleBy(String userUuid) {
+        return ownerUuid == null || ownerUuid.equals(userUuid);
+    }
+}
@@ -0,0 +1,50 @@
+package org.viators.personalfinanceapp.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.viators.personalfinanceapp.common.cache.LookupCaches;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Id and owner of active stores by uuid. The entry does not depend on who asks, so a global store is
+ * cached once for every user and the ownership check runs on the cached owner.
+ *
+ * <p>Entries are dropped once a {@link StoreChangedEvent} commits; the TTL bounds how long an entry loaded
+ * concurrently with a deactivation can survive it. Unknown and inactive stores are not cached.</p>
+ */
+@Component
+public class StoreAccessCache {
+
+    private final StoreRepository storeRepository;
+    private final Cache<String, StoreAccess> stores;
+
+    public StoreAccessCache(StoreRepository storeRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${lookup-cache.stores.max-size:10000}") long maxSize,
+                            @Value("${lookup-cache.stores.ttl:30m}") Duration ttl) {
+        this.storeRepository = storeRepository;
+        this.stores = LookupCaches.build("stores", maxSize, ttl, meterRegistry);
+    }
+
+    public Optional<StoreAccess> findActiveStore(String storeUuid) {
+        StoreAccess access = stores.getIfPresent(storeUuid);
+        if (access != null) {
+            return Optional.of(access);
+        }
+
+        Optional<StoreAccess> loaded = storeRepository.findAccessByUuidAndStatus(storeUuid, StatusEnum.ACTIVE.getCode());
+        loaded.ifPresent(found -> stores.put(storeUuid, found));
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        stores.invalidate(event.storeUuid());
+    }
+}
@@ -0,0 +1,7 @@
+package org.viators.personalfinanceapp.store;
+
+/**
+ * Published when a store is updated, deactivated, reactivated or deleted, so cached lookups of it are dropped.
+ */
+public record StoreChangedEvent(Long storeId, String storeUuid) {
+}
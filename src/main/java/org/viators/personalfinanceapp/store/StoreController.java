@@ -1,5 +1,8 @@
 package org.viators.personalfinanceapp.store;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +14,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.viators.personalfinanceapp.common.etag.ETags;
+import org.viators.personalfinanceapp.common.pagination.CursorSliceResponse;
 import org.viators.personalfinanceapp.store.dto.request.CreateStoreRequest;
 import org.viators.personalfinanceapp.store.dto.request.StoreFilterRequest;
 import org.viators.personalfinanceapp.store.dto.request.UpdateStoreRequest;
@@ -30,16 +36,32 @@ public class StoreController {
 
     @GetMapping
     public ResponseEntity<Page<StoreSummaryResponse>> getStores(@AuthenticationPrincipal(expression = "currentUser.uuid") String userUuid,
-                                                                @PageableDefault(size = 12, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<StoreSummaryResponse> response = storeService.getStores(userUuid, pageable);
+                                                                @PageableDefault(size = 12, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                                                WebRequest webRequest) {
+        String eTag = storeService.getStoresETag(userUuid, pageable);
+        return ETags.conditional(webRequest, eTag, () -> storeService.getStores(userUuid, pageable));
+    }
+
+    @GetMapping(params = "pagination=cursor")
+    @Operation(
+            summary = "List global and user's stores with cursor pagination",
+            description = "Opt-in keyset pagination, newest first. Pass the returned nextCursor to get the next slice. "
+                    + "No total count is computed, so deep slices stay as fast as the first one.")
+    @ApiResponse(responseCode = "200", description = "Stores retrieved successfully")
+    public ResponseEntity<CursorSliceResponse<StoreSummaryResponse>> getStoresSlice(@AuthenticationPrincipal(expression = "currentUser.uuid") String userUuid,
+                                                                                    @Parameter(description = "Token from the previous slice, omit for the first one")
+                                                                                    @RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(defaultValue = "12") int size) {
+        CursorSliceResponse<StoreSummaryResponse> response = storeService.getStoresSlice(userUuid, cursor, size);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{storeUuid}")
     public ResponseEntity<StoreDetailsResponse> getStore(@AuthenticationPrincipal(expression = "currentUser.uuid") String userUuid,
-                                                         @PathVariable String storeUuid) {
-        StoreDetailsResponse response = storeService.getStore(userUuid, storeUuid);
-        return ResponseEntity.ok(response);
+                                                         @PathVariable String storeUuid,
+                                                         WebRequest webRequest) {
+        String eTag = storeService.getStoreETag(userUuid, storeUuid);
+        return ETags.conditional(webRequest, eTag, () -> storeService.getStore(userUuid, storeUuid));
     }
 
     @GetMapping("/search")
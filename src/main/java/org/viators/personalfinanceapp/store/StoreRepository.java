@@ -7,7 +7,10 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.common.etag.EntityVersion;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,6 +26,16 @@ public interface StoreRepository extends JpaRepository<Store, Long>, JpaSpecific
                                                                 @Param("status") String status,
                                                                 @Param("userUuid") String userUuid);
 
+    @Query("""
+            select s from Store s
+            where s.name in :names
+            and s.status = :status
+            and (s.user is null or s.user.uuid = :userUuid)
+            """)
+    List<Store> findAllByNameInAndStatusAndUserIsNullOrUser_Uuid(@Param("names") Collection<String> names,
+                                                                 @Param("status") String status,
+                                                                 @Param("userUuid") String userUuid);
+
     @Query("""
             select s from Store s
             where s.name = :name
@@ -35,6 +48,24 @@ public interface StoreRepository extends JpaRepository<Store, Long>, JpaSpecific
 
     Optional<Store> findByUuidAndStatus(String uuid, String status);
 
+    @Query("""
+            select new org.viators.personalfinanceapp.store.StoreAccess(s.id, u.uuid)
+            from Store s
+            left join s.user u
+            where s.uuid = :uuid
+            and s.status = :status
+            """)
+    Optional<StoreAccess> findAccessByUuidAndStatus(@Param("uuid") String uuid, @Param("status") String status);
+
+    @Query("""
+            select new org.viators.personalfinanceapp.store.StoreVersionStamp(u.uuid, s.version, u.version)
+            from Store s
+            left join s.user u
+            where s.uuid = :uuid
+            and s.status = :status
+            """)
+    Optional<StoreVersionStamp> findVersionStamp(@Param("uuid") String uuid, @Param("status") String status);
+
     Optional<Store> findByUuid(String uuid);
 
     Optional<Store> findByUuidAndStatusAndUserIsNotNull(String uuid, String status);
@@ -50,6 +81,22 @@ public interface StoreRepository extends JpaRepository<Store, Long>, JpaSpecific
                                               @Param("userUuid") String userUuid,
                                               Pageable pageable);
 
+    // Same rows and order as findAllAvailableStoresForUser, only their ids and versions
+    @Query(value = """
+            select new org.viators.personalfinanceapp.common.etag.EntityVersion(s.id, s.version)
+            from Store s
+            where s.status = :status
+            and (s.user is null or s.user.uuid = :userUuid)
+            """,
+            countQuery = """
+            select count(s) from Store s
+            where s.status = :status
+            and (s.user is null or s.user.uuid = :userUuid)
+            """)
+    Page<EntityVersion> findAvailableStoreVersionsForUser(@Param("status") String status,
+                                                          @Param("userUuid") String userUuid,
+                                                          Pageable pageable);
+
     boolean existsByNameIgnoreCaseAndStatusAndUserIsNotNullAndUser_Uuid(String name, String status, String userUuid);
 
 }
@@ -1,13 +1,20 @@
 package org.viators.personalfinanceapp.store;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.etag.ETags;
+import org.viators.personalfinanceapp.common.pagination.CursorSliceResponse;
+import org.viators.personalfinanceapp.common.pagination.CursorTokens;
 import org.viators.personalfinanceapp.exceptions.DuplicateResourceException;
 import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
 import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
@@ -19,23 +26,65 @@ import org.viators.personalfinanceapp.store.dto.response.StoreSummaryResponse;
 import org.viators.personalfinanceapp.user.User;
 import org.viators.personalfinanceapp.user.UserService;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class StoreService {
 
+    private static final Sort NEWEST_FIRST_KEYSET = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final StoreRepository storeRepository;
+    private final StoreAccessCache storeAccessCache;
 
     // Other Service Dependencies
     private final UserService userService;
     private final OwnershipAuthorizationService ownershipAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Returns a reference to the active store, resolved and access-checked through {@link StoreAccessCache}.
+     */
     public Store getActiveStoreThatIsGlobalOrBelongsToUser(String storeUuid, String loggedInUserUuid) {
-        return storeRepository.findByUuidAndStatusAndUserIsNullOrUser_Uuid(storeUuid,
-                        StatusEnum.ACTIVE.getCode(),
-                        loggedInUserUuid)
+        StoreAccess access = storeAccessCache.findActiveStore(storeUuid)
+                .filter(found -> found.isAccessibleBy(loggedInUserUuid))
                 .orElseThrow(() -> new ResourceNotFoundException("Store was not found for this user"));
+        return storeRepository.getReferenceById(access.storeId());
+    }
+
+    /**
+     * Reference to a store whose access was already checked, for example by a batch ownership check.
+     */
+    public Store getStoreReference(Long storeId) {
+        return storeRepository.getReferenceById(storeId);
+    }
+
+    /**
+     * Resolves stores by name. When the user owns a store with the same name as a global one,
+     * the user's own store wins.
+     */
+    public Map<String, Store> getActiveStoresByNameThatAreGlobalOrBelongToUser(Collection<String> storeNames,
+                                                                               String loggedInUserUuid) {
+        if (storeNames.isEmpty()) {
+            return Map.of();
+        }
+
+        return storeRepository.findAllByNameInAndStatusAndUserIsNullOrUser_Uuid(storeNames,
+                        StatusEnum.ACTIVE.getCode(), loggedInUserUuid)
+                .stream()
+                .collect(Collectors.toMap(Store::getName, Function.identity(),
+                        (first, second) -> first.getUser() != null ? first : second));
+    }
+
+    public String getStoresETag(String userUuid, Pageable pageable) {
+        return ETags.ofPage(storeRepository.findAvailableStoreVersionsForUser(StatusEnum.ACTIVE.getCode(),
+                userUuid, pageable));
     }
 
     public Page<StoreSummaryResponse> getStores(String userUuid, Pageable pageable) {
@@ -43,9 +92,37 @@ public class StoreService {
         return stores.map(StoreSummaryResponse::from);
     }
 
+    /**
+     * Cursor-paginated variant of {@link #getStores}: seeks on (createdAt, id) and runs no count query.
+     */
+    public CursorSliceResponse<StoreSummaryResponse> getStoresSlice(String userUuid, String cursor, int size) {
+        Specification<Store> spec = Specification.where(StoreSpecs.hasStatus(StatusEnum.ACTIVE))
+                .and(StoreSpecs.isGlobalOrBelongsToUser(userUuid));
+
+        Window<Store> window = storeRepository.findBy(spec, query -> query
+                .sortBy(NEWEST_FIRST_KEYSET)
+                .limit(CursorTokens.clampSize(size))
+                .scroll(CursorTokens.decode(cursor)));
+
+        return CursorTokens.toResponse(window, StoreSummaryResponse::from);
+    }
+
+    /**
+     * Entity tag of the details {@link #getStore} would return, read without loading the store.
+     */
+    public String getStoreETag(String userUuid, String storeUuid) {
+        StoreVersionStamp stamp = storeRepository.findVersionStamp(storeUuid, StatusEnum.ACTIVE.getCode())
+                .filter(found -> found.isAccessibleBy(userUuid))
+                .orElseThrow(() -> new ResourceNotFoundException("Store", storeUuid));
+
+        return ETags.of(stamp);
+    }
+
     public StoreDetailsResponse getStore(String userUuid, String storeUuid) {
-        Store store = storeRepository.findByUuidAndStatusAndUserIsNullOrUser_Uuid(
-                        storeUuid, StatusEnum.ACTIVE.getCode(), userUuid)
+        // Access is checked on the cached owner uuid, before the store is read
+        Store store = storeAccessCache.findActiveStore(storeUuid)
+                .filter(access -> access.isAccessibleBy(userUuid))
+                .flatMap(access -> storeRepository.findById(access.storeId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Store", storeUuid));
 
         return StoreDetailsResponse.from(store);
@@ -70,43 +147,65 @@ public class StoreService {
     @Transactional
     public StoreSummaryResponse update(String userUuid, String storeUuid, UpdateStoreRequest request) {
 
-        Store store = storeRepository.findByUuidAndStatus(storeUuid, StatusEnum.ACTIVE.getCode())
+        Store store = findStore(storeUuid, StatusEnum.ACTIVE)
                 .orElseThrow(() -> new ResourceNotFoundException("Store", storeUuid));
 
-        ownershipAuthorizationService.verifyOwnership(userUuid, store.getUser().getUuid());
+        ownershipAuthorizationService.verifyOwnership(userUuid, store.getUser());
 
         request.updateStore(store);
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId(), storeUuid));
         return StoreSummaryResponse.from(store);
     }
 
     @Transactional
     public void deActivateStore(String userUuid, String storeUuid) {
-        Store store = storeRepository.findByUuidAndStatusAndUserIsNotNull(storeUuid, StatusEnum.ACTIVE.getCode())
+        Store store = findStore(storeUuid, StatusEnum.ACTIVE)
+                .filter(found -> found.getUser() != null)
                 .orElseThrow(() -> new ResourceNotFoundException("Store with uuid: %s not found or is already inactive.".formatted(storeUuid)));
 
-        ownershipAuthorizationService.verifyOwnership(userUuid, store.getUser().getUuid());
+        ownershipAuthorizationService.verifyOwnership(userUuid, store.getUser());
         store.setStatus(StatusEnum.INACTIVE.getCode());
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId(), storeUuid));
     }
 
     @Transactional
     public void reActivateStore(String userUuid, String storeUuid) {
-        Store store = storeRepository.findByUuidAndStatusAndUserIsNotNull(storeUuid, StatusEnum.INACTIVE.getCode())
+        Store store = findStore(storeUuid, StatusEnum.INACTIVE)
+                .filter(found -> found.getUser() != null)
                 .orElseThrow(() -> new ResourceNotFoundException("Store with uuid: %s not found or is already active.".formatted(storeUuid)));
 
-        ownershipAuthorizationService.verifyOwnership(userUuid, store.getUser().getUuid());
+        ownershipAuthorizationService.verifyOwnership(userUuid, store.getUser());
         store.setStatus(StatusEnum.ACTIVE.getCode());
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId(), storeUuid));
     }
 
     @Transactional
     public void deleteStore(String storeUuid) {
-        Store store = storeRepository.findByUuidAndStatusAndUserIsNull(storeUuid, StatusEnum.ACTIVE.getCode())
+        Store store = findStore(storeUuid, StatusEnum.ACTIVE)
+                .filter(found -> found.getUser() == null)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Store with uuid: %s not found or is inactive or belongs to a user".formatted(storeUuid))
                 );
 
         storeRepository.delete(store);
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId(), storeUuid));
+    }
+
+    /**
+     * Resolves an active store to its id through {@link StoreAccessCache} and reads it by id, which the
+     * second-level cache serves; stores in any other status are queried.
+     */
+    private Optional<Store> findStore(String storeUuid, StatusEnum status) {
+        if (status != StatusEnum.ACTIVE) {
+            return storeRepository.findByUuidAndStatus(storeUuid, status.getCode());
+        }
+
+        return storeAccessCache.findActiveStore(storeUuid)
+                .flatMap(access -> storeRepository.findById(access.storeId()))
+                .filter(store -> status.getCode().equals(store.getStatus()));
     }
 
+    @Timed("app.service")
     public Page<StoreSummaryResponse> getStoresBasedOnFilters(String userUuid, StoreFilterRequest filter, Pageable pageable) {
         Specification<Store> specs = Specification.where(StoreSpecs.belongsToUser(userUuid));
 
@@ -6,7 +6,10 @@ import org.springframework.data.jpa.domain.Specification;
 import org.viators.personalfinanceapp.common.enums.StatusEnum;
 import org.viators.personalfinanceapp.common.enums.StoreTypeEnum;
 
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
+import org.viators.personalfinanceapp.user.User;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class StoreSpecs {
@@ -16,6 +19,16 @@ public class StoreSpecs {
                 criteriaBuilder.equal(root.get("user").get("uuid"), userUuid);
     }
 
+    public static Specification<Store> isGlobalOrBelongsToUser(String userUuid) {
+        return (root, query, criteriaBuilder) -> {
+            // Left join keeps global stores, which have no user
+            Join<Store, User> userJoin = root.join("user", JoinType.LEFT);
+            return criteriaBuilder.or(
+                    criteriaBuilder.isNull(root.get("user")),
+                    criteriaBuilder.equal(userJoin.get("uuid"), userUuid));
+        };
+    }
+
     public static Specification<Store> hasStoreType(StoreTypeEnum storeType) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get("storeType"), storeType);
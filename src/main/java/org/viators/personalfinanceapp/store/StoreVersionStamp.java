@@ -0,0 +1,17 @@
+package org.viators.personalfinanceapp.store;
+
+/**
+ * Versions of a store and of the owner its details show.
+ *
+ * @param ownerUuid    null for a global store
+ * @param ownerVersion null for a global store
+ */
+public record StoreVersionStamp(
+        String ownerUuid,
+        Long storeVersion,
+        Long ownerVersion
+) {
+    public boolean isAccessibleBy(String userUuid) {
+        return ownerUuid == null || ownerUuid.equals(userUuid);
+    }
+}
@@ -0,0 +1,51 @@
+package org.viators.personalfinanceapp.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.viators.personalfinanceapp.common.cache.LookupCaches;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Ids of active users by uuid, so write paths can attach the user as a reference instead of reading it.
+ *
+ * <p>Only the id is cached, never the entity, so nothing detached leaks into later persistence contexts.
+ * Entries are dropped once a {@link UserChangedEvent} commits; the TTL bounds how long an entry loaded
+ * concurrently with a deactivation can survive it. Unknown and inactive users are not cached.</p>
+ */
+@Component
+public class ActiveUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> userIds;
+
+    public ActiveUserCache(UserRepository userRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${lookup-cache.users.max-size:10000}") long maxSize,
+                           @Value("${lookup-cache.users.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.userIds = LookupCaches.build("users", maxSize, ttl, meterRegistry);
+    }
+
+    public Optional<Long> findActiveUserId(String userUuid) {
+        Long userId = userIds.getIfPresent(userUuid);
+        if (userId != null) {
+            return Optional.of(userId);
+        }
+
+        // Loaded outside of the cache's own locking, a lookup must not hold up other keys while it reads
+        Optional<Long> loaded = userRepository.findIdByUuidAndStatus(userUuid, StatusEnum.ACTIVE.getCode());
+        loaded.ifPresent(id -> userIds.put(userUuid, id));
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        userIds.invalidate(event.userUuid());
+    }
+}
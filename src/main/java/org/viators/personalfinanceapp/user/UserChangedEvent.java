@@ -0,0 +1,7 @@
+package org.viators.personalfinanceapp.user;
+
+/**
+ * Published when a user is updated or deactivated, so cached lookups of it are dropped.
+ */
+public record UserChangedEvent(String userUuid) {
+}
@@ -0,0 +1,160 @@
+package org.viators.personalfinanceapp.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.basket.BasketRepository;
+import org.viators.personalfinanceapp.basket.dto.response.BasketSummaryResponse;
+import org.viators.personalfinanceapp.category.CategoryRepository;
+import org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.metrics.SqlStatementCounter;
+import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+import org.viators.personalfinanceapp.inflationreport.InflationReportRepository;
+import org.viators.personalfinanceapp.inflationreport.dto.response.InflationReportSummaryResponse;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
+import org.viators.personalfinanceapp.pricealert.PriceAlertRepository;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListRepository;
+import org.viators.personalfinanceapp.shoppinglist.dto.response.ShoppingListSummaryResponse;
+import org.viators.personalfinanceapp.user.dto.response.UserDetailsResponse;
+import org.viators.personalfinanceapp.userpreferences.UserPreferencesRepository;
+import org.viators.personalfinanceapp.userpreferences.dto.response.UserPreferencesSummaryResponse;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Assembles {@link UserDetailsResponse} from one small query per collection instead of a single
+ * fetch join over all of them, whose result set is the product of the collection sizes.
+ *
+ * <p>Collections are read as DTO projections, concurrently on virtual threads, each in its own
+ * read-only transaction, and hold at most {@code max-collection-size} entries, newest first.
+ * Every query holds a connection, so the number running at once across all requests is capped
+ * by {@code max-concurrent-queries} to keep the loader from draining the pool. The user itself is
+ * looked up on a worker as well: the request thread runs no query, so with open-in-view it never
+ * borrows a connection that it would hold, outside the cap, while its workers wait for theirs.</p>
+ */
+@Component
+@Slf4j
+public class UserDetailsLoader {
+
+    private final UserRepository userRepository;
+    private final UserPreferencesRepository userPreferencesRepository;
+    private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final PriceAlertRepository priceAlertRepository;
+    private final ShoppingListRepository shoppingListRepository;
+    private final InflationReportRepository inflationReportRepository;
+    private final BasketRepository basketRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore querySlots;
+    private final Limit collectionLimit;
+
+    public UserDetailsLoader(UserRepository userRepository,
+                             UserPreferencesRepository userPreferencesRepository,
+                             ItemRepository itemRepository,
+                             CategoryRepository categoryRepository,
+                             PriceAlertRepository priceAlertRepository,
+                             ShoppingListRepository shoppingListRepository,
+                             InflationReportRepository inflationReportRepository,
+                             BasketRepository basketRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${user-details.max-collection-size:100}") int maxCollectionSize,
+                             @Value("${user-details.max-concurrent-queries:8}") int maxConcurrentQueries) {
+        this.userRepository = userRepository;
+        this.userPreferencesRepository = userPreferencesRepository;
+        this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.priceAlertRepository = priceAlertRepository;
+        this.shoppingListRepository = shoppingListRepository;
+        this.inflationReportRepository = inflationReportRepository;
+        this.basketRepository = basketRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.querySlots = new Semaphore(maxConcurrentQueries);
+        this.collectionLimit = Limit.of(maxCollectionSize);
+    }
+
+    public UserDetailsResponse load(String userUuid) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Looked up first so an unknown uuid costs one query instead of eight
+            User user = join(submit(executor, () -> userRepository.findByUuid(userUuid)))
+                    .orElseThrow(() -> new ResourceNotFoundException("No user found with this uuid"));
+            String active = StatusEnum.ACTIVE.getCode();
+
+            Future<UserPreferencesSummaryResponse> preferences = submit(executor, () -> userPreferencesRepository
+                    .findWithPreferredStoresByUser_Uuid(userUuid)
+                    .map(UserPreferencesSummaryResponse::from)
+                    .orElse(null));
+            Future<List<ItemSummaryResponse>> items = submit(executor,
+                    () -> itemRepository.findSummariesByUserUuid(userUuid, active, collectionLimit));
+            Future<List<CategorySummaryResponse>> categories = submit(executor,
+                    () -> categoryRepository.findSummariesByUserUuid(userUuid, active, collectionLimit));
+            Future<List<PriceAlertSummaryResponse>> priceAlerts = submit(executor,
+                    () -> priceAlertRepository.findSummariesByUserUuid(userUuid, collectionLimit));
+            Future<List<ShoppingListSummaryResponse>> shoppingLists = submit(executor,
+                    () -> shoppingListRepository.findAllSummariesByUserUuid(userUuid, collectionLimit));
+            Future<List<InflationReportSummaryResponse>> inflationReports = submit(executor,
+                    () -> inflationReportRepository.findSummariesByUserUuid(userUuid, active, collectionLimit));
+            Future<List<BasketSummaryResponse>> baskets = submit(executor,
+                    () -> basketRepository.findSummariesByUserUuid(userUuid, collectionLimit));
+
+            return new UserDetailsResponse(
+                    user.getUuid(),
+                    user.getUsername(),
+                    user.getFirstName().concat(" ").concat(user.getLastName()),
+                    user.getEmail(),
+                    StatusEnum.ACTIVE.getCode().equals(user.getStatus()),
+                    user.getUserRole(),
+                    user.getCreatedAt(),
+                    join(preferences),
+                    join(items),
+                    join(categories),
+                    join(priceAlerts),
+                    join(shoppingLists),
+                    join(inflationReports),
+                    join(baskets)
+            );
+        }
+    }
+
+    private <T> Future<T> submit(ExecutorService executor, Supplier<T> query) {
+        // Counted for the request, like the statements of the request thread
+        return executor.submit(SqlStatementCounter.propagate(() -> {
+            querySlots.acquire();
+            try {
+                return inTransaction(query);
+            } finally {
+                querySlots.release();
+            }
+        }));
+    }
+
+    private <T> T inTransaction(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Loading user details failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading user details", e);
+        }
+    }
+}
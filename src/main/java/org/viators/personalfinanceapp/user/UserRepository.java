@@ -23,6 +23,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUuidAndStatus(String uuid, String status);
 
+    @Query("select u.id from User u where u.uuid = :uuid and u.status = :status")
+    Optional<Long> findIdByUuidAndStatus(@Param("uuid") String uuid, @Param("status") String status);
+
     int countAllByUserRoleAndStatus(UserRolesEnum userRole, String status);
 
     @Query("""
@@ -39,17 +42,4 @@ public interface UserRepository extends JpaRepository<User, Long> {
             @Param("dateFrom") LocalDateTime dateFrom,
             @Param("dateTo") LocalDateTime dateTo
     );
-
-    @Query("""
-            select u from User u
-            left join fetch u.inflationReports
-            left join fetch u.baskets
-            left join fetch u.categories
-            left join fetch u.items
-            left join fetch u.priceAlerts
-            left join fetch u.shoppingLists
-            left join fetch u.priceComparisons
-            left join fetch u.userPreferences
-            where u.uuid = :uuid""")
-    Optional<User> findUserByUuidWithAllRelationships(@Param("uuid") String uuid);
 }
\ No newline at end of file
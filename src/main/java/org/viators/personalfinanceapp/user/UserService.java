@@ -2,6 +2,7 @@ package org.viators.personalfinanceapp.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,9 +25,12 @@ import org.viators.personalfinanceapp.userpreferences.UserPreferences;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserDetailsLoader userDetailsLoader;
+    private final ActiveUserCache activeUserCache;
 
     // Other Dependencies
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserSummaryResponse registerUser(CreateUserRequest request) {
@@ -78,6 +82,7 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("User with uuid: %s does not exist or is inactive", uuid)));
 
         updateUserRequest.updateUser(userToUpdate); // No need to call save() - dirty checking handles it!
+        eventPublisher.publishEvent(new UserChangedEvent(uuid));
         return UserSummaryResponse.from(userToUpdate);
     }
 
@@ -87,6 +92,7 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User does not exist or is already deactivated"));
 
         userToDeactivate.setStatus(StatusEnum.INACTIVE.getCode());
+        eventPublisher.publishEvent(new UserChangedEvent(uuid));
     }
 
     @Transactional(readOnly = true)
@@ -110,10 +116,7 @@ public class UserService {
     }
 
     public UserDetailsResponse findUserByUuidWithAllRelationships(String uuid) {
-        User result = userRepository.findUserByUuidWithAllRelationships(uuid)
-                .orElseThrow(() -> new ResourceNotFoundException("No user found with this uuid"));
-
-        return UserDetailsResponse.from(result);
+        return userDetailsLoader.load(uuid);
     }
 
     public UserSummaryResponse findUserByUuid(String uuid) {
@@ -123,8 +126,13 @@ public class UserService {
         return UserSummaryResponse.from(result);
     }
 
+    /**
+     * Returns a reference to the active user, resolved through {@link ActiveUserCache}. The user row is
+     * only read if the caller touches more than its id, so attaching it to a new entity costs no query.
+     */
     public User findActiveUser(String userUuid) {
-        return userRepository.findByUuidAndStatus(userUuid, StatusEnum.ACTIVE.getCode())
+        Long userId = activeUserCache.findActiveUserId(userUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "uuid", userUuid));
+        return userRepository.getReferenceById(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package org.viators.personalfinanceapp.userevent;
+
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+
+/**
+ * One event for one user. {@code payload} is serialized to JSON as the SSE {@code data} field.
+ */
+public record UserEvent(
+        String userUuid,
+        UserEventTypeEnum type,
+        Object payload
+) {
+}
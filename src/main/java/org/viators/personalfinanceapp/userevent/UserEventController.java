@@ -0,0 +1,39 @@
+package org.viators.personalfinanceapp.userevent;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+@Tag(name = "Events", description = "Live updates for the logged in user")
+public class UserEventController {
+
+    private final UserEventRegistry userEventRegistry;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream live events",
+            description = "Server-Sent Events stream of price-recorded, alert-triggered and shopping-list-total-changed "
+                    + "events of the logged in user. A resync event means events were dropped because the client "
+                    + "fell behind, so state should be reloaded. The stream closes after a while; clients reconnect.")
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    public ResponseEntity<SseEmitter> streamEvents(
+            @AuthenticationPrincipal(expression = "currentUser.uuid") String loggedInUserUuid) {
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no") // Stops reverse proxies from buffering the stream
+                .body(userEventRegistry.subscribe(loggedInUserUuid));
+    }
+}
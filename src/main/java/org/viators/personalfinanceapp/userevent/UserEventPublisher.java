@@ -0,0 +1,37 @@
+package org.viators.personalfinanceapp.userevent;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+
+import java.util.function.Supplier;
+
+/**
+ * Entry point for producers of {@link UserEvent}s.
+ *
+ * <p>Inside a transaction the event is held back until commit, so clients never see a change that
+ * is rolled back afterwards. The payload is built at that point too, once generated values such as
+ * uuids of cascaded entities have been assigned.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEventPublisher {
+
+    private final UserEventRegistry userEventRegistry;
+
+    public void publishAfterCommit(String userUuid, UserEventTypeEnum type, Supplier<?> payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userEventRegistry.publish(new UserEvent(userUuid, type, payload.get()));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userEventRegistry.publish(new UserEvent(userUuid, type, payload.get()));
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package org.viators.personalfinanceapp.userevent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process fan-out of {@link UserEvent}s to the open event streams of each user.
+ *
+ * <p>Every stream is parked on its own virtual thread while idle, which costs a few hundred bytes,
+ * so very many open connections are cheap. Publishing is a map lookup plus a non-blocking offer per
+ * stream of that user. Events only reach streams connected to this instance.</p>
+ */
+@Component
+@Slf4j
+public class UserEventRegistry implements DisposableBean {
+
+    private final Map<String, List<UserEventSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Duration emitterTimeout;
+    private final Duration heartbeatInterval;
+    private final int queueCapacity;
+    private final int maxStreamsPerUser;
+
+    public UserEventRegistry(@Value("${user-events.emitter-timeout:30m}") Duration emitterTimeout,
+                             @Value("${user-events.heartbeat-interval:25s}") Duration heartbeatInterval,
+                             @Value("${user-events.queue-capacity:256}") int queueCapacity,
+                             @Value("${user-events.max-streams-per-user:5}") int maxStreamsPerUser) {
+        this.emitterTimeout = emitterTimeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.queueCapacity = queueCapacity;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+    }
+
+    /**
+     * Opens a new stream for the user. Beyond {@code max-streams-per-user} the oldest stream is closed.
+     */
+    public SseEmitter subscribe(String userUuid) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        UserEventSubscription subscription = new UserEventSubscription(userUuid, emitter, queueCapacity, heartbeatInterval);
+
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+
+        subscriptions.compute(userUuid, (uuid, streams) -> {
+            List<UserEventSubscription> result = streams != null ? streams : new CopyOnWriteArrayList<>();
+            while (result.size() >= maxStreamsPerUser) {
+                result.removeFirst().close();
+            }
+            result.add(subscription);
+            return result;
+        });
+
+        subscription.start();
+        log.debug("User {} opened an event stream", userUuid);
+        return emitter;
+    }
+
+    /**
+     * Hands the event to every open stream of its user without waiting for any of them.
+     */
+    public void publish(UserEvent event) {
+        List<UserEventSubscription> streams = subscriptions.get(event.userUuid());
+        if (streams == null) {
+            return;
+        }
+
+        for (UserEventSubscription subscription : streams) {
+            if (!subscription.offer(event)) {
+                log.debug("Event stream of user {} fell behind, events were replaced by a resync", event.userUuid());
+            }
+        }
+    }
+
+    public int streamCount() {
+        return subscriptions.values().stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+        subscriptions.values().forEach(streams -> streams.forEach(UserEventSubscription::close));
+        subscriptions.clear();
+    }
+
+    private void unsubscribe(UserEventSubscription subscription) {
+        subscription.close();
+        subscriptions.computeIfPresent(subscription.getUserUuid(), (uuid, streams) -> {
+            streams.remove(subscription);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package org.viators.personalfinanceapp.userevent;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One open event stream: a bounded queue filled by producers and drained by its own virtual thread.
+ *
+ * <p>Producers only ever {@code offer} to the queue, so a slow client can never block them. When the
+ * queue is full the pending events are dropped and replaced by a single {@code resync} event, telling
+ * the client to reload its state instead of trusting a stream with gaps.</p>
+ */
+@Slf4j
+class UserEventSubscription {
+
+    @Getter
+    private final String userUuid;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<UserEvent> queue;
+    private final Duration heartbeatInterval;
+    private final AtomicLong eventIds = new AtomicLong();
+    private volatile boolean closed;
+
+    UserEventSubscription(String userUuid, SseEmitter emitter, int queueCapacity, Duration heartbeatInterval) {
+        this.userUuid = userUuid;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    void start() {
+        Thread.ofVirtual().name("user-events-" + userUuid).start(this::drain);
+    }
+
+    /**
+     * Never blocks.
+     *
+     * @return false if the client fell behind and events had to be dropped
+     */
+    boolean offer(UserEvent event) {
+        if (closed) {
+            return true;
+        }
+        if (queue.offer(event)) {
+            return true;
+        }
+
+        queue.clear();
+        queue.offer(new UserEvent(userUuid, UserEventTypeEnum.RESYNC, null));
+        return false;
+    }
+
+    void close() {
+        closed = true;
+        // Wakes the drain thread so it notices the close without waiting for the next heartbeat
+        queue.offer(new UserEvent(userUuid, UserEventTypeEnum.RESYNC, null));
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                UserEvent event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (closed) {
+                    break;
+                }
+
+                if (event == null) {
+                    // Keeps proxies from cutting the idle connection and detects clients that went away
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (event.payload() == null) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(eventIds.incrementAndGet()))
+                            .name(event.type().getEventName())
+                            .data(""));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(eventIds.incrementAndGet()))
+                            .name(event.type().getEventName())
+                            .data(event.payload(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream of user {} closed by the client: {}", userUuid, e.getMessage());
+            closed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+        emitter.complete();
+    }
+}
@@ -0,0 +1,29 @@
+package org.viators.personalfinanceapp.userevent.dto.response;
+
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.pricealert.PriceAlertIndexEntry;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+
+import java.math.BigDecimal;
+
+public record AlertTriggeredEvent(
+        String alertUuid,
+        AlertTypeEnum alertType,
+        String itemUuid,
+        String itemName,
+        BigDecimal price,
+        CurrencyEnum currency
+) {
+
+    public static AlertTriggeredEvent from(PriceAlertIndexEntry alert, PriceObservation priceObservation) {
+        return new AlertTriggeredEvent(
+                alert.alertUuid(),
+                alert.alertType(),
+                priceObservation.getItem().getUuid(),
+                priceObservation.getItem().getName(),
+                priceObservation.getPrice(),
+                priceObservation.getCurrency()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package org.viators.personalfinanceapp.userevent.dto.response;
+
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PriceRecordedEvent(
+        String itemUuid,
+        String itemName,
+        String observationUuid,
+        BigDecimal price,
+        CurrencyEnum currency,
+        LocalDate observationDate
+) {
+
+    public static PriceRecordedEvent from(PriceObservation priceObservation) {
+        return new PriceRecordedEvent(
+                priceObservation.getItem().getUuid(),
+                priceObservation.getItem().getName(),
+                priceObservation.getUuid(),
+                priceObservation.getPrice(),
+                priceObservation.getCurrency(),
+                priceObservation.getObservationDate()
+        );
+    }
+}
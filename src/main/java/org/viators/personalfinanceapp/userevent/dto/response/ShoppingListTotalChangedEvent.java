@@ -0,0 +1,15 @@
+package org.viators.personalfinanceapp.userevent.dto.response;
+
+import org.viators.personalfinanceapp.shoppinglist.ShoppingList;
+
+import java.math.BigDecimal;
+
+public record ShoppingListTotalChangedEvent(
+        String shoppingListUuid,
+        BigDecimal totalAmount
+) {
+
+    public static ShoppingListTotalChangedEvent from(ShoppingList shoppingList) {
+        return new ShoppingListTotalChangedEvent(shoppingList.getUuid(), shoppingList.getTotalAmount());
+    }
+}
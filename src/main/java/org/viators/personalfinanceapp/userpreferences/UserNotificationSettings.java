@@ -0,0 +1,17 @@
+package org.viators.personalfinanceapp.userpreferences;
+
+import org.viators.personalfinanceapp.common.enums.NotificationChannelEnum;
+
+/**
+ * The notification flags of one user's {@link UserPreferences}, read without loading the preferences entity.
+ */
+public record UserNotificationSettings(
+        String userUuid,
+        boolean notificationEnabled,
+        boolean emailAlerts
+) {
+
+    public boolean allows(NotificationChannelEnum channel) {
+        return notificationEnabled && (channel != NotificationChannelEnum.EMAIL || emailAlerts);
+    }
+}
@@ -3,6 +3,9 @@ package org.viators.personalfinanceapp.userpreferences;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalIdCache;
 import org.viators.personalfinanceapp.common.BaseEntity;
 import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
 import org.viators.personalfinanceapp.common.enums.LanguageEnum;
@@ -14,6 +17,9 @@ import java.util.Set;
 
 @Entity
 @Table(name = "user_preferences")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-preferences")
+@NaturalIdCache(region = "user-preferences-natural-id")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +46,7 @@ public class UserPreferences extends BaseEntity {
     private Boolean emailAlerts;
 
     @ManyToMany()
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-preferences-preferred-stores")
     @JoinTable(
             name = "user_preferred_stores",
             joinColumns = @JoinColumn(name = "user_preference_id"),
@@ -48,7 +55,7 @@ public class UserPreferences extends BaseEntity {
     @Builder.Default
     private Set<Store> preferredStores = new HashSet<>();
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.viators.personalfinanceapp.common.etag.ETags;
 import org.viators.personalfinanceapp.userpreferences.dto.request.UpdatePreferredStoresRequest;
 import org.viators.personalfinanceapp.userpreferences.dto.request.UpdateUserPrefRequest;
 import org.viators.personalfinanceapp.userpreferences.dto.response.UserPreferencesSummaryResponse;
@@ -21,9 +23,10 @@ public class UserPreferencesController {
     private final UserRepository userRepository;
 
     @GetMapping("/{uuid}")
-    public ResponseEntity<UserPreferencesSummaryResponse> getUserPreferences(@PathVariable String uuid) {
-        UserPreferencesSummaryResponse response = userPreferencesService.getPreferences(uuid);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<UserPreferencesSummaryResponse> getUserPreferences(@PathVariable String uuid,
+                                                                             WebRequest webRequest) {
+        String eTag = userPreferencesService.getPreferencesETag(uuid);
+        return ETags.conditional(webRequest, eTag, () -> userPreferencesService.getPreferences(uuid));
     }
 
     @PutMapping("/{uuid}")
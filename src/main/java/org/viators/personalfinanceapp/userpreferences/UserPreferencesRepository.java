@@ -1,8 +1,17 @@
 package org.viators.personalfinanceapp.userpreferences;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.viators.personalfinanceapp.common.etag.VersionStamp;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,6 +19,32 @@ public interface UserPreferencesRepository extends JpaRepository<UserPreferences
 
     // The underscore (`_`), "traversal delimiter", explicitly tells Spring Data JPA to traverse into a nested entity.
     // It's resolving this path: UserPreferences.user.uuid
+    // Served from the query cache and the entity region until preferences or users change
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserPreferences> findByUser_Uuid(String uuid);
 
+    // Preferences own the preferred stores link, so changing the selection bumps their version
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.common.etag.VersionStamp(
+                up.version, COUNT(s), COALESCE(MAX(s.id), 0L), COALESCE(SUM(s.version), 0L)
+            )
+            FROM UserPreferences up
+            LEFT JOIN up.preferredStores s
+            WHERE up.user.uuid = :userUuid
+            GROUP BY up.id, up.version
+            """)
+    Optional<VersionStamp> findVersionStampByUserUuid(@Param("userUuid") String userUuid);
+
+    @EntityGraph(attributePaths = "preferredStores")
+    Optional<UserPreferences> findWithPreferredStoresByUser_Uuid(String uuid);
+
+    @Query("""
+            SELECT new org.viators.personalfinanceapp.userpreferences.UserNotificationSettings(
+                up.user.uuid, up.notificationEnabled, up.emailAlerts
+            )
+            FROM UserPreferences up
+            WHERE up.user.uuid IN :userUuids
+            """)
+    List<UserNotificationSettings> findNotificationSettings(@Param("userUuids") Collection<String> userUuids);
+
 }
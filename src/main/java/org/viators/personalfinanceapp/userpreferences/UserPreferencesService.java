@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.viators.personalfinanceapp.common.etag.ETags;
+import org.viators.personalfinanceapp.common.etag.VersionStamp;
 import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
 import org.viators.personalfinanceapp.store.Store;
 import org.viators.personalfinanceapp.store.StoreService;
@@ -11,6 +13,11 @@ import org.viators.personalfinanceapp.userpreferences.dto.request.UpdatePreferre
 import org.viators.personalfinanceapp.userpreferences.dto.request.UpdateUserPrefRequest;
 import org.viators.personalfinanceapp.userpreferences.dto.response.UserPreferencesSummaryResponse;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,6 +29,16 @@ public class UserPreferencesService {
     // Other Service dependencies
     private final StoreService storeService;
 
+    /**
+     * Entity tag of the preferences {@link #getPreferences} would return, read without loading them.
+     */
+    public String getPreferencesETag(String uuid) {
+        VersionStamp stamp = userPreferencesRepository.findVersionStampByUserUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("No such user in system."));
+
+        return ETags.of(stamp);
+    }
+
     public UserPreferencesSummaryResponse getPreferences(String uuid) {
         UserPreferences userPreferences = userPreferencesRepository.findByUser_Uuid(uuid)
                 .orElseThrow(() -> new ResourceNotFoundException("No such user in system."));
@@ -29,6 +46,18 @@ public class UserPreferencesService {
         return UserPreferencesSummaryResponse.from(userPreferences);
     }
 
+    /**
+     * Notification flags of the given users in one query, keyed by user uuid. Users without preferences are absent.
+     */
+    public Map<String, UserNotificationSettings> getNotificationSettings(Collection<String> userUuids) {
+        if (userUuids.isEmpty()) {
+            return Map.of();
+        }
+
+        return userPreferencesRepository.findNotificationSettings(userUuids).stream()
+                .collect(Collectors.toMap(UserNotificationSettings::userUuid, Function.identity()));
+    }
+
     @Transactional
     public UserPreferencesSummaryResponse updateUserPrefs(String uuid, UpdateUserPrefRequest request) {
         UserPreferences userPreferencesToUpdate = userPreferencesRepository.findByUser_Uuid(uuid)
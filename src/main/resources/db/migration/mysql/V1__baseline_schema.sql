@@ -0,0 +1,386 @@
+-- Baseline schema, matching the entity mappings (ddl-auto: validate checks it on startup).
+-- MySQL has no sequences; Hibernate emulates the pooled per-entity ones with single-row tables.
+
+CREATE TABLE user_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO user_seq VALUES (1);
+CREATE TABLE user_preferences_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO user_preferences_seq VALUES (1);
+CREATE TABLE store_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO store_seq VALUES (1);
+CREATE TABLE category_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO category_seq VALUES (1);
+CREATE TABLE item_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO item_seq VALUES (1);
+CREATE TABLE price_observation_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO price_observation_seq VALUES (1);
+CREATE TABLE price_rollup_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO price_rollup_seq VALUES (1);
+CREATE TABLE price_alert_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO price_alert_seq VALUES (1);
+CREATE TABLE price_comparison_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO price_comparison_seq VALUES (1);
+CREATE TABLE shopping_list_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO shopping_list_seq VALUES (1);
+CREATE TABLE shopping_list_item_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO shopping_list_item_seq VALUES (1);
+CREATE TABLE basket_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO basket_seq VALUES (1);
+CREATE TABLE basket_item_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO basket_item_seq VALUES (1);
+CREATE TABLE inflation_report_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO inflation_report_seq VALUES (1);
+CREATE TABLE notification_outbox_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO notification_outbox_seq VALUES (1);
+
+CREATE TABLE users (
+    id           BIGINT                      NOT NULL,
+    uuid         VARCHAR(255)                NOT NULL,
+    version      BIGINT,
+    created_by   VARCHAR(255)                NOT NULL,
+    updated_by   VARCHAR(255),
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    status       VARCHAR(1)                  NOT NULL,
+    username     VARCHAR(50)                 NOT NULL,
+    email        VARCHAR(255)                NOT NULL,
+    firstname    VARCHAR(255),
+    lastname     VARCHAR(255),
+    password     VARCHAR(255)                NOT NULL,
+    age          INTEGER,
+    user_role    ENUM ('ADMIN','USER') NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_uuid UNIQUE (uuid),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE stores (
+    id           BIGINT                      NOT NULL,
+    uuid         VARCHAR(255)                NOT NULL,
+    version      BIGINT,
+    created_by   VARCHAR(255)                NOT NULL,
+    updated_by   VARCHAR(255),
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    status       VARCHAR(1)                  NOT NULL,
+    store_name   VARCHAR(255)                NOT NULL,
+    store_type   ENUM ('SUPERMARKET','ONLINE','CONVENIENCE_STORE','PHARMACY','DEPARTMENT_STORE','SPECIALTY_SHOP','WAREHOUSE_CLUB') NOT NULL,
+    address      VARCHAR(255)                NOT NULL,
+    city         VARCHAR(255)                NOT NULL,
+    region       VARCHAR(255),
+    country      VARCHAR(255)                NOT NULL,
+    website      VARCHAR(255),
+    user_id      BIGINT,
+    CONSTRAINT pk_stores PRIMARY KEY (id),
+    CONSTRAINT uk_stores_uuid UNIQUE (uuid),
+    CONSTRAINT fk_stores_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_preferences (
+    id                   BIGINT                      NOT NULL,
+    uuid                 VARCHAR(255)                NOT NULL,
+    version              BIGINT,
+    created_by           VARCHAR(255)                NOT NULL,
+    updated_by           VARCHAR(255),
+    created_at           DATETIME(6) NOT NULL,
+    updated_at           DATETIME(6) NOT NULL,
+    status               VARCHAR(1)                  NOT NULL,
+    currency             ENUM ('EUR','USD') NOT NULL,
+    language             ENUM ('GREEK','ENGLISH') NOT NULL,
+    location             VARCHAR(255)                NOT NULL,
+    notification_enabled BIT                     NOT NULL,
+    email_alerts         BIT                     NOT NULL,
+    user_id              BIGINT                      NOT NULL,
+    CONSTRAINT pk_user_preferences PRIMARY KEY (id),
+    CONSTRAINT uk_user_preferences_uuid UNIQUE (uuid),
+    CONSTRAINT uk_user_preferences_user UNIQUE (user_id),
+    CONSTRAINT fk_user_preferences_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_preferred_stores (
+    user_preference_id BIGINT NOT NULL,
+    store_id           BIGINT NOT NULL,
+    CONSTRAINT pk_user_preferred_stores PRIMARY KEY (user_preference_id, store_id),
+    CONSTRAINT fk_user_preferred_stores_preference FOREIGN KEY (user_preference_id) REFERENCES user_preferences (id),
+    CONSTRAINT fk_user_preferred_stores_store FOREIGN KEY (store_id) REFERENCES stores (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories (
+    id            BIGINT                      NOT NULL,
+    uuid          VARCHAR(255)                NOT NULL,
+    version       BIGINT,
+    created_by    VARCHAR(255)                NOT NULL,
+    updated_by    VARCHAR(255),
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    status        VARCHAR(1)                  NOT NULL,
+    category_name VARCHAR(50)                 NOT NULL,
+    description   VARCHAR(255),
+    user_id       BIGINT                      NOT NULL,
+    CONSTRAINT pk_categories PRIMARY KEY (id),
+    CONSTRAINT uk_categories_uuid UNIQUE (uuid),
+    CONSTRAINT fk_categories_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE items (
+    id                     BIGINT                      NOT NULL,
+    uuid                   VARCHAR(255)                NOT NULL,
+    version                BIGINT,
+    created_by             VARCHAR(255)                NOT NULL,
+    updated_by             VARCHAR(255),
+    created_at             DATETIME(6) NOT NULL,
+    updated_at             DATETIME(6) NOT NULL,
+    status                 VARCHAR(1)                  NOT NULL,
+    name                   VARCHAR(255)                NOT NULL,
+    description            VARCHAR(255),
+    item_unit              ENUM ('LITER','KILOGRAM','PIECE'),
+    brand                  VARCHAR(255),
+    is_favorite            BIT                     NOT NULL,
+    current_price          DECIMAL(38, 2),
+    current_price_currency ENUM ('EUR','USD'),
+    current_price_date     DATE,
+    user_id                BIGINT                      NOT NULL,
+    CONSTRAINT pk_items PRIMARY KEY (id),
+    CONSTRAINT uk_items_uuid UNIQUE (uuid),
+    CONSTRAINT fk_items_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories_items (
+    category_id BIGINT NOT NULL,
+    item_id     BIGINT NOT NULL,
+    CONSTRAINT pk_categories_items PRIMARY KEY (category_id, item_id),
+    CONSTRAINT fk_categories_items_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_categories_items_item FOREIGN KEY (item_id) REFERENCES items (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE price_observations (
+    id               BIGINT                      NOT NULL,
+    uuid             VARCHAR(255)                NOT NULL,
+    version          BIGINT,
+    created_by       VARCHAR(255)                NOT NULL,
+    updated_by       VARCHAR(255),
+    created_at       DATETIME(6) NOT NULL,
+    updated_at       DATETIME(6) NOT NULL,
+    status           VARCHAR(1)                  NOT NULL,
+    price            DECIMAL(38, 2)              NOT NULL,
+    currency         ENUM ('EUR','USD') NOT NULL,
+    observation_date DATE                        NOT NULL,
+    location         VARCHAR(255)                NOT NULL,
+    notes            VARCHAR(400),
+    item_id          BIGINT                      NOT NULL,
+    store_id         BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_observations PRIMARY KEY (id),
+    CONSTRAINT uk_price_observations_uuid UNIQUE (uuid),
+    CONSTRAINT fk_price_observations_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_price_observations_store FOREIGN KEY (store_id) REFERENCES stores (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE price_rollups (
+    id                     BIGINT                      NOT NULL,
+    uuid                   VARCHAR(255)                NOT NULL,
+    version                BIGINT,
+    created_by             VARCHAR(255)                NOT NULL,
+    updated_by             VARCHAR(255),
+    created_at             DATETIME(6) NOT NULL,
+    updated_at             DATETIME(6) NOT NULL,
+    status                 VARCHAR(1)                  NOT NULL,
+    bucket_type            ENUM ('DAILY','WEEKLY','MONTHLY') NOT NULL,
+    bucket_start           DATE                        NOT NULL,
+    currency               ENUM ('EUR','USD') NOT NULL,
+    min_price              DECIMAL(38, 2)              NOT NULL,
+    max_price              DECIMAL(38, 2)              NOT NULL,
+    first_price            DECIMAL(38, 2)              NOT NULL,
+    first_observation_date DATE                        NOT NULL,
+    last_price             DECIMAL(38, 2)              NOT NULL,
+    last_observation_date  DATE                        NOT NULL,
+    observation_count      BIGINT                      NOT NULL,
+    price_sum              DECIMAL(38, 2)              NOT NULL,
+    item_id                BIGINT                      NOT NULL,
+    store_id               BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_rollups PRIMARY KEY (id),
+    CONSTRAINT uk_price_rollups_uuid UNIQUE (uuid),
+    CONSTRAINT uk_price_rollup_bucket UNIQUE (item_id, store_id, currency, bucket_type, bucket_start),
+    CONSTRAINT fk_price_rollups_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_price_rollups_store FOREIGN KEY (store_id) REFERENCES stores (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE price_alerts (
+    id                              BIGINT                      NOT NULL,
+    uuid                            VARCHAR(255)                NOT NULL,
+    version                         BIGINT,
+    created_by                      VARCHAR(255)                NOT NULL,
+    updated_by                      VARCHAR(255),
+    created_at                      DATETIME(6) NOT NULL,
+    updated_at                      DATETIME(6) NOT NULL,
+    status                          VARCHAR(1)                  NOT NULL,
+    alert_type                      ENUM ('PRICE_INCREASE','PRICE_DECREASE','REACHES_TARGET') NOT NULL,
+    threshold_price                 DECIMAL(38, 2),
+    percentage_change               DECIMAL(38, 2),
+    last_triggered_at               DATETIME(6),
+    last_triggered_observation_uuid VARCHAR(255),
+    user_id                         BIGINT                      NOT NULL,
+    item_id                         BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_alerts PRIMARY KEY (id),
+    CONSTRAINT uk_price_alerts_uuid UNIQUE (uuid),
+    CONSTRAINT fk_price_alerts_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_price_alerts_item FOREIGN KEY (item_id) REFERENCES items (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE price_comparisons (
+    id              BIGINT                      NOT NULL,
+    uuid            VARCHAR(255)                NOT NULL,
+    version         BIGINT,
+    created_by      VARCHAR(255)                NOT NULL,
+    updated_by      VARCHAR(255),
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    status          VARCHAR(1)                  NOT NULL,
+    comparison_date DATE                        NOT NULL,
+    currency        ENUM ('EUR','USD') NOT NULL,
+    lowest_price    DECIMAL(38, 2),
+    highest_price   DECIMAL(38, 2),
+    average_price   DECIMAL(38, 2),
+    price_spread    DECIMAL(38, 2),
+    user_id         BIGINT                      NOT NULL,
+    item_id         BIGINT                      NOT NULL,
+    best_store_id   BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_comparisons PRIMARY KEY (id),
+    CONSTRAINT uk_price_comparisons_uuid UNIQUE (uuid),
+    CONSTRAINT uk_price_comparison_item_currency_date UNIQUE (item_id, currency, comparison_date),
+    CONSTRAINT fk_price_comparisons_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_price_comparisons_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_price_comparisons_best_store FOREIGN KEY (best_store_id) REFERENCES stores (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE shopping_lists (
+    id           BIGINT                      NOT NULL,
+    uuid         VARCHAR(255)                NOT NULL,
+    version      BIGINT,
+    created_by   VARCHAR(255)                NOT NULL,
+    updated_by   VARCHAR(255),
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    status       VARCHAR(1)                  NOT NULL,
+    name         VARCHAR(255)                NOT NULL,
+    description  VARCHAR(300),
+    total_amount DECIMAL(38, 2),
+    is_favorite  BIT,
+    user_id      BIGINT                      NOT NULL,
+    CONSTRAINT pk_shopping_lists PRIMARY KEY (id),
+    CONSTRAINT uk_shopping_lists_uuid UNIQUE (uuid),
+    CONSTRAINT fk_shopping_lists_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE shopping_list_items (
+    id               BIGINT                      NOT NULL,
+    uuid             VARCHAR(255)                NOT NULL,
+    version          BIGINT,
+    created_by       VARCHAR(255)                NOT NULL,
+    updated_by       VARCHAR(255),
+    created_at       DATETIME(6) NOT NULL,
+    updated_at       DATETIME(6) NOT NULL,
+    status           VARCHAR(1)                  NOT NULL,
+    quantity         DECIMAL(38, 2)              NOT NULL,
+    is_purchased     BIT                     NOT NULL,
+    purchased_price  DECIMAL(38, 2),
+    purchased_date   DATE,
+    shopping_list_id BIGINT                      NOT NULL,
+    item_id          BIGINT                      NOT NULL,
+    store            BIGINT                      NOT NULL,
+    CONSTRAINT pk_shopping_list_items PRIMARY KEY (id),
+    CONSTRAINT uk_shopping_list_items_uuid UNIQUE (uuid),
+    CONSTRAINT fk_shopping_list_items_list FOREIGN KEY (shopping_list_id) REFERENCES shopping_lists (id),
+    CONSTRAINT fk_shopping_list_items_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_shopping_list_items_store FOREIGN KEY (store) REFERENCES stores (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE baskets (
+    id          BIGINT                      NOT NULL,
+    uuid        VARCHAR(255)                NOT NULL,
+    version     BIGINT,
+    created_by  VARCHAR(255)                NOT NULL,
+    updated_by  VARCHAR(255),
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    status      VARCHAR(1)                  NOT NULL,
+    name        VARCHAR(255)                NOT NULL,
+    description VARCHAR(800),
+    is_default  BIT,
+    user_id     BIGINT                      NOT NULL,
+    CONSTRAINT pk_baskets PRIMARY KEY (id),
+    CONSTRAINT uk_baskets_uuid UNIQUE (uuid),
+    CONSTRAINT fk_baskets_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE baskets_items (
+    id         BIGINT                      NOT NULL,
+    uuid       VARCHAR(255)                NOT NULL,
+    version    BIGINT,
+    created_by VARCHAR(255)                NOT NULL,
+    updated_by VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    status     VARCHAR(1)                  NOT NULL,
+    quantity   DECIMAL(38, 2)              NOT NULL,
+    basket_id  BIGINT                      NOT NULL,
+    item_id    BIGINT                      NOT NULL,
+    CONSTRAINT pk_baskets_items PRIMARY KEY (id),
+    CONSTRAINT uk_baskets_items_uuid UNIQUE (uuid),
+    CONSTRAINT uk_basket_item UNIQUE (basket_id, item_id),
+    CONSTRAINT fk_baskets_items_basket FOREIGN KEY (basket_id) REFERENCES baskets (id),
+    CONSTRAINT fk_baskets_items_item FOREIGN KEY (item_id) REFERENCES items (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE inflation_reports (
+    id                  BIGINT                      NOT NULL,
+    uuid                VARCHAR(255)                NOT NULL,
+    version             BIGINT,
+    created_by          VARCHAR(255)                NOT NULL,
+    updated_by          VARCHAR(255),
+    created_at          DATETIME(6) NOT NULL,
+    updated_at          DATETIME(6) NOT NULL,
+    status              VARCHAR(1)                  NOT NULL,
+    report_type         ENUM ('MONTHLY','QUARTERLY','YEARLY','CUSTOM') NOT NULL,
+    start_date          DATE                        NOT NULL,
+    end_date            DATE                        NOT NULL,
+    currency            ENUM ('EUR','USD'),
+    inflation_rate      DECIMAL(38, 2),
+    average_price       DECIMAL(38, 2),
+    price_change_amount DECIMAL(38, 2),
+    item_count          INTEGER,
+    user_id             BIGINT                      NOT NULL,
+    category_id         BIGINT,
+    CONSTRAINT pk_inflation_reports PRIMARY KEY (id),
+    CONSTRAINT uk_inflation_reports_uuid UNIQUE (uuid),
+    CONSTRAINT fk_inflation_reports_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_inflation_reports_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notification_outbox (
+    id              BIGINT                      NOT NULL,
+    uuid            VARCHAR(255)                NOT NULL,
+    version         BIGINT,
+    created_by      VARCHAR(255)                NOT NULL,
+    updated_by      VARCHAR(255),
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    status          VARCHAR(1)                  NOT NULL,
+    event_type      ENUM ('PRICE_ALERT_TRIGGERED') NOT NULL,
+    user_uuid       VARCHAR(255)                NOT NULL,
+    payload         VARCHAR(4000)               NOT NULL,
+    delivery_status ENUM ('PENDING','SENT','SKIPPED','FAILED') NOT NULL,
+    attempts        INTEGER                     NOT NULL,
+    next_attempt_at DATETIME(6)                NOT NULL,
+    last_error      VARCHAR(1000),
+    delivered_at    DATETIME(6),
+    CONSTRAINT pk_notification_outbox PRIMARY KEY (id),
+    CONSTRAINT uk_notification_outbox_uuid UNIQUE (uuid)
+) ENGINE = InnoDB;
+
+-- Indexes declared on the entities
+CREATE INDEX idx_user_lastname ON users (lastname);
+CREATE INDEX idx_store_name ON stores (store_name);
+CREATE INDEX idx_price_rollup_item_range ON price_rollups (item_id, currency, bucket_type, bucket_start);
+CREATE INDEX idx_price_rollup_updated ON price_rollups (bucket_type, updated_at);
+CREATE INDEX idx_inflation_report_user_period ON inflation_reports (user_id, report_type, start_date);
+CREATE INDEX idx_notification_outbox_due ON notification_outbox (delivery_status, next_attempt_at);
@@ -0,0 +1,22 @@
+-- Indexes matched to the repository queries. InnoDB indexes every foreign key on its own, so only the
+-- composite ones are added here. MySQL has no partial indexes; status is part of the key instead.
+
+-- Price history and inflation: one item, one currency, a date range
+CREATE INDEX idx_price_observation_item_currency_date ON price_observations (item_id, currency, observation_date);
+
+-- Owner listings, filtered by status and ordered by creation
+CREATE INDEX idx_item_user_status_created ON items (user_id, status, created_at);
+CREATE INDEX idx_category_user_status_created ON categories (user_id, status, created_at);
+CREATE INDEX idx_shopping_list_user_status ON shopping_lists (user_id, status);
+CREATE INDEX idx_price_alert_user_status_created ON price_alerts (user_id, status, created_at);
+CREATE INDEX idx_basket_user_status_created ON baskets (user_id, status, created_at);
+
+-- Store search: global stores (user_id IS NULL) and the user's own, by status
+CREATE INDEX idx_store_status_user ON stores (status, user_id);
+
+CREATE INDEX idx_user_role_status ON users (user_role, status);
+
+-- Name lookups among a user's rows, the partial indexes of the PostgreSQL migration
+CREATE INDEX idx_item_user_status_name ON items (user_id, status, name);
+CREATE INDEX idx_category_user_status_name ON categories (user_id, status, category_name);
+CREATE INDEX idx_price_alert_item_status ON price_alerts (item_id, status);
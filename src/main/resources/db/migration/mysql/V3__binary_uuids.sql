@@ -0,0 +1,78 @@
+-- Public ids move from 36-character strings to binary(16). Existing random (v4) ids are converted
+-- in their textual byte order, the order Hibernate binds java.util.UUID in, so every id already
+-- handed out keeps resolving; new rows get time-ordered (v7) ids.
+
+ALTER TABLE users ADD COLUMN uuid_bin BINARY(16);
+UPDATE users SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE users DROP INDEX uk_users_uuid, DROP COLUMN uuid;
+ALTER TABLE users CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_users_uuid UNIQUE (uuid);
+
+ALTER TABLE stores ADD COLUMN uuid_bin BINARY(16);
+UPDATE stores SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE stores DROP INDEX uk_stores_uuid, DROP COLUMN uuid;
+ALTER TABLE stores CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_stores_uuid UNIQUE (uuid);
+
+ALTER TABLE user_preferences ADD COLUMN uuid_bin BINARY(16);
+UPDATE user_preferences SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE user_preferences DROP INDEX uk_user_preferences_uuid, DROP COLUMN uuid;
+ALTER TABLE user_preferences CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_user_preferences_uuid UNIQUE (uuid);
+
+ALTER TABLE categories ADD COLUMN uuid_bin BINARY(16);
+UPDATE categories SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE categories DROP INDEX uk_categories_uuid, DROP COLUMN uuid;
+ALTER TABLE categories CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_categories_uuid UNIQUE (uuid);
+
+ALTER TABLE items ADD COLUMN uuid_bin BINARY(16);
+UPDATE items SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE items DROP INDEX uk_items_uuid, DROP COLUMN uuid;
+ALTER TABLE items CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_items_uuid UNIQUE (uuid);
+
+ALTER TABLE price_observations ADD COLUMN uuid_bin BINARY(16);
+UPDATE price_observations SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE price_observations DROP INDEX uk_price_observations_uuid, DROP COLUMN uuid;
+ALTER TABLE price_observations CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_price_observations_uuid UNIQUE (uuid);
+
+ALTER TABLE price_rollups ADD COLUMN uuid_bin BINARY(16);
+UPDATE price_rollups SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE price_rollups DROP INDEX uk_price_rollups_uuid, DROP COLUMN uuid;
+ALTER TABLE price_rollups CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_price_rollups_uuid UNIQUE (uuid);
+
+ALTER TABLE price_alerts ADD COLUMN uuid_bin BINARY(16);
+UPDATE price_alerts SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE price_alerts DROP INDEX uk_price_alerts_uuid, DROP COLUMN uuid;
+ALTER TABLE price_alerts CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_price_alerts_uuid UNIQUE (uuid);
+
+ALTER TABLE price_comparisons ADD COLUMN uuid_bin BINARY(16);
+UPDATE price_comparisons SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE price_comparisons DROP INDEX uk_price_comparisons_uuid, DROP COLUMN uuid;
+ALTER TABLE price_comparisons CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_price_comparisons_uuid UNIQUE (uuid);
+
+ALTER TABLE shopping_lists ADD COLUMN uuid_bin BINARY(16);
+UPDATE shopping_lists SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE shopping_lists DROP INDEX uk_shopping_lists_uuid, DROP COLUMN uuid;
+ALTER TABLE shopping_lists CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_shopping_lists_uuid UNIQUE (uuid);
+
+ALTER TABLE shopping_list_items ADD COLUMN uuid_bin BINARY(16);
+UPDATE shopping_list_items SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE shopping_list_items DROP INDEX uk_shopping_list_items_uuid, DROP COLUMN uuid;
+ALTER TABLE shopping_list_items CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_shopping_list_items_uuid UNIQUE (uuid);
+
+ALTER TABLE baskets ADD COLUMN uuid_bin BINARY(16);
+UPDATE baskets SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE baskets DROP INDEX uk_baskets_uuid, DROP COLUMN uuid;
+ALTER TABLE baskets CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_baskets_uuid UNIQUE (uuid);
+
+ALTER TABLE baskets_items ADD COLUMN uuid_bin BINARY(16);
+UPDATE baskets_items SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE baskets_items DROP INDEX uk_baskets_items_uuid, DROP COLUMN uuid;
+ALTER TABLE baskets_items CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_baskets_items_uuid UNIQUE (uuid);
+
+ALTER TABLE inflation_reports ADD COLUMN uuid_bin BINARY(16);
+UPDATE inflation_reports SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE inflation_reports DROP INDEX uk_inflation_reports_uuid, DROP COLUMN uuid;
+ALTER TABLE inflation_reports CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_inflation_reports_uuid UNIQUE (uuid);
+
+ALTER TABLE notification_outbox ADD COLUMN uuid_bin BINARY(16);
+UPDATE notification_outbox SET uuid_bin = UUID_TO_BIN(uuid);
+ALTER TABLE notification_outbox DROP INDEX uk_notification_outbox_uuid, DROP COLUMN uuid;
+ALTER TABLE notification_outbox CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL, ADD CONSTRAINT uk_notification_outbox_uuid UNIQUE (uuid);
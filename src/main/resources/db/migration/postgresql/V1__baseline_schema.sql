@@ -0,0 +1,371 @@
+-- Baseline schema, matching the entity mappings (ddl-auto: validate checks it on startup).
+-- Ids come from pooled per-entity sequences, allocation size 50 as in BaseEntity.
+
+CREATE SEQUENCE user_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE user_preferences_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE store_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE price_observation_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE price_rollup_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE price_alert_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE price_comparison_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE shopping_list_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE shopping_list_item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE basket_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE basket_item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE inflation_report_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE notification_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id           BIGINT                      NOT NULL,
+    uuid         VARCHAR(255)                NOT NULL,
+    version      BIGINT,
+    created_by   VARCHAR(255)                NOT NULL,
+    updated_by   VARCHAR(255),
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status       VARCHAR(1)                  NOT NULL,
+    username     VARCHAR(50)                 NOT NULL,
+    email        VARCHAR(255)                NOT NULL,
+    firstname    VARCHAR(255),
+    lastname     VARCHAR(255),
+    password     VARCHAR(255)                NOT NULL,
+    age          INTEGER,
+    user_role    VARCHAR(255)                NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_uuid UNIQUE (uuid),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE stores (
+    id           BIGINT                      NOT NULL,
+    uuid         VARCHAR(255)                NOT NULL,
+    version      BIGINT,
+    created_by   VARCHAR(255)                NOT NULL,
+    updated_by   VARCHAR(255),
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status       VARCHAR(1)                  NOT NULL,
+    store_name   VARCHAR(255)                NOT NULL,
+    store_type   VARCHAR(255)                NOT NULL,
+    address      VARCHAR(255)                NOT NULL,
+    city         VARCHAR(255)                NOT NULL,
+    region       VARCHAR(255),
+    country      VARCHAR(255)                NOT NULL,
+    website      VARCHAR(255),
+    user_id      BIGINT,
+    CONSTRAINT pk_stores PRIMARY KEY (id),
+    CONSTRAINT uk_stores_uuid UNIQUE (uuid),
+    CONSTRAINT fk_stores_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE user_preferences (
+    id                   BIGINT                      NOT NULL,
+    uuid                 VARCHAR(255)                NOT NULL,
+    version              BIGINT,
+    created_by           VARCHAR(255)                NOT NULL,
+    updated_by           VARCHAR(255),
+    created_at           TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at           TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status               VARCHAR(1)                  NOT NULL,
+    currency             VARCHAR(255)                NOT NULL,
+    language             VARCHAR(255)                NOT NULL,
+    location             VARCHAR(255)                NOT NULL,
+    notification_enabled BOOLEAN                     NOT NULL,
+    email_alerts         BOOLEAN                     NOT NULL,
+    user_id              BIGINT                      NOT NULL,
+    CONSTRAINT pk_user_preferences PRIMARY KEY (id),
+    CONSTRAINT uk_user_preferences_uuid UNIQUE (uuid),
+    CONSTRAINT uk_user_preferences_user UNIQUE (user_id),
+    CONSTRAINT fk_user_preferences_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE user_preferred_stores (
+    user_preference_id BIGINT NOT NULL,
+    store_id           BIGINT NOT NULL,
+    CONSTRAINT pk_user_preferred_stores PRIMARY KEY (user_preference_id, store_id),
+    CONSTRAINT fk_user_preferred_stores_preference FOREIGN KEY (user_preference_id) REFERENCES user_preferences (id),
+    CONSTRAINT fk_user_preferred_stores_store FOREIGN KEY (store_id) REFERENCES stores (id)
+);
+
+CREATE TABLE categories (
+    id            BIGINT                      NOT NULL,
+    uuid          VARCHAR(255)                NOT NULL,
+    version       BIGINT,
+    created_by    VARCHAR(255)                NOT NULL,
+    updated_by    VARCHAR(255),
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status        VARCHAR(1)                  NOT NULL,
+    category_name VARCHAR(50)                 NOT NULL,
+    description   VARCHAR(255),
+    user_id       BIGINT                      NOT NULL,
+    CONSTRAINT pk_categories PRIMARY KEY (id),
+    CONSTRAINT uk_categories_uuid UNIQUE (uuid),
+    CONSTRAINT fk_categories_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE items (
+    id                     BIGINT                      NOT NULL,
+    uuid                   VARCHAR(255)                NOT NULL,
+    version                BIGINT,
+    created_by             VARCHAR(255)                NOT NULL,
+    updated_by             VARCHAR(255),
+    created_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status                 VARCHAR(1)                  NOT NULL,
+    name                   VARCHAR(255)                NOT NULL,
+    description            VARCHAR(255),
+    item_unit              VARCHAR(255),
+    brand                  VARCHAR(255),
+    is_favorite            BOOLEAN                     NOT NULL,
+    current_price          NUMERIC(38, 2),
+    current_price_currency VARCHAR(255),
+    current_price_date     DATE,
+    user_id                BIGINT                      NOT NULL,
+    CONSTRAINT pk_items PRIMARY KEY (id),
+    CONSTRAINT uk_items_uuid UNIQUE (uuid),
+    CONSTRAINT fk_items_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE categories_items (
+    category_id BIGINT NOT NULL,
+    item_id     BIGINT NOT NULL,
+    CONSTRAINT pk_categories_items PRIMARY KEY (category_id, item_id),
+    CONSTRAINT fk_categories_items_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_categories_items_item FOREIGN KEY (item_id) REFERENCES items (id)
+);
+
+CREATE TABLE price_observations (
+    id               BIGINT                      NOT NULL,
+    uuid             VARCHAR(255)                NOT NULL,
+    version          BIGINT,
+    created_by       VARCHAR(255)                NOT NULL,
+    updated_by       VARCHAR(255),
+    created_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status           VARCHAR(1)                  NOT NULL,
+    price            NUMERIC(38, 2)              NOT NULL,
+    currency         VARCHAR(255)                NOT NULL,
+    observation_date DATE                        NOT NULL,
+    location         VARCHAR(255)                NOT NULL,
+    notes            VARCHAR(400),
+    item_id          BIGINT                      NOT NULL,
+    store_id         BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_observations PRIMARY KEY (id),
+    CONSTRAINT uk_price_observations_uuid UNIQUE (uuid),
+    CONSTRAINT fk_price_observations_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_price_observations_store FOREIGN KEY (store_id) REFERENCES stores (id)
+);
+
+CREATE TABLE price_rollups (
+    id                     BIGINT                      NOT NULL,
+    uuid                   VARCHAR(255)                NOT NULL,
+    version                BIGINT,
+    created_by             VARCHAR(255)                NOT NULL,
+    updated_by             VARCHAR(255),
+    created_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status                 VARCHAR(1)                  NOT NULL,
+    bucket_type            VARCHAR(10)                 NOT NULL,
+    bucket_start           DATE                        NOT NULL,
+    currency               VARCHAR(255)                NOT NULL,
+    min_price              NUMERIC(38, 2)              NOT NULL,
+    max_price              NUMERIC(38, 2)              NOT NULL,
+    first_price            NUMERIC(38, 2)              NOT NULL,
+    first_observation_date DATE                        NOT NULL,
+    last_price             NUMERIC(38, 2)              NOT NULL,
+    last_observation_date  DATE                        NOT NULL,
+    observation_count      BIGINT                      NOT NULL,
+    price_sum              NUMERIC(38, 2)              NOT NULL,
+    item_id                BIGINT                      NOT NULL,
+    store_id               BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_rollups PRIMARY KEY (id),
+    CONSTRAINT uk_price_rollups_uuid UNIQUE (uuid),
+    CONSTRAINT uk_price_rollup_bucket UNIQUE (item_id, store_id, currency, bucket_type, bucket_start),
+    CONSTRAINT fk_price_rollups_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_price_rollups_store FOREIGN KEY (store_id) REFERENCES stores (id)
+);
+
+CREATE TABLE price_alerts (
+    id                              BIGINT                      NOT NULL,
+    uuid                            VARCHAR(255)                NOT NULL,
+    version                         BIGINT,
+    created_by                      VARCHAR(255)                NOT NULL,
+    updated_by                      VARCHAR(255),
+    created_at                      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at                      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status                          VARCHAR(1)                  NOT NULL,
+    alert_type                      VARCHAR(255)                NOT NULL,
+    threshold_price                 NUMERIC(38, 2),
+    percentage_change               NUMERIC(38, 2),
+    last_triggered_at               TIMESTAMP(6),
+    last_triggered_observation_uuid VARCHAR(255),
+    user_id                         BIGINT                      NOT NULL,
+    item_id                         BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_alerts PRIMARY KEY (id),
+    CONSTRAINT uk_price_alerts_uuid UNIQUE (uuid),
+    CONSTRAINT fk_price_alerts_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_price_alerts_item FOREIGN KEY (item_id) REFERENCES items (id)
+);
+
+CREATE TABLE price_comparisons (
+    id              BIGINT                      NOT NULL,
+    uuid            VARCHAR(255)                NOT NULL,
+    version         BIGINT,
+    created_by      VARCHAR(255)                NOT NULL,
+    updated_by      VARCHAR(255),
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status          VARCHAR(1)                  NOT NULL,
+    comparison_date DATE                        NOT NULL,
+    currency        VARCHAR(255)                NOT NULL,
+    lowest_price    NUMERIC(38, 2),
+    highest_price   NUMERIC(38, 2),
+    average_price   NUMERIC(38, 2),
+    price_spread    NUMERIC(38, 2),
+    user_id         BIGINT                      NOT NULL,
+    item_id         BIGINT                      NOT NULL,
+    best_store_id   BIGINT                      NOT NULL,
+    CONSTRAINT pk_price_comparisons PRIMARY KEY (id),
+    CONSTRAINT uk_price_comparisons_uuid UNIQUE (uuid),
+    CONSTRAINT uk_price_comparison_item_currency_date UNIQUE (item_id, currency, comparison_date),
+    CONSTRAINT fk_price_comparisons_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_price_comparisons_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_price_comparisons_best_store FOREIGN KEY (best_store_id) REFERENCES stores (id)
+);
+
+CREATE TABLE shopping_lists (
+    id           BIGINT                      NOT NULL,
+    uuid         VARCHAR(255)                NOT NULL,
+    version      BIGINT,
+    created_by   VARCHAR(255)                NOT NULL,
+    updated_by   VARCHAR(255),
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status       VARCHAR(1)                  NOT NULL,
+    name         VARCHAR(255)                NOT NULL,
+    description  VARCHAR(300),
+    total_amount NUMERIC(38, 2),
+    is_favorite  BOOLEAN,
+    user_id      BIGINT                      NOT NULL,
+    CONSTRAINT pk_shopping_lists PRIMARY KEY (id),
+    CONSTRAINT uk_shopping_lists_uuid UNIQUE (uuid),
+    CONSTRAINT fk_shopping_lists_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE shopping_list_items (
+    id               BIGINT                      NOT NULL,
+    uuid             VARCHAR(255)                NOT NULL,
+    version          BIGINT,
+    created_by       VARCHAR(255)                NOT NULL,
+    updated_by       VARCHAR(255),
+    created_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status           VARCHAR(1)                  NOT NULL,
+    quantity         NUMERIC(38, 2)              NOT NULL,
+    is_purchased     BOOLEAN                     NOT NULL,
+    purchased_price  NUMERIC(38, 2),
+    purchased_date   DATE,
+    shopping_list_id BIGINT                      NOT NULL,
+    item_id          BIGINT                      NOT NULL,
+    store            BIGINT                      NOT NULL,
+    CONSTRAINT pk_shopping_list_items PRIMARY KEY (id),
+    CONSTRAINT uk_shopping_list_items_uuid UNIQUE (uuid),
+    CONSTRAINT fk_shopping_list_items_list FOREIGN KEY (shopping_list_id) REFERENCES shopping_lists (id),
+    CONSTRAINT fk_shopping_list_items_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_shopping_list_items_store FOREIGN KEY (store) REFERENCES stores (id)
+);
+
+CREATE TABLE baskets (
+    id          BIGINT                      NOT NULL,
+    uuid        VARCHAR(255)                NOT NULL,
+    version     BIGINT,
+    created_by  VARCHAR(255)                NOT NULL,
+    updated_by  VARCHAR(255),
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status      VARCHAR(1)                  NOT NULL,
+    name        VARCHAR(255)                NOT NULL,
+    description VARCHAR(800),
+    is_default  BOOLEAN,
+    user_id     BIGINT                      NOT NULL,
+    CONSTRAINT pk_baskets PRIMARY KEY (id),
+    CONSTRAINT uk_baskets_uuid UNIQUE (uuid),
+    CONSTRAINT fk_baskets_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE baskets_items (
+    id         BIGINT                      NOT NULL,
+    uuid       VARCHAR(255)                NOT NULL,
+    version    BIGINT,
+    created_by VARCHAR(255)                NOT NULL,
+    updated_by VARCHAR(255),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status     VARCHAR(1)                  NOT NULL,
+    quantity   NUMERIC(38, 2)              NOT NULL,
+    basket_id  BIGINT                      NOT NULL,
+    item_id    BIGINT                      NOT NULL,
+    CONSTRAINT pk_baskets_items PRIMARY KEY (id),
+    CONSTRAINT uk_baskets_items_uuid UNIQUE (uuid),
+    CONSTRAINT uk_basket_item UNIQUE (basket_id, item_id),
+    CONSTRAINT fk_baskets_items_basket FOREIGN KEY (basket_id) REFERENCES baskets (id),
+    CONSTRAINT fk_baskets_items_item FOREIGN KEY (item_id) REFERENCES items (id)
+);
+
+CREATE TABLE inflation_reports (
+    id                  BIGINT                      NOT NULL,
+    uuid                VARCHAR(255)                NOT NULL,
+    version             BIGINT,
+    created_by          VARCHAR(255)                NOT NULL,
+    updated_by          VARCHAR(255),
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status              VARCHAR(1)                  NOT NULL,
+    report_type         VARCHAR(255)                NOT NULL,
+    start_date          DATE                        NOT NULL,
+    end_date            DATE                        NOT NULL,
+    currency            VARCHAR(255),
+    inflation_rate      NUMERIC(38, 2),
+    average_price       NUMERIC(38, 2),
+    price_change_amount NUMERIC(38, 2),
+    item_count          INTEGER,
+    user_id             BIGINT                      NOT NULL,
+    category_id         BIGINT,
+    CONSTRAINT pk_inflation_reports PRIMARY KEY (id),
+    CONSTRAINT uk_inflation_reports_uuid UNIQUE (uuid),
+    CONSTRAINT fk_inflation_reports_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_inflation_reports_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE notification_outbox (
+    id              BIGINT                      NOT NULL,
+    uuid            VARCHAR(255)                NOT NULL,
+    version         BIGINT,
+    created_by      VARCHAR(255)                NOT NULL,
+    updated_by      VARCHAR(255),
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status          VARCHAR(1)                  NOT NULL,
+    event_type      VARCHAR(50)                 NOT NULL,
+    user_uuid       VARCHAR(255)                NOT NULL,
+    payload         VARCHAR(4000)               NOT NULL,
+    delivery_status VARCHAR(10)                 NOT NULL,
+    attempts        INTEGER                     NOT NULL,
+    next_attempt_at TIMESTAMP(6)                NOT NULL,
+    last_error      VARCHAR(1000),
+    delivered_at    TIMESTAMP(6),
+    CONSTRAINT pk_notification_outbox PRIMARY KEY (id),
+    CONSTRAINT uk_notification_outbox_uuid UNIQUE (uuid)
+);
+
+-- Indexes declared on the entities
+CREATE INDEX idx_user_lastname ON users (lastname);
+CREATE INDEX idx_store_name ON stores (store_name);
+CREATE INDEX idx_price_rollup_item_range ON price_rollups (item_id, currency, bucket_type, bucket_start);
+CREATE INDEX idx_price_rollup_updated ON price_rollups (bucket_type, updated_at);
+CREATE INDEX idx_inflation_report_user_period ON inflation_reports (user_id, report_type, start_date);
+CREATE INDEX idx_notification_outbox_due ON notification_outbox (delivery_status, next_attempt_at);
@@ -0,0 +1,31 @@
+-- Indexes matched to the repository queries. Foreign keys are not indexed implicitly in PostgreSQL,
+-- so every owner lookup (user_id, item_id, ...) needs one of its own.
+
+-- Price history and inflation: one item, one currency, a date range
+CREATE INDEX idx_price_observation_item_currency_date ON price_observations (item_id, currency, observation_date);
+CREATE INDEX idx_price_observation_store ON price_observations (store_id);
+
+-- Owner listings, filtered by status and ordered by creation
+CREATE INDEX idx_item_user_status_created ON items (user_id, status, created_at);
+CREATE INDEX idx_category_user_status_created ON categories (user_id, status, created_at);
+CREATE INDEX idx_shopping_list_user_status ON shopping_lists (user_id, status);
+CREATE INDEX idx_price_alert_user_status_created ON price_alerts (user_id, status, created_at);
+CREATE INDEX idx_basket_user_status_created ON baskets (user_id, status, created_at);
+
+-- Store search: global stores (user_id IS NULL) and the user's own, by status
+CREATE INDEX idx_store_status_user ON stores (status, user_id);
+
+CREATE INDEX idx_user_role_status ON users (user_role, status);
+
+-- Reverse sides of the link tables
+CREATE INDEX idx_categories_items_item ON categories_items (item_id);
+CREATE INDEX idx_user_preferred_stores_store ON user_preferred_stores (store_id);
+CREATE INDEX idx_baskets_items_item ON baskets_items (item_id);
+CREATE INDEX idx_shopping_list_items_list ON shopping_list_items (shopping_list_id);
+
+-- Partial indexes over active rows only. The planner picks them when the status is known while
+-- planning, i.e. custom plans of the bound queries and literal status filters.
+CREATE INDEX idx_item_user_name_active ON items (user_id, name) WHERE status = '1';
+CREATE INDEX idx_category_user_name_active ON categories (user_id, category_name) WHERE status = '1';
+CREATE INDEX idx_store_user_name_active ON stores (user_id, upper(store_name)) WHERE status = '1';
+CREATE INDEX idx_price_alert_item_active ON price_alerts (item_id) WHERE status = '1';
@@ -0,0 +1,19 @@
+-- Public ids move from 36-character strings to the native 16-byte uuid type. Existing random (v4)
+-- ids convert as they are, so every id already handed out keeps resolving; new rows get
+-- time-ordered (v7) ids. The unique indexes are rebuilt with the column.
+
+ALTER TABLE users ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE stores ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE user_preferences ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE categories ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE items ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE price_observations ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE price_rollups ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE price_alerts ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE price_comparisons ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE shopping_lists ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE shopping_list_items ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE baskets ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE baskets_items ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE inflation_reports ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
+ALTER TABLE notification_outbox ALTER COLUMN uuid TYPE UUID USING uuid::uuid;
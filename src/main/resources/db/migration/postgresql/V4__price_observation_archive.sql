@@ -0,0 +1,32 @@
+-- Cold storage for superseded price observations, filled by PriceObservationArchiver. Same columns as
+-- price_observations plus the time a row was moved; rows keep their id and uuid.
+CREATE TABLE price_observations_archive (
+    id               BIGINT                      NOT NULL,
+    uuid             UUID                        NOT NULL,
+    version          BIGINT,
+    created_by       VARCHAR(255)                NOT NULL,
+    updated_by       VARCHAR(255),
+    created_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status           VARCHAR(1)                  NOT NULL,
+    price            NUMERIC(38, 2)              NOT NULL,
+    currency         VARCHAR(255)                NOT NULL,
+    observation_date DATE                        NOT NULL,
+    location         VARCHAR(255)                NOT NULL,
+    notes            VARCHAR(400),
+    item_id          BIGINT                      NOT NULL,
+    store_id         BIGINT                      NOT NULL,
+    archived_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_price_observations_archive PRIMARY KEY (id),
+    CONSTRAINT uk_price_observations_archive_uuid UNIQUE (uuid),
+    CONSTRAINT fk_price_observations_archive_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_price_observations_archive_store FOREIGN KEY (store_id) REFERENCES stores (id)
+);
+
+-- History reads run on both tables through one union, so the archive mirrors the hot table's indexes
+CREATE INDEX idx_price_observation_archive_item_currency_date
+    ON price_observations_archive (item_id, currency, observation_date);
+CREATE INDEX idx_price_observation_archive_store ON price_observations_archive (store_id);
+
+-- The archiver's candidates: inactive rows by the time they were superseded
+CREATE INDEX idx_price_observation_inactive_updated ON price_observations (updated_at) WHERE status = '0';
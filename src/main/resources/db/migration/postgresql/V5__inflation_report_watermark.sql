@@ -0,0 +1,12 @@
+-- Progress of InflationReportGenerator, shared by every instance. Its single row doubles as the run lock:
+-- a run holds it FOR UPDATE until it finishes, so only one instance generates reports at a time.
+CREATE TABLE inflation_report_watermark (
+    id        BIGINT                      NOT NULL,
+    watermark TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_inflation_report_watermark PRIMARY KEY (id)
+);
+
+-- Starts where the existing reports are, like the in-memory watermark did after a restart
+INSERT INTO inflation_report_watermark (id, watermark)
+SELECT 1, COALESCE(MAX(updated_at), TIMESTAMP WITH TIME ZONE '1970-01-01 00:00:00+00')
+FROM inflation_reports;
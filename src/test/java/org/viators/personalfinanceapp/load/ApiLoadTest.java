@@ -0,0 +1,132 @@
+package org.viators.personalfinanceapp.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.category.CategoryRepository;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.load.LoadDriver.Endpoint;
+import org.viators.personalfinanceapp.load.LoadDriver.LoadReport;
+import org.viators.personalfinanceapp.load.LoadDriver.LoadSettings;
+import org.viators.personalfinanceapp.load.SyntheticDataGenerator.SeededItem;
+import org.viators.personalfinanceapp.load.SyntheticDataGenerator.SeededUser;
+import org.viators.personalfinanceapp.load.SyntheticDataGenerator.SyntheticDataset;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationRepository;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupService;
+import org.viators.personalfinanceapp.security.JwtUtil;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListRepository;
+import org.viators.personalfinanceapp.store.StoreRepository;
+import org.viators.personalfinanceapp.user.UserRepository;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a synthetic dataset and puts the main read endpoints under concurrent load.
+ *
+ * <p>Only runs when asked for, against H2 by default or a local Postgres through the
+ * {@code LOAD_TEST_DB_*} variables of the {@code load} profile:</p>
+ * <pre>
+ * mvn test -Dtest=ApiLoadTest -Dload-test=true -Dload-test.users=50 -Dload-test.concurrency=64
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+@Tag("load")
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+@DisplayName("API Load Test")
+class ApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLoadTest.class);
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+    @Autowired
+    private PriceObservationRepository priceObservationRepository;
+    @Autowired
+    private PriceRollupService priceRollupService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("Reports throughput and p50/p99 latency of items, store search and inflation calculation")
+    void mainReadEndpoints_UnderConcurrentLoad_ServeWithoutErrors() throws InterruptedException {
+        SyntheticDataset dataset = new SyntheticDataGenerator(transactionTemplate, userRepository, storeRepository,
+                categoryRepository, itemRepository, shoppingListRepository, priceObservationRepository,
+                priceRollupService, passwordEncoder).generate(DatasetSpec.fromSystemProperties());
+
+        List<SeededUser> users = dataset.users();
+        // Same index as the user they belong to
+        List<String> tokens = users.stream()
+                .map(user -> jwtUtil.generateToken(user.user()))
+                .toList();
+        int pages = Math.max(1, dataset.spec().itemsPerUser() / 12);
+        // Inflation over the last year of the seeded history
+        LocalDate to = dataset.to().withDayOfMonth(1).minusDays(1);
+        LocalDate from = to.minusYears(1).plusDays(1);
+
+        List<Endpoint> endpoints = List.of(
+                new Endpoint("GET /items", random -> {
+                    int user = random.nextInt(users.size());
+                    return get("/api/v1/items?page=" + random.nextInt(pages), tokens.get(user));
+                }),
+                new Endpoint("GET /stores/search", random -> {
+                    int user = random.nextInt(users.size());
+                    List<String> cities = users.get(user).cities();
+                    return get("/api/v1/stores/search?inCity=" + cities.get(random.nextInt(cities.size())),
+                            tokens.get(user));
+                }),
+                new Endpoint("GET /calculate-inflation", random -> {
+                    int user = random.nextInt(users.size());
+                    List<SeededItem> items = users.get(user).items();
+                    return get("/api/v1/items/" + items.get(random.nextInt(items.size())).uuid()
+                            + "/calculate-inflation?currency=EUR&from=" + from + "&to=" + to, tokens.get(user));
+                })
+        );
+
+        LoadReport report = new LoadDriver().run(endpoints, LoadSettings.fromSystemProperties());
+        log.info(report.format());
+
+        assertThat(report.endpoints()).allSatisfy(stats -> {
+            assertThat(stats.requests()).isPositive();
+            assertThat(stats.errors()).isZero();
+        });
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+}
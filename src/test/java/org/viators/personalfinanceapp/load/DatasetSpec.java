@@ -0,0 +1,37 @@
+package org.viators.personalfinanceapp.load;
+
+/**
+ * Size of a synthetic dataset, per user. Every value can be overridden with a
+ * {@code load-test.<name>} system property, e.g. {@code -Dload-test.users=200}.
+ *
+ * @param observationsPerMonth observations per item and month, spread over the user's stores
+ * @param seed                 same seed, same dataset
+ */
+public record DatasetSpec(
+        int users,
+        int itemsPerUser,
+        int storesPerUser,
+        int categoriesPerUser,
+        int shoppingListsPerUser,
+        int years,
+        int observationsPerMonth,
+        long seed
+) {
+
+    public static DatasetSpec fromSystemProperties() {
+        return new DatasetSpec(
+                Integer.getInteger("load-test.users", 20),
+                Integer.getInteger("load-test.items-per-user", 50),
+                Integer.getInteger("load-test.stores-per-user", 10),
+                Integer.getInteger("load-test.categories-per-user", 8),
+                Integer.getInteger("load-test.shopping-lists-per-user", 5),
+                Integer.getInteger("load-test.years", 3),
+                Integer.getInteger("load-test.observations-per-month", 4),
+                Long.getLong("load-test.seed", 42L)
+        );
+    }
+
+    public long observations() {
+        return (long) users * itemsPerUser * years * 12 * observationsPerMonth;
+    }
+}
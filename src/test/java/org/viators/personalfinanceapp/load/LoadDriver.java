@@ -0,0 +1,207 @@
+package org.viators.personalfinanceapp.load;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Drives concurrent HTTP load against a running app and reports throughput and latency per endpoint.
+ *
+ * <p>Every worker is a virtual thread looping over the endpoints round-robin until the duration is
+ * up, each with its own seeded random, so the same seed replays the same request sequence. A
+ * warmup phase runs first and is not recorded.</p>
+ */
+@Slf4j
+public class LoadDriver {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * One endpoint under load.
+     *
+     * @param request builds the next request from the worker's random
+     */
+    public record Endpoint(
+            String name,
+            Function<SplittableRandom, HttpRequest> request
+    ) {
+    }
+
+    public record LoadSettings(
+            int concurrency,
+            Duration warmup,
+            Duration duration,
+            long seed
+    ) {
+
+        public static LoadSettings fromSystemProperties() {
+            return new LoadSettings(
+                    Integer.getInteger("load-test.concurrency", 32),
+                    Duration.ofSeconds(Long.getLong("load-test.warmup-seconds", 10L)),
+                    Duration.ofSeconds(Long.getLong("load-test.duration-seconds", 30L)),
+                    Long.getLong("load-test.seed", 42L)
+            );
+        }
+    }
+
+    public record EndpointStats(
+            String name,
+            int requests,
+            int errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+    }
+
+    public record LoadReport(
+            Duration duration,
+            int concurrency,
+            List<EndpointStats> endpoints
+    ) {
+
+        public String format() {
+            StringBuilder report = new StringBuilder(String.format("%nLoad test: %d workers for %ds%n",
+                    concurrency, duration.toSeconds()));
+            report.append(String.format("%-24s %10s %8s %10s %10s %10s %10s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+            for (EndpointStats stats : endpoints) {
+                report.append(String.format("%-24s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                        stats.name(), stats.requests(), stats.errors(), stats.throughput(),
+                        stats.p50Millis(), stats.p99Millis(), stats.maxMillis()));
+            }
+            return report.toString();
+        }
+    }
+
+    public LoadReport run(List<Endpoint> endpoints, LoadSettings settings) throws InterruptedException {
+        log.info("Warming up for {}s", settings.warmup().toSeconds());
+        drive(endpoints, settings, settings.warmup(), settings.seed() ^ 0x5DEECE66DL);
+
+        log.info("Measuring for {}s with {} workers", settings.duration().toSeconds(), settings.concurrency());
+        List<WorkerSamples> samples = drive(endpoints, settings, settings.duration(), settings.seed());
+
+        List<EndpointStats> stats = new ArrayList<>();
+        for (int e = 0; e < endpoints.size(); e++) {
+            stats.add(summarize(endpoints.get(e).name(), e, samples, settings.duration()));
+        }
+        return new LoadReport(settings.duration(), settings.concurrency(), stats);
+    }
+
+    private List<WorkerSamples> drive(List<Endpoint> endpoints, LoadSettings settings, Duration duration, long seed)
+            throws InterruptedException {
+        AtomicBoolean stopped = new AtomicBoolean();
+        List<WorkerSamples> samples = new ArrayList<>();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < settings.concurrency(); w++) {
+                WorkerSamples workerSamples = new WorkerSamples(endpoints.size());
+                samples.add(workerSamples);
+                SplittableRandom random = new SplittableRandom(seed + w);
+                int offset = w;
+
+                workers.submit(() -> {
+                    for (int n = offset; !stopped.get(); n++) {
+                        int endpoint = n % endpoints.size();
+                        workerSamples.record(endpoint, send(endpoints.get(endpoint).request().apply(random)));
+                    }
+                });
+            }
+
+            Thread.sleep(duration);
+            stopped.set(true);
+        }
+        return samples;
+    }
+
+    /**
+     * @return latency in nanoseconds, negative for a failed request
+     */
+    private long send(HttpRequest request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - startedAt;
+            return response.statusCode() / 100 == 2 ? latency : -latency;
+        } catch (Exception e) {
+            log.debug("Request to {} failed: {}", request.uri(), e.getMessage());
+            return -(System.nanoTime() - startedAt);
+        }
+    }
+
+    private static EndpointStats summarize(String name, int endpoint, List<WorkerSamples> samples, Duration duration) {
+        int errors = 0;
+        int total = 0;
+        for (WorkerSamples workerSamples : samples) {
+            total += workerSamples.sizes[endpoint];
+        }
+
+        long[] latencies = new long[total];
+        int succeeded = 0;
+        for (WorkerSamples workerSamples : samples) {
+            for (int i = 0; i < workerSamples.sizes[endpoint]; i++) {
+                long latency = workerSamples.latencies[endpoint][i];
+                if (latency < 0) {
+                    errors++;
+                } else {
+                    latencies[succeeded++] = latency;
+                }
+            }
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, succeeded);
+        Arrays.sort(sorted);
+        return new EndpointStats(name, total, errors,
+                total / (duration.toNanos() / 1e9),
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds.
+     */
+    static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sortedNanos.length);
+        return sortedNanos[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    /**
+     * Latencies one worker recorded, per endpoint. Only its own worker writes to it, and it is
+     * only read after the workers have finished.
+     */
+    private static class WorkerSamples {
+
+        private final long[][] latencies;
+        private final int[] sizes;
+
+        WorkerSamples(int endpoints) {
+            latencies = new long[endpoints][1024];
+            sizes = new int[endpoints];
+        }
+
+        void record(int endpoint, long latency) {
+            if (sizes[endpoint] == latencies[endpoint].length) {
+                latencies[endpoint] = Arrays.copyOf(latencies[endpoint], sizes[endpoint] * 2);
+            }
+            latencies[endpoint][sizes[endpoint]++] = latency;
+        }
+    }
+}
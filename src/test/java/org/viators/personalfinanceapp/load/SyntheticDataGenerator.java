@@ -0,0 +1,237 @@
+package org.viators.personalfinanceapp.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.category.Category;
+import org.viators.personalfinanceapp.category.CategoryRepository;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
+import org.viators.personalfinanceapp.common.enums.StoreTypeEnum;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationRepository;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupService;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingList;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListRepository;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.store.StoreRepository;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.user.UserRepository;
+import org.viators.personalfinanceapp.userpreferences.UserPreferences;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds users with items, stores, categories, shopping lists and years of price observations
+ * through the real repositories, so the data goes through the same mappings, sequences and rollups
+ * as in production.
+ *
+ * <p>Each user's reference data is written in one transaction and each item's history in its own,
+ * followed by a rebuild of the item's price rollups. Prices follow a seeded random walk, so the
+ * same {@link DatasetSpec} always yields the same dataset.</p>
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    static final String PASSWORD = "Load-test-password-1";
+
+    private static final List<String> CITIES = List.of("Athens", "Thessaloniki", "Patras", "Heraklion", "Larissa");
+    private static final BigDecimal MAX_MONTHLY_DRIFT = new BigDecimal("0.04");
+
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final StoreRepository storeRepository;
+    private final CategoryRepository categoryRepository;
+    private final ItemRepository itemRepository;
+    private final ShoppingListRepository shoppingListRepository;
+    private final PriceObservationRepository priceObservationRepository;
+    private final PriceRollupService priceRollupService;
+    private final PasswordEncoder passwordEncoder;
+
+    public SyntheticDataGenerator(TransactionTemplate transactionTemplate,
+                                  UserRepository userRepository,
+                                  StoreRepository storeRepository,
+                                  CategoryRepository categoryRepository,
+                                  ItemRepository itemRepository,
+                                  ShoppingListRepository shoppingListRepository,
+                                  PriceObservationRepository priceObservationRepository,
+                                  PriceRollupService priceRollupService,
+                                  PasswordEncoder passwordEncoder) {
+        this.transactionTemplate = transactionTemplate;
+        this.userRepository = userRepository;
+        this.storeRepository = storeRepository;
+        this.categoryRepository = categoryRepository;
+        this.itemRepository = itemRepository;
+        this.shoppingListRepository = shoppingListRepository;
+        this.priceObservationRepository = priceObservationRepository;
+        this.priceRollupService = priceRollupService;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public SyntheticDataset generate(DatasetSpec spec) {
+        long startedAt = System.nanoTime();
+        Random random = new Random(spec.seed());
+        // Hashing is deliberately slow, every user shares the same one
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        LocalDate today = LocalDate.now();
+        LocalDate firstMonth = today.withDayOfMonth(1).minusYears(spec.years());
+
+        List<SeededUser> users = new ArrayList<>();
+        for (int u = 0; u < spec.users(); u++) {
+            SeededUser user = seedUser(u, spec, random, encodedPassword);
+            for (SeededItem item : user.items()) {
+                seedHistory(item, user.storeIds(), firstMonth, today, spec, random);
+            }
+            users.add(user);
+        }
+
+        log.info("Seeded {} users and {} price observations in {} ms", users.size(), spec.observations(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return new SyntheticDataset(spec, firstMonth, today, users);
+    }
+
+    private SeededUser seedUser(int index, DatasetSpec spec, Random random, String encodedPassword) {
+        return transactionTemplate.execute(status -> {
+            User user = User.builder()
+                    .username("load-user-" + index)
+                    .email("load-user-" + index + "@example.com")
+                    .firstName("Load")
+                    .lastName("User " + index)
+                    .password(encodedPassword)
+                    .build();
+            user.addUserPreferences(UserPreferences.createDefaultPreferences());
+            user = userRepository.save(user);
+
+            List<Store> stores = new ArrayList<>();
+            for (int s = 0; s < spec.storesPerUser(); s++) {
+                Store store = new Store();
+                store.setName("Store " + index + "-" + s);
+                store.setStoreType(StoreTypeEnum.values()[s % StoreTypeEnum.values().length]);
+                store.setAddress(s + " Load Street");
+                store.setCity(CITIES.get(s % CITIES.size()));
+                store.setCountry("Greece");
+                store.setUser(user);
+                stores.add(store);
+            }
+            storeRepository.saveAll(stores);
+
+            List<Category> categories = new ArrayList<>();
+            for (int c = 0; c < spec.categoriesPerUser(); c++) {
+                Category category = new Category();
+                category.setName("Category " + index + "-" + c);
+                category.setUser(user);
+                categories.add(category);
+            }
+            categoryRepository.saveAll(categories);
+
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < spec.itemsPerUser(); i++) {
+                Item item = Item.builder()
+                        .name("Item " + index + "-" + i)
+                        .description("Synthetic item " + i + " of load user " + index)
+                        .itemUnit(ItemUnitEnum.values()[i % ItemUnitEnum.values().length])
+                        .brand("Brand " + random.nextInt(20))
+                        .user(user)
+                        .build();
+                if (!categories.isEmpty()) {
+                    categories.get(i % categories.size()).addItem(item);
+                }
+                items.add(item);
+            }
+            itemRepository.saveAll(items);
+
+            List<ShoppingList> shoppingLists = new ArrayList<>();
+            for (int l = 0; l < spec.shoppingListsPerUser(); l++) {
+                ShoppingList shoppingList = new ShoppingList();
+                shoppingList.setName("List " + index + "-" + l);
+                shoppingList.setTotalAmount(BigDecimal.ZERO);
+                shoppingList.setIsFavorite(l == 0);
+                shoppingList.setUser(user);
+                shoppingLists.add(shoppingList);
+            }
+            shoppingListRepository.saveAll(shoppingLists);
+
+            return new SeededUser(user,
+                    stores.stream().map(Store::getId).toList(),
+                    CITIES.subList(0, Math.min(CITIES.size(), spec.storesPerUser())),
+                    items.stream().map(item -> new SeededItem(item.getId(), item.getUuid())).toList());
+        });
+    }
+
+    private void seedHistory(SeededItem seededItem, List<Long> storeIds, LocalDate firstMonth, LocalDate today,
+                             DatasetSpec spec, Random random) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Item item = itemRepository.findById(seededItem.id()).orElseThrow();
+            BigDecimal price = BigDecimal.valueOf(50 + random.nextInt(5_000), 2);
+
+            List<PriceObservation> observations = new ArrayList<>();
+            for (int month = 0; month < spec.years() * 12; month++) {
+                LocalDate monthStart = firstMonth.plusMonths(month);
+                price = drift(price, random);
+
+                for (int o = 0; o < spec.observationsPerMonth(); o++) {
+                    PriceObservation observation = new PriceObservation();
+                    observation.setPrice(price);
+                    observation.setCurrency(CurrencyEnum.EUR);
+                    LocalDate observationDate = monthStart.plusDays(random.nextInt(monthStart.lengthOfMonth()));
+                    observation.setObservationDate(observationDate.isAfter(today) ? today : observationDate);
+                    observation.setLocation(CITIES.get(random.nextInt(CITIES.size())));
+                    observation.setStore(storeRepository.getReferenceById(storeIds.get(random.nextInt(storeIds.size()))));
+                    item.addPriceObservation(observation);
+                    observations.add(observation);
+                }
+            }
+
+            priceObservationRepository.saveAll(observations);
+            priceRollupService.rebuildItem(item.getId());
+        });
+    }
+
+    private static BigDecimal drift(BigDecimal price, Random random) {
+        // Uniform in [-MAX_MONTHLY_DRIFT / 2, +MAX_MONTHLY_DRIFT], so prices tend to rise
+        BigDecimal change = MAX_MONTHLY_DRIFT.multiply(BigDecimal.valueOf(random.nextDouble() * 1.5 - 0.5));
+        return price.add(price.multiply(change))
+                .max(new BigDecimal("0.10"))
+                .setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    public record SeededItem(
+            Long id,
+            String uuid
+    ) {
+    }
+
+    /**
+     * @param cities cities the user's stores are in, used for store searches
+     */
+    public record SeededUser(
+            User user,
+            List<Long> storeIds,
+            List<String> cities,
+            List<SeededItem> items
+    ) {
+    }
+
+    /**
+     * @param from first month with observations
+     * @param to   last day with observations
+     */
+    public record SyntheticDataset(
+            DatasetSpec spec,
+            LocalDate from,
+            LocalDate to,
+            List<SeededUser> users
+    ) {
+    }
+}
@@ -0,0 +1,137 @@
+package org.viators.personalfinanceapp.priceimport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Lives next to the parser, which is package-private
+@DisplayName("Price Import Line Parser Test")
+class PriceImportLineParserTest {
+
+    private static final String HEADER = "Item,Store,Price,Currency,ObservationDate,Location,Notes,ItemUnit";
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private PriceImportLineParser csvParser() {
+        PriceImportLineParser parser = new PriceImportLineParser(FileFormatEnum.CSV, jsonMapper);
+        assertThat(parser.acceptHeader(HEADER)).isTrue();
+        return parser;
+    }
+
+    @Test
+    @DisplayName("Consumes only the first CSV line as header, matching column names case-insensitively")
+    void acceptHeader_FirstLine_ConsumedOnce() {
+        PriceImportLineParser parser = new PriceImportLineParser(FileFormatEnum.CSV, jsonMapper);
+
+        assertThat(parser.acceptHeader(HEADER)).isTrue();
+        assertThat(parser.acceptHeader("Milk,Lidl,1.20,EUR,2025-03-01,Athens,,LITER")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Rejects a CSV header without every required column")
+    void acceptHeader_MissingColumns_Throws() {
+        PriceImportLineParser parser = new PriceImportLineParser(FileFormatEnum.CSV, jsonMapper);
+
+        assertThatThrownBy(() -> parser.acceptHeader("Item,Store,Price"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV header is missing columns: currency, observationdate, location");
+    }
+
+    @Test
+    @DisplayName("NDJSON files have no header")
+    void acceptHeader_Json_NeverConsumed() {
+        PriceImportLineParser parser = new PriceImportLineParser(FileFormatEnum.NDJSON, jsonMapper);
+
+        assertThat(parser.acceptHeader("{\"item\":\"Milk\"}")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Maps every CSV column and treats blank values as missing")
+    void parse_CsvRow_MapsColumns() {
+        PriceImportRow row = csvParser().parse("Milk,Lidl,1.20,eur,2025-03-01,Athens, ,liter");
+
+        assertThat(row).isEqualTo(new PriceImportRow("Milk", "Lidl", new BigDecimal("1.20"), CurrencyEnum.EUR,
+                LocalDate.of(2025, 3, 1), "Athens", null, ItemUnitEnum.LITER));
+    }
+
+    @Test
+    @DisplayName("Keeps commas and escaped quotes inside quoted CSV values")
+    void parse_QuotedCsvValues_Unescaped() {
+        PriceImportRow row = csvParser().parse("\"Milk, 1L\",Lidl,1.20,EUR,2025-03-01,Athens,\"the \"\"fresh\"\" one\",");
+
+        assertThat(row.item()).isEqualTo("Milk, 1L");
+        assertThat(row.notes()).isEqualTo("the \"fresh\" one");
+        assertThat(row.itemUnit()).isNull();
+    }
+
+    @Test
+    @DisplayName("Rejects a price that is not a number")
+    void parse_BadPrice_Throws() {
+        assertThatThrownBy(() -> csvParser().parse("Milk,Lidl,cheap,EUR,2025-03-01,Athens,,"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Price is not a number");
+    }
+
+    @Test
+    @DisplayName("Rejects a date that is not ISO formatted")
+    void parse_BadDate_Throws() {
+        assertThatThrownBy(() -> csvParser().parse("Milk,Lidl,1.20,EUR,01/03/2025,Athens,,"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Observation date must be formatted as yyyy-MM-dd");
+    }
+
+    @Test
+    @DisplayName("Rejects an unknown currency")
+    void parse_UnknownCurrency_Throws() {
+        assertThatThrownBy(() -> csvParser().parse("Milk,Lidl,1.20,GBP,2025-03-01,Athens,,"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Currency 'GBP' is not supported");
+    }
+
+    @Test
+    @DisplayName("Rejects a quoted value that is never closed")
+    void parse_UnterminatedQuote_Throws() {
+        assertThatThrownBy(() -> csvParser().parse("\"Milk,Lidl,1.20,EUR,2025-03-01,Athens,,"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted value");
+    }
+
+    @Test
+    @DisplayName("Reads one NDJSON object per line")
+    void parse_JsonLine_MapsFields() {
+        PriceImportLineParser parser = new PriceImportLineParser(FileFormatEnum.NDJSON, jsonMapper);
+
+        PriceImportRow row = parser.parse("""
+                {"item":"Milk","store":"Lidl","price":1.20,"currency":"EUR","observationDate":"2025-03-01","location":"Athens"}""");
+
+        assertThat(row.item()).isEqualTo("Milk");
+        assertThat(row.price()).isEqualByComparingTo("1.20");
+        assertThat(row.observationDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    @DisplayName("Reports malformed JSON as a row error")
+    void parse_MalformedJson_Throws() {
+        PriceImportLineParser parser = new PriceImportLineParser(FileFormatEnum.NDJSON, jsonMapper);
+
+        assertThatThrownBy(() -> parser.parse("{\"item\":"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Malformed JSON: ");
+    }
+
+    @Test
+    @DisplayName("Splits an empty trailing value as its own column")
+    void splitCsvLine_TrailingComma_KeepsEmptyValue() {
+        assertThat(PriceImportLineParser.splitCsvLine("a,\"b,c\",")).isEqualTo(List.of("a", "b,c", ""));
+    }
+}
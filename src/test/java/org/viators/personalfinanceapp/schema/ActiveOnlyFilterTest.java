@@ -0,0 +1,176 @@
+package org.viators.personalfinanceapp.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.viators.personalfinanceapp.basket.Basket;
+import org.viators.personalfinanceapp.basket.BasketRepository;
+import org.viators.personalfinanceapp.basket.dto.response.BasketSummaryResponse;
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.pricealert.PriceAlert;
+import org.viators.personalfinanceapp.pricealert.PriceAlertRepository;
+import org.viators.personalfinanceapp.pricealert.dto.response.PriceAlertSummaryResponse;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingList;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListRepository;
+import org.viators.personalfinanceapp.shoppinglist.dto.response.ShoppingListSummaryResponse;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.user.UserDetailsLoader;
+import org.viators.personalfinanceapp.user.UserRepository;
+import org.viators.personalfinanceapp.user.dto.response.UserDetailsResponse;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the auto-enabled {@code activeOnly} filter hides soft-deleted rows from repository queries,
+ * both in request transactions and in the read-only sessions {@link UserDetailsLoader} opens on its
+ * virtual threads. Runs against the Flyway schema on PostgreSQL; skipped when Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "notification.dispatcher.enabled=false",
+        "inflation-report.cron=-"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Active Only Filter Test")
+class ActiveOnlyFilterTest {
+
+    private static final String ACTIVE = StatusEnum.ACTIVE.getCode();
+    private static final String INACTIVE = StatusEnum.INACTIVE.getCode();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+    @Autowired
+    private PriceAlertRepository priceAlertRepository;
+    @Autowired
+    private BasketRepository basketRepository;
+    @Autowired
+    private UserDetailsLoader userDetailsLoader;
+
+    private String userUuid;
+    private String activeListUuid;
+    private String deletedListUuid;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            User user = new User();
+            user.setUsername("filter-" + suffix);
+            user.setEmail("filter-" + suffix + "@example.com");
+            user.setFirstName("Filter");
+            user.setLastName("Test");
+            user.setPassword("not-a-real-hash");
+            user = userRepository.save(user);
+            userUuid = user.getUuid();
+
+            Item item = new Item();
+            item.setName("Milk");
+            item.setUser(user);
+            item = itemRepository.save(item);
+
+            activeListUuid = shoppingListRepository.save(shoppingList(user, "Weekly", ACTIVE)).getUuid();
+            deletedListUuid = shoppingListRepository.save(shoppingList(user, "Deleted", INACTIVE)).getUuid();
+            priceAlertRepository.save(priceAlert(user, item, "1.00", ACTIVE));
+            priceAlertRepository.save(priceAlert(user, item, "2.00", INACTIVE));
+            basketRepository.save(basket(user, "Groceries", ACTIVE));
+            basketRepository.save(basket(user, "Deleted", INACTIVE));
+        });
+    }
+
+    @Test
+    @DisplayName("Derived finders skip soft-deleted rows")
+    void derivedQueries_InactiveRows_Skipped() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(shoppingListRepository.findByUuid(activeListUuid)).isPresent();
+            assertThat(shoppingListRepository.findByUuid(deletedListUuid)).isEmpty();
+            assertThat(shoppingListRepository.findAllByUser_Uuid(userUuid, PageRequest.of(0, 10)))
+                    .extracting(ShoppingList::getUuid)
+                    .containsExactly(activeListUuid);
+            assertThat(priceAlertRepository.findAllByUser_UuidOrderByCreatedAtDesc(userUuid))
+                    .extracting(PriceAlert::getThresholdPrice)
+                    .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                    .containsExactly(new BigDecimal("1.00"));
+        });
+    }
+
+    @Test
+    @DisplayName("Summary projections skip soft-deleted rows")
+    void summaryProjections_InactiveRows_Skipped() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(shoppingListRepository.findAllSummariesByUserUuid(userUuid, Limit.of(10)))
+                    .extracting(ShoppingListSummaryResponse::uuid)
+                    .containsExactly(activeListUuid);
+            assertThat(priceAlertRepository.findSummariesByUserUuid(userUuid, Limit.of(10)))
+                    .hasSize(1);
+            assertThat(basketRepository.findSummariesByUserUuid(userUuid, Limit.of(10)))
+                    .extracting(BasketSummaryResponse::name)
+                    .containsExactly("Groceries");
+        });
+    }
+
+    @Test
+    @DisplayName("The user details loader's virtual-thread sessions apply the filter as well")
+    void userDetailsLoader_VirtualThreadSessions_SkipInactiveRows() {
+        UserDetailsResponse details = userDetailsLoader.load(userUuid);
+
+        assertThat(details.shoppingLists())
+                .extracting(ShoppingListSummaryResponse::uuid)
+                .containsExactly(activeListUuid);
+        assertThat(details.priceAlerts())
+                .extracting(PriceAlertSummaryResponse::itemName)
+                .containsExactly("Milk");
+        assertThat(details.baskets())
+                .extracting(BasketSummaryResponse::name)
+                .containsExactly("Groceries");
+    }
+
+    private static ShoppingList shoppingList(User user, String name, String status) {
+        ShoppingList shoppingList = new ShoppingList();
+        shoppingList.setName(name);
+        shoppingList.setUser(user);
+        shoppingList.setStatus(status);
+        return shoppingList;
+    }
+
+    private static PriceAlert priceAlert(User user, Item item, String thresholdPrice, String status) {
+        PriceAlert priceAlert = new PriceAlert();
+        priceAlert.setAlertType(AlertTypeEnum.REACHES_TARGET);
+        priceAlert.setThresholdPrice(new BigDecimal(thresholdPrice));
+        priceAlert.setUser(user);
+        priceAlert.setItem(item);
+        priceAlert.setStatus(status);
+        return priceAlert;
+    }
+
+    private static Basket basket(User user, String name, String status) {
+        Basket basket = new Basket();
+        basket.setName(name);
+        basket.setUser(user);
+        basket.setStatus(status);
+        return basket;
+    }
+}
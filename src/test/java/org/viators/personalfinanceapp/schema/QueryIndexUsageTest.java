@@ -0,0 +1,227 @@
+package org.viators.personalfinanceapp.schema;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.viators.personalfinanceapp.common.BaseEntity;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every derived repository query against the Flyway schema on PostgreSQL and checks the
+ * plan of each statement it issues for sequential scans.
+ *
+ * <p>Plans are generic ({@code EXPLAIN (GENERIC_PLAN)}), so they hold for any bound value, and
+ * sequential scans are disabled so an empty table still shows which index the planner would use.
+ * Skipped when Docker is not available.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.viators.personalfinanceapp.schema.QueryIndexUsageTest$RecordingStatementInspector",
+        "notification.dispatcher.enabled=false",
+        "inflation-report.cron=-"
+})
+@ActiveProfiles("index-usage")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Query Index Usage Test")
+class QueryIndexUsageTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Every derived query is answered from indexes only")
+    void derivedQueries_GenericPlans_UseIndexes() {
+        Map<String, String> statements = new LinkedHashMap<>();
+        for (RepositoryFactoryInformation<?, ?> factory
+                : applicationContext.getBeansOfType(RepositoryFactoryInformation.class).values()) {
+            RepositoryInformation information = factory.getRepositoryInformation();
+            Object repository = applicationContext.getBean(information.getRepositoryInterface());
+
+            for (Method method : information.getQueryMethods()) {
+                if (method.isAnnotationPresent(Query.class)) {
+                    continue;
+                }
+                String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                for (String sql : record(repository, method)) {
+                    statements.putIfAbsent(sql, name);
+                }
+            }
+        }
+
+        assertThat(statements).isNotEmpty();
+
+        Map<String, String> sequentialScans = new LinkedHashMap<>();
+        statements.forEach((sql, name) -> {
+            String plan = explain(sql);
+            if (plan.contains("Seq Scan")) {
+                sequentialScans.put(name, sql + "\n" + plan);
+            }
+        });
+
+        assertThat(sequentialScans)
+                .as("Queries planned with a sequential scan")
+                .isEmpty();
+    }
+
+    private List<String> record(Object repository, Method method) {
+        Object[] arguments = new Object[method.getParameterCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = sampleValue(ResolvableType.forMethodParameter(method, i));
+        }
+
+        RecordingStatementInspector.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    method.invoke(repository, arguments);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("Could not run " + method, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            RecordingStatementInspector.stop();
+            throw e;
+        }
+        return RecordingStatementInspector.stop();
+    }
+
+    // A single value of the parameter's type; the plans are generic, so only the types matter
+    private Object sampleValue(ResolvableType type) {
+        Class<?> rawType = type.resolve(Object.class);
+
+        if (Collection.class.isAssignableFrom(rawType)) {
+            return List.of(sampleValue(type.asCollection().getGeneric(0)));
+        }
+        if (rawType == String.class) {
+            return "1";
+        }
+        if (rawType == Long.class || rawType == long.class) {
+            return 1L;
+        }
+        if (rawType == Integer.class || rawType == int.class) {
+            return 1;
+        }
+        if (rawType.isEnum()) {
+            return rawType.getEnumConstants()[0];
+        }
+        if (rawType == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (rawType == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (rawType == Instant.class) {
+            return Instant.now();
+        }
+        if (rawType == Pageable.class) {
+            return PageRequest.of(0, 10);
+        }
+        if (rawType == Limit.class) {
+            return Limit.of(10);
+        }
+        if (BaseEntity.class.isAssignableFrom(rawType)) {
+            BaseEntity entity = (BaseEntity) BeanUtils.instantiateClass(rawType);
+            entity.setId(1L);
+            return entity;
+        }
+        throw new IllegalStateException("No sample value for parameters of type " + rawType.getName());
+    }
+
+    private String explain(String sql) {
+        StringBuilder parameterized = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                parameterized.append('$').append(++parameter);
+            } else {
+                parameterized.append(c);
+            }
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + parameterized)) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                } finally {
+                    statement.execute("RESET enable_seqscan");
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    /**
+     * Collects the SQL Hibernate issues on the recording thread, leaving other threads alone.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<Set<String>> STATEMENTS = new ThreadLocal<>();
+
+        static void start() {
+            STATEMENTS.set(new LinkedHashSet<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = new ArrayList<>(STATEMENTS.get());
+            STATEMENTS.remove();
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            Set<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
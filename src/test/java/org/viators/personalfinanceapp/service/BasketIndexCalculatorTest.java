@@ -0,0 +1,115 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.basket.BasketIndexCalculator;
+import org.viators.personalfinanceapp.basket.BasketIndexCalculator.BasketIndexSeries;
+import org.viators.personalfinanceapp.basket.BasketWeight;
+import org.viators.personalfinanceapp.basket.ItemPeriodPrice;
+import org.viators.personalfinanceapp.basket.dto.response.BasketPriceIndexPointResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Basket Index Calculator Test")
+class BasketIndexCalculatorTest {
+
+    private static final LocalDate DECEMBER = LocalDate.of(2024, 12, 1);
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    private static final Long CORNER_SHOP = 10L;
+    private static final Long SUPERMARKET = 20L;
+
+    @Test
+    @DisplayName("Weights prices by quantity and carries missing prices forward")
+    void calculate_MissingPeriods_CarriesLastPriceForward() {
+        BasketIndexSeries series = BasketIndexCalculator.calculate(JANUARY, MARCH,
+                List.of(weight(1L, "2"), weight(2L, "1"), weight(3L, "1")),
+                List.of(price(1L, DECEMBER, "2.00", 2)),
+                List.of(
+                        price(2L, JANUARY, "3.00", 1),
+                        price(1L, FEBRUARY, "1.50", 1),
+                        price(2L, MARCH, "6.60", 2)
+                ));
+
+        assertThat(series.pricedItems()).isEqualTo(2);
+        assertThat(series.excludedItems()).isEqualTo(1);
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::periodStart)
+                .containsExactly(JANUARY, FEBRUARY, MARCH);
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::basketCost)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("5.00"), new BigDecimal("6.00"), new BigDecimal("6.30"));
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::index)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100.00"), new BigDecimal("120.00"), new BigDecimal("126.00"));
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::observedItems)
+                .containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Prices an item first observed later in the range at that price from the base period on")
+    void calculate_ItemObservedLater_UsesFirstPriceAsBase() {
+        BasketIndexSeries series = BasketIndexCalculator.calculate(JANUARY, FEBRUARY,
+                List.of(weight(1L, "1"), weight(2L, "1")),
+                List.of(),
+                List.of(
+                        price(1L, JANUARY, "1.00", 1),
+                        price(2L, FEBRUARY, "2.00", 1)
+                ));
+
+        assertThat(series.pricedItems()).isEqualTo(2);
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::index)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100.00"), new BigDecimal("100.00"));
+    }
+
+    @Test
+    @DisplayName("Compares prices within a store, so switching to a pricier store is no price rise")
+    void calculate_ItemObservedAtAnotherStore_AveragesOverStores() {
+        BasketIndexSeries series = BasketIndexCalculator.calculate(JANUARY, MARCH,
+                List.of(weight(1L, "1")),
+                List.of(),
+                List.of(
+                        price(1L, CORNER_SHOP, JANUARY, "1.00", 1),
+                        price(1L, SUPERMARKET, FEBRUARY, "4.00", 2),
+                        price(1L, CORNER_SHOP, MARCH, "1.10", 1)
+                ));
+
+        assertThat(series.pricedItems()).isEqualTo(1);
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::basketCost)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1.50"), new BigDecimal("1.50"), new BigDecimal("1.55"));
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::index)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100.00"), new BigDecimal("100.00"), new BigDecimal("103.33"));
+        assertThat(series.points()).extracting(BasketPriceIndexPointResponse::observedItems)
+                .containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Returns no points when no basket item has a price")
+    void calculate_NoPrices_ReturnsEmptySeries() {
+        BasketIndexSeries series = BasketIndexCalculator.calculate(JANUARY, MARCH,
+                List.of(weight(1L, "1")), List.of(), List.of());
+
+        assertThat(series.points()).isEmpty();
+        assertThat(series.excludedItems()).isEqualTo(1);
+    }
+
+    private BasketWeight weight(Long itemId, String quantity) {
+        return new BasketWeight(itemId, new BigDecimal(quantity));
+    }
+
+    private ItemPeriodPrice price(Long itemId, LocalDate periodStart, String priceSum, long count) {
+        return price(itemId, CORNER_SHOP, periodStart, priceSum, count);
+    }
+
+    private ItemPeriodPrice price(Long itemId, Long storeId, LocalDate periodStart, String priceSum, long count) {
+        return new ItemPeriodPrice(itemId, storeId, periodStart, new BigDecimal(priceSum), count);
+    }
+}
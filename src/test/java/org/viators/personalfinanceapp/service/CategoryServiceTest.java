@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.viators.personalfinanceapp.category.CategoryChangedEvent;
 import org.viators.personalfinanceapp.category.CategoryService;
 import org.viators.personalfinanceapp.category.dto.request.CreateCategoryRequest;
 import org.viators.personalfinanceapp.category.dto.request.UpdateCategoryRequest;
@@ -35,6 +37,9 @@ public class CategoryServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -117,6 +122,7 @@ public class CategoryServiceTest {
         // Assert
         assertThat(response).isNotNull();
         assertThat(response.name()).isEqualTo("groceries");
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(category.getId(), category.getUuid()));
     }
 
 }
@@ -0,0 +1,138 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.viators.personalfinanceapp.common.pagination.CursorSliceResponse;
+import org.viators.personalfinanceapp.common.pagination.CursorTokens;
+import org.viators.personalfinanceapp.exceptions.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Cursor Tokens Test")
+class CursorTokensTest {
+
+    private static KeysetScrollPosition position(Object createdAt, long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", createdAt);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("No token starts from the beginning")
+    void decode_NoToken_InitialPosition() {
+        assertThat(CursorTokens.decode(null).isInitial()).isTrue();
+        assertThat(CursorTokens.decode(" ").isInitial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("An encoded instant and id decode to the same keys, in order")
+    void encodeDecode_InstantAndId_RoundTrips() {
+        KeysetScrollPosition position = position(Instant.parse("2025-03-01T10:15:30.123456Z"), 42L);
+
+        KeysetScrollPosition decoded = CursorTokens.decode(CursorTokens.encode(position));
+
+        assertThat(decoded.getKeys()).containsExactlyEntriesOf(position.getKeys());
+        assertThat(decoded.scrollsForward()).isTrue();
+    }
+
+    @Test
+    @DisplayName("An encoded date and id decode to the same keys")
+    void encodeDecode_DateAndId_RoundTrips() {
+        KeysetScrollPosition position = position(LocalDate.of(2025, 3, 1), 7L);
+
+        assertThat(CursorTokens.decode(CursorTokens.encode(position)).getKeys())
+                .containsExactlyEntriesOf(position.getKeys());
+    }
+
+    @Test
+    @DisplayName("Tokens are URL safe")
+    void encode_AnyPosition_UrlSafe() {
+        String token = CursorTokens.encode(position(Instant.parse("2025-12-31T23:59:59.999999999Z"), Long.MAX_VALUE));
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "djE7aWQ9TD0x=="})
+    @DisplayName("Rejects a token that is not URL-safe base64")
+    void decode_NotBase64_Throws(String token) {
+        assertThatThrownBy(() -> CursorTokens.decode(token))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "v2;id=L=1",
+            "id=L=1",
+            "v1;id",
+            "v1;id=L",
+            "v1;id=X=1",
+            "v1;id=L=one",
+            "v1;createdAt=I=yesterday",
+            "v1;createdAt=D=2025-02-30"
+    })
+    @DisplayName("Rejects a tampered or malformed token")
+    void decode_MalformedContent_Throws(String raw) {
+        assertThatThrownBy(() -> CursorTokens.decode(token(raw)))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Only keyset column types are encoded")
+    void encode_UnsupportedType_Throws() {
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("name", "Milk"));
+
+        assertThatThrownBy(() -> CursorTokens.encode(position))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Clamps the requested size between 1 and the maximum")
+    void clampSize_OutOfRange_Clamped() {
+        assertThat(CursorTokens.clampSize(0)).isEqualTo(1);
+        assertThat(CursorTokens.clampSize(12)).isEqualTo(12);
+        assertThat(CursorTokens.clampSize(10_000)).isEqualTo(CursorTokens.MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("The next cursor points right after the last row of a slice with more rows")
+    void toResponse_HasNext_CursorOfLastRow() {
+        List<Long> ids = List.of(3L, 2L);
+        Window<Long> window = Window.from(ids, index -> position(LocalDate.of(2025, 3, 1), ids.get(index)), true);
+
+        CursorSliceResponse<String> response = CursorTokens.toResponse(window, String::valueOf);
+
+        assertThat(response.content()).containsExactly("3", "2");
+        assertThat(response.hasNext()).isTrue();
+        assertThat(CursorTokens.decode(response.nextCursor()).getKeys()).containsEntry("id", 2L);
+    }
+
+    @Test
+    @DisplayName("The last slice has no next cursor")
+    void toResponse_LastSlice_NoCursor() {
+        Window<Long> window = Window.from(List.of(1L), index -> position(LocalDate.of(2025, 3, 1), 1L), false);
+
+        assertThat(CursorTokens.toResponse(window, String::valueOf).nextCursor()).isNull();
+    }
+}
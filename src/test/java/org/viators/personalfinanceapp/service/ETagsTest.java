@@ -0,0 +1,81 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.viators.personalfinanceapp.common.etag.ETags;
+import org.viators.personalfinanceapp.common.etag.EntityVersion;
+import org.viators.personalfinanceapp.common.etag.VersionStamp;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ETags Test")
+class ETagsTest {
+
+    @Test
+    @DisplayName("Same stamp gives the same quoted tag, any changed part a different one")
+    void of_Stamps_AreStableAndSensitive() {
+        String eTag = ETags.of(new VersionStamp(3L, 2L, 41L, 7L));
+
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        assertThat(ETags.of(new VersionStamp(3L, 2L, 41L, 7L))).isEqualTo(eTag);
+        assertThat(ETags.of(new VersionStamp(3L, 2L, 41L, 8L))).isNotEqualTo(eTag);
+        assertThat(ETags.of(new VersionStamp(3L, 2L, 42L, 7L))).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("A row moving onto a page changes the page's tag even if no version grew")
+    void ofPage_DifferentRows_DifferentTag() {
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        String before = ETags.ofPage(new PageImpl<>(
+                List.of(new EntityVersion(1L, 4L), new EntityVersion(2L, 0L)), pageRequest, 3));
+        String after = ETags.ofPage(new PageImpl<>(
+                List.of(new EntityVersion(1L, 4L), new EntityVersion(3L, 0L)), pageRequest, 3));
+
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Answers 304 without building the body when If-None-Match matches")
+    void conditional_MatchingIfNoneMatch_NotModifiedWithoutBody() {
+        String eTag = ETags.of(1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/items/uuid");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        AtomicInteger builds = new AtomicInteger();
+
+        ResponseEntity<String> response = ETags.conditional(
+                new ServletWebRequest(request, new MockHttpServletResponse()), eTag,
+                () -> "body " + builds.incrementAndGet());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(builds).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Answers 200 with the body and the tag when the client's tag is stale")
+    void conditional_StaleIfNoneMatch_OkWithBody() {
+        String eTag = ETags.of(2L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/items/uuid");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETags.of(1L));
+
+        ResponseEntity<String> response = ETags.conditional(
+                new ServletWebRequest(request, new MockHttpServletResponse()), eTag, () -> "body");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("body");
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+    }
+}
@@ -0,0 +1,133 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ReportTypeEnum;
+import org.viators.personalfinanceapp.inflationreport.InflationReportCalculator;
+import org.viators.personalfinanceapp.inflationreport.InflationReportResult;
+import org.viators.personalfinanceapp.inflationreport.InflationReportSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Inflation Report Calculator Test")
+class InflationReportCalculatorTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+    private static final LocalDate APRIL = LocalDate.of(2025, 4, 1);
+
+    @Test
+    @DisplayName("Sums start and end prices of all items, averaged over their stores, and reports per category")
+    void calculate_SeveralItemsAndStores_ReturnsOverallAndCategoryReports() {
+        List<InflationReportResult> results = InflationReportCalculator.calculate(ReportTypeEnum.MONTHLY, JANUARY,
+                List.of(
+                        source(1L, 1L, 1L, CurrencyEnum.EUR, JANUARY, 3, "2.00", 28, "2.20", 3, "6.30"),
+                        source(2L, 1L, 2L, CurrencyEnum.EUR, JANUARY, 10, "1.90", 20, "2.10", 2, "4.00"),
+                        source(3L, 2L, 1L, CurrencyEnum.EUR, JANUARY, 5, "4.00", 25, "5.00", 2, "9.00")
+                ),
+                Map.of(2L, Set.of(10L)));
+
+        assertThat(results).hasSize(2);
+
+        InflationReportResult overall = results.getFirst();
+        assertThat(overall.categoryId()).isNull();
+        assertThat(overall.endDate()).isEqualTo(LocalDate.of(2025, 1, 31));
+        assertThat(overall.inflationRate()).isEqualByComparingTo("20.17");
+        assertThat(overall.priceChangeAmount()).isEqualByComparingTo("1.20");
+        assertThat(overall.averagePrice()).isEqualByComparingTo("2.76");
+        assertThat(overall.itemCount()).isEqualTo(2);
+
+        InflationReportResult category = results.get(1);
+        assertThat(category.categoryId()).isEqualTo(10L);
+        assertThat(category.inflationRate()).isEqualByComparingTo("25.00");
+        assertThat(category.priceChangeAmount()).isEqualByComparingTo("1.00");
+        assertThat(category.averagePrice()).isEqualByComparingTo("4.50");
+        assertThat(category.itemCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A quarter spans its months and ignores rollups outside of it")
+    void calculate_Quarterly_UsesFirstAndLastMonthOfQuarter() {
+        List<InflationReportResult> results = InflationReportCalculator.calculate(ReportTypeEnum.QUARTERLY, JANUARY,
+                List.of(
+                        source(1L, 1L, 1L, CurrencyEnum.EUR, JANUARY, 2, "2.00", 30, "2.10", 2, "4.10"),
+                        source(2L, 1L, 1L, CurrencyEnum.EUR, MARCH, 4, "2.30", 27, "2.52", 2, "4.82"),
+                        source(3L, 1L, 1L, CurrencyEnum.EUR, APRIL, 1, "9.00", 2, "9.00", 1, "9.00")
+                ),
+                Map.of());
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.endDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+            assertThat(result.inflationRate()).isEqualByComparingTo("26.00");
+            assertThat(result.priceChangeAmount()).isEqualByComparingTo("0.52");
+            assertThat(result.averagePrice()).isEqualByComparingTo("2.23");
+            assertThat(result.itemCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Never compares the price at one store with the price at another")
+    void calculate_StableStoresObservedInTurn_NoInflation() {
+        List<InflationReportResult> results = InflationReportCalculator.calculate(ReportTypeEnum.MONTHLY, JANUARY,
+                List.of(
+                        source(1L, 1L, 1L, CurrencyEnum.EUR, JANUARY, 1, "1.00", 10, "1.00", 2, "2.00"),
+                        source(2L, 1L, 2L, CurrencyEnum.EUR, JANUARY, 15, "3.00", 31, "3.00", 2, "6.00")
+                ),
+                Map.of());
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.inflationRate()).isEqualByComparingTo("0.00");
+            assertThat(result.priceChangeAmount()).isEqualByComparingTo("0.00");
+            assertThat(result.averagePrice()).isEqualByComparingTo("2.00");
+            assertThat(result.itemCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Keeps currencies in separate reports")
+    void calculate_SeveralCurrencies_ReturnsOneReportPerCurrency() {
+        List<InflationReportResult> results = InflationReportCalculator.calculate(ReportTypeEnum.YEARLY, JANUARY,
+                List.of(
+                        source(1L, 1L, 1L, CurrencyEnum.EUR, JANUARY, 1, "1.00", 31, "1.10", 2, "2.10"),
+                        source(2L, 1L, 1L, CurrencyEnum.USD, MARCH, 1, "2.00", 31, "1.80", 2, "3.80")
+                ),
+                Map.of());
+
+        assertThat(results).extracting(InflationReportResult::currency)
+                .containsExactly(CurrencyEnum.EUR, CurrencyEnum.USD);
+        assertThat(results.get(1).inflationRate()).isEqualByComparingTo("-10.00");
+    }
+
+    @Test
+    @DisplayName("Returns nothing for a period without rollups")
+    void calculate_NoRollupsInPeriod_ReturnsEmpty() {
+        List<InflationReportResult> results = InflationReportCalculator.calculate(ReportTypeEnum.MONTHLY, MARCH,
+                List.of(source(1L, 1L, 1L, CurrencyEnum.EUR, JANUARY, 1, "1.00", 2, "1.00", 1, "1.00")),
+                Map.of());
+
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quarters start on the first month of the quarter")
+    void periodStart_Quarterly_ReturnsFirstDayOfQuarter() {
+        assertThat(ReportTypeEnum.QUARTERLY.periodStart(LocalDate.of(2025, 8, 31))).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(ReportTypeEnum.QUARTERLY.periodEnd(LocalDate.of(2025, 7, 1))).isEqualTo(LocalDate.of(2025, 9, 30));
+    }
+
+    private InflationReportSource source(Long rollupId, Long itemId, Long storeId, CurrencyEnum currency,
+                                         LocalDate bucketStart, int firstDay, String firstPrice, int lastDay,
+                                         String lastPrice, long count, String priceSum) {
+        return new InflationReportSource(rollupId, itemId, storeId, currency, bucketStart,
+                bucketStart.withDayOfMonth(firstDay), new BigDecimal(firstPrice),
+                bucketStart.withDayOfMonth(lastDay), new BigDecimal(lastPrice),
+                count, new BigDecimal(priceSum));
+    }
+}
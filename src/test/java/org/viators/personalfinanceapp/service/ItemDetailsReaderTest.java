@@ -0,0 +1,126 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ItemUnitEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.enums.StoreTypeEnum;
+import org.viators.personalfinanceapp.common.metrics.SqlStatementCounter;
+import org.viators.personalfinanceapp.item.ItemDetailsHeader;
+import org.viators.personalfinanceapp.item.ItemDetailsReader;
+import org.viators.personalfinanceapp.item.ItemDetailsRepository;
+import org.viators.personalfinanceapp.item.ItemObservationRow;
+import org.viators.personalfinanceapp.item.PriceStatisticsRow;
+import org.viators.personalfinanceapp.item.dto.response.ItemDetailsResponse;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Item Details Reader Test")
+class ItemDetailsReaderTest {
+
+    private static final String ITEM_UUID = "item-uuid";
+    private static final String OWNER_UUID = "owner-uuid";
+    private static final String ACTIVE = StatusEnum.ACTIVE.getCode();
+    private static final Long ITEM_ID = 5L;
+
+    @Mock
+    private ItemDetailsRepository itemDetailsRepository;
+
+    @Mock
+    private OwnershipAuthorizationService ownershipAuthorizationService;
+
+    private ItemDetailsReader itemDetailsReader;
+
+    @BeforeEach
+    void setUp() {
+        itemDetailsReader = new ItemDetailsReader(itemDetailsRepository, ownershipAuthorizationService, 3);
+        // Every repository call stands for one statement, counted the way Hibernate's inspector would
+        SqlStatementCounter.open();
+        when(itemDetailsRepository.findHeader(ITEM_UUID, ACTIVE)).then(statement(Optional.of(new ItemDetailsHeader(
+                ITEM_ID, ITEM_UUID, "Milk", "1L carton", ItemUnitEnum.values()[0], "Noy-Noy", false, ACTIVE,
+                Instant.now(), Instant.now(), new BigDecimal("1.99"), CurrencyEnum.EUR, LocalDate.now(),
+                OWNER_UUID, "johndoe", "John", "Doe", "john@example.com", ACTIVE))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.close();
+    }
+
+    @Test
+    @DisplayName("Builds the details from a fixed number of projection queries")
+    void read_OwnedItem_UsesSixQueries() {
+        when(itemDetailsRepository.findCategories(ITEM_ID)).then(statement(List.of()));
+        when(itemDetailsRepository.findLatestObservations(ITEM_ID, Limit.of(3))).then(statement(List.of(
+                new ItemObservationRow(new BigDecimal("1.99"), CurrencyEnum.EUR, LocalDate.now(), null, ACTIVE,
+                        "store-uuid", "Corner Shop", StoreTypeEnum.values()[0]))));
+        when(itemDetailsRepository.findPriceStatistics(ITEM_ID, RollupBucketEnum.MONTHLY)).then(statement(List.of(
+                new PriceStatisticsRow(CurrencyEnum.EUR, 4L, new BigDecimal("1.50"), new BigDecimal("2.10"),
+                        new BigDecimal("7.30"), LocalDate.now().minusMonths(3), LocalDate.now()))));
+        when(itemDetailsRepository.findPriceAlerts(ITEM_ID, ACTIVE)).then(statement(List.of()));
+        when(itemDetailsRepository.findPriceComparisons(ITEM_ID, ACTIVE)).then(statement(List.of()));
+        // Statements of the request before the read are not the read's
+        new SqlStatementCounter().inspect("select 1");
+
+        ItemDetailsResponse response = itemDetailsReader.read(ITEM_UUID, OWNER_UUID);
+
+        assertThat(response.queryCount()).isEqualTo(6);
+
+        assertThat(response.user().fullName()).isEqualTo("John Doe");
+        assertThat(response.priceObservations()).hasSize(1);
+        assertThat(response.priceObservations().getFirst().storeSummary().name()).isEqualTo("Corner Shop");
+        assertThat(response.priceObservations().getFirst().itemSummary().name()).isEqualTo("Milk");
+        assertThat(response.priceStatistics()).singleElement()
+                .satisfies(statistics -> assertThat(statistics.averagePrice()).isEqualByComparingTo("1.83"));
+        verify(ownershipAuthorizationService).verifyOwnership(OWNER_UUID, OWNER_UUID);
+        verify(itemDetailsRepository).findHeader(ITEM_UUID, ACTIVE);
+        verify(itemDetailsRepository).findCategories(ITEM_ID);
+        verify(itemDetailsRepository).findLatestObservations(ITEM_ID, Limit.of(3));
+        verify(itemDetailsRepository).findPriceStatistics(ITEM_ID, RollupBucketEnum.MONTHLY);
+        verify(itemDetailsRepository).findPriceAlerts(ITEM_ID, ACTIVE);
+        verify(itemDetailsRepository).findPriceComparisons(ITEM_ID, ACTIVE);
+        verifyNoMoreInteractions(itemDetailsRepository);
+    }
+
+    @Test
+    @DisplayName("Stops after the header query when the user does not own the item")
+    void read_ForeignItem_ThrowsBeforeLoadingSections() {
+        doThrow(new AccessDeniedException("not yours"))
+                .when(ownershipAuthorizationService).verifyOwnership("intruder-uuid", OWNER_UUID);
+
+        assertThatThrownBy(() -> itemDetailsReader.read(ITEM_UUID, "intruder-uuid"))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(itemDetailsRepository).findHeader(ITEM_UUID, ACTIVE);
+        verifyNoMoreInteractions(itemDetailsRepository);
+    }
+
+    private static Answer<Object> statement(Object result) {
+        return invocation -> {
+            new SqlStatementCounter().inspect("select");
+            return result;
+        };
+    }
+}
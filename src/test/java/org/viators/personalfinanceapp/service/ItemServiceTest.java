@@ -10,21 +10,35 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.viators.personalfinanceapp.category.CategoryRepository;
 import org.viators.personalfinanceapp.common.enums.*;
+import org.viators.personalfinanceapp.exceptions.AccessDeniedException;
 import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
 import org.viators.personalfinanceapp.item.Item;
 import org.viators.personalfinanceapp.item.ItemRepository;
 import org.viators.personalfinanceapp.item.ItemService;
 import org.viators.personalfinanceapp.item.dto.request.CreateItemRequest;
+import org.viators.personalfinanceapp.item.dto.request.UpdateItemPriceRequest;
+import org.viators.personalfinanceapp.item.dto.request.UpdateItemRequest;
 import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
+import org.viators.personalfinanceapp.pricealert.PriceAlertEvaluator;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonRefresher;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
 import org.viators.personalfinanceapp.priceobservation.PriceObservationRepository;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationService;
 import org.viators.personalfinanceapp.priceobservation.dto.request.CreatePriceObservationRequest;
 import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupService;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListTotalRefresher;
 import org.viators.personalfinanceapp.store.StoreRepository;
+import org.viators.personalfinanceapp.store.StoreService;
 import org.viators.personalfinanceapp.user.User;
 import org.viators.personalfinanceapp.user.UserRepository;
+import org.viators.personalfinanceapp.user.UserService;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +59,24 @@ public class ItemServiceTest {
     private StoreRepository storeRepository;
     @Mock
     private PriceObservationRepository priceObservationRepository;
+    @Mock
+    private UserService userService;
+    @Mock
+    private StoreService storeService;
+    @Mock
+    private PriceObservationService priceObservationService;
+    @Mock
+    private PriceRollupService priceRollupService;
+    @Mock
+    private PriceComparisonRefresher priceComparisonRefresher;
+    @Mock
+    private PriceAlertEvaluator priceAlertEvaluator;
+    @Mock
+    private OwnershipAuthorizationService ownershipAuthorizationService;
+    @Mock
+    private UserEventPublisher userEventPublisher;
+    @Mock
+    private ShoppingListTotalRefresher shoppingListTotalRefresher;
 
     @InjectMocks
     private ItemService itemService;
@@ -151,4 +183,71 @@ public class ItemServiceTest {
 
     }
 
+
+    @Test
+    @DisplayName("A newer price deactivates only the active observations dated up to it")
+    void updatePrice_NewerPrice_DeactivatesUpToItsDate() {
+        LocalDate today = LocalDate.now();
+        testItem.setCurrentPrice(new BigDecimal("3.50"));
+        testItem.setCurrentPriceCurrency(CurrencyEnum.EUR);
+        testItem.setCurrentPriceDate(today.minusDays(10));
+        stubPriceUpdate();
+
+        itemService.updatePrice(testUser.getUuid(), testItem.getUuid(), priceRequest("3.90", today));
+
+        verify(priceObservationService).deactivateActivePriceObservations(1L, today);
+        verify(shoppingListTotalRefresher).refreshForItems(List.of(1L));
+        assertThat(testItem.getCurrentPrice()).isEqualByComparingTo("3.90");
+        assertThat(testItem.getPriceObservations()).singleElement()
+                .extracting(PriceObservation::getStatus).isNotEqualTo(StatusEnum.INACTIVE.getCode());
+    }
+
+    @Test
+    @DisplayName("A back-dated price is kept as history and leaves the current observation active")
+    void updatePrice_BackDatedPrice_CurrentObservationKept() {
+        LocalDate today = LocalDate.now();
+        testItem.setCurrentPrice(new BigDecimal("3.50"));
+        testItem.setCurrentPriceCurrency(CurrencyEnum.EUR);
+        testItem.setCurrentPriceDate(today);
+        stubPriceUpdate();
+
+        itemService.updatePrice(testUser.getUuid(), testItem.getUuid(), priceRequest("2.90", today.minusDays(10)));
+
+        verify(priceObservationService, never()).deactivateActivePriceObservations(anyLong(), any());
+        verifyNoInteractions(priceAlertEvaluator, userEventPublisher, shoppingListTotalRefresher);
+        assertThat(testItem.getCurrentPrice()).isEqualByComparingTo("3.50");
+        assertThat(testItem.getCurrentPriceDate()).isEqualTo(today);
+        assertThat(testItem.getPriceObservations()).singleElement()
+                .extracting(PriceObservation::getStatus).isEqualTo(StatusEnum.INACTIVE.getCode());
+    }
+
+    @Test
+    @DisplayName("Updating another user's item is rejected by the id-based ownership check")
+    void update_ForeignItem_AccessDenied() {
+        User lazyOwner = User.builder().id(2L).build();
+        testItem.setUser(lazyOwner);
+        when(userService.findActiveUser(testUser.getUuid())).thenReturn(testUser);
+        when(itemRepository.findByUuidAndStatus(testItem.getUuid(), StatusEnum.ACTIVE.getCode()))
+                .thenReturn(Optional.of(testItem));
+        doThrow(new AccessDeniedException("Resource does not belong to logged in user"))
+                .when(ownershipAuthorizationService).verifyOwnership(testUser.getUuid(), lazyOwner);
+
+        assertThatThrownBy(() -> itemService.update(testUser.getUuid(), new UpdateItemRequest(testUser.getUuid(),
+                testItem.getUuid(), null, "Sunflower Oil", null, null, null, null)))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(testItem.getName()).isEqualTo("Olive Oil");
+    }
+
+    private void stubPriceUpdate() {
+        when(userService.findActiveUser(testUser.getUuid())).thenReturn(testUser);
+        when(itemRepository.findByUuidAndStatus(testItem.getUuid(), StatusEnum.ACTIVE.getCode()))
+                .thenReturn(Optional.of(testItem));
+        when(storeService.getActiveStoreThatIsGlobalOrBelongsToUser(testStore.getUuid(), testUser.getUuid()))
+                .thenReturn(testStore);
+    }
+
+    private UpdateItemPriceRequest priceRequest(String price, LocalDate observationDate) {
+        return new UpdateItemPriceRequest(new CreatePriceObservationRequest(new BigDecimal(price), CurrencyEnum.EUR,
+                observationDate, "Athens, Greece", null, testStore.getUuid()));
+    }
 }
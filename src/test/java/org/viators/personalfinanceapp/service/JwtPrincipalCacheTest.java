@@ -0,0 +1,96 @@
+package org.viators.personalfinanceapp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.security.JwtPrincipalCache;
+import org.viators.personalfinanceapp.security.UserDetailsImpl;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.user.UserChangedEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtPrincipalCache Unit Test")
+public class JwtPrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtPrincipalCache principalCache;
+    private UserDetailsImpl principal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new JwtPrincipalCache(Duration.ofMinutes(1), 100, meterRegistry);
+
+        principal = new UserDetailsImpl(User.builder()
+                .uuid("550e8400-e29b-41d4-a716-446655440000")
+                .username("johndoe")
+                .status(StatusEnum.ACTIVE.getCode())
+                .build());
+    }
+
+    @Test
+    void getOrLoad_SameTokenTwice_LoadsOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        Instant expiry = Instant.now().plusSeconds(3600);
+
+        principalCache.getOrLoad("jti-1", expiry, true, () -> { loads.incrementAndGet(); return principal; });
+        UserDetailsImpl result = principalCache.getOrLoad("jti-1", expiry, true, () -> { loads.incrementAndGet(); return principal; });
+
+        assertThat(result).isSameAs(principal);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(principalCache.getHitCount()).isEqualTo(1);
+        assertThat(principalCache.getDatabaseLoadCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.principal.cache.hits").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getOrLoad_ExpiredToken_NotServedFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+        Instant alreadyExpired = Instant.now().minusSeconds(1);
+
+        principalCache.getOrLoad("jti-2", alreadyExpired, false, () -> { loads.incrementAndGet(); return principal; });
+        principalCache.getOrLoad("jti-2", alreadyExpired, false, () -> { loads.incrementAndGet(); return principal; });
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(principalCache.getHitCount()).isZero();
+        assertThat(principalCache.getDatabaseLoadCount()).isZero();
+    }
+
+    @Test
+    void evictUser_CachedPrincipal_ReloadedOnNextRequest() {
+        AtomicInteger loads = new AtomicInteger();
+        Instant expiry = Instant.now().plusSeconds(3600);
+
+        principalCache.getOrLoad("jti-3", expiry, true, () -> { loads.incrementAndGet(); return principal; });
+        principalCache.evictUser(principal.getUsername());
+        principalCache.getOrLoad("jti-3", expiry, true, () -> { loads.incrementAndGet(); return principal; });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void onUserChanged_CachedPrincipals_OnlyThatUserReloaded() {
+        AtomicInteger loads = new AtomicInteger();
+        Instant expiry = Instant.now().plusSeconds(3600);
+        UserDetailsImpl otherPrincipal = new UserDetailsImpl(User.builder()
+                .uuid("6ba7b810-9dad-11d1-80b4-00c04fd430c8")
+                .username("janedoe")
+                .status(StatusEnum.ACTIVE.getCode())
+                .build());
+
+        principalCache.getOrLoad("jti-4", expiry, true, () -> { loads.incrementAndGet(); return principal; });
+        principalCache.getOrLoad("jti-5", expiry, true, () -> { loads.incrementAndGet(); return otherPrincipal; });
+        principalCache.onUserChanged(new UserChangedEvent(principal.getUsername()));
+        principalCache.getOrLoad("jti-4", expiry, true, () -> { loads.incrementAndGet(); return principal; });
+        principalCache.getOrLoad("jti-5", expiry, true, () -> { loads.incrementAndGet(); return otherPrincipal; });
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+}
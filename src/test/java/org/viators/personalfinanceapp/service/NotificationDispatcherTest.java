@@ -0,0 +1,224 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.common.enums.NotificationChannelEnum;
+import org.viators.personalfinanceapp.common.enums.NotificationEventTypeEnum;
+import org.viators.personalfinanceapp.common.enums.OutboxStatusEnum;
+import org.viators.personalfinanceapp.notification.NotificationDispatcher;
+import org.viators.personalfinanceapp.notification.NotificationMessage;
+import org.viators.personalfinanceapp.notification.NotificationOutbox;
+import org.viators.personalfinanceapp.notification.NotificationOutboxRepository;
+import org.viators.personalfinanceapp.notification.NotificationSink;
+import org.viators.personalfinanceapp.userpreferences.UserNotificationSettings;
+import org.viators.personalfinanceapp.userpreferences.UserPreferencesService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Dispatcher Test")
+class NotificationDispatcherTest {
+
+    private static final String USER_UUID = "user-uuid";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private UserPreferencesService userPreferencesService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private NotificationSink inAppSink;
+
+    @Mock
+    private NotificationSink emailSink;
+
+    private NotificationDispatcher notificationDispatcher;
+
+    private NotificationOutbox notification;
+
+    private boolean transactionOpen;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(inAppSink.channel()).thenReturn(NotificationChannelEnum.IN_APP);
+        lenient().when(emailSink.channel()).thenReturn(NotificationChannelEnum.EMAIL);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> inTransaction(() ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)));
+        lenient().doAnswer(invocation -> inTransaction(() -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        })).when(transactionTemplate).executeWithoutResult(any());
+
+        notificationDispatcher = new NotificationDispatcher(notificationOutboxRepository, userPreferencesService,
+                List.of(inAppSink, emailSink), transactionTemplate, false, 100, Duration.ofSeconds(5),
+                MAX_ATTEMPTS, Duration.ofSeconds(10), Duration.ofMinutes(1), CLAIM_TIMEOUT);
+
+        notification = NotificationOutbox.pending(NotificationEventTypeEnum.PRICE_ALERT_TRIGGERED, USER_UUID, "{}");
+        notification.setId(1L);
+        notification.setUuid("notification-uuid");
+        when(notificationOutboxRepository.findDueForDispatch(eq(OutboxStatusEnum.PENDING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(notification));
+        lenient().when(notificationOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(notification));
+    }
+
+    @Test
+    @DisplayName("Delivers to every allowed sink and marks the notification sent")
+    void dispatchBatch_AllSinksSucceed_MarksSent() {
+        givenSettings(true, true);
+
+        int handled = notificationDispatcher.dispatchBatch();
+
+        assertThat(handled).isEqualTo(1);
+        verify(inAppSink).deliver(any(NotificationMessage.class));
+        verify(emailSink).deliver(any(NotificationMessage.class));
+        assertThat(notification.getDeliveryStatus()).isEqualTo(OutboxStatusEnum.SENT);
+        assertThat(notification.getAttempts()).isEqualTo(1);
+        assertThat(notification.getDeliveredAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Sinks are called between the claiming and the recording transaction, outside both")
+    void dispatchBatch_Delivering_NoTransactionOpen() {
+        givenSettings(true, false);
+        LocalDateTime before = LocalDateTime.now();
+        doAnswer(invocation -> {
+            assertThat(transactionOpen).isFalse();
+            assertThat(notification.getAttempts()).isEqualTo(1);
+            assertThat(notification.getNextAttemptAt()).isAfterOrEqualTo(before.plus(CLAIM_TIMEOUT));
+            return null;
+        }).when(inAppSink).deliver(any(NotificationMessage.class));
+
+        notificationDispatcher.dispatchBatch();
+
+        verify(inAppSink).deliver(any(NotificationMessage.class));
+        verify(transactionTemplate).execute(any());
+        verify(transactionTemplate).executeWithoutResult(any());
+        assertThat(notification.getDeliveryStatus()).isEqualTo(OutboxStatusEnum.SENT);
+    }
+
+    @Test
+    @DisplayName("An outcome is dropped once another dispatcher has claimed the notification again")
+    void dispatchBatch_ClaimTakenOver_OutcomeDropped() {
+        givenSettings(true, false);
+        NotificationOutbox reclaimed = NotificationOutbox.pending(NotificationEventTypeEnum.PRICE_ALERT_TRIGGERED,
+                USER_UUID, "{}");
+        reclaimed.setId(1L);
+        reclaimed.setAttempts(2);
+        when(notificationOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(reclaimed));
+
+        notificationDispatcher.dispatchBatch();
+
+        assertThat(reclaimed.getDeliveryStatus()).isEqualTo(OutboxStatusEnum.PENDING);
+        assertThat(reclaimed.getDeliveredAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Email sinks are skipped when the user turned email alerts off")
+    void dispatchBatch_EmailAlertsDisabled_OnlyInAppDelivered() {
+        givenSettings(true, false);
+
+        notificationDispatcher.dispatchBatch();
+
+        verify(inAppSink).deliver(any(NotificationMessage.class));
+        verify(emailSink, never()).deliver(any(NotificationMessage.class));
+        assertThat(notification.getDeliveryStatus()).isEqualTo(OutboxStatusEnum.SENT);
+    }
+
+    @Test
+    @DisplayName("Nothing is delivered when the user turned notifications off")
+    void dispatchBatch_NotificationsDisabled_MarksSkipped() {
+        givenSettings(false, true);
+
+        notificationDispatcher.dispatchBatch();
+
+        verify(inAppSink, never()).deliver(any(NotificationMessage.class));
+        verify(emailSink, never()).deliver(any(NotificationMessage.class));
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        assertThat(notification.getDeliveryStatus()).isEqualTo(OutboxStatusEnum.SKIPPED);
+    }
+
+    @Test
+    @DisplayName("Failed delivery stays pending and is retried after the backoff")
+    void dispatchBatch_SinkFails_SchedulesRetry() {
+        givenSettings(true, true);
+        doThrow(new IllegalStateException("mail server down")).when(emailSink).deliver(any(NotificationMessage.class));
+        LocalDateTime before = LocalDateTime.now();
+
+        notificationDispatcher.dispatchBatch();
+
+        assertThat(notification.getDeliveryStatus()).isEqualTo(OutboxStatusEnum.PENDING);
+        assertThat(notification.getAttempts()).isEqualTo(1);
+        assertThat(notification.getLastError()).contains("mail server down");
+        assertThat(notification.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Backoff doubles with every failed attempt")
+    void dispatchBatch_RepeatedFailure_DoublesBackoff() {
+        givenSettings(true, true);
+        doThrow(new IllegalStateException("mail server down")).when(emailSink).deliver(any(NotificationMessage.class));
+        notification.setAttempts(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        notificationDispatcher.dispatchBatch();
+
+        assertThat(notification.getAttempts()).isEqualTo(2);
+        assertThat(notification.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("Gives up after the maximum number of attempts")
+    void dispatchBatch_LastAttemptFails_MarksFailed() {
+        givenSettings(true, true);
+        doThrow(new IllegalStateException("mail server down")).when(emailSink).deliver(any(NotificationMessage.class));
+        notification.setAttempts(MAX_ATTEMPTS - 1);
+
+        notificationDispatcher.dispatchBatch();
+
+        assertThat(notification.getDeliveryStatus()).isEqualTo(OutboxStatusEnum.FAILED);
+        assertThat(notification.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    private <T> T inTransaction(Supplier<T> callback) {
+        transactionOpen = true;
+        try {
+            return callback.get();
+        } finally {
+            transactionOpen = false;
+        }
+    }
+
+    private void givenSettings(boolean notificationEnabled, boolean emailAlerts) {
+        when(userPreferencesService.getNotificationSettings(any()))
+                .thenReturn(Map.of(USER_UUID, new UserNotificationSettings(USER_UUID, notificationEnabled, emailAlerts)));
+    }
+}
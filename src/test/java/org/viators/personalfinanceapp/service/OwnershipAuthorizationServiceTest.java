@@ -0,0 +1,107 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.viators.personalfinanceapp.common.enums.OwnedResourceTypeEnum;
+import org.viators.personalfinanceapp.common.enums.OwnershipStatusEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.exceptions.AccessDeniedException;
+import org.viators.personalfinanceapp.security.OwnedResource;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationServiceImpl;
+import org.viators.personalfinanceapp.security.OwnershipRepository;
+import org.viators.personalfinanceapp.security.OwnershipResult;
+import org.viators.personalfinanceapp.user.ActiveUserCache;
+import org.viators.personalfinanceapp.user.User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Ownership Authorization Service Test")
+class OwnershipAuthorizationServiceTest {
+
+    private static final String USER_UUID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String UUID_A = "550e8400-e29b-41d4-a716-446655440001";
+    private static final String UUID_B = "550e8400-e29b-41d4-a716-446655440002";
+    private static final String UUID_C = "550e8400-e29b-41d4-a716-446655440003";
+
+    @Mock
+    private OwnershipRepository ownershipRepository;
+
+    @Mock
+    private ActiveUserCache activeUserCache;
+
+    @InjectMocks
+    private OwnershipAuthorizationServiceImpl ownershipAuthorizationService;
+
+    @Test
+    @DisplayName("Checks a loaded owner by id, without touching its other fields")
+    void verifyOwnership_OwnerById_ComparesIds() {
+        User owner = mock(User.class);
+        when(owner.getId()).thenReturn(1L);
+        when(activeUserCache.findActiveUserId(USER_UUID)).thenReturn(Optional.of(1L));
+
+        ownershipAuthorizationService.verifyOwnership(USER_UUID, owner);
+
+        verify(owner).getId();
+        verifyNoMoreInteractions(owner);
+    }
+
+    @Test
+    @DisplayName("Rejects a loaded resource owned by another user")
+    void verifyOwnership_OtherOwner_AccessDenied() {
+        User owner = User.builder().id(2L).build();
+        when(activeUserCache.findActiveUserId(USER_UUID)).thenReturn(Optional.of(1L));
+
+        assertThatThrownBy(() -> ownershipAuthorizationService.verifyOwnership(USER_UUID, owner))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("Reports owned, foreign and missing uuids of a batch from one query")
+    void verifyOwnershipBatch_MixedItems_ResultPerUuid() {
+        when(activeUserCache.findActiveUserId(USER_UUID)).thenReturn(Optional.of(1L));
+        when(ownershipRepository.findItemOwners(Set.of(UUID_A, UUID_B, UUID_C), StatusEnum.ACTIVE.getCode()))
+                .thenReturn(List.of(new OwnedResource(10L, UUID_A, 1L), new OwnedResource(11L, UUID_B, 2L)));
+
+        Map<String, OwnershipResult> results = ownershipAuthorizationService.verifyOwnership(USER_UUID,
+                OwnedResourceTypeEnum.ITEM, List.of(UUID_A, UUID_B, UUID_C, UUID_A), false);
+
+        assertThat(results).containsExactly(
+                Map.entry(UUID_A, new OwnershipResult(10L, OwnershipStatusEnum.OWNED)),
+                Map.entry(UUID_B, new OwnershipResult(null, OwnershipStatusEnum.FOREIGN)),
+                Map.entry(UUID_C, new OwnershipResult(null, OwnershipStatusEnum.MISSING)));
+        verify(ownershipRepository, times(1)).findItemOwners(anyCollection(), anyString());
+    }
+
+    @Test
+    @DisplayName("Counts a global store as owned only when the caller accepts global stores")
+    void verifyOwnershipBatch_GlobalStore_OwnedOnlyWhenAccepted() {
+        when(activeUserCache.findActiveUserId(USER_UUID)).thenReturn(Optional.of(1L));
+        when(ownershipRepository.findStoreOwners(Set.of(UUID_A), StatusEnum.ACTIVE.getCode()))
+                .thenReturn(List.of(new OwnedResource(10L, UUID_A, null)));
+
+        assertThat(ownershipAuthorizationService.verifyOwnership(USER_UUID, OwnedResourceTypeEnum.STORE,
+                List.of(UUID_A), true).get(UUID_A).isOwned()).isTrue();
+        assertThat(ownershipAuthorizationService.verifyOwnership(USER_UUID, OwnedResourceTypeEnum.STORE,
+                List.of(UUID_A), false).get(UUID_A).status()).isEqualTo(OwnershipStatusEnum.FOREIGN);
+    }
+
+    @Test
+    @DisplayName("An empty batch needs no query")
+    void verifyOwnershipBatch_Empty_NoQuery() {
+        assertThat(ownershipAuthorizationService.verifyOwnership(USER_UUID, OwnedResourceTypeEnum.ITEM,
+                List.of(), false)).isEmpty();
+        verifyNoInteractions(ownershipRepository, activeUserCache);
+    }
+}
@@ -0,0 +1,83 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.notification.NotificationOutboxService;
+import org.viators.personalfinanceapp.pricealert.PriceAlertEvaluator;
+import org.viators.personalfinanceapp.pricealert.PriceAlertIndex;
+import org.viators.personalfinanceapp.pricealert.PriceAlertIndexEntry;
+import org.viators.personalfinanceapp.pricealert.PriceAlertRepository;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Alert Evaluator Test")
+class PriceAlertEvaluatorTest {
+
+    private static final Long ITEM_ID = 1L;
+
+    @Mock
+    private PriceAlertIndex priceAlertIndex;
+    @Mock
+    private PriceAlertRepository priceAlertRepository;
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @InjectMocks
+    private PriceAlertEvaluator priceAlertEvaluator;
+
+    @Test
+    @DisplayName("A price in another currency than the previous one fires no alerts")
+    void evaluate_CurrencySwitched_NothingEvaluated() {
+        List<PriceAlertIndexEntry> fired = priceAlertEvaluator.evaluate(ITEM_ID, new BigDecimal("2.00"),
+                CurrencyEnum.EUR, observation("1.50", CurrencyEnum.USD));
+
+        assertThat(fired).isEmpty();
+        verifyNoInteractions(priceAlertIndex, priceAlertRepository, notificationOutboxService, userEventPublisher);
+    }
+
+    @Test
+    @DisplayName("A price in the previous currency is compared against the previous price")
+    void evaluate_SameCurrency_ComparedWithPreviousPrice() {
+        when(priceAlertIndex.findTriggered(ITEM_ID, new BigDecimal("2.00"), new BigDecimal("1.50")))
+                .thenReturn(List.of());
+
+        List<PriceAlertIndexEntry> fired = priceAlertEvaluator.evaluate(ITEM_ID, new BigDecimal("2.00"),
+                CurrencyEnum.EUR, observation("1.50", CurrencyEnum.EUR));
+
+        assertThat(fired).isEmpty();
+        verifyNoInteractions(priceAlertRepository, notificationOutboxService);
+    }
+
+    @Test
+    @DisplayName("The first price of an item is evaluated whatever its currency")
+    void evaluate_NoPreviousPrice_EvaluatedWithoutPreviousPrice() {
+        when(priceAlertIndex.findTriggered(ITEM_ID, null, new BigDecimal("1.50"))).thenReturn(List.of());
+
+        List<PriceAlertIndexEntry> fired = priceAlertEvaluator.evaluate(ITEM_ID, null, null,
+                observation("1.50", CurrencyEnum.USD));
+
+        assertThat(fired).isEmpty();
+    }
+
+    private PriceObservation observation(String price, CurrencyEnum currency) {
+        PriceObservation priceObservation = new PriceObservation();
+        priceObservation.setPrice(new BigDecimal(price));
+        priceObservation.setCurrency(currency);
+        return priceObservation;
+    }
+}
@@ -0,0 +1,81 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.viators.personalfinanceapp.common.enums.AlertTypeEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.pricealert.PriceAlertIndex;
+import org.viators.personalfinanceapp.pricealert.PriceAlertIndexEntry;
+import org.viators.personalfinanceapp.pricealert.PriceAlertRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Alert Index Test")
+class PriceAlertIndexTest {
+
+    private static final Long ITEM_ID = 1L;
+
+    @Mock
+    private PriceAlertRepository priceAlertRepository;
+
+    @InjectMocks
+    private PriceAlertIndex priceAlertIndex;
+
+    private final PriceAlertIndexEntry dropBelowTwo = entry(10L, AlertTypeEnum.PRICE_DECREASE, "2.00", null);
+    private final PriceAlertIndexEntry riseAboveThree = entry(11L, AlertTypeEnum.PRICE_INCREASE, "3.00", null);
+    private final PriceAlertIndexEntry reachTwoAndHalf = entry(12L, AlertTypeEnum.REACHES_TARGET, "2.50", null);
+    private final PriceAlertIndexEntry moveTenPercent = entry(13L, AlertTypeEnum.PERCENTAGE_CHANGE, null, "10");
+
+    @BeforeEach
+    void setUp() {
+        when(priceAlertRepository.findAllIndexEntries(StatusEnum.ACTIVE.getCode()))
+                .thenReturn(List.of(dropBelowTwo, riseAboveThree, reachTwoAndHalf, moveTenPercent));
+        priceAlertIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Falling price fires decrease, target and percentage alerts it crossed")
+    void findTriggered_PriceFallsThroughThresholds_ReturnsCrossedAlerts() {
+        List<PriceAlertIndexEntry> triggered = priceAlertIndex.findTriggered(ITEM_ID, new BigDecimal("2.80"), new BigDecimal("1.90"));
+
+        assertThat(triggered).containsExactlyInAnyOrder(dropBelowTwo, reachTwoAndHalf, moveTenPercent);
+    }
+
+    @Test
+    @DisplayName("Small move that crosses nothing fires nothing")
+    void findTriggered_NoThresholdCrossed_ReturnsEmpty() {
+        assertThat(priceAlertIndex.findTriggered(ITEM_ID, new BigDecimal("2.60"), new BigDecimal("2.70"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Same price again does not fire, so repeated observations are idempotent")
+    void findTriggered_UnchangedPrice_ReturnsEmpty() {
+        assertThat(priceAlertIndex.findTriggered(ITEM_ID, new BigDecimal("1.90"), new BigDecimal("1.90"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Removed alerts are no longer evaluated")
+    void remove_ExistingAlert_IsNotTriggeredAnymore() {
+        priceAlertIndex.remove(riseAboveThree);
+
+        assertThat(priceAlertIndex.findTriggered(ITEM_ID, new BigDecimal("2.90"), new BigDecimal("3.10")))
+                .doesNotContain(riseAboveThree);
+        assertThat(priceAlertIndex.size()).isEqualTo(3);
+    }
+
+    private static PriceAlertIndexEntry entry(Long alertId, AlertTypeEnum alertType, String threshold, String percentage) {
+        return new PriceAlertIndexEntry(alertId, "alert-" + alertId, ITEM_ID, "user-uuid", alertType,
+                threshold == null ? null : new BigDecimal(threshold),
+                percentage == null ? null : new BigDecimal(percentage));
+    }
+}
@@ -0,0 +1,76 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonCalculator;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonResult;
+import org.viators.personalfinanceapp.pricecomparison.StoreLatestPrice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Price Comparison Calculator Test")
+class PriceComparisonCalculatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    @DisplayName("Computes lowest, highest, average and spread across stores")
+    void compare_SeveralStores_ReturnsStatistics() {
+        PriceComparisonResult result = PriceComparisonCalculator.compare(List.of(
+                latest(1L, "2.40", TODAY, 100L),
+                latest(2L, "1.90", TODAY.minusDays(3), 101L),
+                latest(3L, "2.00", TODAY.minusDays(1), 102L)
+        ));
+
+        assertThat(result.lowestPrice()).isEqualByComparingTo("1.90");
+        assertThat(result.highestPrice()).isEqualByComparingTo("2.40");
+        assertThat(result.averagePrice()).isEqualByComparingTo("2.10");
+        assertThat(result.priceSpread()).isEqualByComparingTo("0.50");
+        assertThat(result.bestStoreId()).isEqualTo(2L);
+        assertThat(result.storeCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Uses only the most recent of several same-day observations of a store")
+    void compare_SameStoreSameDay_UsesLatestRecorded() {
+        PriceComparisonResult result = PriceComparisonCalculator.compare(List.of(
+                latest(1L, "1.00", TODAY, 100L),
+                latest(1L, "3.00", TODAY, 105L),
+                latest(2L, "2.00", TODAY, 101L)
+        ));
+
+        assertThat(result.storeCount()).isEqualTo(2);
+        assertThat(result.lowestPrice()).isEqualByComparingTo("2.00");
+        assertThat(result.highestPrice()).isEqualByComparingTo("3.00");
+        assertThat(result.bestStoreId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("On equal prices the store observed most recently is best")
+    void compare_EqualPrices_PrefersMostRecentObservation() {
+        PriceComparisonResult result = PriceComparisonCalculator.compare(List.of(
+                latest(1L, "2.00", TODAY.minusDays(5), 100L),
+                latest(2L, "2.00", TODAY, 101L)
+        ));
+
+        assertThat(result.bestStoreId()).isEqualTo(2L);
+        assertThat(result.priceSpread()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Rejects an empty input")
+    void compare_NoPrices_ThrowsException() {
+        assertThatThrownBy(() -> PriceComparisonCalculator.compare(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static StoreLatestPrice latest(Long storeId, String price, LocalDate date, Long observationId) {
+        return new StoreLatestPrice(1L, 7L, storeId, CurrencyEnum.EUR, new BigDecimal(price), date, observationId);
+    }
+}
@@ -0,0 +1,137 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparison;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonRepository;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonService;
+import org.viators.personalfinanceapp.pricecomparison.StoreLatestPrice;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.store.StoreRepository;
+import org.viators.personalfinanceapp.user.UserRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Comparison Service Test")
+class PriceComparisonServiceTest {
+
+    private static final String ACTIVE = StatusEnum.ACTIVE.getCode();
+    private static final String INACTIVE = StatusEnum.INACTIVE.getCode();
+
+    @Mock
+    private PriceComparisonRepository priceComparisonRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private StoreRepository storeRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PriceComparisonService priceComparisonService;
+
+    private final LocalDate today = LocalDate.now();
+    private Item item;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        item = new Item();
+        item.setId(1L);
+        store = new Store();
+        store.setId(2L);
+    }
+
+    @Test
+    @DisplayName("Reuses today's comparison even when it was deactivated, instead of inserting a second one")
+    void recomputeItems_InactiveComparisonOfToday_Reactivated() {
+        PriceComparison deactivatedToday = comparison(today, INACTIVE, "3.00");
+        when(priceComparisonRepository.findLatestPricesPerStore(anyCollection(), eq(today)))
+                .thenReturn(List.of(latest("2.00")));
+        when(priceComparisonRepository.findActiveOrDatedComparisons(anyCollection(), eq(ACTIVE), eq(today)))
+                .thenReturn(List.of(deactivatedToday));
+        when(storeRepository.getReferenceById(2L)).thenReturn(store);
+
+        int written = priceComparisonService.recomputeItems(List.of(1L));
+
+        assertThat(written).isEqualTo(1);
+        assertThat(deactivatedToday.getStatus()).isEqualTo(ACTIVE);
+        assertThat(deactivatedToday.getLowestPrice()).isEqualByComparingTo("2.00");
+        verify(priceComparisonRepository).saveAll(List.of());
+        verify(itemRepository, never()).getReferenceById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Supersedes the active comparison of an earlier day with a new one for today")
+    void recomputeItems_ChangedResult_SupersedesOlderComparison() {
+        PriceComparison yesterday = comparison(today.minusDays(1), ACTIVE, "3.00");
+        when(priceComparisonRepository.findLatestPricesPerStore(anyCollection(), eq(today)))
+                .thenReturn(List.of(latest("2.00")));
+        when(priceComparisonRepository.findActiveOrDatedComparisons(anyCollection(), eq(ACTIVE), eq(today)))
+                .thenReturn(List.of(yesterday));
+        when(storeRepository.getReferenceById(2L)).thenReturn(store);
+        when(itemRepository.getReferenceById(1L)).thenReturn(item);
+
+        int written = priceComparisonService.recomputeItems(List.of(1L));
+
+        assertThat(written).isEqualTo(1);
+        assertThat(yesterday.getStatus()).isEqualTo(INACTIVE);
+        verify(priceComparisonRepository).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Keeps only the newest of several active comparisons of the same item and currency")
+    void recomputeItems_DuplicateActiveComparisons_KeepsNewest() {
+        PriceComparison older = comparison(today.minusDays(3), ACTIVE, "2.00");
+        PriceComparison newer = comparison(today.minusDays(1), ACTIVE, "2.00");
+        when(priceComparisonRepository.findLatestPricesPerStore(anyCollection(), eq(today)))
+                .thenReturn(List.of(latest("2.00")));
+        when(priceComparisonRepository.findActiveOrDatedComparisons(anyCollection(), eq(ACTIVE), eq(today)))
+                .thenReturn(List.of(newer, older));
+
+        int written = priceComparisonService.recomputeItems(List.of(1L));
+
+        assertThat(written).isEqualTo(1);
+        assertThat(older.getStatus()).isEqualTo(INACTIVE);
+        assertThat(newer.getStatus()).isEqualTo(ACTIVE);
+    }
+
+    private PriceComparison comparison(LocalDate comparisonDate, String status, String price) {
+        PriceComparison comparison = new PriceComparison();
+        comparison.setItem(item);
+        comparison.setCurrency(CurrencyEnum.EUR);
+        comparison.setComparisonDate(comparisonDate);
+        comparison.setStatus(status);
+        comparison.setLowestPrice(new BigDecimal(price));
+        comparison.setHighestPrice(new BigDecimal(price));
+        comparison.setAveragePrice(new BigDecimal(price));
+        comparison.setPriceSpread(BigDecimal.ZERO);
+        comparison.setBestStore(store);
+        return comparison;
+    }
+
+    private StoreLatestPrice latest(String price) {
+        return new StoreLatestPrice(1L, 5L, 2L, CurrencyEnum.EUR, new BigDecimal(price), today, 100L);
+    }
+}
@@ -0,0 +1,145 @@
+package org.viators.personalfinanceapp.service;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.common.enums.FileFormatEnum;
+import org.viators.personalfinanceapp.common.enums.ImportJobStatusEnum;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemService;
+import org.viators.personalfinanceapp.priceimport.PriceImportJobRegistry;
+import org.viators.personalfinanceapp.priceimport.PriceImportService;
+import org.viators.personalfinanceapp.priceimport.dto.response.PriceImportErrorResponse;
+import org.viators.personalfinanceapp.priceimport.dto.response.PriceImportJobResponse;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationService;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationResponse;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationRowResult;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.store.StoreService;
+import org.viators.personalfinanceapp.user.UserService;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Import Service Test")
+class PriceImportServiceTest {
+
+    private static final String USER_UUID = "user-uuid";
+    private static final String FILE = """
+            item,store,price,currency,observationDate,location
+            Milk,Lidl,1.20,EUR,2025-03-01,Athens
+            Milk,Lidl,1.25,EUR,2025-03-02,Athens
+            Milk,Nowhere,1.30,EUR,2025-03-03,Athens
+            """;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private UserService userService;
+    @Mock
+    private ItemService itemService;
+    @Mock
+    private StoreService storeService;
+    @Mock
+    private PriceObservationService priceObservationService;
+
+    private PriceImportService priceImportService;
+
+    @BeforeEach
+    void setUp() {
+        priceImportService = new PriceImportService(new PriceImportJobRegistry(Duration.ofHours(1)),
+                transactionTemplate, Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build(), userService, itemService, storeService, priceObservationService,
+                500, 100, 1);
+
+        Item milk = new Item();
+        milk.setUuid("item-uuid");
+        milk.setName("Milk");
+        Store lidl = new Store();
+        lidl.setUuid("store-uuid");
+        lidl.setName("Lidl");
+
+        when(storeService.getActiveStoresByNameThatAreGlobalOrBelongToUser(anyCollection(), eq(USER_UUID)))
+                .thenReturn(Map.of("Lidl", lidl));
+        when(itemService.getActiveItemsByName(eq(USER_UUID), anyCollection())).thenReturn(Map.of("Milk", milk));
+        when(priceObservationService.bulkCreate(eq(USER_UUID), anyList()))
+                .thenReturn(BulkPriceObservationResponse.from(List.of(
+                        BulkPriceObservationRowResult.created(0, "item-uuid", "po-1"),
+                        BulkPriceObservationRowResult.failed(1, "item-uuid", "Duplicate observation"))));
+    }
+
+    @Test
+    @DisplayName("A committed chunk reports its stored rows and every rejected row once")
+    void startImport_ChunkCommitted_CountsResults() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        PriceImportJobResponse job = runImport();
+
+        assertThat(job.status()).isEqualTo(ImportJobStatusEnum.COMPLETED);
+        assertThat(job.rowsRead()).isEqualTo(3);
+        assertThat(job.rowsImported()).isEqualTo(1);
+        assertThat(job.rowsFailed()).isEqualTo(2);
+        assertThat(job.errors()).containsExactlyInAnyOrder(
+                new PriceImportErrorResponse(3, "Duplicate observation"),
+                new PriceImportErrorResponse(4, "Store 'Nowhere' was not found for this user"));
+    }
+
+    @Test
+    @DisplayName("A chunk whose commit fails counts every row as failed exactly once and none as imported")
+    void startImport_CommitFails_RowsFailedOnce() {
+        // The callback runs to completion, then the commit itself throws
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            throw new TransactionSystemException("Could not commit JDBC transaction");
+        });
+
+        PriceImportJobResponse job = runImport();
+
+        assertThat(job.status()).isEqualTo(ImportJobStatusEnum.COMPLETED);
+        assertThat(job.rowsImported()).isZero();
+        assertThat(job.rowsFailed()).isEqualTo(3);
+        assertThat(job.errors())
+                .extracting(PriceImportErrorResponse::lineNumber)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(job.errors())
+                .allSatisfy(error -> assertThat(error.message()).startsWith("Chunk could not be stored: "));
+    }
+
+    private PriceImportJobResponse runImport() {
+        MockMultipartFile file = new MockMultipartFile("file", "prices.csv", "text/csv",
+                FILE.getBytes(StandardCharsets.UTF_8));
+        String jobId = priceImportService.startImport(USER_UUID, file, null).jobId();
+
+        // The import runs on its own virtual thread
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        PriceImportJobResponse job = priceImportService.getJob(USER_UUID, jobId);
+        while (job.finishedAt() == null && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            job = priceImportService.getJob(USER_UUID, jobId);
+        }
+
+        assertThat(job.finishedAt()).as("import finished").isNotNull();
+        assertThat(job.format()).isEqualTo(FileFormatEnum.CSV);
+        return job;
+    }
+}
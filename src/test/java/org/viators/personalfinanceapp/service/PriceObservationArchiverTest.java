@@ -0,0 +1,83 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationArchiver;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Observation Archiver Test")
+class PriceObservationArchiverTest {
+
+    private static final String INACTIVE = StatusEnum.INACTIVE.getCode();
+
+    @Mock
+    private PriceObservationRepository priceObservationRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PriceObservationArchiver priceObservationArchiver;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        priceObservationArchiver = new PriceObservationArchiver(priceObservationRepository, transactionTemplate,
+                Duration.ofDays(90), 2);
+    }
+
+    @Test
+    @DisplayName("Moves full batches until a short one, copying before deleting the same ids")
+    void archive_SeveralBatches_MovesEveryBatch() {
+        when(priceObservationRepository.findArchivableIds(eq(INACTIVE), any(Instant.class), eq(Limit.of(2))))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        long archived = priceObservationArchiver.archive();
+
+        assertThat(archived).isEqualTo(3);
+        verify(priceObservationRepository).copyToArchive(eq(List.of(1L, 2L)), any(Instant.class));
+        verify(priceObservationRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(priceObservationRepository).copyToArchive(eq(List.of(3L)), any(Instant.class));
+        verify(priceObservationRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Only archives observations inactive for longer than the minimum age")
+    void archive_NothingOldEnough_UsesMinAgeCutoff() {
+        Instant earliestCutoff = Instant.now().minus(Duration.ofDays(90));
+        when(priceObservationRepository.findArchivableIds(eq(INACTIVE), any(Instant.class), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    Instant cutoff = invocation.getArgument(1);
+                    assertThat(cutoff).isBetween(earliestCutoff, Instant.now().minus(Duration.ofDays(90)));
+                    return List.of();
+                });
+
+        assertThat(priceObservationArchiver.archive()).isZero();
+        verify(priceObservationRepository, never()).copyToArchive(anyCollection(), any());
+        verify(priceObservationRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
@@ -0,0 +1,58 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.priceobservation.dto.response.PriceObservationExportRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Price Observation Export Row Test")
+class PriceObservationExportRowTest {
+
+    private static PriceObservationExportRow row(String itemName, String storeName, String location, String notes) {
+        return new PriceObservationExportRow("item-uuid", itemName, "store-uuid", storeName, new BigDecimal("1.20"),
+                CurrencyEnum.EUR, LocalDate.of(2025, 3, 1), location, notes, "1");
+    }
+
+    @Test
+    @DisplayName("Writes plain values unquoted and missing ones as empty columns")
+    void toCsvLine_PlainValues_Unquoted() {
+        assertThat(row("Milk", "Lidl", null, null).toCsvLine())
+                .isEqualTo("item-uuid,Milk,store-uuid,Lidl,1.20,EUR,2025-03-01,,,1");
+    }
+
+    @Test
+    @DisplayName("Quotes values containing a comma")
+    void toCsvLine_Comma_Quoted() {
+        assertThat(row("Milk, 1L", "Lidl", "Athens", null).toCsvLine())
+                .isEqualTo("item-uuid,\"Milk, 1L\",store-uuid,Lidl,1.20,EUR,2025-03-01,Athens,,1");
+    }
+
+    @Test
+    @DisplayName("Quotes values containing a quote and doubles the quote")
+    void toCsvLine_Quote_EscapedByDoubling() {
+        assertThat(row("Milk", "Joe's \"Corner\" Shop", "Athens", "the \"fresh\" one").toCsvLine())
+                .isEqualTo("item-uuid,Milk,store-uuid,\"Joe's \"\"Corner\"\" Shop\",1.20,EUR,2025-03-01,Athens,"
+                        + "\"the \"\"fresh\"\" one\",1");
+    }
+
+    @Test
+    @DisplayName("Quotes values containing line breaks, keeping the break inside the value")
+    void toCsvLine_LineBreaks_Quoted() {
+        assertThat(row("Milk", "Lidl", "Athens", "first line\nsecond line").toCsvLine())
+                .isEqualTo("item-uuid,Milk,store-uuid,Lidl,1.20,EUR,2025-03-01,Athens,\"first line\nsecond line\",1");
+        assertThat(row("Milk", "Lidl", "Athens", "windows\r\nline").toCsvLine())
+                .endsWith(",Athens,\"windows\r\nline\",1");
+    }
+
+    @Test
+    @DisplayName("Has as many header columns as every line has values")
+    void csvHeader_MatchesLineColumns() {
+        assertThat(PriceObservationExportRow.CSV_HEADER.split(",")).hasSize(10);
+        assertThat(row("Milk", "Lidl", null, null).toCsvLine().split(",", -1)).hasSize(10);
+    }
+}
@@ -0,0 +1,217 @@
+package org.viators.personalfinanceapp.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.ImportRowStatusEnum;
+import org.viators.personalfinanceapp.common.enums.OwnedResourceTypeEnum;
+import org.viators.personalfinanceapp.common.enums.OwnershipStatusEnum;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.pricealert.PriceAlertEvaluator;
+import org.viators.personalfinanceapp.pricecomparison.PriceComparisonRefresher;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationHistoryRepository;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationRepository;
+import org.viators.personalfinanceapp.priceobservation.PriceObservationService;
+import org.viators.personalfinanceapp.priceobservation.dto.request.BulkPriceObservationEntry;
+import org.viators.personalfinanceapp.priceobservation.dto.request.CreatePriceObservationRequest;
+import org.viators.personalfinanceapp.priceobservation.dto.response.BulkPriceObservationResponse;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupService;
+import org.viators.personalfinanceapp.security.OwnershipAuthorizationService;
+import org.viators.personalfinanceapp.security.OwnershipResult;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListTotalRefresher;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.store.StoreService;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Observation Service Test")
+class PriceObservationServiceTest {
+
+    private static final String USER_UUID = "user-uuid";
+    private static final OwnershipResult FOREIGN = new OwnershipResult(null, OwnershipStatusEnum.FOREIGN);
+    private static final OwnershipResult MISSING = new OwnershipResult(null, OwnershipStatusEnum.MISSING);
+
+    @Mock
+    private PriceObservationRepository priceObservationRepository;
+    @Mock
+    private PriceObservationHistoryRepository priceObservationHistoryRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private StoreService storeService;
+    @Mock
+    private PriceRollupService priceRollupService;
+    @Mock
+    private PriceAlertEvaluator priceAlertEvaluator;
+
+    @Mock
+    private PriceComparisonRefresher priceComparisonRefresher;
+
+    @Mock
+    private ShoppingListTotalRefresher shoppingListTotalRefresher;
+
+    @Mock
+    private OwnershipAuthorizationService ownershipAuthorizationService;
+
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    private PriceObservationService priceObservationService;
+
+    private Item testItem;
+    private Store testStore;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        priceObservationService = new PriceObservationService(priceObservationRepository,
+                priceObservationHistoryRepository, itemRepository,
+                storeService, priceRollupService, priceComparisonRefresher, priceAlertEvaluator, shoppingListTotalRefresher,
+                ownershipAuthorizationService, userEventPublisher,
+                validator, JsonMapper.builder().build(), auditorAware);
+
+        testItem = new Item();
+        testItem.setId(1L);
+        testItem.setUuid("item-uuid");
+        testItem.setCurrentPriceDate(LocalDate.of(2025, 1, 1));
+
+        testStore = new Store();
+        testStore.setId(2L);
+        testStore.setUuid("store-uuid");
+    }
+
+    @Test
+    @DisplayName("Bulk create stores valid rows and reports the rest per row")
+    void bulkCreate_MixedRows_ReportsPerRowAndStoresValidOnes() {
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("johndoe"));
+        stubOwnership(Map.of("item-uuid", owned(1L), "unknown-item", MISSING), Map.of("store-uuid", owned(2L)));
+
+        List<BulkPriceObservationEntry> entries = new ArrayList<>();
+        entries.add(entry("item-uuid", "2.10", LocalDate.of(2025, 2, 1)));
+        entries.add(entry("item-uuid", "-1.00", LocalDate.of(2025, 2, 2)));
+        entries.add(entry("unknown-item", "2.20", LocalDate.of(2025, 2, 3)));
+        entries.add(entry("item-uuid", "2.30", LocalDate.of(2025, 3, 1)));
+
+        BulkPriceObservationResponse response = priceObservationService.bulkCreate(USER_UUID, entries);
+
+        assertThat(response.received()).isEqualTo(4);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.results())
+                .extracting(result -> result.status())
+                .containsExactly(ImportRowStatusEnum.CREATED, ImportRowStatusEnum.FAILED,
+                        ImportRowStatusEnum.FAILED, ImportRowStatusEnum.CREATED);
+        assertThat(response.results().get(1).error()).contains("priceObservation.price");
+        assertThat(response.results().get(2).error()).isEqualTo("Item was not found");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<PriceObservation>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(priceObservationRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(PriceObservation::getStatus)
+                .containsExactly(StatusEnum.INACTIVE.getCode(), StatusEnum.ACTIVE.getCode());
+
+        // Only the most recent row of the request becomes the current price
+        assertThat(testItem.getCurrentPrice()).isEqualByComparingTo("2.30");
+        verify(priceObservationRepository).deactivateActivePriceObservationsForItems(
+                eq(List.of(1L)), eq(StatusEnum.ACTIVE.getCode()), eq(StatusEnum.INACTIVE.getCode()), eq("johndoe"),
+                any());
+        verify(shoppingListTotalRefresher).refreshForItems(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Bulk create keeps back-dated rows as history and leaves the current observation active")
+    void bulkCreate_OnlyBackDatedRows_NothingDeactivated() {
+        testItem.setCurrentPrice(new BigDecimal("2.50"));
+        testItem.setCurrentPriceDate(LocalDate.of(2025, 3, 1));
+        stubOwnership(Map.of("item-uuid", owned(1L)), Map.of("store-uuid", owned(2L)));
+
+        BulkPriceObservationResponse response = priceObservationService.bulkCreate(USER_UUID, List.of(
+                entry("item-uuid", "2.10", LocalDate.of(2025, 2, 1)),
+                entry("item-uuid", "2.20", LocalDate.of(2025, 2, 28))));
+
+        assertThat(response.created()).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<PriceObservation>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(priceObservationRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(PriceObservation::getStatus)
+                .containsOnly(StatusEnum.INACTIVE.getCode());
+        assertThat(testItem.getCurrentPrice()).isEqualByComparingTo("2.50");
+        verify(priceObservationRepository, never())
+                .deactivateActivePriceObservationsForItems(any(), any(), any(), any(), any());
+        verifyNoInteractions(priceAlertEvaluator, userEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Bulk create rejects only the rows of foreign items and stores, from id-only ownership checks")
+    void bulkCreate_ForeignItemAndStore_OnlyThoseRowsRejected() {
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("johndoe"));
+        when(ownershipAuthorizationService.verifyOwnership(eq(USER_UUID), eq(OwnedResourceTypeEnum.ITEM),
+                anyCollection(), eq(false)))
+                .thenReturn(Map.of("item-uuid", owned(1L), "foreign-item", FOREIGN));
+        when(ownershipAuthorizationService.verifyOwnership(eq(USER_UUID), eq(OwnedResourceTypeEnum.STORE),
+                anyCollection(), eq(true)))
+                .thenReturn(Map.of("store-uuid", owned(2L), "foreign-store", FOREIGN));
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(testItem));
+        when(storeService.getStoreReference(2L)).thenReturn(testStore);
+
+        BulkPriceObservationResponse response = priceObservationService.bulkCreate(USER_UUID, List.of(
+                entry("foreign-item", "2.10", LocalDate.of(2025, 2, 1)),
+                entry("item-uuid", "2.20", LocalDate.of(2025, 2, 2), "foreign-store"),
+                entry("item-uuid", "2.30", LocalDate.of(2025, 2, 3))));
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.results())
+                .extracting(result -> result.error())
+                .containsExactly("Item belongs to another user", "Store belongs to another user", null);
+    }
+
+    private void stubOwnership(Map<String, OwnershipResult> items, Map<String, OwnershipResult> stores) {
+        when(ownershipAuthorizationService.verifyOwnership(eq(USER_UUID), eq(OwnedResourceTypeEnum.ITEM),
+                anyCollection(), eq(false))).thenReturn(items);
+        when(ownershipAuthorizationService.verifyOwnership(eq(USER_UUID), eq(OwnedResourceTypeEnum.STORE),
+                anyCollection(), eq(true))).thenReturn(stores);
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(testItem));
+        when(storeService.getStoreReference(2L)).thenReturn(testStore);
+    }
+
+    private static OwnershipResult owned(Long id) {
+        return new OwnershipResult(id, OwnershipStatusEnum.OWNED);
+    }
+
+    private BulkPriceObservationEntry entry(String itemUuid, String price, LocalDate observationDate) {
+        return entry(itemUuid, price, observationDate, "store-uuid");
+    }
+
+    private BulkPriceObservationEntry entry(String itemUuid, String price, LocalDate observationDate,
+                                            String storeUuid) {
+        return new BulkPriceObservationEntry(itemUuid, new CreatePriceObservationRequest(
+                new BigDecimal(price), CurrencyEnum.EUR, observationDate, "Athens", null, storeUuid));
+    }
+}
@@ -0,0 +1,136 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.viators.personalfinanceapp.common.enums.CurrencyEnum;
+import org.viators.personalfinanceapp.common.enums.RollupBucketEnum;
+import org.viators.personalfinanceapp.item.Item;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.priceobservation.PriceObservation;
+import org.viators.personalfinanceapp.pricerollup.PriceRangeBounds;
+import org.viators.personalfinanceapp.pricerollup.PriceRollup;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupRepository;
+import org.viators.personalfinanceapp.pricerollup.PriceRollupService;
+import org.viators.personalfinanceapp.store.Store;
+import org.viators.personalfinanceapp.store.StoreRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Rollup Service Test")
+class PriceRollupServiceTest {
+
+    @Mock
+    private PriceRollupRepository priceRollupRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private StoreRepository storeRepository;
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    @InjectMocks
+    private PriceRollupService priceRollupService;
+
+    private Item testItem;
+    private Store testStore;
+
+    @BeforeEach
+    void setUp() {
+        testItem = new Item();
+        testItem.setId(1L);
+        testItem.setUuid("item-uuid");
+
+        testStore = new Store();
+        testStore.setId(2L);
+    }
+
+    @Test
+    @DisplayName("New observation is upserted into a daily, weekly and monthly bucket")
+    void recordObservation_NewObservation_UpsertsOneBucketPerGranularity() {
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("john"));
+
+        priceRollupService.recordObservation(observation("2.50", LocalDate.of(2025, 3, 13)));
+
+        ArgumentCaptor<PriceRollup> captor = ArgumentCaptor.forClass(PriceRollup.class);
+        InOrder inOrder = inOrder(priceRollupRepository);
+        inOrder.verify(priceRollupRepository).flush();
+        inOrder.verify(priceRollupRepository, times(3)).upsertBucket(captor.capture(), eq("john"), any(Instant.class));
+
+        assertThat(captor.getAllValues())
+                .extracting(PriceRollup::getBucketType, PriceRollup::getBucketStart, PriceRollup::getObservationCount)
+                .containsExactly(
+                        tuple(RollupBucketEnum.DAILY, LocalDate.of(2025, 3, 13), 1L),
+                        tuple(RollupBucketEnum.WEEKLY, LocalDate.of(2025, 3, 10), 1L),
+                        tuple(RollupBucketEnum.MONTHLY, LocalDate.of(2025, 3, 1), 1L));
+        verify(priceRollupRepository, never()).save(any(PriceRollup.class));
+    }
+
+    @Test
+    @DisplayName("Observations sharing a bucket are merged before the bucket is upserted once")
+    void recordObservations_SharedBucket_MergedIntoOneUpsert() {
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.empty());
+
+        priceRollupService.recordObservations(List.of(
+                observation("3.00", LocalDate.of(2025, 3, 5)),
+                observation("2.00", LocalDate.of(2025, 3, 2))));
+
+        ArgumentCaptor<PriceRollup> captor = ArgumentCaptor.forClass(PriceRollup.class);
+        // 2 March is a Sunday, so the rows share only the monthly bucket
+        verify(priceRollupRepository, times(5)).upsertBucket(captor.capture(), eq("system"), any(Instant.class));
+
+        PriceRollup monthly = captor.getAllValues().stream()
+                .filter(rollup -> rollup.getBucketType() == RollupBucketEnum.MONTHLY)
+                .findFirst()
+                .orElseThrow();
+        assertThat(monthly.getMinPrice()).isEqualByComparingTo("2.00");
+        assertThat(monthly.getMaxPrice()).isEqualByComparingTo("3.00");
+        assertThat(monthly.getFirstPrice()).isEqualByComparingTo("2.00");
+        assertThat(monthly.getLastPrice()).isEqualByComparingTo("3.00");
+        assertThat(monthly.getObservationCount()).isEqualTo(2L);
+        assertThat(monthly.getPriceSum()).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    @DisplayName("A single observation in range is not enough for inflation")
+    void findPriceRangeBounds_SingleObservation_ReturnsEmpty() {
+        PriceRollup daily = PriceRollup.open(testItem, testStore, CurrencyEnum.EUR, RollupBucketEnum.DAILY,
+                new BigDecimal("3.00"), LocalDate.of(2025, 3, 5));
+        daily.setId(10L);
+        when(priceRollupRepository.findEarliestBuckets(any(), any(), any(), any(), any(), any())).thenReturn(List.of(daily));
+        when(priceRollupRepository.findLatestBuckets(any(), any(), any(), any(), any(), any())).thenReturn(List.of(daily));
+
+        Optional<PriceRangeBounds> bounds = priceRollupService.findPriceRangeBounds("item-uuid", CurrencyEnum.EUR,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+        assertThat(bounds).isEmpty();
+    }
+
+    private PriceObservation observation(String price, LocalDate date) {
+        PriceObservation priceObservation = new PriceObservation();
+        priceObservation.setPrice(new BigDecimal(price));
+        priceObservation.setCurrency(CurrencyEnum.EUR);
+        priceObservation.setObservationDate(date);
+        priceObservation.setStore(testStore);
+        priceObservation.setItem(testItem);
+        return priceObservation;
+    }
+}
@@ -0,0 +1,112 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingList;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListRepository;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListTotal;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListTotalRefresher;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.userevent.UserEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Shopping List Total Refresher Test")
+class ShoppingListTotalRefresherTest {
+
+    private static final String ACTIVE = StatusEnum.ACTIVE.getCode();
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @InjectMocks
+    private ShoppingListTotalRefresher shoppingListTotalRefresher;
+
+    private ShoppingList shoppingList;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUuid("user-uuid");
+
+        shoppingList = new ShoppingList();
+        shoppingList.setId(1L);
+        shoppingList.setUser(user);
+        shoppingList.setTotalAmount(new BigDecimal("5.00"));
+    }
+
+    @Test
+    @DisplayName("Stores the summed total and tells the owner when it changed")
+    void refresh_TotalChanged_UpdatedAndPublished() {
+        when(shoppingListRepository.sumTotals(List.of(1L), ACTIVE))
+                .thenReturn(List.of(new ShoppingListTotal(1L, new BigDecimal("7.50"))));
+
+        shoppingListTotalRefresher.refresh(shoppingList);
+
+        assertThat(shoppingList.getTotalAmount()).isEqualByComparingTo("7.50");
+        verify(userEventPublisher).publishAfterCommit(eq("user-uuid"),
+                eq(UserEventTypeEnum.SHOPPING_LIST_TOTAL_CHANGED), any());
+    }
+
+    @Test
+    @DisplayName("Publishes nothing when the total only differs in scale")
+    void refresh_TotalUnchanged_NothingPublished() {
+        when(shoppingListRepository.sumTotals(List.of(1L), ACTIVE))
+                .thenReturn(List.of(new ShoppingListTotal(1L, new BigDecimal("5.0000"))));
+
+        shoppingListTotalRefresher.refresh(shoppingList);
+
+        assertThat(shoppingList.getTotalAmount()).isEqualTo(new BigDecimal("5.00"));
+        verifyNoInteractions(userEventPublisher);
+    }
+
+    @Test
+    @DisplayName("A list whose items carry no price totals zero")
+    void refresh_NoPricedItems_Zero() {
+        when(shoppingListRepository.sumTotals(List.of(1L), ACTIVE))
+                .thenReturn(List.of(new ShoppingListTotal(1L, null)));
+
+        shoppingListTotalRefresher.refresh(shoppingList);
+
+        assertThat(shoppingList.getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Refreshes every list pricing a repriced item at its current price")
+    void refreshForItems_ListsFound_Refreshed() {
+        when(shoppingListRepository.findAllPricingItemsAtCurrentPrice(List.of(9L), ACTIVE))
+                .thenReturn(List.of(shoppingList));
+        when(shoppingListRepository.sumTotals(List.of(1L), ACTIVE))
+                .thenReturn(List.of(new ShoppingListTotal(1L, new BigDecimal("6.00"))));
+
+        shoppingListTotalRefresher.refreshForItems(List.of(9L));
+
+        assertThat(shoppingList.getTotalAmount()).isEqualByComparingTo("6.00");
+    }
+
+    @Test
+    @DisplayName("No repriced items means no queries")
+    void refreshForItems_NoItems_NoQueries() {
+        shoppingListTotalRefresher.refreshForItems(List.of());
+
+        verifyNoInteractions(shoppingListRepository, userEventPublisher);
+    }
+}
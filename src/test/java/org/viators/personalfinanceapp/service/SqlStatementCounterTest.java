@@ -0,0 +1,83 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.common.metrics.SqlStatementCounter;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL Statement Counter Test")
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.close();
+    }
+
+    @Test
+    @DisplayName("Counts statements between open and close and leaves the SQL untouched")
+    void inspect_OpenScope_CountsStatements() {
+        SqlStatementCounter.open();
+
+        String sql = counter.inspect("select 1");
+        counter.inspect("select 2");
+
+        assertThat(sql).isEqualTo("select 1");
+        assertThat(SqlStatementCounter.close()).isEqualTo(2);
+        assertThat(SqlStatementCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ignores statements issued outside of a request")
+    void inspect_NoScope_NotCounted() {
+        counter.inspect("select 1");
+
+        assertThat(SqlStatementCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Does not count statements of threads the request merely starts")
+    void inspect_ChildThread_NotCounted() throws InterruptedException {
+        SqlStatementCounter.open();
+
+        Thread child = Thread.ofVirtual().start(() -> counter.inspect("select 1"));
+        child.join();
+        counter.inspect("select 2");
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Counts statements of tasks handed over with propagate for the request")
+    void inspect_PropagatedTask_CountedForRequest() throws Exception {
+        SqlStatementCounter.open();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> result = executor.submit(SqlStatementCounter.propagate(() -> counter.inspect("select 1")));
+            assertThat(result.get()).isEqualTo("select 1");
+        }
+        counter.inspect("select 2");
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A propagated task leaves the executing thread without a scope afterwards")
+    void propagate_TaskFinished_ScopeRemovedFromWorker() throws Exception {
+        SqlStatementCounter.open();
+        Callable<Integer> task = SqlStatementCounter.propagate(SqlStatementCounter::count);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            executor.submit(task).get();
+            assertThat(executor.submit(SqlStatementCounter::count).get()).isZero();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.viators.personalfinanceapp.common.uuid.TimeOrderedUuids;
+import org.viators.personalfinanceapp.common.uuid.UuidStringConverter;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Time Ordered UUIDs Test")
+class TimeOrderedUuidsTest {
+
+    private final UuidStringConverter converter = new UuidStringConverter();
+
+    @Test
+    @DisplayName("Generates version 7 ids of the IETF variant carrying the millisecond timestamp")
+    void at_EpochMillis_Version7WithTimestamp() {
+        long epochMillis = 1_760_000_000_000L;
+
+        UUID uuid = TimeOrderedUuids.at(epochMillis);
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(epochMillis);
+    }
+
+    @Test
+    @DisplayName("Ids of a later millisecond sort after earlier ones, as strings and as bytes")
+    void at_LaterMillisecond_SortsAfter() {
+        UUID earlier = TimeOrderedUuids.at(1_760_000_000_000L);
+        UUID later = TimeOrderedUuids.at(1_760_000_000_001L);
+
+        assertThat(later.toString()).isGreaterThan(earlier.toString());
+        assertThat(Long.compareUnsigned(later.getMostSignificantBits(), earlier.getMostSignificantBits()))
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Stores v4 and v7 ids alike and reads them back in canonical form")
+    void converter_ExistingAndNewIds_RoundTrip() {
+        String legacy = "3f1c2b9e-8a47-4d2c-9b1e-6f0a5c7d8e91";
+        String current = TimeOrderedUuids.nextString();
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(legacy))).isEqualTo(legacy);
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(current))).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Binds a malformed id as null so the lookup finds nothing instead of failing")
+    void converter_MalformedId_Null() {
+        assertThat(converter.convertToDatabaseColumn("not-a-uuid")).isNull();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+}
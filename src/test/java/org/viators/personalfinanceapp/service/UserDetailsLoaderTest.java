@@ -0,0 +1,137 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.viators.personalfinanceapp.basket.BasketRepository;
+import org.viators.personalfinanceapp.category.CategoryRepository;
+import org.viators.personalfinanceapp.category.dto.response.CategorySummaryResponse;
+import org.viators.personalfinanceapp.common.enums.StatusEnum;
+import org.viators.personalfinanceapp.common.enums.UserRolesEnum;
+import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+import org.viators.personalfinanceapp.inflationreport.InflationReportRepository;
+import org.viators.personalfinanceapp.item.ItemRepository;
+import org.viators.personalfinanceapp.item.dto.response.ItemSummaryResponse;
+import org.viators.personalfinanceapp.pricealert.PriceAlertRepository;
+import org.viators.personalfinanceapp.shoppinglist.ShoppingListRepository;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.user.UserDetailsLoader;
+import org.viators.personalfinanceapp.user.UserRepository;
+import org.viators.personalfinanceapp.user.dto.response.UserDetailsResponse;
+import org.viators.personalfinanceapp.userpreferences.UserPreferencesRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Details Loader Test")
+class UserDetailsLoaderTest {
+
+    private static final String USER_UUID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String ACTIVE = StatusEnum.ACTIVE.getCode();
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserPreferencesRepository userPreferencesRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private PriceAlertRepository priceAlertRepository;
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+    @Mock
+    private InflationReportRepository inflationReportRepository;
+    @Mock
+    private BasketRepository basketRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserDetailsLoader userDetailsLoader;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsLoader = new UserDetailsLoader(userRepository, userPreferencesRepository, itemRepository,
+                categoryRepository, priceAlertRepository, shoppingListRepository, inflationReportRepository,
+                basketRepository, transactionManager, 2, 4);
+    }
+
+    @Test
+    @DisplayName("Assembles the response from one bounded projection per collection")
+    void load_ExistingUser_AssemblesAllCollections() {
+        User user = User.builder()
+                .uuid(USER_UUID)
+                .username("johndoe")
+                .email("john@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .userRole(UserRolesEnum.USER)
+                .status(ACTIVE)
+                .build();
+        ItemSummaryResponse milk = new ItemSummaryResponse("Milk", null, null, null, null);
+        CategorySummaryResponse dairy = new CategorySummaryResponse("Dairy", null);
+
+        when(userRepository.findByUuid(USER_UUID)).thenReturn(Optional.of(user));
+        when(userPreferencesRepository.findWithPreferredStoresByUser_Uuid(USER_UUID)).thenReturn(Optional.empty());
+        when(itemRepository.findSummariesByUserUuid(USER_UUID, ACTIVE, Limit.of(2))).thenReturn(List.of(milk));
+        when(categoryRepository.findSummariesByUserUuid(USER_UUID, ACTIVE, Limit.of(2))).thenReturn(List.of(dairy));
+        when(priceAlertRepository.findSummariesByUserUuid(eq(USER_UUID), any(Limit.class))).thenReturn(List.of());
+        when(shoppingListRepository.findAllSummariesByUserUuid(eq(USER_UUID), any(Limit.class)))
+                .thenReturn(List.of());
+        when(inflationReportRepository.findSummariesByUserUuid(eq(USER_UUID), eq(ACTIVE), any(Limit.class)))
+                .thenReturn(List.of());
+        when(basketRepository.findSummariesByUserUuid(eq(USER_UUID), any(Limit.class))).thenReturn(List.of());
+
+        UserDetailsResponse response = userDetailsLoader.load(USER_UUID);
+
+        assertThat(response.uuid()).isEqualTo(USER_UUID);
+        assertThat(response.username()).isEqualTo("johndoe");
+        assertThat(response.fullName()).isEqualTo("John Doe");
+        assertThat(response.isActive()).isTrue();
+        assertThat(response.userPreferences()).isNull();
+        assertThat(response.items()).containsExactly(milk);
+        assertThat(response.categories()).containsExactly(dairy);
+        assertThat(response.baskets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Looks the user up on a worker, so the request thread never borrows a connection")
+    void load_AnyUser_NoQueryOnRequestThread() {
+        Thread requestThread = Thread.currentThread();
+        AtomicReference<Thread> lookupThread = new AtomicReference<>();
+        when(userRepository.findByUuid(USER_UUID)).thenAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread());
+            return Optional.empty();
+        });
+
+        assertThatThrownBy(() -> userDetailsLoader.load(USER_UUID))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(lookupThread.get()).isNotNull().isNotSameAs(requestThread);
+    }
+
+    @Test
+    @DisplayName("Unknown user fails before any collection is queried")
+    void load_UnknownUser_ThrowsResourceNotFound() {
+        when(userRepository.findByUuid(USER_UUID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userDetailsLoader.load(USER_UUID))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(itemRepository, categoryRepository, priceAlertRepository, shoppingListRepository,
+                inflationReportRepository, basketRepository, userPreferencesRepository);
+    }
+}
@@ -0,0 +1,128 @@
+package org.viators.personalfinanceapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.viators.personalfinanceapp.common.enums.UserEventTypeEnum;
+import org.viators.personalfinanceapp.security.UserDetailsImpl;
+import org.viators.personalfinanceapp.user.User;
+import org.viators.personalfinanceapp.userevent.UserEvent;
+import org.viators.personalfinanceapp.userevent.UserEventController;
+import org.viators.personalfinanceapp.userevent.UserEventRegistry;
+import org.viators.personalfinanceapp.userevent.dto.response.ShoppingListTotalChangedEvent;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("User Event Controller Test")
+class UserEventControllerTest {
+
+    private static final String USER_UUID = "user-uuid";
+    private static final int MAX_STREAMS_PER_USER = 2;
+
+    private UserEventRegistry userEventRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userEventRegistry = new UserEventRegistry(Duration.ofMinutes(1), Duration.ofMinutes(1), 16,
+                MAX_STREAMS_PER_USER);
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserEventController(userEventRegistry))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        User user = User.builder().uuid(USER_UUID).username("johndoe").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(new UserDetailsImpl(user), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userEventRegistry.destroy();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Opens an unbuffered, uncached event stream for the logged in user")
+    void streamEvents_LoggedInUser_OpensStream() throws Exception {
+        MvcResult result = openStream();
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(userEventRegistry.streamCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Writes a published event as a named SSE event with a JSON payload")
+    void streamEvents_EventPublished_WrittenToStream() throws Exception {
+        MockHttpServletResponse response = openStream().getResponse();
+
+        userEventRegistry.publish(new UserEvent(USER_UUID, UserEventTypeEnum.SHOPPING_LIST_TOTAL_CHANGED,
+                new ShoppingListTotalChangedEvent("list-uuid", new BigDecimal("12.50"))));
+
+        String stream = awaitContent(response, "event:shopping-list-total-changed");
+        assertThat(stream)
+                .contains("id:1")
+                .contains("\"shoppingListUuid\":\"list-uuid\"")
+                .contains("\"totalAmount\":12.50");
+    }
+
+    @Test
+    @DisplayName("Events of other users never reach the stream")
+    void streamEvents_OtherUsersEvent_NotWritten() throws Exception {
+        MockHttpServletResponse response = openStream().getResponse();
+
+        userEventRegistry.publish(new UserEvent("other-user-uuid", UserEventTypeEnum.SHOPPING_LIST_TOTAL_CHANGED,
+                new ShoppingListTotalChangedEvent("foreign-list-uuid", BigDecimal.ONE)));
+        userEventRegistry.publish(new UserEvent(USER_UUID, UserEventTypeEnum.RESYNC, null));
+
+        String stream = awaitContent(response, "event:resync");
+        assertThat(stream).doesNotContain("foreign-list-uuid");
+    }
+
+    @Test
+    @DisplayName("Closes the oldest stream once the user opens more than allowed")
+    void streamEvents_TooManyStreams_OldestClosed() throws Exception {
+        for (int i = 0; i <= MAX_STREAMS_PER_USER; i++) {
+            openStream();
+        }
+
+        assertThat(userEventRegistry.streamCount()).isEqualTo(MAX_STREAMS_PER_USER);
+    }
+
+    private MvcResult openStream() throws Exception {
+        return mockMvc.perform(get("/api/v1/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+                .andReturn();
+    }
+
+    // Each stream is drained by a virtual thread of its own
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            content = response.getContentAsString();
+        }
+
+        assertThat(content).as("stream content").contains(expected);
+        return content;
+    }
+}
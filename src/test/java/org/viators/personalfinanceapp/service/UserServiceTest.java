@@ -7,8 +7,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.viators.personalfinanceapp.exceptions.ResourceNotFoundException;
+import org.viators.personalfinanceapp.user.ActiveUserCache;
+import org.viators.personalfinanceapp.user.UserChangedEvent;
 import org.viators.personalfinanceapp.user.dto.request.CreateUserRequest;
+import org.viators.personalfinanceapp.user.dto.request.UpdateUserRequest;
 import org.viators.personalfinanceapp.user.dto.response.UserSummaryResponse;
 import org.viators.personalfinanceapp.exceptions.DuplicateResourceException;
 import org.viators.personalfinanceapp.user.User;
@@ -38,6 +43,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ActiveUserCache activeUserCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     /**
      * Mockito creates a real UserService instance
@@ -144,5 +155,42 @@ public class UserServiceTest {
         System.out.println(testUser.getStatus());
 
         assertThat(testUser.getStatus()).isEqualTo(StatusEnum.INACTIVE.getCode());
+        verify(eventPublisher).publishEvent(new UserChangedEvent("550e8400-e29b-41d4-a716-446655440000"));
+    }
+
+    @Test
+    @DisplayName("update user info - role and email change - cached principals dropped after commit")
+    void updateUserInfo_RoleAndEmailChanged_PublishesUserChanged() {
+        when(userRepository.findByUuidAndStatus("550e8400-e29b-41d4-a716-446655440000", StatusEnum.ACTIVE.getCode()))
+                .thenReturn(Optional.of(testUser));
+
+        userService.updateUserInfo("550e8400-e29b-41d4-a716-446655440000",
+                new UpdateUserRequest(null, "john.doe@example.com", null, null, null, UserRolesEnum.ADMIN));
+
+        assertThat(testUser.getUserRole()).isEqualTo(UserRolesEnum.ADMIN);
+        assertThat(testUser.getEmail()).isEqualTo("john.doe@example.com");
+        verify(eventPublisher).publishEvent(new UserChangedEvent("550e8400-e29b-41d4-a716-446655440000"));
+    }
+
+    @Test
+    @DisplayName("find active user - id is cached - returns reference without reading the user")
+    void findActiveUser_CachedId_ReturnsReference() {
+        when(activeUserCache.findActiveUserId("550e8400-e29b-41d4-a716-446655440000")).thenReturn(Optional.of(7L));
+        when(userRepository.getReferenceById(7L)).thenReturn(testUser);
+
+        User result = userService.findActiveUser("550e8400-e29b-41d4-a716-446655440000");
+
+        assertThat(result).isSameAs(testUser);
+        verify(userRepository, never()).findByUuidAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("find active user - no active user - throws ResourceNotFoundException")
+    void findActiveUser_UnknownUser_ThrowsResourceNotFoundException() {
+        when(activeUserCache.findActiveUserId("unknown")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.findActiveUser("unknown"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(userRepository, never()).getReferenceById(any());
     }
 }